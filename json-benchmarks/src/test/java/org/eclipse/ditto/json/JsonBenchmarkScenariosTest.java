@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Simple Test executing the setup of the JSON benchmarks for each {@link ThingPayload}.
+ */
+public final class JsonBenchmarkScenariosTest {
+
+    @Test
+    public void representationsOfPayloadsAreEqual() {
+        for (final ThingPayload payload : ThingPayload.values()) {
+            final JsonPayloadState state = setUp(payload);
+
+            assertThat(JsonFactory.readFrom(state.thingString)).isEqualTo(state.thing);
+            assertThat(state.parseThingFromCbor()).isEqualTo(state.thing);
+            assertThat(state.parseThingFromCbor().toString()).isEqualTo(state.thingString);
+        }
+    }
+
+    @Test
+    public void pointersOfPayloadsPointToLeafValues() {
+        for (final ThingPayload payload : ThingPayload.values()) {
+            final JsonPayloadState state = setUp(payload);
+
+            assertThat(state.thing.getValue(state.pointer)).isPresent();
+            assertThat(JsonFactory.newObject(state.mergePatch, state.thing).getValue(state.pointer))
+                    .contains(JsonValue.of("merged"));
+        }
+    }
+
+    @Test
+    public void fieldMapsWithClearedReferencesAreRecovered() {
+        for (final ThingPayload payload : ThingPayload.values()) {
+            final JsonPayloadState state = setUp(payload);
+            final SoftReferencedFieldMapBenchmark.ClearedFieldMaps fieldMaps =
+                    new SoftReferencedFieldMapBenchmark.ClearedFieldMaps();
+            fieldMaps.setUp(state);
+
+            assertThat(new ImmutableJsonObject(fieldMaps.cborOnly)).isEqualTo(state.thing);
+            assertThat(new ImmutableJsonObject(fieldMaps.stringOnly)).isEqualTo(state.thing);
+        }
+    }
+
+    @Test
+    public void fieldsAreLookedUpInCborOfFieldMapsWithClearedReferences() {
+        for (final ThingPayload payload : ThingPayload.values()) {
+            final JsonPayloadState state = setUp(payload);
+            final SoftReferencedFieldMapBenchmark.ClearedFieldMaps fieldMaps =
+                    new SoftReferencedFieldMapBenchmark.ClearedFieldMaps();
+            fieldMaps.setUp(state);
+
+            assertThat(fieldMaps.cborOnly.getOrNull("thingId")).isEqualTo(state.thing.getField("thingId").get());
+        }
+    }
+
+    private static JsonPayloadState setUp(final ThingPayload payload) {
+        final JsonPayloadState state = new JsonPayloadState();
+        state.payload = payload;
+        state.setUp();
+        return state;
+    }
+
+}
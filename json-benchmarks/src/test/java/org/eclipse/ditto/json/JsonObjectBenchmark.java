@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for parsing, serializing, accessing and modifying {@link JsonObject}s.
+ * Run it from the assembled jar, e.g. {@code java -jar target/ditto-json-benchmarks-*-benchmark.jar JsonObject}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = JsonObjectBenchmark.WARMUP_ITERATIONS, time = JsonObjectBenchmark.WARMUP_TIME,
+        timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = JsonObjectBenchmark.MEASUREMENT_ITERATIONS, time = JsonObjectBenchmark.MEASUREMENT_TIME,
+        timeUnit = TimeUnit.MILLISECONDS)
+public class JsonObjectBenchmark {
+
+    static final int WARMUP_ITERATIONS = 10;
+    static final int MEASUREMENT_ITERATIONS = 10;
+    static final int WARMUP_TIME = 1000;
+    static final int MEASUREMENT_TIME = 1000;
+
+    @Benchmark
+    public JsonValue readFrom(final JsonPayloadState state) {
+        return JsonFactory.readFrom(state.thingString);
+    }
+
+    @Benchmark
+    public JsonValue readFromCbor(final JsonPayloadState state) {
+        return state.parseThingFromCbor();
+    }
+
+    @Benchmark
+    public String toStringWithoutCachedString(final UnserializedThing unserializedThing) {
+        return unserializedThing.thing.toString();
+    }
+
+    @Benchmark
+    public Optional<JsonValue> getValue(final JsonPayloadState state) {
+        return state.thing.getValue(state.pointer);
+    }
+
+    @Benchmark
+    public JsonObject setValue(final JsonPayloadState state) {
+        return state.thing.setValue(state.pointer, JsonValue.of("changed"));
+    }
+
+    @Benchmark
+    public JsonObject merge(final JsonPayloadState state) {
+        return JsonFactory.newObject(state.mergePatch, state.thing);
+    }
+
+    /**
+     * A freshly parsed thing whose string representation is computed by the benchmark.
+     */
+    @State(Scope.Thread)
+    public static class UnserializedThing {
+
+        JsonObject thing;
+
+        @Setup(Level.Invocation)
+        public void setUp(final JsonPayloadState state) {
+            thing = state.parseThingFromCbor();
+        }
+
+    }
+
+}
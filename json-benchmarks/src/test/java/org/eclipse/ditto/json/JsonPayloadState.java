@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH state holding a {@link ThingPayload} in all representations the benchmarks start from.
+ */
+@State(Scope.Benchmark)
+public class JsonPayloadState {
+
+    static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    @Param({"SMALL", "FEATURES_100", "PROPERTIES_10K"})
+    public ThingPayload payload;
+
+    JsonObject thing;
+    String thingString;
+    byte[] thingCbor;
+    JsonPointer pointer;
+    JsonObject mergePatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        thing = payload.createThing();
+        thingString = thing.toString();
+        thingCbor = toCbor(thing);
+        pointer = payload.getPointer();
+        mergePatch = JsonFactory.newObject(pointer, JsonValue.of("merged"))
+                .setValue(JsonPointer.of("/attributes/merged"), true);
+    }
+
+    /**
+     * Parses the CBOR representation of the thing into a JSON object which did not compute its string representation
+     * yet.
+     *
+     * @return the parsed JSON object.
+     */
+    JsonObject parseThingFromCbor() {
+        return CBOR_FACTORY.readFrom(thingCbor).asObject();
+    }
+
+    private static byte[] toCbor(final JsonValue jsonValue) {
+        try {
+            return CBOR_FACTORY.toByteArray(jsonValue);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
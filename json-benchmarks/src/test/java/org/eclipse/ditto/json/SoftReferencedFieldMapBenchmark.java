@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for recovering the fields of a {@link ImmutableJsonObject.SoftReferencedFieldMap} from its CBOR or
+ * string representation after the garbage collector cleared the soft reference to the fields and for looking up a
+ * single field in the CBOR representation instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = JsonObjectBenchmark.WARMUP_ITERATIONS, time = JsonObjectBenchmark.WARMUP_TIME,
+        timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = JsonObjectBenchmark.MEASUREMENT_ITERATIONS, time = JsonObjectBenchmark.MEASUREMENT_TIME,
+        timeUnit = TimeUnit.MILLISECONDS)
+public class SoftReferencedFieldMapBenchmark {
+
+    @Benchmark
+    public long recoverFromCbor(final ClearedFieldMaps fieldMaps) {
+        return fieldMaps.cborOnly.getStream().count();
+    }
+
+    @Benchmark
+    public long recoverFromString(final ClearedFieldMaps fieldMaps) {
+        return fieldMaps.stringOnly.getStream().count();
+    }
+
+    @Benchmark
+    public JsonField lookUpInCbor(final ClearedFieldMaps fieldMaps) {
+        return fieldMaps.cborOnly.getOrNull("thingId");
+    }
+
+    /**
+     * Field maps of the thing payload with only one representation and cleared soft references.
+     */
+    @State(Scope.Thread)
+    public static class ClearedFieldMaps {
+
+        private static final Field FIELDS_REFERENCE = getDeclaredField("fieldsReference");
+        private static final Field PINNED_FIELDS = getDeclaredField("pinnedFields");
+
+        ImmutableJsonObject.SoftReferencedFieldMap cborOnly;
+        ImmutableJsonObject.SoftReferencedFieldMap stringOnly;
+
+        @Setup(Level.Invocation)
+        public void setUp(final JsonPayloadState state) {
+            final Map<String, JsonField> fields = toFieldMap(state.thing);
+            cborOnly = ImmutableJsonObject.SoftReferencedFieldMap.of(fields, state.thingCbor);
+            stringOnly = ImmutableJsonObject.SoftReferencedFieldMap.of(fields, state.thingString);
+            clearFieldsReference(cborOnly);
+            clearFieldsReference(stringOnly);
+        }
+
+        /**
+         * Simulates the garbage collector clearing the soft reference to the fields of a field map. Fields of small
+         * objects which are referenced strongly are cleared as well in order to measure their recovery.
+         *
+         * @param fieldMap the field map.
+         */
+        static void clearFieldsReference(final ImmutableJsonObject.SoftReferencedFieldMap fieldMap) {
+            try {
+                ((SoftReference<?>) FIELDS_REFERENCE.get(fieldMap)).clear();
+                PINNED_FIELDS.set(fieldMap, null);
+            } catch (final IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static Map<String, JsonField> toFieldMap(final JsonObject jsonObject) {
+            final Map<String, JsonField> fields = new LinkedHashMap<>();
+            jsonObject.forEach(field -> fields.put(field.getKeyName(), field));
+            return fields;
+        }
+
+        private static Field getDeclaredField(final String name) {
+            try {
+                final Field field = ImmutableJsonObject.SoftReferencedFieldMap.class.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (final NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+/**
+ * Realistic thing payloads of different shapes for the JSON benchmarks.
+ */
+public enum ThingPayload {
+
+    /**
+     * A thing with a few attributes and one feature.
+     */
+    SMALL {
+        @Override
+        JsonObject createThing() {
+            return thingBuilder()
+                    .set("attributes", JsonObject.newBuilder()
+                            .set("manufacturer", "ACME")
+                            .set("serialNo", 4711)
+                            .set("location", JsonObject.newBuilder()
+                                    .set("latitude", 48.1351)
+                                    .set("longitude", 11.582)
+                                    .build())
+                            .build())
+                    .set("features", JsonObject.newBuilder()
+                            .set("lamp", createFeature(0))
+                            .build())
+                    .build();
+        }
+
+        @Override
+        JsonPointer getPointer() {
+            return JsonPointer.of("/features/lamp/properties/status/value");
+        }
+    },
+
+    /**
+     * A thing with 100 features, each with a definition and nested properties.
+     */
+    FEATURES_100 {
+        @Override
+        JsonObject createThing() {
+            final JsonObjectBuilder features = JsonObject.newBuilder();
+            for (int i = 0; i < 100; ++i) {
+                features.set("feature-" + i, createFeature(i));
+            }
+            return thingBuilder()
+                    .set("attributes", JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                    .set("features", features.build())
+                    .build();
+        }
+
+        @Override
+        JsonPointer getPointer() {
+            return JsonPointer.of("/features/feature-50/properties/status/value");
+        }
+    },
+
+    /**
+     * A thing with one feature with 10,000 properties.
+     */
+    PROPERTIES_10K {
+        @Override
+        JsonObject createThing() {
+            final JsonObjectBuilder properties = JsonObject.newBuilder();
+            for (int i = 0; i < 10_000; ++i) {
+                properties.set("property-" + i, i % 2 == 0 ? JsonValue.of(i * 0.5) : JsonValue.of("value-" + i));
+            }
+            return thingBuilder()
+                    .set("features", JsonObject.newBuilder()
+                            .set("sensor", JsonObject.newBuilder().set("properties", properties.build()).build())
+                            .build())
+                    .build();
+        }
+
+        @Override
+        JsonPointer getPointer() {
+            return JsonPointer.of("/features/sensor/properties/property-5000");
+        }
+    };
+
+    /**
+     * Creates the thing JSON of this payload.
+     *
+     * @return the thing JSON.
+     */
+    abstract JsonObject createThing();
+
+    /**
+     * Returns a pointer to a leaf value of the thing JSON of this payload.
+     *
+     * @return the pointer.
+     */
+    abstract JsonPointer getPointer();
+
+    private static JsonObjectBuilder thingBuilder() {
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("_revision", 42L)
+                .set("_modified", "2021-03-01T12:00:00.000Z");
+    }
+
+    private static JsonObject createFeature(final int i) {
+        return JsonObject.newBuilder()
+                .set("definition", JsonArray.of(JsonValue.of("org.eclipse.ditto:feature-" + i + ":1.0.0")))
+                .set("properties", JsonObject.newBuilder()
+                        .set("status", JsonObject.newBuilder()
+                                .set("value", i)
+                                .set("timestamp", "2021-03-01T12:00:00.000Z")
+                                .set("ok", true)
+                                .build())
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("interval", 60)
+                                .set("unit", "s")
+                                .set("thresholds", JsonArray.of(JsonValue.of(1.5), JsonValue.of(2.5)))
+                                .build())
+                        .build())
+                .build();
+    }
+
+}
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -63,39 +64,22 @@ public final class JacksonCborFactory implements CborFactory {
 
     @Override
     public JsonValue readFrom(final byte[] bytes) {
-        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
-        try {
-            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes);
-            return parseValue(parser, byteBuffer);
-        } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
-            throw createJsonParseException(byteBuffer, e);
-        }
+        return parse(bytes, 0, bytes.length, JacksonCborFactory::parseValue);
     }
 
     @Override
     public JsonValue readFrom(final byte[] bytes, final int offset, final int length) {
-        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
-        // this buffer.
-        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
-        try {
-            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
-            return parseValue(parser, byteBuffer);
-        } catch (final IOException | IllegalArgumentException e) {
-            throw createJsonParseException(byteBuffer, e);
-        }
+        return parse(bytes, offset, length, JacksonCborFactory::parseValue);
     }
 
     @Override
     public JsonValue readFrom(final ByteBuffer byteBuffer) {
-        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
-        // this buffer.
-        final ByteBuffer slicedByteBuffer = byteBuffer.slice();
-        try {
-            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
-            return parseValue(parser, slicedByteBuffer);
-        } catch (final IOException | IllegalArgumentException e) {
-            throw createJsonParseException(slicedByteBuffer, e);
-        }
+        return parse(byteBuffer, JacksonCborFactory::parseValue);
+    }
+
+    @Override
+    public Map<String, JsonField> readFieldsFrom(final ByteBuffer byteBuffer) {
+        return parse(byteBuffer, JacksonCborFactory::parseFields);
     }
 
     @Override
@@ -116,17 +100,24 @@ public final class JacksonCborFactory implements CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    @Override
+    public void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        try (final JacksonSerializationContext serializationContext =
+                     new JacksonSerializationContext(JACKSON_CBOR_FACTORY, byteBuffer)) {
+            writeFields(serializationContext, jsonFields);
+        }
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream(guessedSerializedSize);
 
-        try (final JacksonSerializationContext serializationContext = new JacksonSerializationContext(baos)) {
-            writeStartObjectWithLength(serializationContext, jsonFieldMap.size());
-            for (final JsonField jsonField : jsonFieldMap.values()) {
-                jsonField.writeKeyAndValue(serializationContext);
-            }
-            serializationContext.getJacksonGenerator().writeEndObject();
+        try (final JacksonSerializationContext serializationContext =
+                     new JacksonSerializationContext(JACKSON_CBOR_FACTORY, baos)) {
+            writeFields(serializationContext, jsonFieldMap.values());
         }
         return baos.toByteArray();
     }
@@ -136,7 +127,8 @@ public final class JacksonCborFactory implements CborFactory {
             throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream(guessedSerializedSize);
 
-        try (final JacksonSerializationContext serializationContext = new JacksonSerializationContext(baos)) {
+        try (final JacksonSerializationContext serializationContext =
+                     new JacksonSerializationContext(JACKSON_CBOR_FACTORY, baos)) {
             serializationContext.getJacksonGenerator().writeStartArray(list.size());
             for (final JsonValue jsonValue : list) {
                 jsonValue.writeValue(serializationContext);
@@ -146,6 +138,16 @@ public final class JacksonCborFactory implements CborFactory {
         return baos.toByteArray();
     }
 
+    private static void writeFields(final JacksonSerializationContext serializationContext,
+            final Collection<JsonField> jsonFields) throws IOException {
+
+        writeStartObjectWithLength(serializationContext, jsonFields.size());
+        for (final JsonField jsonField : jsonFields) {
+            jsonField.writeKeyAndValue(serializationContext);
+        }
+        serializationContext.getJacksonGenerator().writeEndObject();
+    }
+
     private static void writeStartObjectWithLength(final JacksonSerializationContext serializationContext, int length)
             throws IOException {
             /*
@@ -179,8 +181,62 @@ public final class JacksonCborFactory implements CborFactory {
         serializationContext.close();
     }
 
-    private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        return parseValue(parser, byteBuffer, parser.nextToken());
+    private static <T> T parse(final ByteBuffer byteBuffer, final CborParsing<T> parsing) {
+        if (byteBuffer.hasArray()) {
+            // parse the backing array directly instead of streaming it
+            return parse(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining(),
+                    parsing);
+        }
+        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
+        // this buffer.
+        final ByteBuffer slicedByteBuffer = byteBuffer.slice();
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
+            return parsing.parse(parser, slicedByteBuffer, parser.nextToken());
+        } catch (final IOException | IllegalArgumentException e) {
+            throw createJsonParseException(slicedByteBuffer, e);
+        }
+    }
+
+    private static <T> T parse(final byte[] bytes, final int offset, final int length,
+            final CborParsing<T> parsing) {
+
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
+            final JsonToken firstToken = parser.nextToken();
+            if (firstToken == null) {
+                throw new IOException("Unexpected end of input while expecting value.");
+            }
+            return parsing.parse(parser, wrapParsedBytes(parser, bytes, offset, length), firstToken);
+        } catch (final IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw createJsonParseException(ByteBuffer.wrap(bytes, offset, length), e);
+        }
+    }
+
+    /*
+     * Wraps the parsed bytes into a buffer such that the byte offsets determined by CBORParser map directly to
+     * positions in the buffer. Depending on the parser, the offsets of a byte array input start at zero or at the
+     * offset of the input; the first token always starts at the beginning of the input.
+     */
+    private static ByteBuffer wrapParsedBytes(final CBORParser parser, final byte[] bytes, final int offset,
+            final int length) {
+
+        final int firstTokenOffset = (int) parser.getTokenLocation().getByteOffset();
+        return ByteBuffer.wrap(bytes, offset - firstTokenOffset, length + firstTokenOffset).slice();
+    }
+
+    private static Map<String, JsonField> parseFields(final CBORParser parser, final ByteBuffer byteBuffer,
+            @Nullable final JsonToken currentToken) throws IOException {
+
+        if (currentToken != JsonToken.START_OBJECT) {
+            throw new IOException("Encountered unexpected token " + currentToken + " while parsing CBOR map.");
+        }
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String key = parser.currentName();
+            result.put(key, JsonField.newInstance(key, parseValue(parser, byteBuffer, parser.nextToken())));
+        }
+        return result;
     }
 
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer,
@@ -231,7 +287,7 @@ public final class JacksonCborFactory implements CborFactory {
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
+            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer, parser.nextToken()));
             map.put(key, jsonField);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
@@ -276,4 +332,17 @@ public final class JacksonCborFactory implements CborFactory {
         }
         return (JsonNumber) JsonValue.of(longValue);
     }
+
+    /**
+     * Parses a CBOR input starting with the current token of the parser.
+     *
+     * @param <T> the type of the result.
+     */
+    @FunctionalInterface
+    private interface CborParsing<T> {
+
+        T parse(CBORParser parser, ByteBuffer byteBuffer, @Nullable JsonToken currentToken) throws IOException;
+
+    }
+
 }
@@ -19,7 +19,6 @@ import java.nio.ByteBuffer;
 import org.eclipse.ditto.json.SerializationContext;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 /**
  * Implementation of {@link SerializationContext} backed by Jackson's {@link JsonGenerator}.
@@ -43,10 +42,6 @@ final class JacksonSerializationContext implements SerializationContext {
         jacksonGenerator = jacksonFactory.createGenerator(this.outputStream);
     }
 
-    JacksonSerializationContext(final OutputStream outputStream) throws IOException {
-        this(new CBORFactory(), outputStream);
-    }
-
     /**
      * Creates a JacksonSerializationContext that writes to the designated target.
      *
@@ -18,9 +18,13 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -113,4 +117,71 @@ public final class JacksonCborFactoryTest {
         allocate.flip();
         assertThat(BinaryToHexConverter.toHexString(allocate)).isEqualTo(CborTestUtils.serializeToHexString(testValue));
     }
+
+    @Test
+    public void valueReadFromByteArrayWithOffsetIsWrittenAsBefore() throws IOException {
+        final int paddingFront = 20;
+        final byte[] arrayWithOffset = new byte[paddingFront + testBytes.length];
+        System.arraycopy(testBytes, 0, arrayWithOffset, paddingFront, testBytes.length);
+
+        final JsonValue result = cborFactory.readFrom(arrayWithOffset, paddingFront, testBytes.length);
+
+        // nested objects and arrays write the CBOR representation they retained when being read
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+    }
+
+    @Test
+    public void valueReadFromByteBufferWithPositionIsWrittenAsBefore() throws IOException {
+        final int paddingFront = 20;
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(paddingFront + testBytes.length);
+        byteBuffer.position(paddingFront);
+        byteBuffer.put(testBytes);
+        byteBuffer.position(paddingFront);
+
+        final JsonValue result = cborFactory.readFrom(byteBuffer);
+
+        assertThat(result).isEqualTo(testValue);
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+        assertThat(byteBuffer.position()).isEqualTo(paddingFront);
+    }
+
+    @Test
+    public void writeFieldsToByteBufferEqualsWritingObject() throws IOException {
+        final List<JsonField> fields = Arrays.asList(JsonField.newInstance("value", testValue),
+                JsonField.newInstance("number", JsonValue.of(1)));
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(512);
+
+        cborFactory.writeFieldsToByteBuffer(fields, byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(BinaryToHexConverter.toHexString(byteBuffer))
+                .isEqualTo(CborTestUtils.serializeToHexString(JsonFactory.newObject(fields)));
+    }
+
+    @Test
+    public void readFieldsFromReturnsFieldsOfObject() throws IOException {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("value", testValue)
+                .set("number", 1)
+                .build();
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(CborTestUtils.serializeWithJackson(jsonObject))
+                .asReadOnlyBuffer();
+
+        final Map<String, JsonField> result = cborFactory.readFieldsFrom(byteBuffer);
+
+        assertThat(result.values()).containsExactlyElementsOf(jsonObject);
+    }
+
+    @Test
+    public void readFieldsFromRejectsNonObjects() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(testBytes);
+
+        if (testValue.isObject()) {
+            assertThat(cborFactory.readFieldsFrom(byteBuffer)).hasSize(testValue.asObject().getSize());
+        } else {
+            Assertions.assertThatExceptionOfType(JsonParseException.class)
+                    .isThrownBy(() -> cborFactory.readFieldsFrom(byteBuffer));
+        }
+    }
+
 }
@@ -14,6 +14,8 @@ package org.eclipse.ditto.json;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -97,6 +99,45 @@ public interface CborFactory {
      */
     void writeToByteBuffer(JsonValue jsonValue, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes the passed {@code jsonFields} as one CBOR map into the passed {@code byteBuffer} without creating a
+     * {@code JsonObject} of them first. Values which already have a CBOR representation are copied as they are.
+     *
+     * @param jsonFields the fields to serialize into CBOR.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing the value to the backing OutputStream causes an IOException.
+     * @since 2.0.0
+     */
+    default void writeFieldsToByteBuffer(final Collection<JsonField> jsonFields, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        writeToByteBuffer(JsonFactory.newObject(jsonFields), byteBuffer);
+    }
+
+    /**
+     * Deserializes the fields of a CBOR map from the remaining bytes of the passed {@code byteBuffer}. Other than
+     * {@link #readFrom(ByteBuffer)}, the CBOR representation of the map itself is not retained; only the values keep
+     * theirs.
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @return the fields of the map by their keys in the order of the map.
+     * @throws JsonParseException if the content of {@code byteBuffer} cannot be deserialized to a JSON object.
+     * @since 2.0.0
+     */
+    default Map<String, JsonField> readFieldsFrom(final ByteBuffer byteBuffer) {
+        final JsonValue jsonValue = readFrom(byteBuffer);
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message("The CBOR value is no map: <" + jsonValue + ">")
+                    .build();
+        }
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        for (final JsonField jsonField : jsonValue.asObject()) {
+            result.put(jsonField.getKeyName(), jsonField);
+        }
+        return result;
+    }
+
     /**
      * Creates the CBOR representation of the passed JSON fieldMap and the estimated required serialized size of it.
      *
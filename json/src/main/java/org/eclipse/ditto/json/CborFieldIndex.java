@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Index of the top-level fields of a CBOR encoded JSON object.
+ * <p>
+ * Building the index decodes the keys of the object only; values are skipped and remembered by their position so
+ * that a single value can be decoded without decoding the whole object.
+ * </p>
+ */
+@Immutable
+final class CborFieldIndex {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+
+    private static final int INDEFINITE_LENGTH = 31;
+    private static final int BREAK = 0xFF;
+
+    private final Map<String, Integer> keyToEntry;
+    private final int[] valueOffsets;
+    private final int[] valueLengths;
+
+    private CborFieldIndex(final Map<String, Integer> keyToEntry, final int[] valueOffsets,
+            final int[] valueLengths) {
+        this.keyToEntry = keyToEntry;
+        this.valueOffsets = valueOffsets;
+        this.valueLengths = valueLengths;
+    }
+
+    /**
+     * Indexes the top-level fields of the given CBOR encoded JSON object.
+     *
+     * @param cbor the CBOR encoded JSON object.
+     * @return the index or {@code null} if the bytes are no CBOR map with text string keys.
+     */
+    @Nullable
+    static CborFieldIndex of(final byte[] cbor) {
+        try {
+            return new Reader(cbor).readIndex();
+        } catch (final RuntimeException | StackOverflowError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of fields of the indexed object.
+     *
+     * @return the number of fields.
+     */
+    int getSize() {
+        return keyToEntry.size();
+    }
+
+    /**
+     * Indicates whether the indexed object has a field with the given key.
+     *
+     * @param key the key.
+     * @return whether the key exists.
+     */
+    boolean containsKey(final String key) {
+        return keyToEntry.containsKey(key);
+    }
+
+    /**
+     * Returns the offset of the CBOR encoded value of the given key.
+     *
+     * @param key the key.
+     * @return the offset or -1 if the key does not exist.
+     */
+    int getValueOffset(final String key) {
+        final Integer entry = keyToEntry.get(key);
+        return null != entry ? valueOffsets[entry] : -1;
+    }
+
+    /**
+     * Returns the length of the CBOR encoded value of the given key.
+     *
+     * @param key the key.
+     * @return the length or -1 if the key does not exist.
+     */
+    int getValueLength(final String key) {
+        final Integer entry = keyToEntry.get(key);
+        return null != entry ? valueLengths[entry] : -1;
+    }
+
+    /**
+     * Walks the data items of a CBOR byte array. Any malformed input results in a runtime exception.
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int pos;
+
+        private Reader(final byte[] bytes) {
+            this.bytes = bytes;
+            pos = 0;
+        }
+
+        private CborFieldIndex readIndex() {
+            final int initialByte = readUnsignedByte();
+            if (initialByte >>> 5 != MAJOR_TYPE_MAP) {
+                throw new IllegalArgumentException("CBOR data item is no map.");
+            }
+            final boolean indefinite = (initialByte & 0x1F) == INDEFINITE_LENGTH;
+            final int expectedSize;
+            if (indefinite) {
+                expectedSize = 16;
+            } else {
+                expectedSize = toInt(readArgument(initialByte));
+                // each entry takes at least 2 bytes
+                checkRemaining(expectedSize * 2L);
+            }
+            final Map<String, Integer> keyToEntry = new HashMap<>(Math.max(16, expectedSize * 4 / 3 + 1));
+            int[] valueOffsets = new int[expectedSize];
+            int[] valueLengths = new int[expectedSize];
+            int size = 0;
+            int entriesRead = 0;
+            while (indefinite ? !skipBreak() : entriesRead++ < expectedSize) {
+                final String key = readTextString();
+                final int valueOffset = pos;
+                skipDataItem();
+                if (size == valueOffsets.length) {
+                    valueOffsets = grow(valueOffsets);
+                    valueLengths = grow(valueLengths);
+                }
+                // the value of a duplicate key overrides the previous value like when decoding the whole object
+                final Integer previousEntry = keyToEntry.putIfAbsent(key, size);
+                final int entry = null != previousEntry ? previousEntry : size++;
+                valueOffsets[entry] = valueOffset;
+                valueLengths[entry] = pos - valueOffset;
+            }
+            if (pos != bytes.length) {
+                throw new IllegalArgumentException("Trailing bytes after CBOR map.");
+            }
+            return new CborFieldIndex(keyToEntry, valueOffsets, valueLengths);
+        }
+
+        private String readTextString() {
+            final int initialByte = readUnsignedByte();
+            if (initialByte >>> 5 != MAJOR_TYPE_TEXT_STRING) {
+                throw new IllegalArgumentException("CBOR map key is no text string.");
+            }
+            if ((initialByte & 0x1F) != INDEFINITE_LENGTH) {
+                final int length = toInt(readArgument(initialByte));
+                final String result = new String(bytes, checkRemaining(length), length, StandardCharsets.UTF_8);
+                pos += length;
+                return result;
+            }
+            final StringBuilder stringBuilder = new StringBuilder();
+            while (!skipBreak()) {
+                stringBuilder.append(readTextString());
+            }
+            return stringBuilder.toString();
+        }
+
+        private void skipDataItem() {
+            final int initialByte = readUnsignedByte();
+            final int majorType = initialByte >>> 5;
+            final boolean indefinite = (initialByte & 0x1F) == INDEFINITE_LENGTH;
+            switch (majorType) {
+                case MAJOR_TYPE_UNSIGNED_INTEGER:
+                case MAJOR_TYPE_NEGATIVE_INTEGER:
+                    readArgument(initialByte);
+                    break;
+                case MAJOR_TYPE_BYTE_STRING:
+                case MAJOR_TYPE_TEXT_STRING:
+                    if (indefinite) {
+                        while (!skipBreak()) {
+                            skipDataItem();
+                        }
+                    } else {
+                        final int length = toInt(readArgument(initialByte));
+                        pos = checkRemaining(length) + length;
+                    }
+                    break;
+                case MAJOR_TYPE_ARRAY:
+                case MAJOR_TYPE_MAP:
+                    if (indefinite) {
+                        while (!skipBreak()) {
+                            skipDataItem();
+                        }
+                    } else {
+                        final long itemsPerEntry = majorType == MAJOR_TYPE_MAP ? 2 : 1;
+                        final long items = readArgument(initialByte) * itemsPerEntry;
+                        for (long i = 0; i < items; ++i) {
+                            skipDataItem();
+                        }
+                    }
+                    break;
+                case MAJOR_TYPE_TAG:
+                    readArgument(initialByte);
+                    skipDataItem();
+                    break;
+                default:
+                    // simple values and floating point numbers
+                    if (indefinite) {
+                        throw new IllegalArgumentException("Unexpected CBOR break.");
+                    }
+                    readArgument(initialByte);
+            }
+        }
+
+        private long readArgument(final int initialByte) {
+            final int additionalInformation = initialByte & 0x1F;
+            if (additionalInformation < 24) {
+                return additionalInformation;
+            }
+            switch (additionalInformation) {
+                case 24:
+                    return readUnsigned(1);
+                case 25:
+                    return readUnsigned(2);
+                case 26:
+                    return readUnsigned(4);
+                case 27:
+                    return readUnsigned(8);
+                default:
+                    throw new IllegalArgumentException("Unsupported CBOR additional information.");
+            }
+        }
+
+        private long readUnsigned(final int numberOfBytes) {
+            long result = 0;
+            for (int i = 0; i < numberOfBytes; ++i) {
+                result = (result << 8) | readUnsignedByte();
+            }
+            return result;
+        }
+
+        private boolean skipBreak() {
+            if ((bytes[pos] & 0xFF) == BREAK) {
+                ++pos;
+                return true;
+            }
+            return false;
+        }
+
+        private int readUnsignedByte() {
+            return bytes[pos++] & 0xFF;
+        }
+
+        private int checkRemaining(final long length) {
+            if (length > bytes.length - pos) {
+                throw new IllegalArgumentException("CBOR data item exceeds the input.");
+            }
+            return pos;
+        }
+
+        private static int toInt(final long argument) {
+            if (argument < 0 || argument > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("CBOR length exceeds the maximum array size.");
+            }
+            return (int) argument;
+        }
+
+        private static int[] grow(final int[] array) {
+            final int[] result = new int[Math.max(16, array.length * 2)];
+            System.arraycopy(array, 0, result, 0, array.length);
+            return result;
+        }
+
+    }
+
+}
@@ -558,11 +558,17 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
 
+        // strong reference to the fields of small or hot objects which are never cleared
+        @Nullable private Map<String, JsonField> pinnedFields;
+        @Nullable private SoftReference<CborFieldIndex> cborFieldIndexReference;
+        private boolean cborFieldIndexUnsupported;
+
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            final Map<String, JsonField> fields = Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap));
+            fieldsReference = new SoftReference<>(fields);
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -579,6 +585,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 }
             }
             hashCode = 0;
+            pinnedFields = guessSerializedSize() <= JsonObjectFieldMaps.getPinnedMaxSize() ? fields : null;
+            cborFieldIndexReference = null;
+            cborFieldIndexUnsupported = false;
         }
 
         static SoftReferencedFieldMap empty() {
@@ -620,20 +629,58 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
-            return fields().size();
+            final CborFieldIndex cborFieldIndex = getCborFieldIndexIfFieldsAbsent();
+            return null != cborFieldIndex ? cborFieldIndex.getSize() : fields().size();
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == getSize();
         }
 
         boolean containsKey(final String key) {
-            return fields().containsKey(key);
+            final CborFieldIndex cborFieldIndex = getCborFieldIndexIfFieldsAbsent();
+            return null != cborFieldIndex ? cborFieldIndex.containsKey(key) : fields().containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
-            return fields().get(key);
+            final CborFieldIndex cborFieldIndex = getCborFieldIndexIfFieldsAbsent();
+            return null != cborFieldIndex ? lookUpInCbor(cborFieldIndex, key) : fields().get(key);
+        }
+
+        /*
+         * Returns the index of the CBOR representation if the fields are not in memory and single fields may be
+         * looked up in the CBOR representation instead of recovering all fields.
+         */
+        @Nullable
+        private CborFieldIndex getCborFieldIndexIfFieldsAbsent() {
+            if (!JsonObjectFieldMaps.isCborIndexEnabled() || cborFieldIndexUnsupported ||
+                    null == cborObjectRepresentation || !CBOR_FACTORY.isCborAvailable() ||
+                    null != getFieldsIfPresent()) {
+                return null;
+            }
+            CborFieldIndex result = null != cborFieldIndexReference ? cborFieldIndexReference.get() : null;
+            if (null == result) {
+                result = CborFieldIndex.of(cborObjectRepresentation);
+                if (null == result) {
+                    cborFieldIndexUnsupported = true;
+                } else {
+                    cborFieldIndexReference = new SoftReference<>(result);
+                }
+            }
+            return result;
+        }
+
+        @Nullable
+        private JsonField lookUpInCbor(final CborFieldIndex cborFieldIndex, final String key) {
+            final int valueOffset = cborFieldIndex.getValueOffset(key);
+            if (valueOffset < 0) {
+                return null;
+            }
+            JsonObjectFieldMaps.recordIndexedLookup();
+            final JsonValue value = CBOR_FACTORY.readFrom(cborObjectRepresentation, valueOffset,
+                    cborFieldIndex.getValueLength(key));
+            return JsonField.newInstance(key, value);
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
@@ -667,19 +714,33 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+            Map<String, JsonField> result = getFieldsIfPresent();
             if (null == result) {
                 result = recoverFields();
-                fieldsReference = new SoftReference<>(result);
+                if (guessSerializedSize() <= JsonObjectFieldMaps.getPinnedMaxSize() ||
+                        JsonObjectFieldMaps.isPinRecovered()) {
+                    pinnedFields = result;
+                } else {
+                    fieldsReference = new SoftReference<>(result);
+                }
+                cborFieldIndexReference = null;
             }
             return result;
         }
 
+        @Nullable
+        private Map<String, JsonField> getFieldsIfPresent() {
+            final Map<String, JsonField> result = pinnedFields;
+            return null != result ? result : fieldsReference.get();
+        }
+
         private Map<String, JsonField> recoverFields() {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
+                JsonObjectFieldMaps.recordRecoveryFromCbor();
                 return parseToMap(cborObjectRepresentation);
             }
             if (jsonObjectStringRepresentation != null) {
+                JsonObjectFieldMaps.recordRecoveryFromString();
                 return parseToMap(jsonObjectStringRepresentation);
             }
             throw new IllegalStateException("Fatal cache miss on JsonObject");
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Settings and statistics of how JSON objects keep their fields in memory.
+ * <p>
+ * JSON objects keep a serialized representation and refer to their parsed fields softly so that the garbage
+ * collector may clear the fields under memory pressure. Cleared fields are recovered from the serialized
+ * representation on next access.
+ * </p>
+ * <p>
+ * The settings are read from system properties when this class is loaded and again by {@link #resolveSettings()}.
+ * They are resolved lazily rather than expecting the properties to be set before any JSON class is loaded, since
+ * JSON objects are created early, e.g. while reading configuration. Objects created before keep the pinning decision
+ * made at their creation.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class JsonObjectFieldMaps {
+
+    /**
+     * System property name of the serialized size in bytes up to which the fields of JSON objects are referenced
+     * strongly and are thus never recovered. Defaults to {@value DEFAULT_PINNED_MAX_SIZE}.
+     */
+    public static final String PINNED_MAX_SIZE = "ditto.json.field-map.pinned-max-size";
+
+    /**
+     * System property name of the property defining whether the fields of JSON objects are referenced strongly
+     * once they were recovered, i.e. whether objects accessed again after their fields were cleared stay in memory.
+     * Defaults to {@code false}.
+     */
+    public static final String PIN_RECOVERED = "ditto.json.field-map.pin-recovered";
+
+    /**
+     * System property name of the property defining whether single fields of CBOR serialized JSON objects are looked
+     * up without recovering all fields. Defaults to {@code true}.
+     */
+    public static final String CBOR_INDEX_ENABLED = "ditto.json.field-map.cbor-index-enabled";
+
+    static final int DEFAULT_PINNED_MAX_SIZE = 256;
+
+    private static final LongAdder RECOVERIES_FROM_CBOR = new LongAdder();
+    private static final LongAdder RECOVERIES_FROM_STRING = new LongAdder();
+    private static final LongAdder INDEXED_LOOKUPS = new LongAdder();
+
+    private static volatile Settings settings = Settings.resolve();
+
+    private JsonObjectFieldMaps() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns how often the fields of JSON objects were recovered from their CBOR representation.
+     *
+     * @return the number of recoveries since the start of the JVM.
+     */
+    public static long getRecoveriesFromCbor() {
+        return RECOVERIES_FROM_CBOR.sum();
+    }
+
+    /**
+     * Returns how often the fields of JSON objects were recovered from their string representation.
+     *
+     * @return the number of recoveries since the start of the JVM.
+     */
+    public static long getRecoveriesFromString() {
+        return RECOVERIES_FROM_STRING.sum();
+    }
+
+    /**
+     * Returns how often a single field of a JSON object was looked up in its CBOR representation instead of
+     * recovering all fields.
+     *
+     * @return the number of lookups since the start of the JVM.
+     */
+    public static long getIndexedLookups() {
+        return INDEXED_LOOKUPS.sum();
+    }
+
+    /**
+     * Reads the settings from the system properties again. To be called after the system properties were set.
+     */
+    public static void resolveSettings() {
+        settings = Settings.resolve();
+    }
+
+    static int getPinnedMaxSize() {
+        return settings.pinnedMaxSize;
+    }
+
+    static boolean isPinRecovered() {
+        return settings.pinRecovered;
+    }
+
+    static boolean isCborIndexEnabled() {
+        return settings.cborIndexEnabled;
+    }
+
+    static void recordRecoveryFromCbor() {
+        RECOVERIES_FROM_CBOR.increment();
+    }
+
+    static void recordRecoveryFromString() {
+        RECOVERIES_FROM_STRING.increment();
+    }
+
+    static void recordIndexedLookup() {
+        INDEXED_LOOKUPS.increment();
+    }
+
+    private static final class Settings {
+
+        private final int pinnedMaxSize;
+        private final boolean pinRecovered;
+        private final boolean cborIndexEnabled;
+
+        private Settings(final int pinnedMaxSize, final boolean pinRecovered, final boolean cborIndexEnabled) {
+            this.pinnedMaxSize = pinnedMaxSize;
+            this.pinRecovered = pinRecovered;
+            this.cborIndexEnabled = cborIndexEnabled;
+        }
+
+        private static Settings resolve() {
+            return new Settings(resolvePinnedMaxSize(), resolvePinRecovered(), resolveCborIndexEnabled());
+        }
+
+        private static int resolvePinnedMaxSize() {
+            try {
+                return Integer.parseInt(System.getProperty(PINNED_MAX_SIZE, String.valueOf(DEFAULT_PINNED_MAX_SIZE)));
+            } catch (final NumberFormatException e) {
+                return DEFAULT_PINNED_MAX_SIZE;
+            }
+        }
+
+        private static boolean resolvePinRecovered() {
+            return Boolean.parseBoolean(System.getProperty(PIN_RECOVERED, Boolean.FALSE.toString()));
+        }
+
+        private static boolean resolveCborIndexEnabled() {
+            final String propertyValue = System.getProperty(CBOR_INDEX_ENABLED, Boolean.TRUE.toString());
+            return !Boolean.FALSE.toString().equalsIgnoreCase(propertyValue);
+        }
+
+    }
+
+}
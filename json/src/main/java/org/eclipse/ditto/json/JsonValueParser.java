@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,20 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue} without decoding them to a String first.
+     * The position of the buffer is not changed.
+     *
+     * @return the function.
+     */
+    public static Function<ByteBuffer, JsonValue> fromUtf8() {
+        return byteBuffer -> {
+            requireNonNull(byteBuffer, "The JSON data to be parsed must not be null!");
+            return Utf8JsonParser.parseValue(byteBuffer);
+        };
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Parses UTF-8 encoded JSON directly into the immutable JSON types of this library without decoding the input to a
+ * string first and without an intermediate tree of handler callbacks.
+ * <p>
+ * The input is read exactly once. If the source text of the parsed top-level object or array already is its string
+ * representation, the value keeps the source text as string representation; nested values compute theirs on demand.
+ * Of duplicate keys within an object the last one wins, consistent with parsing from a string; the string
+ * representation of such an object is computed from its fields so that both always agree.
+ * </p>
+ */
+@NotThreadSafe
+final class Utf8JsonParser {
+
+    private final byte[] bytes;
+    private final int end;
+    private int pos;
+
+    /*
+     * Whether the source text of the value parsed last equals the string representation of the value, i.e. whether
+     * it contains neither insignificant whitespace nor escape sequences the JSON string escaper would not produce.
+     */
+    private boolean canonical;
+
+    private Utf8JsonParser(final byte[] bytes, final int offset, final int length) {
+        this.bytes = bytes;
+        end = offset + length;
+        pos = offset;
+        canonical = true;
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON from the remaining bytes of the given buffer without changing its position.
+     *
+     * @param byteBuffer the buffer containing the JSON.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     */
+    static JsonValue parseValue(final ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            return parseValue(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining());
+        } else {
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return parseValue(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON from a range of a byte array.
+     *
+     * @param bytes the byte array containing the JSON.
+     * @param offset the index of the first byte of the JSON.
+     * @param length the number of bytes of the JSON.
+     * @return the parsed JSON value.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     */
+    static JsonValue parseValue(final byte[] bytes, final int offset, final int length) {
+        final Utf8JsonParser parser = new Utf8JsonParser(bytes, offset, length);
+        try {
+            parser.skipWhitespace();
+            final JsonValue result = parser.readValue(true);
+            parser.expectEndOfInput();
+            return result;
+        } catch (final IllegalArgumentException | NullPointerException | StackOverflowError e) {
+            throw parser.wrapException(e);
+        }
+    }
+
+    /*
+     * Reads the value at the current position. Only the top-level value keeps its source text as string
+     * representation because decoding the source text of each nested value would read the input once per level.
+     */
+    private JsonValue readValue(final boolean topLevel) {
+        switch (peek()) {
+            case '{':
+                return readObject(topLevel);
+            case '[':
+                return readArray(topLevel);
+            case '"':
+                return ImmutableJsonString.of(readString());
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            default:
+                return readNumber();
+        }
+    }
+
+    private JsonObject readObject(final boolean topLevel) {
+        final int start = pos;
+        final Map<String, JsonField> fields = readFields();
+        final String stringRepresentation = topLevel && canonical ? decode(start, pos) : null;
+        return ImmutableJsonObject.of(fields, stringRepresentation);
+    }
+
+    private Map<String, JsonField> readFields() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        ++pos; // '{'
+        boolean isCanonical = !skipWhitespace();
+        if (!readIf('}')) {
+            do {
+                isCanonical &= !skipWhitespace();
+                if (peek() != '"') {
+                    throw expected("name");
+                }
+                final String key = readString();
+                isCanonical &= canonical;
+                isCanonical &= !skipWhitespace();
+                expect(':');
+                isCanonical &= !skipWhitespace();
+                final JsonValue value = readValue(false);
+                isCanonical &= canonical;
+                if (null != fields.put(key, JsonField.newInstance(key, value))) {
+                    // the source text contains the overwritten field as well
+                    isCanonical = false;
+                }
+                isCanonical &= !skipWhitespace();
+            } while (readIf(','));
+            expect('}');
+        }
+        canonical = isCanonical;
+        return fields;
+    }
+
+    private JsonArray readArray(final boolean topLevel) {
+        final int start = pos;
+        final List<JsonValue> values = new ArrayList<>();
+        ++pos; // '['
+        boolean isCanonical = !skipWhitespace();
+        if (!readIf(']')) {
+            do {
+                isCanonical &= !skipWhitespace();
+                values.add(readValue(false));
+                isCanonical &= canonical;
+                isCanonical &= !skipWhitespace();
+            } while (readIf(','));
+            expect(']');
+        }
+        final String stringRepresentation = topLevel && isCanonical ? decode(start, pos) : null;
+        canonical = isCanonical;
+        return ImmutableJsonArray.of(values, stringRepresentation);
+    }
+
+    private String readString() {
+        ++pos; // '"'
+        final int start = pos;
+        boolean ascii = true;
+        while (true) {
+            final int b = peek();
+            if (b == '"') {
+                final String result = new String(bytes, start, pos - start,
+                        ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+                ++pos;
+                canonical = true;
+                return result;
+            } else if (b == '\\') {
+                return readEscapedString(start);
+            } else if (b < 0x20) {
+                throw expected("valid string character");
+            } else if (b >= 0x80) {
+                ascii = false;
+            }
+            ++pos;
+        }
+    }
+
+    private String readEscapedString(final int start) {
+        final StringBuilder stringBuilder = new StringBuilder(pos - start + 16);
+        boolean isCanonical = true;
+        int segmentStart = start;
+        while (true) {
+            final int b = peek();
+            if (b == '"' || b == '\\') {
+                // UTF-8 multi-byte sequences never contain quotes or backslashes, thus segments are decodable
+                stringBuilder.append(new String(bytes, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+                ++pos;
+                if (b == '"') {
+                    canonical = isCanonical;
+                    return stringBuilder.toString();
+                }
+                isCanonical &= readEscapeSequence(stringBuilder);
+                segmentStart = pos;
+            } else if (b < 0x20) {
+                throw expected("valid string character");
+            } else {
+                ++pos;
+            }
+        }
+    }
+
+    /*
+     * Reads the escape sequence after a backslash and returns whether the JSON string escaper produces the same
+     * escape sequence.
+     */
+    private boolean readEscapeSequence(final StringBuilder stringBuilder) {
+        final int b = peek();
+        ++pos;
+        final char c;
+        boolean isCanonical = true;
+        switch (b) {
+            case '"':
+            case '\\':
+                c = (char) b;
+                break;
+            case '/':
+                c = '/';
+                isCanonical = false;
+                break;
+            case 'b':
+                c = '\b';
+                break;
+            case 'f':
+                c = '\f';
+                break;
+            case 'n':
+                c = '\n';
+                break;
+            case 'r':
+                c = '\r';
+                break;
+            case 't':
+                c = '\t';
+                break;
+            case 'u':
+                c = readHexChar();
+                isCanonical = false;
+                break;
+            default:
+                --pos;
+                throw expected("valid escape sequence");
+        }
+        stringBuilder.append(c);
+        return isCanonical;
+    }
+
+    private char readHexChar() {
+        int result = 0;
+        for (int i = 0; i < 4; ++i) {
+            final int digit = Character.digit(peek(), 16);
+            if (digit < 0) {
+                throw expected("hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            ++pos;
+        }
+        return (char) result;
+    }
+
+    private void readLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); ++i) {
+            if (peek() != literal.charAt(i)) {
+                throw expected("'" + literal + "'");
+            }
+            ++pos;
+        }
+        canonical = true;
+    }
+
+    private JsonNumber readNumber() {
+        final int start = pos;
+        final boolean isDecimal = scanNumber();
+        if (isDecimal) {
+            final String sourceText = new String(bytes, start, pos - start, StandardCharsets.ISO_8859_1);
+            final ImmutableJsonDouble result = ImmutableJsonDouble.of(Double.parseDouble(sourceText));
+            // e. g. "1e3" or "0.50" are serialized differently
+            canonical = sourceText.equals(result.toString());
+            return result;
+        } else {
+            final long value = parseLong(start, pos);
+            // "-0" is serialized as "0"
+            canonical = value != 0 || bytes[start] != '-';
+            if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+                return ImmutableJsonInt.of((int) value);
+            } else {
+                return ImmutableJsonLong.of(value);
+            }
+        }
+    }
+
+    /*
+     * Scans a number as defined by RFC 8259 and returns whether it has a fraction or an exponent.
+     */
+    private boolean scanNumber() {
+        readIf('-');
+        if (!readIf('0')) {
+            if (!isDigit(peek())) {
+                throw expected("value");
+            }
+            skipDigits();
+        }
+        boolean isDecimal = false;
+        if (readIf('.')) {
+            isDecimal = true;
+            if (!isDigit(peek())) {
+                throw expected("digit");
+            }
+            skipDigits();
+        }
+        if (readIf('e') || readIf('E')) {
+            isDecimal = true;
+            if (!readIf('+')) {
+                readIf('-');
+            }
+            if (!isDigit(peek())) {
+                throw expected("digit");
+            }
+            skipDigits();
+        }
+        return isDecimal;
+    }
+
+    private void skipDigits() {
+        while (isDigit(peek())) {
+            ++pos;
+        }
+    }
+
+    private long parseLong(final int start, final int numberEnd) {
+        final boolean negative = bytes[start] == '-';
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (int i = negative ? start + 1 : start; i < numberEnd; ++i) {
+            final int digit = bytes[i] - '0';
+            if (result < multiplicationLimit || result * 10 < limit + digit) {
+                throw new NumberFormatException(MessageFormat.format("<{0}> does not fit into a long!",
+                        new String(bytes, start, numberEnd - start, StandardCharsets.ISO_8859_1)));
+            }
+            // accumulate negatively in order to reach Long.MIN_VALUE
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isDigit(final int b) {
+        return '0' <= b && b <= '9';
+    }
+
+    /*
+     * Returns whether any whitespace was skipped.
+     */
+    private boolean skipWhitespace() {
+        final int start = pos;
+        while (pos < end) {
+            final byte b = bytes[pos];
+            if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                ++pos;
+            } else {
+                break;
+            }
+        }
+        return pos != start;
+    }
+
+    private boolean readIf(final char c) {
+        if (peek() == c) {
+            ++pos;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private void expect(final char c) {
+        if (!readIf(c)) {
+            throw expected("'" + c + "'");
+        }
+    }
+
+    private void expectEndOfInput() {
+        skipWhitespace();
+        if (pos < end) {
+            throw expected("end of input");
+        }
+    }
+
+    /*
+     * Returns the unsigned byte at the current position or -1 at the end of input.
+     */
+    private int peek() {
+        return pos < end ? bytes[pos] & 0xFF : -1;
+    }
+
+    private String decode(final int start, final int stop) {
+        return new String(bytes, start, stop - start, StandardCharsets.UTF_8);
+    }
+
+    private JsonParseException expected(final String expected) {
+        final String unexpected = pos < end ? "unexpected byte <" + peek() + ">" : "unexpected end of input";
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("Failed to parse JSON at byte {0}: expected {1} but found {2}!",
+                        String.valueOf(pos), expected, unexpected))
+                .build();
+    }
+
+    private JsonParseException wrapException(final Throwable cause) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("Failed to parse JSON at byte {0}!", String.valueOf(pos)))
+                .cause(cause)
+                .build();
+    }
+
+}
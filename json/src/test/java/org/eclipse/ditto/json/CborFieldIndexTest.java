@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.CborFieldIndex}.
+ */
+public final class CborFieldIndexTest {
+
+    /*
+     * {"a": 1, "bc": [-1, "x", 1.5], "d": {"e": null}, "f": true, "g": 1000000}
+     */
+    private static final byte[] DEFINITE_MAP = bytes(
+            0xA5,
+            0x61, 'a', 0x01,
+            0x62, 'b', 'c', 0x83, 0x20, 0x61, 'x', 0xF9, 0x3E, 0x00,
+            0x61, 'd', 0xA1, 0x61, 'e', 0xF6,
+            0x61, 'f', 0xF5,
+            0x61, 'g', 0x1A, 0x00, 0x0F, 0x42, 0x40);
+
+    /*
+     * {_ "a": [_ 1, 2], "b": (_ "x", "y")}
+     */
+    private static final byte[] INDEFINITE_MAP = bytes(
+            0xBF,
+            0x61, 'a', 0x9F, 0x01, 0x02, 0xFF,
+            0x61, 'b', 0x7F, 0x61, 'x', 0x61, 'y', 0xFF,
+            0xFF);
+
+    @Test
+    public void indexDefiniteLengthMap() {
+        final CborFieldIndex underTest = CborFieldIndex.of(DEFINITE_MAP);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getSize()).isEqualTo(5);
+        assertThat(valueOf(underTest, DEFINITE_MAP, "a")).isEqualTo(bytes(0x01));
+        assertThat(valueOf(underTest, DEFINITE_MAP, "bc")).isEqualTo(bytes(0x83, 0x20, 0x61, 'x', 0xF9, 0x3E, 0x00));
+        assertThat(valueOf(underTest, DEFINITE_MAP, "d")).isEqualTo(bytes(0xA1, 0x61, 'e', 0xF6));
+        assertThat(valueOf(underTest, DEFINITE_MAP, "f")).isEqualTo(bytes(0xF5));
+        assertThat(valueOf(underTest, DEFINITE_MAP, "g")).isEqualTo(bytes(0x1A, 0x00, 0x0F, 0x42, 0x40));
+    }
+
+    @Test
+    public void indexIndefiniteLengthMap() {
+        final CborFieldIndex underTest = CborFieldIndex.of(INDEFINITE_MAP);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getSize()).isEqualTo(2);
+        assertThat(valueOf(underTest, INDEFINITE_MAP, "a")).isEqualTo(bytes(0x9F, 0x01, 0x02, 0xFF));
+        assertThat(valueOf(underTest, INDEFINITE_MAP, "b")).isEqualTo(bytes(0x7F, 0x61, 'x', 0x61, 'y', 0xFF));
+    }
+
+    @Test
+    public void indexIndefiniteLengthKey() {
+        final byte[] cbor = bytes(0xA1, 0x7F, 0x61, 'a', 0x61, 'b', 0xFF, 0xF4);
+
+        final CborFieldIndex underTest = CborFieldIndex.of(cbor);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.containsKey("ab")).isTrue();
+        assertThat(valueOf(underTest, cbor, "ab")).isEqualTo(bytes(0xF4));
+    }
+
+    @Test
+    public void lastValueOfDuplicateKeyWins() {
+        final byte[] cbor = bytes(0xA2, 0x61, 'a', 0x01, 0x61, 'a', 0x02);
+
+        final CborFieldIndex underTest = CborFieldIndex.of(cbor);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getSize()).isEqualTo(1);
+        assertThat(valueOf(underTest, cbor, "a")).isEqualTo(bytes(0x02));
+    }
+
+    @Test
+    public void unknownKeyIsNotFound() {
+        final CborFieldIndex underTest = CborFieldIndex.of(DEFINITE_MAP);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.containsKey("e")).isFalse();
+        assertThat(underTest.getValueOffset("e")).isEqualTo(-1);
+        assertThat(underTest.getValueLength("e")).isEqualTo(-1);
+    }
+
+    @Test
+    public void emptyMapIsIndexed() {
+        final CborFieldIndex underTest = CborFieldIndex.of(bytes(0xA0));
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getSize()).isZero();
+    }
+
+    @Test
+    public void unsupportedInputIsNotIndexed() {
+        // no map
+        assertThat(CborFieldIndex.of(bytes(0x83, 0x01, 0x02, 0x03))).isNull();
+        // key is no text string
+        assertThat(CborFieldIndex.of(bytes(0xA1, 0x01, 0x02))).isNull();
+        // truncated
+        assertThat(CborFieldIndex.of(bytes(0xA2, 0x61, 'a', 0x01))).isNull();
+        assertThat(CborFieldIndex.of(bytes(0xA1, 0x61, 'a', 0x65, 'x'))).isNull();
+        // trailing bytes
+        assertThat(CborFieldIndex.of(bytes(0xA0, 0x00))).isNull();
+        // huge number of entries
+        assertThat(CborFieldIndex.of(bytes(0xBA, 0x7F, 0xFF, 0xFF, 0xFF))).isNull();
+        // empty input
+        assertThat(CborFieldIndex.of(new byte[0])).isNull();
+    }
+
+    private static byte[] valueOf(final CborFieldIndex index, final byte[] cbor, final String key) {
+        final int offset = index.getValueOffset(key);
+        return Arrays.copyOfRange(cbor, offset, offset + index.getValueLength(key));
+    }
+
+    private static byte[] bytes(final int... values) {
+        final byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+}
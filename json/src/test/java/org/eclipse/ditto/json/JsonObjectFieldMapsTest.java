@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.JsonObjectFieldMaps}.
+ */
+public final class JsonObjectFieldMapsTest {
+
+    @After
+    public void resetSettings() {
+        System.clearProperty(JsonObjectFieldMaps.PINNED_MAX_SIZE);
+        System.clearProperty(JsonObjectFieldMaps.PIN_RECOVERED);
+        System.clearProperty(JsonObjectFieldMaps.CBOR_INDEX_ENABLED);
+        JsonObjectFieldMaps.resolveSettings();
+    }
+
+    @Test
+    public void settingsSetAfterJsonObjectsWereCreatedAreResolved() {
+        JsonObject.newBuilder().set("created", "before the settings").build();
+
+        System.setProperty(JsonObjectFieldMaps.PINNED_MAX_SIZE, "1024");
+        System.setProperty(JsonObjectFieldMaps.PIN_RECOVERED, "true");
+        System.setProperty(JsonObjectFieldMaps.CBOR_INDEX_ENABLED, "false");
+        JsonObjectFieldMaps.resolveSettings();
+
+        assertThat(JsonObjectFieldMaps.getPinnedMaxSize()).isEqualTo(1024);
+        assertThat(JsonObjectFieldMaps.isPinRecovered()).isTrue();
+        assertThat(JsonObjectFieldMaps.isCborIndexEnabled()).isFalse();
+    }
+
+    @Test
+    public void invalidPinnedMaxSizeFallsBackToDefault() {
+        System.setProperty(JsonObjectFieldMaps.PINNED_MAX_SIZE, "not a number");
+        JsonObjectFieldMaps.resolveSettings();
+
+        assertThat(JsonObjectFieldMaps.getPinnedMaxSize()).isEqualTo(JsonObjectFieldMaps.DEFAULT_PINNED_MAX_SIZE);
+    }
+
+}
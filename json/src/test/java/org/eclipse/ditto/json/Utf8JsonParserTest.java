@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final JsonObject KNOWN_JSON_OBJECT = JsonObject.newBuilder()
+            .set("foo", "bar")
+            .set("bar", JsonArray.newBuilder()
+                    .add("hubbl")
+                    .add(false)
+                    .add(3)
+                    .add(JsonObject.newBuilder().set("inArray", true).build())
+                    .build())
+            .set("baz", JsonObject.newBuilder()
+                    .set("int", Integer.MAX_VALUE)
+                    .set("boolean", true)
+                    .set("double", 23.42D)
+                    .set("long", Long.MIN_VALUE)
+                    .set("null", JsonValue.nullLiteral())
+                    .set("object", JsonObject.newBuilder()
+                            .set("unu", "äsdf \"quoted\" \\ \n \u0001")
+                            .set("du", "jkl;")
+                            .build())
+                    .build())
+            .set("empty", JsonObject.empty())
+            .build();
+
+    @Test
+    public void parseObjectEqualsObjectParsedFromString() {
+        final String jsonString = KNOWN_JSON_OBJECT.toString();
+
+        final JsonValue parsed = parse(jsonString);
+
+        assertThat(parsed).isEqualTo(JsonFactory.readFrom(jsonString));
+        assertThat(parsed).isEqualTo(KNOWN_JSON_OBJECT);
+        assertThat(parsed.toString()).isEqualTo(jsonString);
+    }
+
+    @Test
+    public void nestedValuesAreParsedEagerly() {
+        final JsonObject parsed = parse(KNOWN_JSON_OBJECT.toString()).asObject();
+        final JsonObject nested = parsed.getValue("baz").orElseThrow(AssertionError::new).asObject();
+
+        assertThat(nested).isEqualTo(KNOWN_JSON_OBJECT.getValue("baz").get());
+        assertThat(nested.toString()).isEqualTo(KNOWN_JSON_OBJECT.getValue("baz").get().toString());
+        assertThat(nested.getValue("object/du")).contains(JsonValue.of("jkl;"));
+    }
+
+    @Test
+    public void lastOfDuplicateKeysWinsInFieldsAndStringRepresentation() {
+        final String json = "{\"a\":1,\"b\":{\"c\":true,\"c\":false},\"a\":2}";
+        final JsonObject expected = JsonObject.newBuilder()
+                .set("a", 2)
+                .set("b", JsonObject.newBuilder().set("c", false).build())
+                .build();
+
+        final JsonObject parsed = parse(json).asObject();
+
+        assertThat(parsed).isEqualTo(expected);
+        assertThat(parsed).isEqualTo(JsonFactory.readFrom(json));
+        assertThat(parsed.getValue("a")).contains(JsonValue.of(2));
+        assertThat(parsed.toString()).isEqualTo(expected.toString());
+        assertThat(JsonFactory.readFrom(parsed.toString())).isEqualTo(parsed);
+    }
+
+    @Test
+    public void nonCanonicalNumbersAreNotKeptAsStringRepresentation() {
+        final JsonValue parsed = parse("[1e3,0.50,-0,23.42]");
+
+        assertThat(parsed.toString()).isEqualTo("[1000.0,0.5,0,23.42]");
+    }
+
+    @Test
+    public void parseFormattedJsonToCanonicalRepresentation() {
+        final String formatted = "{\n  \"a\" : { \"b\" : [ 1, 2.5, \"c\\/d\", \"\\u00e4\" ] },\n  \"e\" : {}\n}";
+
+        final JsonValue parsed = parse(formatted);
+
+        assertThat(parsed).isEqualTo(JsonFactory.readFrom(formatted));
+        assertThat(parsed.toString()).isEqualTo("{\"a\":{\"b\":[1,2.5,\"c/d\",\"ä\"]},\"e\":{}}");
+        assertThat(parsed.asObject().getValue("a").map(JsonValue::toString))
+                .contains("{\"b\":[1,2.5,\"c/d\",\"ä\"]}");
+    }
+
+    @Test
+    public void parseScalars() {
+        assertThat(parse("42")).isEqualTo(JsonValue.of(42));
+        assertThat(parse("-2147483649")).isEqualTo(JsonValue.of(-2147483649L));
+        assertThat(parse("9223372036854775807")).isEqualTo(JsonValue.of(Long.MAX_VALUE));
+        assertThat(parse("1e3")).isEqualTo(JsonValue.of(1000.0D));
+        assertThat(parse("-0.5")).isEqualTo(JsonValue.of(-0.5D));
+        assertThat(parse(" true ")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("null")).isEqualTo(JsonValue.nullLiteral());
+        assertThat(parse("\"\\ud83d\\ude00\"")).isEqualTo(JsonValue.of("\uD83D\uDE00"));
+    }
+
+    @Test
+    public void parseFromByteBufferDoesNotChangePosition() {
+        final byte[] bytes = utf8("xx[1,{\"a\":2}]");
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        byteBuffer.position(2);
+
+        assertThat(Utf8JsonParser.parseValue(byteBuffer)).isEqualTo(JsonFactory.readFrom("[1,{\"a\":2}]"));
+        assertThat(byteBuffer.position()).isEqualTo(2);
+
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length - 2);
+        directBuffer.put(bytes, 2, bytes.length - 2).flip();
+        assertThat(Utf8JsonParser.parseValue(directBuffer)).isEqualTo(JsonFactory.readFrom("[1,{\"a\":2}]"));
+        assertThat(directBuffer.position()).isZero();
+    }
+
+    @Test
+    public void rejectInvalidJsonInNestedObjects() {
+        assertInvalid("{\"a\":{\"b\":tru}}");
+        assertInvalid("{\"a\":{\"b\":1,}}");
+        assertInvalid("{\"a\":{\"\":1}}");
+        assertInvalid("{\"a\":{\"b\":9223372036854775808}}");
+        assertInvalid("{\"a\":{\"b\":\"\\x\"}}");
+        assertInvalid("{\"a\":{\"b\":\"\u0001\"}}");
+        assertInvalid("{\"a\":{\"b\":01}}");
+        assertInvalid("{\"a\":{\"b\":1}");
+        assertInvalid("{\"a\":1} x");
+        assertInvalid("");
+    }
+
+    private static void assertInvalid(final String json) {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> parse(json));
+    }
+
+    private static JsonValue parse(final String json) {
+        final byte[] bytes = utf8(json);
+        return Utf8JsonParser.parseValue(bytes, 0, bytes.length);
+    }
+
+    private static byte[] utf8(final String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
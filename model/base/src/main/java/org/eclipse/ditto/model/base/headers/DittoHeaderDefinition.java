@@ -315,7 +315,20 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 2.0.0
      */
     EVENT_JOURNAL_TAGS("ditto-event-journal-tags", JsonArray.class,
-            false, false, HeaderValueValidators.getJsonArrayValidator());
+            false, false, HeaderValueValidators.getJsonArrayValidator()),
+
+    /**
+     * Header definition for allowing a search to answer with the selected fields of the found things as stored in
+     * the search index instead of retrieving them from the things service.
+     * The search index is eventually consistent, thus the answered fields may lag behind the current state of the
+     * things.
+     * <p>
+     * Key {@code "search-from-index"}, Java type: {@code boolean}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_FROM_INDEX("search-from-index", boolean.class, true, false, HeaderValueValidators.getBooleanValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
@@ -117,6 +117,7 @@ public final class ImmutableDittoHeadersTest {
     private static final boolean KNOWN_ALLOW_POLICY_LOCKOUT = true;
     private static final boolean KNOWN_IS_WEAK_ACK = false;
     private static final boolean KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY = true;
+    private static final boolean KNOWN_SEARCH_FROM_INDEX = true;
     private static final List<String> KNOWN_JOURNAL_TAGS = Lists.list("tag-a", "tag-b");
 
 
@@ -175,6 +176,7 @@ public final class ImmutableDittoHeadersTest {
                         String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY))
                 .putHeader(DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
                         charSequencesToJsonArray(KNOWN_JOURNAL_TAGS).toString())
+                .putHeader(DittoHeaderDefinition.SEARCH_FROM_INDEX.getKey(), String.valueOf(KNOWN_SEARCH_FROM_INDEX))
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -399,6 +401,7 @@ public final class ImmutableDittoHeadersTest {
                         KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY)
                 .set(DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
                         charSequencesToJsonArray(KNOWN_JOURNAL_TAGS))
+                .set(DittoHeaderDefinition.SEARCH_FROM_INDEX.getKey(), KNOWN_SEARCH_FROM_INDEX)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -650,6 +653,7 @@ public final class ImmutableDittoHeadersTest {
                 String.valueOf(KNOWN_POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY));
         result.put(DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
                 charSequencesToJsonArray(KNOWN_JOURNAL_TAGS).toString());
+        result.put(DittoHeaderDefinition.SEARCH_FROM_INDEX.getKey(), String.valueOf(KNOWN_SEARCH_FROM_INDEX));
 
         return result;
     }
@@ -80,6 +80,17 @@ final class GrantRevokeIndex {
         return new GrantRevokeIndex(grantMap.copyWithDecrementedWeight(), revokeMap.copyWithDecrementedWeight());
     }
 
+    /**
+     * Returns an unmodifiable {@code GrantRevokeIndex} equal to this one which shares its maps and itself with equal
+     * instances interned before.
+     *
+     * @param interner the interner to share instances with.
+     * @return the interned {@code GrantRevokeIndex}.
+     */
+    GrantRevokeIndex intern(final PolicyTrieInterner interner) {
+        return interner.canonicalize(new GrantRevokeIndex(grantMap.intern(interner), revokeMap.intern(interner)));
+    }
+
     /**
      * Mutate this object according to an overriding {@code GrantRevokeIndex}.
      *
@@ -44,7 +44,11 @@ final class PermissionSubjectsMap extends AbstractMap<String, Map<String, Intege
      * Constructs a new {@code PermissionSubjectsMap} object.
      */
     PermissionSubjectsMap() {
-        data = new HashMap<>();
+        this(new HashMap<>());
+    }
+
+    private PermissionSubjectsMap(final Map<String, Map<String, Integer>> data) {
+        this.data = data;
     }
 
     @Override
@@ -179,6 +183,20 @@ final class PermissionSubjectsMap extends AbstractMap<String, Map<String, Intege
         return copy;
     }
 
+    /**
+     * Returns an unmodifiable relation equal to this one which shares its subject maps and itself with equal
+     * instances interned before.
+     *
+     * @param interner the interner to share instances with.
+     * @return the interned relation.
+     */
+    PermissionSubjectsMap intern(final PolicyTrieInterner interner) {
+        final Map<String, Map<String, Integer>> internedData = new HashMap<>(data.size());
+        data.forEach((permission, subjectMap) ->
+                internedData.put(permission, interner.canonicalize(Collections.unmodifiableMap(subjectMap))));
+        return interner.canonicalize(new PermissionSubjectsMap(Collections.unmodifiableMap(internedData)));
+    }
+
     /**
      * Returns a copy of this relation where the weight of each permission-subject pair is increased by 1.
      *
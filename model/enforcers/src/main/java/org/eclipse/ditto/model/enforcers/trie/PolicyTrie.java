@@ -58,13 +58,31 @@ final class PolicyTrie {
     private final GrantRevokeIndex grantRevokeIndex;
     private final Map<JsonKey, PolicyTrie> children;
 
+    /**
+     * Whether this node is interned and therefore never mutated.
+     */
+    private final boolean interned;
+
+    /**
+     * Hash code of an interned node. It is computed once, so that interning a parent does not traverse its sub-tries
+     * again.
+     */
+    private final int internedHashCode;
+
     private PolicyTrie() {
         this(new GrantRevokeIndex(), new HashMap<>());
     }
 
     private PolicyTrie(final GrantRevokeIndex grantRevokeIndex, final Map<JsonKey, PolicyTrie> children) {
+        this(grantRevokeIndex, children, false);
+    }
+
+    private PolicyTrie(final GrantRevokeIndex grantRevokeIndex, final Map<JsonKey, PolicyTrie> children,
+            final boolean interned) {
         this.grantRevokeIndex = grantRevokeIndex;
         this.children = children;
+        this.interned = interned;
+        internedHashCode = interned ? Objects.hash(grantRevokeIndex, children) : 0;
     }
 
     /**
@@ -218,6 +236,21 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    /**
+     * Returns an unmodifiable trie equal to this one whose nodes and grant-revoke-indices are shared with equal
+     * instances interned before. Children are interned before their parents so that equal sub-tries are shared as a
+     * whole.
+     *
+     * @param interner the interner to share instances with.
+     * @return the interned trie.
+     */
+    PolicyTrie intern(final PolicyTrieInterner interner) {
+        final Map<JsonKey, PolicyTrie> internedChildren = new HashMap<>(children.size());
+        children.forEach((key, child) -> internedChildren.put(key, child.intern(interner)));
+        return interner.canonicalize(
+                new PolicyTrie(grantRevokeIndex.intern(interner), Collections.unmodifiableMap(internedChildren), true));
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
@@ -355,4 +388,32 @@ final class PolicyTrie {
         return result;
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PolicyTrie that = (PolicyTrie) o;
+        if (interned && that.interned && internedHashCode != that.internedHashCode) {
+            return false;
+        }
+        return Objects.equals(grantRevokeIndex, that.grantRevokeIndex) && Objects.equals(children, that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return interned ? internedHashCode : Objects.hash(grantRevokeIndex, children);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "grantRevokeIndex=" + grantRevokeIndex +
+                ", children=" + children +
+                "]";
+    }
+
 }
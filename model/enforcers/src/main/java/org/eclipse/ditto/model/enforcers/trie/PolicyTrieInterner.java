@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Shares equal parts of policy tries between trie-based enforcers.
+ * <p>
+ * Policies of the same tenant often differ only in few entries or not at all. Interning a trie replaces each of its
+ * nodes, grant-revoke-indices, permission-subject-maps and subject maps by an equal instance interned before, if there
+ * is one. Interning proceeds bottom-up, so that equal sub-tries are shared as a whole. Interned instances are held
+ * weakly and disappear once no enforcer references them anymore.
+ * </p>
+ * <p>
+ * Interned instances are shared and must never be mutated. Their maps are unmodifiable.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class PolicyTrieInterner {
+
+    private final WeakInterner<PolicyTrie> tries;
+    private final WeakInterner<GrantRevokeIndex> grantRevokeIndices;
+    private final WeakInterner<PermissionSubjectsMap> permissionSubjectsMaps;
+    private final WeakInterner<Map<String, Integer>> subjectMaps;
+    private final LongAdder deduplicatedPartCount;
+
+    private PolicyTrieInterner() {
+        tries = new WeakInterner<>();
+        grantRevokeIndices = new WeakInterner<>();
+        permissionSubjectsMaps = new WeakInterner<>();
+        subjectMaps = new WeakInterner<>();
+        deduplicatedPartCount = new LongAdder();
+    }
+
+    /**
+     * Returns a new interner. Enforcers share trie parts only if they are built with the same interner.
+     *
+     * @return the interner.
+     */
+    public static PolicyTrieInterner newInstance() {
+        return new PolicyTrieInterner();
+    }
+
+    /**
+     * Returns the number of distinct trie nodes, grant-revoke-indices and subject maps which are retained by the
+     * enforcers built with this interner. Equal parts of different enforcers count once.
+     *
+     * @return the number of retained trie parts.
+     */
+    public int getRetainedPartCount() {
+        return tries.size() + grantRevokeIndices.size() + permissionSubjectsMaps.size() + subjectMaps.size();
+    }
+
+    /**
+     * Returns how often a part of a newly built trie was replaced by an equal part retained before.
+     *
+     * @return the number of trie parts which were not retained thanks to sharing.
+     */
+    public long getDeduplicatedPartCount() {
+        return deduplicatedPartCount.sum();
+    }
+
+    /**
+     * Interns a trie and all its parts.
+     *
+     * @param trie the trie to intern. It is not modified.
+     * @return an unmodifiable trie equal to {@code trie} which shares equal parts with previously interned tries.
+     */
+    PolicyTrie intern(final PolicyTrie trie) {
+        return trie.intern(this);
+    }
+
+    PolicyTrie canonicalize(final PolicyTrie trie) {
+        return canonicalize(tries, trie);
+    }
+
+    GrantRevokeIndex canonicalize(final GrantRevokeIndex grantRevokeIndex) {
+        return canonicalize(grantRevokeIndices, grantRevokeIndex);
+    }
+
+    PermissionSubjectsMap canonicalize(final PermissionSubjectsMap permissionSubjectsMap) {
+        return canonicalize(permissionSubjectsMaps, permissionSubjectsMap);
+    }
+
+    Map<String, Integer> canonicalize(final Map<String, Integer> subjectMap) {
+        return canonicalize(subjectMaps, subjectMap);
+    }
+
+    private <T> T canonicalize(final WeakInterner<T> interner, final T candidate) {
+        final T canonicalInstance = interner.intern(candidate);
+        if (canonicalInstance != candidate) {
+            deduplicatedPartCount.increment();
+        }
+        return canonicalInstance;
+    }
+
+    /**
+     * Concurrent set of canonical instances compared by equality and referenced weakly.
+     */
+    private static final class WeakInterner<T> {
+
+        private final ConcurrentMap<WeakKey<T>, WeakKey<T>> canonicalInstances;
+        private final ReferenceQueue<T> collectedInstances;
+
+        private WeakInterner() {
+            canonicalInstances = new ConcurrentHashMap<>();
+            collectedInstances = new ReferenceQueue<>();
+        }
+
+        private T intern(final T candidate) {
+            removeCollectedInstances();
+            final WeakKey<T> candidateKey = new WeakKey<>(candidate, collectedInstances);
+            while (true) {
+                @Nullable final WeakKey<T> canonicalKey = canonicalInstances.putIfAbsent(candidateKey, candidateKey);
+                if (null == canonicalKey) {
+                    return candidate;
+                }
+                @Nullable final T canonicalInstance = canonicalKey.get();
+                if (null != canonicalInstance) {
+                    return canonicalInstance;
+                }
+                // the canonical instance was collected after the lookup
+                canonicalInstances.remove(canonicalKey, canonicalKey);
+            }
+        }
+
+        private int size() {
+            removeCollectedInstances();
+            return canonicalInstances.size();
+        }
+
+        private void removeCollectedInstances() {
+            Reference<? extends T> collectedKey = collectedInstances.poll();
+            while (null != collectedKey) {
+                canonicalInstances.remove(collectedKey);
+                collectedKey = collectedInstances.poll();
+            }
+        }
+
+    }
+
+    /**
+     * Weak reference which is equal to another weak reference if their referents are equal. A collected referent is
+     * only equal to the same reference, so that it can still be removed from the map.
+     */
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int hashCode;
+
+        private WeakKey(final T referent, final ReferenceQueue<T> queue) {
+            super(referent, queue);
+            hashCode = referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WeakKey) || hashCode != ((WeakKey<?>) o).hashCode) {
+                return false;
+            }
+            @Nullable final T referent = get();
+            return null != referent && referent.equals(((WeakKey<?>) o).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonKey;
@@ -90,11 +92,22 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      */
     private final PolicyTrie bottomUpRevokeTrie;
 
-    private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+    private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy, @Nullable final PolicyTrieInterner interner) {
         final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
-        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
-        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        final PolicyTrie transitiveClosure = rawTree.getTransitiveClosure();
+        final PolicyTrie bottomUpGrantClosure = transitiveClosure.getBottomUpGrantTrie();
+        final PolicyTrie bottomUpRevokeClosure = transitiveClosure.getBottomUpRevokeTrie();
+
+        if (null != interner) {
+            // the tries are read-only from here on; share their equal parts with enforcers of other policies
+            inheritedTrie = interner.intern(transitiveClosure);
+            bottomUpGrantTrie = interner.intern(bottomUpGrantClosure);
+            bottomUpRevokeTrie = interner.intern(bottomUpRevokeClosure);
+        } else {
+            inheritedTrie = transitiveClosure;
+            bottomUpGrantTrie = bottomUpGrantClosure;
+            bottomUpRevokeTrie = bottomUpRevokeClosure;
+        }
     }
 
     /**
@@ -105,7 +118,23 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      * @throws NullPointerException if {@code policy} is {@code null}.
      */
     public static TrieBasedPolicyEnforcer newInstance(final Policy policy) {
-        return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+        return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"), null);
+    }
+
+    /**
+     * Constructs a trie-based policy enforcer from a policy whose tries share equal parts with all other enforcers
+     * built with the same interner. Interning costs time when building the enforcer and pays off only for enforcers
+     * which are kept, e. g. in a cache.
+     *
+     * @param policy The policy to interpret.
+     * @param interner The interner to share trie parts with.
+     * @return The policy enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    public static TrieBasedPolicyEnforcer newInstance(final Policy policy, final PolicyTrieInterner interner) {
+        return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"),
+                checkNotNull(interner, "interner"));
     }
 
     /**
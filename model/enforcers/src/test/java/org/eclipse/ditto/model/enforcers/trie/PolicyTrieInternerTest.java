@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PolicyTrieInterner}.
+ */
+public final class PolicyTrieInternerTest {
+
+    private static final ResourceKey ATTRIBUTES = ResourceKey.newInstance("thing", JsonPointer.of("/attributes"));
+
+    private PolicyTrieInterner underTest;
+
+    @Before
+    public void setUp() {
+        underTest = PolicyTrieInterner.newInstance();
+    }
+
+    @Test
+    public void internedTriesOfEqualPoliciesAreSame() {
+        final PolicyTrie trie1 = PolicyTrie.fromPolicy(policy("WRITE")).getTransitiveClosure();
+        final PolicyTrie trie2 = PolicyTrie.fromPolicy(policy("WRITE")).getTransitiveClosure();
+
+        final PolicyTrie interned1 = underTest.intern(trie1);
+        final PolicyTrie interned2 = underTest.intern(trie2);
+
+        assertThat(interned1).isEqualTo(trie1);
+        assertThat(interned2).isSameAs(interned1);
+    }
+
+    @Test
+    public void equalSubTriesOfDifferentPoliciesAreShared() {
+        final PolicyTrie interned1 = underTest.intern(PolicyTrie.fromPolicy(policy("WRITE")));
+        final PolicyTrie interned2 = underTest.intern(PolicyTrie.fromPolicy(policy("READ")));
+
+        assertThat(interned2).isNotEqualTo(interned1);
+        assertThat(seekAttributes(interned2)).isSameAs(seekAttributes(interned1));
+    }
+
+    @Test
+    public void internedTrieIsUnmodifiable() {
+        final PolicyTrie interned = underTest.intern(PolicyTrie.fromPolicy(policy("WRITE")));
+        final PermissionSubjectsMap granted = seekAttributes(interned).getGrantRevokeIndex().getGranted();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() ->
+                granted.addTotalRelationOfWeightZero(Collections.singleton("WRITE"),
+                        Collections.singleton("google:otherSubject")));
+    }
+
+    @Test
+    public void internedTrieHasHashCodeOfEqualTrie() {
+        final PolicyTrie trie = PolicyTrie.fromPolicy(policy("WRITE")).getTransitiveClosure();
+
+        final PolicyTrie interned = underTest.intern(trie);
+
+        assertThat(interned).isEqualTo(trie).hasSameHashCodeAs(trie);
+        assertThat(trie).isEqualTo(interned);
+    }
+
+    @Test
+    public void countsRetainedAndDeduplicatedParts() {
+        // keep the interned trie strongly reachable so that its parts are not garbage collected
+        final PolicyTrie interned = underTest.intern(PolicyTrie.fromPolicy(policy("WRITE")));
+        final int retainedPartCount = underTest.getRetainedPartCount();
+
+        assertThat(underTest.intern(PolicyTrie.fromPolicy(policy("WRITE")))).isSameAs(interned);
+        assertThat(retainedPartCount).isPositive();
+        assertThat(underTest.getRetainedPartCount()).isEqualTo(retainedPartCount);
+        assertThat(underTest.getDeduplicatedPartCount()).isPositive();
+    }
+
+    private static PolicyTrie seekAttributes(final PolicyTrie trie) {
+        return trie.seekToExactNode(PolicyTrie.getJsonKeyIterator(ATTRIBUTES)).orElseThrow(AssertionError::new);
+    }
+
+    private static List<PolicyEntry> policy(final String featuresPermission) {
+        return Collections.singletonList(PoliciesModelFactory.newPolicyEntry("DEFAULT", "{" +
+                "\"subjects\":{\"google:mySubject\":{\"type\":\"test\"}}," +
+                "\"resources\":{" +
+                "\"thing:/attributes\":{\"grant\":[\"READ\"],\"revoke\":[]}," +
+                "\"thing:/features\":{\"grant\":[\"" + featuresPermission + "\"],\"revoke\":[]}" +
+                "}}"));
+    }
+
+}
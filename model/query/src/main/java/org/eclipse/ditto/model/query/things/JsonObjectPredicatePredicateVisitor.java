@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * A PredicateVisitor which compiles Ditto query predicates into Java {@link Predicate}s of {@link JsonObject}s.
+ * Everything which does not depend on the evaluated JSON object (like-patterns, numeric coercion of the compared
+ * value) is computed once when visiting and not on each evaluation.
+ */
+final class JsonObjectPredicatePredicateVisitor
+        implements PredicateVisitor<Function<JsonPointer, Predicate<JsonObject>>> {
+
+    private static final JsonObjectPredicatePredicateVisitor INSTANCE = new JsonObjectPredicatePredicateVisitor();
+
+    private JsonObjectPredicatePredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Gets the singleton instance of this {@code JsonObjectPredicatePredicateVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    static JsonObjectPredicatePredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitEq(final Object value) {
+        return pointer -> jsonObject -> getField(pointer, jsonObject)
+                .map(JsonObjectPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(value::equals)
+                .isPresent();
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitNe(final Object value) {
+        return pointer -> jsonObject -> !getField(pointer, jsonObject)
+                .map(JsonObjectPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(value::equals)
+                .isPresent();
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitGe(final Object value) {
+        return comparing(value, comparison -> comparison >= 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitGt(final Object value) {
+        return comparing(value, comparison -> comparison > 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLe(final Object value) {
+        return comparing(value, comparison -> comparison <= 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLt(final Object value) {
+        return comparing(value, comparison -> comparison < 0);
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitIn(final List<?> values) {
+        return pointer -> jsonObject -> getField(pointer, jsonObject)
+                .map(JsonObjectPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(values::contains)
+                .isPresent();
+    }
+
+    @Override
+    public Function<JsonPointer, Predicate<JsonObject>> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
+        return pointer -> jsonObject -> getField(pointer, jsonObject)
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .filter(str -> pattern.matcher(str).matches())
+                .isPresent();
+    }
+
+    private static Function<JsonPointer, Predicate<JsonObject>> comparing(@Nullable final Object value,
+            final IntPredicate comparisonPredicate) {
+
+        if (!(value instanceof Comparable)) {
+            return pointer -> jsonObject -> false;
+        }
+        final CompiledComparable compiledValue = new CompiledComparable((Comparable<?>) value);
+        return pointer -> jsonObject -> getField(pointer, jsonObject)
+                .map(JsonObjectPredicatePredicateVisitor::mapJsonValueToComparable)
+                .filter(obj -> comparisonPredicate.test(compiledValue.compareFrom(obj)))
+                .isPresent();
+    }
+
+    private static Optional<JsonValue> getField(final JsonPointer pointer, final JsonObject jsonObject) {
+        return jsonObject.getValue(pointer);
+    }
+
+    @Nullable
+    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+        final Object result;
+
+        if (jsonValue.isString()) {
+            result = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            result = jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                result = jsonValue.asLong();
+            } else {
+                result = jsonValue.asDouble();
+            }
+        } else {
+            // filtering null, arrays and objects is not supported
+            result = null;
+        }
+
+        return result;
+    }
+
+    /*
+     * Same as mapJsonValueToJava, but numbers are directly converted to BigDecimal in order to be comparable with
+     * each other.
+     */
+    @Nullable
+    private static Comparable<?> mapJsonValueToComparable(final JsonValue jsonValue) {
+        final Comparable<?> result;
+
+        if (jsonValue.isString()) {
+            result = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            result = jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                result = BigDecimal.valueOf(jsonValue.asLong());
+            } else {
+                result = BigDecimal.valueOf(jsonValue.asDouble());
+            }
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * The value of a comparing predicate with all representations needed for comparison computed in advance.
+     */
+    private static final class CompiledComparable {
+
+        private final Comparable<Object> comparable;
+        @Nullable private final BigDecimal stringAsDecimal;
+        private final String stringRepresentation;
+
+        @SuppressWarnings("unchecked")
+        private CompiledComparable(final Comparable<?> value) {
+            if (value instanceof Number) {
+                comparable = (Comparable<Object>) (Comparable<?>) new BigDecimal(value.toString());
+                stringAsDecimal = null;
+            } else {
+                comparable = (Comparable<Object>) value;
+                stringAsDecimal = value instanceof String ? tryToParseDecimal((String) value) : null;
+            }
+            stringRepresentation = comparable.toString();
+        }
+
+        /**
+         * Compares the passed object to this value, i.e. returns a positive number if {@code obj} is greater than
+         * this value.
+         *
+         * @param obj the object to compare, numbers must already be converted to {@code BigDecimal}.
+         * @return the comparison result.
+         */
+        @SuppressWarnings("unchecked")
+        private int compareFrom(final Comparable<?> obj) {
+            // best effort try to convert both values to a BigDecimal in order to compare them:
+            if (null != stringAsDecimal && obj instanceof BigDecimal) {
+                return ((BigDecimal) obj).compareTo(stringAsDecimal);
+            } else if (comparable instanceof BigDecimal && obj instanceof String) {
+                final BigDecimal objAsDecimal = tryToParseDecimal((String) obj);
+                if (null != objAsDecimal) {
+                    return objAsDecimal.compareTo((BigDecimal) comparable);
+                }
+            }
+
+            if (comparable.getClass().equals(obj.getClass())) {
+                // only compare same classes:
+                return ((Comparable<Object>) obj).compareTo(comparable);
+            } else {
+                // as a fallback, for different types, compare by their string representation:
+                return obj.toString().compareTo(stringRepresentation);
+            }
+        }
+
+        @Nullable
+        private static BigDecimal tryToParseDecimal(final String string) {
+            try {
+                return new BigDecimal(string);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+
+    }
+
+}
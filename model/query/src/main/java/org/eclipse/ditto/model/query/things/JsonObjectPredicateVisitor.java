@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * CriteriaVisitor for Java {@link Predicate}s of {@link JsonObject}s in the JSON representation of
+ * {@link org.eclipse.ditto.model.things.Thing}s.
+ * <p>
+ * The criteria is compiled once: JSON pointers of the fields are resolved, like-patterns are compiled and compared
+ * values are converted while visiting. The resulting predicate is thread-safe and should be reused for evaluating
+ * many JSON objects.
+ * </p>
+ * <p>
+ * Like the predicates on {@link Thing}s, comparisons consider all fields of the evaluated JSON object whereas
+ * {@code exists} considers regular fields only, i. e. it evaluates to {@code false} for special fields like
+ * {@code _revision} or {@code _modified}.
+ * </p>
+ */
+public final class JsonObjectPredicateVisitor implements CriteriaVisitor<Predicate<JsonObject>> {
+
+    private static final JsonObjectPredicateVisitor INSTANCE = new JsonObjectPredicateVisitor();
+
+    private static final Set<JsonKey> SPECIAL_THING_FIELDS = getSpecialThingFields();
+
+    private JsonObjectPredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Compiles the passed criteria into a predicate of the JSON representation of things.
+     *
+     * @param criteria the criteria to compile.
+     * @return the compiled predicate.
+     */
+    public static Predicate<JsonObject> apply(final Criteria criteria) {
+        return criteria.accept(INSTANCE);
+    }
+
+    /**
+     * Gets the singleton instance of this {@code JsonObjectPredicateVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    public static JsonObjectPredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAnd(final List<Predicate<JsonObject>> conjuncts) {
+        final Predicate<JsonObject>[] predicates = toArray(conjuncts);
+        return jsonObject -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (!predicate.test(jsonObject)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAny() {
+        return any -> true;
+    }
+
+    @Override
+    public Predicate<JsonObject> visitExists(final ExistsFieldExpression fieldExpression) {
+        final JsonPointer pointer = fieldExpression.acceptExistsVisitor(ThingJsonPointerVisitor.getInstance());
+        if (pointer.getRoot().filter(SPECIAL_THING_FIELDS::contains).isPresent()) {
+            return jsonObject -> false;
+        }
+        return jsonObject -> jsonObject.getValue(pointer).isPresent();
+    }
+
+    @Override
+    public Predicate<JsonObject> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+        final JsonPointer pointer = fieldExpression.acceptFilterVisitor(ThingJsonPointerVisitor.getInstance());
+        return predicate.accept(JsonObjectPredicatePredicateVisitor.getInstance()).apply(pointer);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitNor(final List<Predicate<JsonObject>> negativeDisjoints) {
+        final Predicate<JsonObject> or = visitOr(negativeDisjoints);
+        return jsonObject -> !or.test(jsonObject);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitOr(final List<Predicate<JsonObject>> disjoints) {
+        final Predicate<JsonObject>[] predicates = toArray(disjoints);
+        return jsonObject -> {
+            for (final Predicate<JsonObject> predicate : predicates) {
+                if (predicate.test(jsonObject)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<JsonObject>[] toArray(final List<Predicate<JsonObject>> predicates) {
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static Set<JsonKey> getSpecialThingFields() {
+        final Set<JsonKey> result = new HashSet<>();
+        final JsonFieldDefinition<?>[] definitions = {
+                Thing.JsonFields.SCHEMA_VERSION, Thing.JsonFields.LIFECYCLE, Thing.JsonFields.NAMESPACE,
+                Thing.JsonFields.REVISION, Thing.JsonFields.MODIFIED, Thing.JsonFields.CREATED,
+                Thing.JsonFields.METADATA
+        };
+        for (final JsonFieldDefinition<?> definition : definitions) {
+            if (definition.isMarkedAs(FieldType.SPECIAL)) {
+                definition.getPointer().getRoot().ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+}
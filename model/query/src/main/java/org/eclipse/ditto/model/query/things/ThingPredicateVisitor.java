@@ -17,6 +17,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
@@ -28,12 +29,32 @@ import org.eclipse.ditto.model.things.Thing;
  */
 public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Thing>> {
 
+    private static final ThingPredicateVisitor INSTANCE = new ThingPredicateVisitor();
+
     private ThingPredicateVisitor() {
         // only internally instantiable
     }
 
+    /**
+     * Creates a Java {@link Predicate} of {@link Thing}s from a Ditto query {@link Criteria}.
+     * The criteria is compiled once via {@link JsonObjectPredicateVisitor}, on evaluation each thing is converted to
+     * JSON exactly once, regardless of the number of fields the criteria checks.
+     *
+     * @param criteria the criteria to create the predicate from.
+     * @return the created predicate.
+     */
     public static Predicate<Thing> apply(final Criteria criteria) {
-        return criteria.accept(new ThingPredicateVisitor());
+        return toThingPredicate(JsonObjectPredicateVisitor.apply(criteria));
+    }
+
+    /**
+     * Returns the visitor for composing predicates of {@link Thing}s leaf by leaf. Each leaf converts the thing to
+     * JSON on its own; prefer {@link #apply(Criteria)} to evaluate whole criteria.
+     *
+     * @return the visitor.
+     */
+    public static ThingPredicateVisitor getInstance() {
+        return INSTANCE;
     }
 
     @Override
@@ -53,14 +74,13 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
 
     @Override
     public Predicate<Thing> visitExists(final ExistsFieldExpression fieldExpression) {
-        return ExistsThingPredicateVisitor.apply(fieldExpression);
+        return toThingPredicate(JsonObjectPredicateVisitor.getInstance().visitExists(fieldExpression));
     }
 
     @Override
     public Predicate<Thing> visitField(final FilterFieldExpression fieldExpression,
             final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
-        return FilterThingPredicateVisitor.apply(fieldExpression,
-                predicate.accept(ThingPredicatePredicateVisitor.getInstance()));
+        return toThingPredicate(JsonObjectPredicateVisitor.getInstance().visitField(fieldExpression, predicate));
     }
 
     @Override
@@ -82,4 +102,9 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
     public Predicate<Thing> visitOr(final Stream<Predicate<Thing>> disjoints) {
         return visitOr(disjoints.collect(Collectors.toList()));
     }
+
+    private static Predicate<Thing> toThingPredicate(final Predicate<JsonObject> jsonObjectPredicate) {
+        return thing -> jsonObjectPredicate.test(thing.toJson(field -> true));
+    }
+
 }
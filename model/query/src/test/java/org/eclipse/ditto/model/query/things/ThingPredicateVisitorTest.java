@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.function.Predicate;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -469,4 +470,46 @@ public final class ThingPredicateVisitorTest {
                 .isEqualTo(true);
     }
 
+    @Test
+    public void testCompiledPredicateIsReusable() {
+        final String filter = "and(like(attributes/aString,\"ccc*\"),ge(features/foo/properties/aLong," +
+                MATCHING_THING_LONG + "))";
+        final Predicate<Thing> thingPredicate = createPredicate(filter);
+        for (int i = 0; i < 3; i++) {
+            assertThat(thingPredicate.test(MATCHING_THING)).isTrue();
+            assertThat(thingPredicate.test(NON_MATCHING_THING_LESSER)).isFalse();
+            assertThat(thingPredicate.test(NON_MATCHING_THING_GREATER)).isFalse();
+        }
+    }
+
+    @Test
+    public void testFilterJsonObjectOfThing() {
+        final String filter = "and(eq(attributes/anInteger," + MATCHING_THING_INTEGER + ")," +
+                "exists(features/foo/properties/aDouble))";
+        final Predicate<JsonObject> jsonObjectPredicate = JsonObjectPredicateVisitor.apply(createCriteria(filter));
+
+        assertThat(jsonObjectPredicate.test(MATCHING_THING.toJson())).isTrue();
+        assertThat(jsonObjectPredicate.test(NON_MATCHING_THING_LESSER.toJson())).isFalse();
+    }
+
+    @Test
+    public void testExistsConsidersRegularFieldsOnlyWhereasComparisonsConsiderSpecialFields() {
+        final Thing thingWithRevision = MATCHING_THING.toBuilder().setRevision(5L).build();
+
+        assertThat(createPredicate("eq(_revision,5)").test(thingWithRevision)).isTrue();
+        assertThat(createPredicate("exists(_revision)").test(thingWithRevision)).isFalse();
+        assertThat(JsonObjectPredicateVisitor.apply(createCriteria("exists(_revision)"))
+                .test(thingWithRevision.toJson(field -> true))).isFalse();
+    }
+
+    @Test
+    public void testVisitorDelegatesToCompiledLeafPredicates() {
+        final Predicate<Thing> thingPredicate = createCriteria("and(exists(attributes/aBoolean)," +
+                "eq(attributes/anInteger," + MATCHING_THING_INTEGER + "))")
+                .accept(ThingPredicateVisitor.getInstance());
+
+        assertThat(thingPredicate.test(MATCHING_THING)).isTrue();
+        assertThat(thingPredicate.test(NON_MATCHING_THING_LESSER)).isFalse();
+    }
+
 }
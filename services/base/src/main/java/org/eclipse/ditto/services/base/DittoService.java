@@ -21,13 +21,16 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.LongSupplier;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.JsonObjectFieldMaps;
 import org.eclipse.ditto.services.base.config.ServiceSpecificConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -38,7 +41,9 @@ import org.eclipse.ditto.services.utils.config.raw.RawConfigSupplier;
 import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
 import org.eclipse.ditto.services.utils.devops.LogbackLoggingFacade;
 import org.eclipse.ditto.services.utils.health.status.StatusSupplierActor;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.prometheus.PrometheusReporterRoute;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithMongoDbConfig;
@@ -105,6 +110,10 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
      */
     public static final String DITTO_CONFIG_PATH = ScopedConfig.DITTO_SCOPE;
 
+    private static final String JSON_FIELD_MAP_RECOVERIES = "json_field_map_recoveries";
+    private static final String JSON_FIELD_MAP_INDEXED_LOOKUPS = "json_field_map_indexed_lookups";
+    private static final Duration JSON_FIELD_MAP_METRICS_INTERVAL = Duration.ofSeconds(10L);
+
     private final Logger logger;
     private final String serviceName;
     private final String rootActorName;
@@ -215,6 +224,7 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
      */
     protected ActorSystem doStart() {
         logRuntimeParameters();
+        injectSystemPropertiesJson();
         final Config actorSystemConfig = appendDittoInfo(appendAkkaPersistenceMongoUriToRawConfig());
         startKamon();
         final ActorSystem actorSystem = createActorSystem(actorSystemConfig);
@@ -407,6 +417,7 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
             final ActorRef pubSubMediator = getDistributedPubSubMediatorActor(actorSystem);
 
             injectSystemPropertiesLimits(serviceSpecificConfig);
+            startJsonFieldMapMetrics(actorSystem);
 
             startMainRootActor(actorSystem, getMainRootActorProps(serviceSpecificConfig, pubSubMediator));
             startAdditionalRootActors(actorSystem, getAdditionalRootActorsInformation(serviceSpecificConfig,
@@ -435,6 +446,38 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
                 Boolean.toString(rawConfig.getBoolean(MergeToggle.MERGE_THINGS_ENABLED)));
     }
 
+    /*
+     * Sets the system properties of how JSON objects keep their fields in memory and makes the JSON library resolve
+     * them again, since JSON objects may have been created before, e.g. while reading the configuration.
+     */
+    private void injectSystemPropertiesJson() {
+        System.setProperty(JsonObjectFieldMaps.PINNED_MAX_SIZE,
+                Integer.toString(rawConfig.getInt(JsonObjectFieldMaps.PINNED_MAX_SIZE)));
+        System.setProperty(JsonObjectFieldMaps.PIN_RECOVERED,
+                Boolean.toString(rawConfig.getBoolean(JsonObjectFieldMaps.PIN_RECOVERED)));
+        System.setProperty(JsonObjectFieldMaps.CBOR_INDEX_ENABLED,
+                Boolean.toString(rawConfig.getBoolean(JsonObjectFieldMaps.CBOR_INDEX_ENABLED)));
+        JsonObjectFieldMaps.resolveSettings();
+    }
+
+    /*
+     * Reports periodically how often the fields of JSON objects had to be recovered from their serialized
+     * representation.
+     */
+    private static void startJsonFieldMapMetrics(final ActorSystem actorSystem) {
+        final List<JsonFieldMapCounter> counters = List.of(
+                new JsonFieldMapCounter(DittoMetrics.counter(JSON_FIELD_MAP_RECOVERIES).tag("source", "cbor"),
+                        JsonObjectFieldMaps::getRecoveriesFromCbor),
+                new JsonFieldMapCounter(DittoMetrics.counter(JSON_FIELD_MAP_RECOVERIES).tag("source", "string"),
+                        JsonObjectFieldMaps::getRecoveriesFromString),
+                new JsonFieldMapCounter(DittoMetrics.counter(JSON_FIELD_MAP_INDEXED_LOOKUPS),
+                        JsonObjectFieldMaps::getIndexedLookups)
+        );
+        actorSystem.scheduler().scheduleWithFixedDelay(JSON_FIELD_MAP_METRICS_INTERVAL,
+                JSON_FIELD_MAP_METRICS_INTERVAL, () -> counters.forEach(JsonFieldMapCounter::report),
+                actorSystem.dispatcher());
+    }
+
     private static ActorRef getDistributedPubSubMediatorActor(final ActorSystem actorSystem) {
         return DistributedPubSub.get(actorSystem).mediator();
     }
@@ -533,4 +576,28 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
 
     }
 
+    /*
+     * Increments a counter by what a statistic of the JSON library counted since it was reported last.
+     * Not thread-safe; reported by one scheduled task only.
+     */
+    private static final class JsonFieldMapCounter {
+
+        private final Counter counter;
+        private final LongSupplier statistic;
+        private long reported;
+
+        private JsonFieldMapCounter(final Counter counter, final LongSupplier statistic) {
+            this.counter = counter;
+            this.statistic = statistic;
+            reported = 0L;
+        }
+
+        private void report() {
+            final long current = statistic.getAsLong();
+            counter.increment(current - reported);
+            reported = current;
+        }
+
+    }
+
 }
@@ -46,6 +46,21 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the config of the cache of views on things restricted by policy enforcers.
+     * The cache is disabled if its maximum size is 0.
+     *
+     * @return the config.
+     */
+    CacheConfig getReadViewCacheConfig();
+
+    /**
+     * Returns the config of the warm-up of the policy enforcer cache.
+     *
+     * @return the config.
+     */
+    EnforcerWarmUpConfig getEnforcerWarmUpConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -35,11 +35,15 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final CacheConfig readViewCacheConfig;
+    private final EnforcerWarmUpConfig enforcerWarmUpConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        readViewCacheConfig = DefaultCacheConfig.of(config, "read-view");
+        enforcerWarmUpConfig = DefaultEnforcerWarmUpConfig.of(config);
     }
 
     /**
@@ -68,6 +72,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public CacheConfig getReadViewCacheConfig() {
+        return readViewCacheConfig;
+    }
+
+    @Override
+    public EnforcerWarmUpConfig getEnforcerWarmUpConfig() {
+        return enforcerWarmUpConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +93,15 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                readViewCacheConfig.equals(that.readViewCacheConfig) &&
+                enforcerWarmUpConfig.equals(that.enforcerWarmUpConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, readViewCacheConfig,
+                enforcerWarmUpConfig);
     }
 
     @Override
@@ -93,6 +110,8 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", readViewCacheConfig=" + readViewCacheConfig +
+                ", enforcerWarmUpConfig=" + enforcerWarmUpConfig +
                 "]";
     }
 
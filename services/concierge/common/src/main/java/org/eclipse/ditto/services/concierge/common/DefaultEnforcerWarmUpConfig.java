@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link EnforcerWarmUpConfig} for Ditto's Concierge service.
+ */
+@Immutable
+public final class DefaultEnforcerWarmUpConfig implements EnforcerWarmUpConfig {
+
+    private static final String CONFIG_PATH = "enforcer-warm-up";
+
+    private final boolean enabled;
+    private final Duration snapshotInterval;
+    private final int maxSize;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private DefaultEnforcerWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(EnforcerWarmUpConfigValue.ENABLED.getConfigPath());
+        snapshotInterval = config.getDuration(EnforcerWarmUpConfigValue.SNAPSHOT_INTERVAL.getConfigPath());
+        maxSize = config.getInt(EnforcerWarmUpConfigValue.MAX_SIZE.getConfigPath());
+        parallelism = config.getInt(EnforcerWarmUpConfigValue.PARALLELISM.getConfigPath());
+        timeout = config.getDuration(EnforcerWarmUpConfigValue.TIMEOUT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultEnforcerWarmUpConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the enforcer warm-up config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEnforcerWarmUpConfig of(final Config config) {
+        return new DefaultEnforcerWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EnforcerWarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEnforcerWarmUpConfig that = (DefaultEnforcerWarmUpConfig) o;
+        return enabled == that.enabled &&
+                maxSize == that.maxSize &&
+                parallelism == that.parallelism &&
+                snapshotInterval.equals(that.snapshotInterval) &&
+                timeout.equals(that.timeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, snapshotInterval, maxSize, parallelism, timeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", snapshotInterval=" + snapshotInterval +
+                ", maxSize=" + maxSize +
+                ", parallelism=" + parallelism +
+                ", timeout=" + timeout +
+                "]";
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the warm-up of the policy enforcer cache of Concierge.
+ * <p>
+ * If enabled, the IDs of the cached policy enforcers are persisted periodically and the enforcers of the persisted
+ * IDs are loaded into the cache when Concierge starts.
+ * </p>
+ */
+@Immutable
+public interface EnforcerWarmUpConfig {
+
+    /**
+     * Indicates whether the policy enforcer cache is warmed up on startup.
+     *
+     * @return whether the warm-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how often the IDs of the cached policy enforcers are persisted.
+     *
+     * @return the snapshot interval.
+     */
+    Duration getSnapshotInterval();
+
+    /**
+     * Returns the maximum number of policy IDs to persist and to load on startup.
+     *
+     * @return the maximum number of policy IDs.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns how many policy enforcers are loaded in parallel during the warm-up.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the maximum duration of the warm-up. Concierge reports to be healthy after this duration even if not
+     * all policy enforcers are loaded.
+     *
+     * @return the timeout of the warm-up.
+     */
+    Duration getTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EnforcerWarmUpConfig}.
+     */
+    enum EnforcerWarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the policy enforcer cache is warmed up on startup.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How often the IDs of the cached policy enforcers are persisted.
+         */
+        SNAPSHOT_INTERVAL("snapshot-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * The maximum number of policy IDs to persist and to load on startup.
+         */
+        MAX_SIZE("max-size", 10000),
+
+        /**
+         * How many policy enforcers are loaded in parallel during the warm-up.
+         */
+        PARALLELISM("parallelism", 16),
+
+        /**
+         * The maximum duration of the warm-up.
+         */
+        TIMEOUT("timeout", Duration.ofMinutes(2L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        EnforcerWarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
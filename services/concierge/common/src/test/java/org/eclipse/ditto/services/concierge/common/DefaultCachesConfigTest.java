@@ -62,6 +62,9 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getEnforcerWarmUpConfig().isEnabled())
+                .as("getEnforcerWarmUpConfig().isEnabled()")
+                .isEqualTo(EnforcerWarmUpConfig.EnforcerWarmUpConfigValue.ENABLED.getDefaultValue());
     }
 
     @Test
@@ -93,5 +96,36 @@ public final class DefaultCachesConfigTest {
                             .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                             .isEqualTo(Duration.ofMinutes(15L));
                 });
+
+        softly.assertThat(underTest.getReadViewCacheConfig())
+                .as("readViewCacheConfig")
+                .satisfies(readViewCacheConfig -> {
+                    softly.assertThat(readViewCacheConfig.getMaximumSize())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                            .isEqualTo(1000);
+                    softly.assertThat(readViewCacheConfig.getExpireAfterWrite())
+                            .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(5L));
+                });
+
+        softly.assertThat(underTest.getEnforcerWarmUpConfig())
+                .as("enforcerWarmUpConfig")
+                .satisfies(warmUpConfig -> {
+                    softly.assertThat(warmUpConfig.isEnabled())
+                            .as(EnforcerWarmUpConfig.EnforcerWarmUpConfigValue.ENABLED.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(warmUpConfig.getSnapshotInterval())
+                            .as(EnforcerWarmUpConfig.EnforcerWarmUpConfigValue.SNAPSHOT_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(1L));
+                    softly.assertThat(warmUpConfig.getMaxSize())
+                            .as(EnforcerWarmUpConfig.EnforcerWarmUpConfigValue.MAX_SIZE.getConfigPath())
+                            .isEqualTo(5000);
+                    softly.assertThat(warmUpConfig.getParallelism())
+                            .as(EnforcerWarmUpConfig.EnforcerWarmUpConfigValue.PARALLELISM.getConfigPath())
+                            .isEqualTo(8);
+                    softly.assertThat(warmUpConfig.getTimeout())
+                            .as(EnforcerWarmUpConfig.EnforcerWarmUpConfigValue.TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(30L));
+                });
     }
 }
@@ -145,6 +145,7 @@ public final class ThingCommandEnforcement
     private final PreEnforcer preEnforcer;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     private final PolicyIdReferencePlaceholderResolver policyIdReferencePlaceholderResolver;
+    @Nullable private final ThingReadViewCache readViewCache;
 
     private ThingCommandEnforcement(final Contextual<ThingCommand<?>> data,
             final ActorRef thingsShardRegion,
@@ -153,7 +154,8 @@ public final class ThingCommandEnforcement
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             final PreEnforcer preEnforcer,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            @Nullable final ThingReadViewCache readViewCache) {
 
         super(data, ThingQueryCommandResponse.class);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -164,6 +166,7 @@ public final class ThingCommandEnforcement
         this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
         this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
         this.preEnforcer = preEnforcer;
+        this.readViewCache = readViewCache;
         thingEnforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         policyEnforcerRetriever = new EnforcerRetriever<Enforcer>(IdentityCache.INSTANCE, policyEnforcerCache);
@@ -195,6 +198,7 @@ public final class ThingCommandEnforcement
                 final EntityId policyId = enforcerKeyEntry.getValueOrThrow().getId();
                 enforcementResult = enforceThingCommandByPolicyEnforcer(signal(),
                         PolicyId.of(policyId),
+                        enforcerEntry.getRevision(),
                         enforcerEntry.getValueOrThrow());
             }
             return CompletableFuture.completedFuture(enforcementResult);
@@ -321,11 +325,13 @@ public final class ThingCommandEnforcement
      * Authorize a thing command by policy enforcer with view restriction for query commands.
      *
      * @param policyId Id of the thing's policy.
+     * @param policyRevision revision of the thing's policy the enforcer was created from.
      * @param enforcer the policy enforcer.
      * @return the contextual including message and receiver
      */
     private Contextual<WithDittoHeaders<?>> enforceThingCommandByPolicyEnforcer(
-            final ThingCommand<?> thingCommand, final PolicyId policyId, final Enforcer enforcer) {
+            final ThingCommand<?> thingCommand, final PolicyId policyId, final long policyRevision,
+            final Enforcer enforcer) {
 
         final ThingCommand<?> commandWithReadSubjects = authorizeByPolicyOrThrow(enforcer, thingCommand);
 
@@ -339,6 +345,11 @@ public final class ThingCommandEnforcement
                 final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
                 result = withMessageToReceiverViaAskFuture(retrieveThing, sender(),
                         () -> retrieveThingAndPolicy(retrieveThing, policyId, enforcer));
+            } else if (thingQueryCommand instanceof RetrieveThing && readViewCache != null) {
+                final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
+                result = withMessageToReceiverViaAskFuture(retrieveThing, sender(),
+                        () -> askAndBuildCachedJsonView(retrieveThing, policyId, policyRevision, enforcer,
+                                readViewCache));
             } else {
                 result = withMessageToReceiverViaAskFuture(thingQueryCommand, sender(),
                         () -> askAndBuildJsonView(thingsShardRegion, thingQueryCommand, enforcer));
@@ -349,6 +360,32 @@ public final class ThingCommandEnforcement
         return result;
     }
 
+    /**
+     * Retrieve a thing and restrict the view on it by the read view cache.
+     *
+     * @param retrieveThing the retrieve-thing command.
+     * @param policyId ID of the thing's policy.
+     * @param policyRevision revision of the thing's policy the enforcer was created from.
+     * @param enforcer the enforcer for the command.
+     * @param readViewCache the cache of restricted views.
+     * @return future response with restricted view.
+     */
+    private CompletionStage<ThingQueryCommandResponse<?>> askAndBuildCachedJsonView(final RetrieveThing retrieveThing,
+            final PolicyId policyId, final long policyRevision, final Enforcer enforcer,
+            final ThingReadViewCache readViewCache) {
+
+        return ask(thingsShardRegion, retrieveThing, "before building JsonView")
+                .thenApply(response -> {
+                    if (response instanceof RetrieveThingResponse) {
+                        return readViewCache.getOrBuildJsonView(retrieveThing, (RetrieveThingResponse) response,
+                                policyId, policyRevision,
+                                uncachedResponse -> (RetrieveThingResponse) filterJsonView(uncachedResponse, enforcer));
+                    } else {
+                        return filterJsonView(response, enforcer);
+                    }
+                });
+    }
+
     /**
      * Retrieve a thing and its policy and combine them into a response.
      *
@@ -534,7 +571,8 @@ public final class ThingCommandEnforcement
         return policyEnforcerRetriever.retrieve(policyEntityId, (policyIdEntry, policyEnforcerEntry) -> {
             if (policyEnforcerEntry.exists()) {
                 final Contextual<WithDittoHeaders<?>> enforcementResult =
-                        enforceThingCommandByPolicyEnforcer(command, policyId, policyEnforcerEntry.getValueOrThrow());
+                        enforceThingCommandByPolicyEnforcer(command, policyId, policyEnforcerEntry.getRevision(),
+                                policyEnforcerEntry.getValueOrThrow());
                 return CompletableFuture.completedFuture(enforcementResult);
             } else {
                 throw errorForExistingThingWithDeletedPolicy(command, command.getThingEntityId(), policyId);
@@ -1218,6 +1256,7 @@ public final class ThingCommandEnforcement
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final PreEnforcer preEnforcer;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        @Nullable private final ThingReadViewCache readViewCache;
 
         /**
          * Constructor.
@@ -1240,6 +1279,30 @@ public final class ThingCommandEnforcement
                     preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION);
         }
 
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param preEnforcer pre-enforcer function to block undesirable messages to policies shard region.
+         * @param readViewCache cache of restricted views on things for {@code RetrieveThing} commands, or null to
+         * restrict the view for each command.
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                @Nullable final ThingReadViewCache readViewCache) {
+
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, readViewCache);
+        }
+
         /**
          * Constructor.
          *
@@ -1261,6 +1324,19 @@ public final class ThingCommandEnforcement
                 @Nullable final PreEnforcer preEnforcer,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
 
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, subjectIssuersForPolicyMigration, null);
+        }
+
+        private Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                @Nullable final ThingReadViewCache readViewCache) {
+
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
@@ -1268,6 +1344,7 @@ public final class ThingCommandEnforcement
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.readViewCache = readViewCache;
         }
 
         @Override
@@ -1291,7 +1368,8 @@ public final class ThingCommandEnforcement
         @Override
         public AbstractEnforcement<ThingCommand<?>> createEnforcement(final Contextual<ThingCommand<?>> context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration);
+                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration,
+                    readViewCache);
         }
 
     }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+
+/**
+ * Cache of the views on things restricted by policy enforcers for {@link RetrieveThing} commands.
+ * <p>
+ * A view is identified by the entity tag of the retrieved thing, the ID and revision of the policy, the authorization
+ * context, the selected fields and the schema version. Modifying the thing or the policy changes their revisions so
+ * that outdated views are never hit and leave the cache by its size and expiry limits.
+ * </p>
+ */
+public final class ThingReadViewCache {
+
+    private static final String CACHE_NAME = "ditto_authorization_read_view_cache";
+
+    private final Cache<Key, JsonObject> cache;
+
+    private ThingReadViewCache(final Cache<Key, JsonObject> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Create a read view cache.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param executor the executor of the cache.
+     * @return the cache.
+     */
+    public static ThingReadViewCache of(final CacheConfig cacheConfig, final Executor executor) {
+        return new ThingReadViewCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor));
+    }
+
+    /**
+     * Restrict the view on the thing of a response by the cached view or by building the view.
+     * Responses without entity tag or whose thing is not a JSON object are not cached.
+     *
+     * @param command the command the response is for.
+     * @param response the unrestricted response.
+     * @param policyId ID of the policy of the thing.
+     * @param policyRevision revision of the policy of the enforcer which restricts the view.
+     * @param buildJsonView how to restrict the view of the response if it is not cached.
+     * @return the response with restricted view.
+     */
+    RetrieveThingResponse getOrBuildJsonView(final RetrieveThing command,
+            final RetrieveThingResponse response,
+            final PolicyId policyId,
+            final long policyRevision,
+            final UnaryOperator<RetrieveThingResponse> buildJsonView) {
+
+        final Optional<EntityTag> entityTag = response.getDittoHeaders().getETag();
+        if (entityTag.isEmpty() || !response.getEntity().isObject()) {
+            return buildJsonView.apply(response);
+        }
+        final Key key = new Key(command.getThingEntityId(), entityTag.get(), policyId, policyRevision,
+                command.getDittoHeaders().getAuthorizationContext(), command.getSelectedFields().orElse(null),
+                command.getImplementedSchemaVersion());
+        @Nullable final JsonObject cachedView = cache.asMap().get(key);
+        if (cachedView != null) {
+            return response.setEntity(cachedView);
+        }
+        final RetrieveThingResponse result = buildJsonView.apply(response);
+        final JsonValue view = result.getEntity();
+        if (view.isObject()) {
+            cache.put(key, view.asObject());
+        }
+        return result;
+    }
+
+    @Immutable
+    private static final class Key {
+
+        private final ThingId thingId;
+        private final EntityTag entityTag;
+        private final PolicyId policyId;
+        private final long policyRevision;
+        private final AuthorizationContext authorizationContext;
+        @Nullable private final JsonFieldSelector selectedFields;
+        private final JsonSchemaVersion schemaVersion;
+
+        private Key(final ThingId thingId,
+                final EntityTag entityTag,
+                final PolicyId policyId,
+                final long policyRevision,
+                final AuthorizationContext authorizationContext,
+                @Nullable final JsonFieldSelector selectedFields,
+                final JsonSchemaVersion schemaVersion) {
+
+            this.thingId = requireNonNull(thingId);
+            this.entityTag = requireNonNull(entityTag);
+            this.policyId = requireNonNull(policyId);
+            this.policyRevision = policyRevision;
+            this.authorizationContext = requireNonNull(authorizationContext);
+            this.selectedFields = selectedFields;
+            this.schemaVersion = requireNonNull(schemaVersion);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return policyRevision == that.policyRevision &&
+                    thingId.equals(that.thingId) &&
+                    entityTag.equals(that.entityTag) &&
+                    policyId.equals(that.policyId) &&
+                    authorizationContext.equals(that.authorizationContext) &&
+                    Objects.equals(selectedFields, that.selectedFields) &&
+                    schemaVersion == that.schemaVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingId, entityTag, policyId, policyRevision, authorizationContext, selectedFields,
+                    schemaVersion);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "thingId=" + thingId +
+                    ", entityTag=" + entityTag +
+                    ", policyId=" + policyId +
+                    ", policyRevision=" + policyRevision +
+                    ", authorizationContext=" + authorizationContext +
+                    ", selectedFields=" + selectedFields +
+                    ", schemaVersion=" + schemaVersion +
+                    "]";
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingReadViewCache}.
+ */
+public final class ThingReadViewCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto:policy");
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonObject.newBuilder().set("secret", 42).set("public", 1).build())
+            .build();
+    private static final JsonObject VIEW = JsonObject.newBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonObject.newBuilder().set("public", 1).build())
+            .build();
+
+    private final AtomicInteger builtViews = new AtomicInteger();
+    private final UnaryOperator<RetrieveThingResponse> buildJsonView = response -> {
+        builtViews.incrementAndGet();
+        return response.setEntity(VIEW);
+    };
+
+    private ThingReadViewCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = ThingReadViewCache.of(DefaultCacheConfig.of(ConfigFactory.parseString(
+                "read-view { maximum-size = 100, expire-after-write = 1m, expire-after-access = 1m }"), "read-view"),
+                Runnable::run);
+    }
+
+    @Test
+    public void buildViewOnceForSameRevisions() {
+        final RetrieveThing command = retrieveThing("subject");
+
+        final RetrieveThingResponse first =
+                underTest.getOrBuildJsonView(command, response("\"rev:1\""), POLICY_ID, 1L, buildJsonView);
+        final RetrieveThingResponse second =
+                underTest.getOrBuildJsonView(command, response("\"rev:1\""), POLICY_ID, 1L, buildJsonView);
+
+        assertThat(first.getEntity()).isEqualTo(VIEW);
+        assertThat(second.getEntity()).isEqualTo(VIEW);
+        assertThat(builtViews).hasValue(1);
+    }
+
+    @Test
+    public void buildViewAgainForOtherRevisionsOrSubjects() {
+        underTest.getOrBuildJsonView(retrieveThing("subject"), response("\"rev:1\""), POLICY_ID, 1L, buildJsonView);
+        underTest.getOrBuildJsonView(retrieveThing("subject"), response("\"rev:2\""), POLICY_ID, 1L, buildJsonView);
+        underTest.getOrBuildJsonView(retrieveThing("subject"), response("\"rev:2\""), POLICY_ID, 2L, buildJsonView);
+        underTest.getOrBuildJsonView(retrieveThing("other"), response("\"rev:2\""), POLICY_ID, 2L, buildJsonView);
+
+        assertThat(builtViews).hasValue(4);
+    }
+
+    @Test
+    public void doNotCacheViewsOfResponsesWithoutEntityTag() {
+        final RetrieveThing command = retrieveThing("subject");
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID, THING, DittoHeaders.empty());
+
+        underTest.getOrBuildJsonView(command, response, POLICY_ID, 1L, buildJsonView);
+        underTest.getOrBuildJsonView(command, response, POLICY_ID, 1L, buildJsonView);
+
+        assertThat(builtViews).hasValue(2);
+    }
+
+    private static RetrieveThing retrieveThing(final String subject) {
+        final AuthorizationContext authorizationContext = AuthorizationContext.newInstance(
+                DittoAuthorizationContextType.UNSPECIFIED, AuthorizationSubject.newInstance("test:" + subject));
+        return RetrieveThing.of(THING_ID, DittoHeaders.newBuilder().authorizationContext(authorizationContext).build());
+    }
+
+    private static RetrieveThingResponse response(final String entityTag) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().eTag(EntityTag.fromString(entityTag)).build();
+        return RetrieveThingResponse.of(THING_ID, THING, dittoHeaders);
+    }
+
+}
@@ -14,6 +14,11 @@ package org.eclipse.ditto.services.concierge.starter.actors;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.actors.cleanup.EventSnapshotCleanupCoordinator;
@@ -28,6 +33,8 @@ import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.SingletonStatusReporter;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.PersistenceConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 
 import akka.actor.ActorRef;
@@ -43,6 +50,9 @@ public final class ConciergeRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "conciergeRoot";
 
+    // shared by the persistence health check and the warm-up of the policy enforcer cache
+    @Nullable private final DittoMongoClient mongoClient;
+
     @SuppressWarnings("unused")
     private <C extends ConciergeConfig> ConciergeRootActor(final C conciergeConfig,
             final ActorRef pubSubMediator,
@@ -53,7 +63,11 @@ public final class ConciergeRootActor extends DittoRootActor {
         final ActorContext context = getContext();
         final ShardRegions shardRegions = ShardRegions.of(getContext().getSystem(), conciergeConfig.getClusterConfig());
 
-        enforcerActorFactory.startEnforcerActor(context, conciergeConfig, pubSubMediator, shardRegions);
+        mongoClient = isMongoDbRequired(conciergeConfig)
+                ? MongoClientWrapper.newInstance(conciergeConfig.getMongoDbConfig())
+                : null;
+
+        enforcerActorFactory.startEnforcerActor(context, conciergeConfig, pubSubMediator, shardRegions, mongoClient);
 
         final ActorRef conciergeForwarder = context.findChild(ConciergeForwarderActor.ACTOR_NAME).orElseThrow(() ->
                 new IllegalStateException("ConciergeForwarder could not be found"));
@@ -63,7 +77,11 @@ public final class ConciergeRootActor extends DittoRootActor {
                 EventSnapshotCleanupCoordinator.props(conciergeConfig.getPersistenceCleanupConfig(), pubSubMediator,
                         shardRegions));
 
-        final ActorRef healthCheckingActor = startHealthCheckingActor(conciergeConfig, cleanupCoordinator);
+        @Nullable final ActorRef policyEnforcerCacheWarmUpActor =
+                context.findChild(PolicyEnforcerCacheWarmUpActor.ACTOR_NAME).orElse(null);
+
+        final ActorRef healthCheckingActor =
+                startHealthCheckingActor(conciergeConfig, cleanupCoordinator, policyEnforcerCacheWarmUpActor);
         bindHttpStatusRoute(conciergeConfig.getHttpConfig(), healthCheckingActor);
     }
 
@@ -88,13 +106,27 @@ public final class ConciergeRootActor extends DittoRootActor {
     }
 
 
+    @Override
+    public void postStop() throws Exception {
+        if (null != mongoClient) {
+            mongoClient.close();
+        }
+        super.postStop();
+    }
+
+    private static boolean isMongoDbRequired(final ConciergeConfig conciergeConfig) {
+        return conciergeConfig.getHealthCheckConfig().getPersistenceConfig().isEnabled() ||
+                conciergeConfig.getCachesConfig().getEnforcerWarmUpConfig().isEnabled();
+    }
+
     private ActorRef startClusterSingletonActor(final String actorName, final Props props) {
 
         return ClusterUtil.startSingleton(getContext(), ConciergeMessagingConstants.CLUSTER_ROLE, actorName, props);
     }
 
     private ActorRef startHealthCheckingActor(final ConciergeConfig conciergeConfig,
-            final ActorRef cleanupCoordinator) {
+            final ActorRef cleanupCoordinator,
+            @Nullable final ActorRef policyEnforcerCacheWarmUpActor) {
 
         final HealthCheckConfig healthCheckConfig = conciergeConfig.getHealthCheckConfig();
 
@@ -110,11 +142,17 @@ public final class ConciergeRootActor extends DittoRootActor {
         final ActorRef cleanupCoordinatorProxy = ClusterUtil.startSingletonProxy(getContext(),
                 ConciergeMessagingConstants.CLUSTER_ROLE, cleanupCoordinator);
 
+        final List<Props> statusReporters = new ArrayList<>();
+        statusReporters.add(SingletonStatusReporter.props(ConciergeMessagingConstants.CLUSTER_ROLE,
+                cleanupCoordinatorProxy));
+        if (null != policyEnforcerCacheWarmUpActor) {
+            statusReporters.add(PolicyEnforcerCacheWarmUpStatusReporter.props(policyEnforcerCacheWarmUpActor));
+        }
+
         return startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME,
                 DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
-                        MongoHealthChecker.props(),
-                        SingletonStatusReporter.props(ConciergeMessagingConstants.CLUSTER_ROLE,
-                                cleanupCoordinatorProxy))
+                        null != mongoClient ? MongoHealthChecker.props(mongoClient) : null,
+                        statusReporters.toArray(new Props[0]))
         );
     }
 
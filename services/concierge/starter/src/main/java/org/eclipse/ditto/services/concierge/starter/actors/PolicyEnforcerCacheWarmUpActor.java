@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.concierge.common.EnforcerWarmUpConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor that warms up the policy enforcer cache on startup and periodically persists the IDs of the cached policy
+ * enforcers for the next startup.
+ * <p>
+ * The health reported on {@link RetrieveHealth} is {@code DOWN} until the warm-up finished or timed out so that the
+ * Concierge instance does not report to be healthy while its cache is cold.
+ * </p>
+ */
+public final class PolicyEnforcerCacheWarmUpActor extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "policyEnforcerCacheWarmUp";
+
+    private static final StatusInfo WARMING_UP =
+            StatusInfo.fromStatus(StatusInfo.Status.DOWN, "policy enforcer cache is warming up.");
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache;
+    private final EnforcerWarmUpConfig warmUpConfig;
+    private final PolicyIdSnapshotPersistence snapshotPersistence;
+    private final Materializer materializer;
+
+    private StatusInfo status;
+
+    @SuppressWarnings("unused")
+    private PolicyEnforcerCacheWarmUpActor(final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> cache,
+            final EnforcerWarmUpConfig warmUpConfig,
+            final PolicyIdSnapshotPersistence snapshotPersistence) {
+
+        policyEnforcerCache = cache;
+        this.warmUpConfig = warmUpConfig;
+        this.snapshotPersistence = snapshotPersistence;
+        materializer = Materializer.createMaterializer(this::getContext);
+        status = WARMING_UP;
+    }
+
+    /**
+     * Create Props of an actor to warm up the policy enforcer cache.
+     *
+     * @param policyEnforcerCache the cache to warm up.
+     * @param warmUpConfig the config of the warm-up.
+     * @param mongoClient the client of the database to persist the cached policy IDs in. It is not closed by the
+     * actor.
+     * @return the Props object.
+     */
+    public static Props props(final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache,
+            final EnforcerWarmUpConfig warmUpConfig,
+            final DittoMongoClient mongoClient) {
+
+        return props(policyEnforcerCache, warmUpConfig,
+                PolicyIdSnapshotPersistence.of(mongoClient, InstanceIdentifierSupplier.getInstance().get()));
+    }
+
+    static Props props(final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache,
+            final EnforcerWarmUpConfig warmUpConfig,
+            final PolicyIdSnapshotPersistence snapshotPersistence) {
+
+        return Props.create(PolicyEnforcerCacheWarmUpActor.class, policyEnforcerCache, warmUpConfig,
+                snapshotPersistence);
+    }
+
+    @Override
+    public void preStart() {
+        final AtomicInteger loadedEnforcers = new AtomicInteger();
+        final CompletionStage<WarmUpFinished> warmUp = snapshotPersistence.loadSnapshot()
+                .take(warmUpConfig.getMaxSize())
+                .mapAsyncUnordered(warmUpConfig.getParallelism(), this::loadPolicyEnforcer)
+                .completionTimeout(warmUpConfig.getTimeout())
+                .runWith(Sink.foreach(loaded -> {
+                    if (loaded) {
+                        loadedEnforcers.incrementAndGet();
+                    }
+                }), materializer)
+                .handle((done, error) -> new WarmUpFinished(loadedEnforcers.get(), error));
+        Patterns.pipe(warmUp, getContext().dispatcher()).to(getSelf());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(WarmUpFinished.class, this::warmUpFinished)
+                .matchEquals(Control.TAKE_SNAPSHOT, control -> takeSnapshot())
+                .match(RetrieveHealth.class, retrieveHealth ->
+                        getSender().tell(RetrieveHealthResponse.of(status, DittoHeaders.empty()), getSelf()))
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private CompletionStage<Boolean> loadPolicyEnforcer(final String policyId) {
+        final EntityIdWithResourceType key;
+        try {
+            key = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, PolicyId.of(policyId));
+        } catch (final RuntimeException e) {
+            log.warning("Skipping invalid policy ID <{}>: <{}>", policyId, e.getMessage());
+            return CompletableFuture.completedStage(false);
+        }
+        return policyEnforcerCache.get(key)
+                .handle((entry, error) -> error == null && entry.isPresent());
+    }
+
+    private void warmUpFinished(final WarmUpFinished warmUpFinished) {
+        if (warmUpFinished.error != null) {
+            log.warning("Policy enforcer cache warm-up ended after loading <{}> enforcers: <{}>",
+                    warmUpFinished.count, warmUpFinished.error.toString());
+        } else {
+            log.info("Policy enforcer cache warm-up loaded <{}> enforcers", warmUpFinished.count);
+        }
+        status = StatusInfo.fromStatus(StatusInfo.Status.UP,
+                "policy enforcer cache warmed up with " + warmUpFinished.count + " enforcers.");
+        // start taking snapshots only now so that a partially loaded cache does not replace the previous snapshot
+        getTimers().startTimerWithFixedDelay(Control.TAKE_SNAPSHOT, Control.TAKE_SNAPSHOT,
+                warmUpConfig.getSnapshotInterval());
+    }
+
+    private void takeSnapshot() {
+        final List<String> policyIds = policyEnforcerCache.getHottestKeys(warmUpConfig.getMaxSize())
+                .stream()
+                .map(key -> key.getId().toString())
+                .collect(Collectors.toList());
+        snapshotPersistence.saveSnapshot(policyIds)
+                .runWith(Sink.ignore(), materializer)
+                .whenComplete((done, error) -> {
+                    if (error != null) {
+                        log.warning("Failed to persist <{}> cached policy IDs: <{}>", policyIds.size(),
+                                error.toString());
+                    } else {
+                        log.debug("Persisted <{}> cached policy IDs", policyIds.size());
+                    }
+                });
+    }
+
+    private enum Control {
+        TAKE_SNAPSHOT
+    }
+
+    private static final class WarmUpFinished {
+
+        private final int count;
+        @Nullable private final Throwable error;
+
+        private WarmUpFinished(final int count, @Nullable final Throwable error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import org.eclipse.ditto.services.utils.health.AbstractHealthCheckingActor;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor to report the health of the {@link PolicyEnforcerCacheWarmUpActor} of this Concierge instance.
+ */
+public final class PolicyEnforcerCacheWarmUpStatusReporter extends AbstractHealthCheckingActor {
+
+    private final ActorRef policyEnforcerCacheWarmUpActor;
+
+    @SuppressWarnings("unused")
+    private PolicyEnforcerCacheWarmUpStatusReporter(final ActorRef policyEnforcerCacheWarmUpActor) {
+        this.policyEnforcerCacheWarmUpActor = policyEnforcerCacheWarmUpActor;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param policyEnforcerCacheWarmUpActor the actor warming up the policy enforcer cache.
+     * @return Props to report the status of the warm-up.
+     */
+    public static Props props(final ActorRef policyEnforcerCacheWarmUpActor) {
+        return Props.create(PolicyEnforcerCacheWarmUpStatusReporter.class, policyEnforcerCacheWarmUpActor);
+    }
+
+    @Override
+    protected Receive matchCustomMessages() {
+        return ReceiveBuilder.create()
+                .match(RetrieveHealthResponse.class, response -> updateHealth(response.getStatusInfo()))
+                .build();
+    }
+
+    @Override
+    protected void triggerHealthRetrieval() {
+        policyEnforcerCacheWarmUpActor.tell(RetrieveHealth.newInstance(), getSelf());
+    }
+
+}
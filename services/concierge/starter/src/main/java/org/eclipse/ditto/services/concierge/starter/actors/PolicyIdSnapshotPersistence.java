@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Persists the IDs of the policies whose enforcers are cached by a Concierge instance.
+ * <p>
+ * Each instance keeps one document with its latest snapshot. On startup, an instance loads its own snapshot or, if
+ * it has none (e.g. because its instance identifier changed), the most recent snapshot of any instance.
+ * </p>
+ */
+final class PolicyIdSnapshotPersistence {
+
+    /**
+     * Name of the collection of the snapshots.
+     */
+    static final String COLLECTION_NAME = "conciergePolicyEnforcerCacheSnapshot";
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_TIMESTAMP = "ts";
+    private static final String FIELD_POLICY_IDS = "policyIds";
+
+    private static final Bson SORT_BY_TIMESTAMP_DESC = new Document().append(FIELD_TIMESTAMP, -1);
+
+    private final MongoCollection<Document> collection;
+    private final String instanceIdentifier;
+
+    private PolicyIdSnapshotPersistence(final MongoCollection<Document> collection, final String instanceIdentifier) {
+        this.collection = collection;
+        this.instanceIdentifier = instanceIdentifier;
+    }
+
+    /**
+     * Creates a persistence of policy ID snapshots.
+     *
+     * @param mongoClient the client of the database to store the snapshots in.
+     * @param instanceIdentifier identifier of this Concierge instance.
+     * @return the persistence.
+     */
+    static PolicyIdSnapshotPersistence of(final DittoMongoClient mongoClient, final String instanceIdentifier) {
+        return new PolicyIdSnapshotPersistence(mongoClient.getDefaultDatabase().getCollection(COLLECTION_NAME),
+                instanceIdentifier);
+    }
+
+    /**
+     * Replaces the snapshot of this instance.
+     *
+     * @param policyIds the IDs of the policies whose enforcers are currently cached.
+     * @return source of the single element {@code Done} when the snapshot is stored.
+     */
+    Source<Done, NotUsed> saveSnapshot(final Collection<String> policyIds) {
+        final Document snapshot = new Document()
+                .append(FIELD_ID, instanceIdentifier)
+                .append(FIELD_TIMESTAMP, new Date())
+                .append(FIELD_POLICY_IDS, List.copyOf(policyIds));
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, instanceIdentifier), snapshot,
+                new ReplaceOptions().upsert(true)))
+                .map(result -> Done.done());
+    }
+
+    /**
+     * Loads the snapshot of this instance or the most recent snapshot of any instance if this instance has none.
+     *
+     * @return source of the persisted policy IDs.
+     */
+    Source<String, NotUsed> loadSnapshot() {
+        return Source.fromPublisher(collection.find(Filters.eq(FIELD_ID, instanceIdentifier)).limit(1))
+                .orElse(Source.fromPublisher(collection.find().sort(SORT_BY_TIMESTAMP_DESC).limit(1)))
+                .take(1)
+                .mapConcat(snapshot -> snapshot.getList(FIELD_POLICY_IDS, String.class, List.of()));
+    }
+
+}
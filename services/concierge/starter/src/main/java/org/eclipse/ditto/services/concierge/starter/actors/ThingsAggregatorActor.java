@@ -141,6 +141,9 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                         .withSelectedFields(sf)
                                         .build())
                                 .orElse(RetrieveThing.of(thingId, dittoHeaders));
+                    } else if (((SudoRetrieveThings) command).useOriginalSchemaVersion()) {
+                        toBeWrapped = SudoRetrieveThing.withOriginalSchemaVersion(thingId, selectedFields,
+                                dittoHeaders);
                     } else {
                         toBeWrapped = Optional.ofNullable(selectedFields)
                                 .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
@@ -12,8 +12,11 @@
  */
 package org.eclipse.ditto.services.concierge.starter.proxy;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
@@ -31,9 +34,11 @@ public interface EnforcerActorFactory<C extends ConciergeConfig> {
      * @param conciergeConfig the configuration of Concierge.
      * @param pubSubMediator Akka pub-sub mediator.
      * @param shardRegions shard regions.
+     * @param mongoClient the MongoDB client of the Concierge instance or {@code null} if it does not connect to
+     * MongoDB.
      * @return actor reference to {@code EnforcerActor} shard region.
      */
     ActorRef startEnforcerActor(ActorContext context, C conciergeConfig, ActorRef pubSubMediator,
-            ShardRegions shardRegions);
+            ShardRegions shardRegions, @Nullable DittoMongoClient mongoClient);
 
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.concierge.common.EnforcerWarmUpConfig;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyEnforcerCacheWarmUpActor}.
+ */
+public final class PolicyEnforcerCacheWarmUpActorTest {
+
+    private static final int MAX_SIZE = 2;
+
+    private ActorSystem system;
+    private Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> cache;
+    private EnforcerWarmUpConfig warmUpConfig;
+    private PolicyIdSnapshotPersistence snapshotPersistence;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        system = ActorSystem.create();
+        cache = mock(Cache.class);
+        warmUpConfig = mock(EnforcerWarmUpConfig.class);
+        when(warmUpConfig.getMaxSize()).thenReturn(MAX_SIZE);
+        when(warmUpConfig.getParallelism()).thenReturn(2);
+        when(warmUpConfig.getTimeout()).thenReturn(Duration.ofSeconds(10));
+        when(warmUpConfig.getSnapshotInterval()).thenReturn(Duration.ofMillis(100));
+        snapshotPersistence = mock(PolicyIdSnapshotPersistence.class);
+        when(snapshotPersistence.saveSnapshot(any())).thenReturn(Source.single(Done.done()));
+    }
+
+    @After
+    public void tearDown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void reportsDownUntilAtMostMaxSizeSnapshotEntriesAreLoaded() {
+        new TestKit(system) {{
+            final CompletableFuture<Optional<Entry<PolicyEnforcer>>> loading = new CompletableFuture<>();
+            when(cache.get(any())).thenReturn(loading);
+            when(snapshotPersistence.loadSnapshot())
+                    .thenReturn(Source.from(List.of("ns:policy1", "ns:policy2", "ns:policy3")));
+
+            final ActorRef underTest = startWarmUpActor();
+            assertThat(retrieveStatus(underTest)).isEqualTo(StatusInfo.Status.DOWN);
+
+            loading.complete(Optional.of(Entry.nonexistent()));
+
+            awaitAssert(() -> assertThat(retrieveStatus(underTest)).isEqualTo(StatusInfo.Status.UP));
+            verify(cache).get(policyKey("ns:policy1"));
+            verify(cache).get(policyKey("ns:policy2"));
+            verify(cache, never()).get(policyKey("ns:policy3"));
+        }
+
+            private StatusInfo.Status retrieveStatus(final ActorRef underTest) {
+                underTest.tell(RetrieveHealth.newInstance(), getRef());
+                return expectMsgClass(RetrieveHealthResponse.class).getStatusInfo().getStatus();
+            }
+        };
+    }
+
+    @Test
+    public void persistsHottestKeysAfterWarmUp() {
+        when(snapshotPersistence.loadSnapshot()).thenReturn(Source.empty());
+        when(cache.getHottestKeys(MAX_SIZE)).thenReturn(List.of(policyKey("ns:hot"), policyKey("ns:warm")));
+
+        startWarmUpActor();
+
+        verify(snapshotPersistence, timeout(5000).atLeastOnce()).saveSnapshot(List.of("ns:hot", "ns:warm"));
+    }
+
+    private ActorRef startWarmUpActor() {
+        return system.actorOf(PolicyEnforcerCacheWarmUpActor.props(cache, warmUpConfig, snapshotPersistence));
+    }
+
+    private static EntityIdWithResourceType policyKey(final String policyId) {
+        return EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, PolicyId.of(policyId));
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyIdSnapshotPersistence}.
+ */
+public final class PolicyIdSnapshotPersistenceIT {
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+    private static DittoMongoClient mongoClient;
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoClient = MongoClientWrapper.getBuilder()
+                .hostnameAndPort(MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort())
+                .defaultDatabaseName("policyIdSnapshotPersistenceIT")
+                .connectionPoolMaxSize(10)
+                .connectionPoolMaxWaitTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        if (null != mongoClient) {
+            mongoClient.close();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create();
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+    }
+
+    @After
+    public void tearDown() {
+        if (null != mongoClient) {
+            runBlocking(Source.fromPublisher(mongoClient.getDefaultDatabase()
+                    .getCollection(PolicyIdSnapshotPersistence.COLLECTION_NAME)
+                    .drop()));
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void loadEmptySnapshot() {
+        final PolicyIdSnapshotPersistence underTest = PolicyIdSnapshotPersistence.of(mongoClient, "instance-1");
+
+        assertThat(runBlocking(underTest.loadSnapshot())).isEmpty();
+    }
+
+    @Test
+    public void latestSnapshotReplacesPreviousOne() {
+        final PolicyIdSnapshotPersistence underTest = PolicyIdSnapshotPersistence.of(mongoClient, "instance-1");
+
+        runBlocking(underTest.saveSnapshot(List.of("ns:policy1", "ns:policy2")));
+        runBlocking(underTest.saveSnapshot(List.of("ns:policy3")));
+
+        assertThat(runBlocking(underTest.loadSnapshot())).containsExactly("ns:policy3");
+    }
+
+    @Test
+    public void instanceWithoutSnapshotLoadsMostRecentSnapshotOfOtherInstance() throws InterruptedException {
+        final PolicyIdSnapshotPersistence instance1 = PolicyIdSnapshotPersistence.of(mongoClient, "instance-1");
+        final PolicyIdSnapshotPersistence instance2 = PolicyIdSnapshotPersistence.of(mongoClient, "instance-2");
+        final PolicyIdSnapshotPersistence instance3 = PolicyIdSnapshotPersistence.of(mongoClient, "instance-3");
+
+        runBlocking(instance1.saveSnapshot(List.of("ns:older")));
+        // snapshot timestamps have millisecond precision
+        Thread.sleep(10L);
+        runBlocking(instance2.saveSnapshot(List.of("ns:newer")));
+
+        assertThat(runBlocking(instance1.loadSnapshot())).containsExactly("ns:older");
+        assertThat(runBlocking(instance3.loadSnapshot())).containsExactly("ns:newer");
+    }
+
+    private <T> List<T> runBlocking(final Source<T, ?> source) {
+        final CompletionStage<List<T>> result = source.runWith(Sink.seq(), materializer);
+        return result.toCompletableFuture().join();
+    }
+
+}
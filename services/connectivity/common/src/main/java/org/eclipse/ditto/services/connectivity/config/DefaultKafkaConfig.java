@@ -12,14 +12,16 @@
  */
 package org.eclipse.ditto.services.connectivity.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * This class is the default implementation of {@link KafkaConfig}.
@@ -29,10 +31,27 @@ public final class DefaultKafkaConfig implements KafkaConfig {
 
     private static final String CONFIG_PATH = "kafka";
 
+    private static final String INTERNAL_CONSUMER_CONFIG_PATH = "consumer.internal";
+
     private final Config internalProducerConfig;
+    private final Config internalConsumerConfig;
+    private final Duration consumerPollTimeout;
+    private final Duration consumerCommitInterval;
+    private final int consumerCommitBatchSize;
+    private final int consumerMaxInFlight;
+    private final Duration consumerRestartDelay;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        internalConsumerConfig = kafkaScopedConfig.hasPath(INTERNAL_CONSUMER_CONFIG_PATH)
+                ? kafkaScopedConfig.getConfig(INTERNAL_CONSUMER_CONFIG_PATH)
+                : ConfigFactory.empty();
+        consumerPollTimeout = kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_POLL_TIMEOUT.getConfigPath());
+        consumerCommitInterval =
+                kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_COMMIT_INTERVAL.getConfigPath());
+        consumerCommitBatchSize = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_COMMIT_BATCH_SIZE.getConfigPath());
+        consumerMaxInFlight = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath());
+        consumerRestartDelay = kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_RESTART_DELAY.getConfigPath());
     }
 
     /**
@@ -43,7 +62,7 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
     }
 
     @Override
@@ -51,6 +70,36 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Duration getConsumerPollTimeout() {
+        return consumerPollTimeout;
+    }
+
+    @Override
+    public Duration getConsumerCommitInterval() {
+        return consumerCommitInterval;
+    }
+
+    @Override
+    public int getConsumerCommitBatchSize() {
+        return consumerCommitBatchSize;
+    }
+
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
+    @Override
+    public Duration getConsumerRestartDelay() {
+        return consumerRestartDelay;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +109,31 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return consumerCommitBatchSize == that.consumerCommitBatchSize &&
+                consumerMaxInFlight == that.consumerMaxInFlight &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(consumerPollTimeout, that.consumerPollTimeout) &&
+                Objects.equals(consumerCommitInterval, that.consumerCommitInterval) &&
+                Objects.equals(consumerRestartDelay, that.consumerRestartDelay);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, internalConsumerConfig, consumerPollTimeout, consumerCommitInterval,
+                consumerCommitBatchSize, consumerMaxInFlight, consumerRestartDelay);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", consumerPollTimeout=" + consumerPollTimeout +
+                ", consumerCommitInterval=" + consumerCommitInterval +
+                ", consumerCommitBatchSize=" + consumerCommitBatchSize +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
+                ", consumerRestartDelay=" + consumerRestartDelay +
                 "]";
     }
 
@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -29,4 +33,98 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by the Kafka client.
+     *
+     * @return internal consumer configuration needed by the Kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the maximum duration a Kafka consumer blocks while polling for new records.
+     *
+     * @return the poll timeout.
+     */
+    Duration getConsumerPollTimeout();
+
+    /**
+     * Returns the interval in which the offsets of acknowledged records are committed.
+     *
+     * @return the commit interval.
+     */
+    Duration getConsumerCommitInterval();
+
+    /**
+     * Returns the number of acknowledged records after which their offsets are committed before the commit interval
+     * elapsed.
+     *
+     * @return the commit batch size.
+     */
+    int getConsumerCommitBatchSize();
+
+    /**
+     * Returns the maximum number of records of each Kafka consumer which are processed but not acknowledged yet.
+     *
+     * @return the maximum number of records in flight.
+     */
+    int getConsumerMaxInFlight();
+
+    /**
+     * Returns the delay after which a Kafka consumer is restarted in order to receive unacknowledged records again.
+     *
+     * @return the restart delay.
+     */
+    Duration getConsumerRestartDelay();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum duration a Kafka consumer blocks while polling for new records.
+         */
+        CONSUMER_POLL_TIMEOUT("consumer.poll-timeout", Duration.ofMillis(100L)),
+
+        /**
+         * The interval in which the offsets of acknowledged records are committed.
+         */
+        CONSUMER_COMMIT_INTERVAL("consumer.commit-interval", Duration.ofSeconds(1L)),
+
+        /**
+         * The number of acknowledged records after which their offsets are committed.
+         */
+        CONSUMER_COMMIT_BATCH_SIZE("consumer.commit-batch-size", 1000),
+
+        /**
+         * The maximum number of records of each Kafka consumer which are processed but not acknowledged yet.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer.max-in-flight", 100),
+
+        /**
+         * The delay after which a Kafka consumer is restarted in order to receive unacknowledged records again.
+         */
+        CONSUMER_RESTART_DELAY("consumer.restart-delay", Duration.ofSeconds(5L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -49,6 +49,15 @@ public interface JavaScriptConfig {
      */
     int getMaxScriptStackDepth();
 
+    /**
+     * Returns the Rhino optimization level with which the bundled JavaScript libraries are compiled.
+     * The libraries are compiled once and shared by all mappers; mapping scripts are always interpreted so that their
+     * execution time and stack depth can be observed. The level {@code -1} interprets the libraries as well.
+     *
+     * @return the optimization level between {@code -1} and {@code 9}.
+     */
+    int getLibrariesOptimizationLevel();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code JavaScriptConfig}.
@@ -68,7 +77,12 @@ public interface JavaScriptConfig {
         /**
          * The maximum call stack depth in the mapping script.
          */
-        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10);
+        MAX_SCRIPT_STACK_DEPTH("maxScriptStackDepth", 10),
+
+        /**
+         * The Rhino optimization level with which the bundled JavaScript libraries are compiled.
+         */
+        LIBRARIES_OPTIMIZATION_LEVEL("librariesOptimizationLevel", -1);
 
         private final String path;
         private final Object defaultValue;
@@ -14,14 +14,19 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static java.util.Collections.singletonList;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.CharsetDeterminer;
 import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
@@ -64,9 +69,9 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
 
     @Override
     public List<Adaptable> map(final ExternalMessage message) {
-        final String payload = extractPayloadAsString(message);
+        final JsonObject payloadJson = extractPayloadAsJsonObject(message);
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(() ->
-                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(payload))
+                ProtocolFactory.jsonifiableAdaptableFromJson(payloadJson)
         );
 
         final DittoHeaders mergedHeaders = jsonifiableAdaptable.getDittoHeaders();
@@ -112,6 +117,31 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         return DEFAULT_OPTIONS;
     }
 
+    private static JsonObject extractPayloadAsJsonObject(final ExternalMessage message) {
+        if (message.isBytesMessage() && StandardCharsets.UTF_8.equals(determineCharset(message.getHeaders()))) {
+            // parse UTF-8 encoded JSON directly without decoding it to a string first
+            final ByteBuffer payload = message.getBytePayload()
+                    .filter(ByteBuffer::hasRemaining)
+                    .orElseThrow(() -> payloadAbsentOrEmpty(message));
+            return DittoJsonException.wrapJsonRuntimeException(() -> toJsonObject(JsonFactory.readFrom(payload)));
+        } else {
+            final String payload = extractPayloadAsString(message);
+            return DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.newObject(payload));
+        }
+    }
+
+    private static JsonObject toJsonObject(final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            return JsonFactory.nullObject();
+        } else if (jsonValue.isObject()) {
+            return jsonValue.asObject();
+        } else {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("<{0}> is not a valid JSON object!", jsonValue))
+                    .build();
+        }
+    }
+
     private static String extractPayloadAsString(final ExternalMessage message) {
         final Optional<String> payload;
         if (message.isTextMessage()) {
@@ -123,12 +153,14 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
             payload = Optional.empty();
         }
 
-        return payload.filter(s -> !s.isEmpty()).orElseThrow(() ->
-                MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
-                        .description(
-                                "As payload was absent or empty, please make sure to send payload in your messages.")
-                        .dittoHeaders(DittoHeaders.of(message.getHeaders()))
-                        .build());
+        return payload.filter(s -> !s.isEmpty()).orElseThrow(() -> payloadAbsentOrEmpty(message));
+    }
+
+    private static MessageMappingFailedException payloadAbsentOrEmpty(final ExternalMessage message) {
+        return MessageMappingFailedException.newBuilder(message.findContentType().orElse(""))
+                .description("As payload was absent or empty, please make sure to send payload in your messages.")
+                .dittoHeaders(DittoHeaders.of(message.getHeaders()))
+                .build();
     }
 
     private static Charset determineCharset(final Map<String, String> messageHeaders) {
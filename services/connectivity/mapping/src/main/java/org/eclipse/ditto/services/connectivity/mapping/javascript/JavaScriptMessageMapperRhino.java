@@ -13,7 +13,6 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
@@ -45,11 +44,6 @@ import org.mozilla.javascript.Scriptable;
 )
 final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
-    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
-
-    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
-    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
-
     static final String DITTO_SCOPE_SCRIPT = "/javascript/ditto-scope.js";
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
@@ -90,11 +84,15 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
                 javaScriptConfig.getMaxScriptStackDepth());
 
+        final boolean loadLongJs = configuration.isLoadLongJS();
+        final boolean loadBytebufferJs = configuration.isLoadBytebufferJS();
+        final int librariesOptimizationLevel = javaScriptConfig.getLibrariesOptimizationLevel();
         try {
-            // create scope once and load the required libraries in order to get best performance:
+            // scripts are compiled once and shared by all mappers, each mapper executes them in its own scope:
             contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                initLibraries(cx, scope);
+                final Scriptable scope = RhinoScriptCache.newMapperScope(cx, loadLongJs, loadBytebufferJs,
+                        librariesOptimizationLevel);
+                initMappings(cx, scope);
                 return scope;
             });
         } catch (final RhinoException e) {
@@ -119,23 +117,7 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope) {
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
-        }
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
-        }
-
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
-
+    private void initMappings(final Context cx, final Scriptable scope) {
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
                 .orElse("");
@@ -144,8 +126,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            RhinoScriptCache.compile(cx, userIncomingScript,
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT).exec(cx, scope);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -156,8 +138,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            RhinoScriptCache.compile(cx, userOutgoingScript,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT).exec(cx, scope);
         }
     }
 
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Caches compiled JavaScript so that mappers with equal configuration do not compile the same scripts over and over
+ * again.
+ * <p>
+ * Only the compiled scripts are shared. Each mapper executes them in a scope of its own, so that neither the mutable
+ * state of the bundled libraries nor changes of a mapping script to the standard objects are visible to other mappers.
+ * </p>
+ * <p>
+ * Compiled scripts are looked up by a SHA-256 digest of their source, so that the cache does not keep the sources of
+ * mapping scripts. The sources of the bundled libraries are read and digested once.
+ * </p>
+ */
+@ThreadSafe
+final class RhinoScriptCache {
+
+    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
+    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
+    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Maximum number of compiled mapping scripts to keep.
+     */
+    private static final int MAX_COMPILED_SCRIPTS = 1000;
+
+    private static final Map<ScriptKey, Script> COMPILED_SCRIPTS =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<ScriptKey, Script> eldest) {
+                    return size() > MAX_COMPILED_SCRIPTS;
+                }
+            });
+
+    private static final ScriptSource LONG_JS = ScriptSource.ofResource(WEBJARS_LONG);
+    private static final ScriptSource BYTEBUFFER_JS = ScriptSource.ofResource(WEBJARS_BYTEBUFFER);
+    private static final ScriptSource DITTO_SCOPE_JS =
+            ScriptSource.ofResource(JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT);
+    private static final ScriptSource INCOMING_JS =
+            ScriptSource.ofResource(JavaScriptMessageMapperRhino.INCOMING_SCRIPT);
+    private static final ScriptSource OUTGOING_JS =
+            ScriptSource.ofResource(JavaScriptMessageMapperRhino.OUTGOING_SCRIPT);
+
+    private RhinoScriptCache() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a new scope for a mapper with the standard objects and the requested libraries.
+     * The scripts defining the mapping functions of Ditto are already executed in the new scope.
+     *
+     * @param cx the current context.
+     * @param loadLongJs whether to load "long.js".
+     * @param loadBytebufferJs whether to load "bytebuffer.js".
+     * @param librariesOptimizationLevel the optimization level to compile the libraries with.
+     * @return the new scope.
+     */
+    static Scriptable newMapperScope(final Context cx,
+            final boolean loadLongJs,
+            final boolean loadBytebufferJs,
+            final int librariesOptimizationLevel) {
+
+        final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
+        final int optimizationLevel = cx.getOptimizationLevel();
+        cx.setOptimizationLevel(librariesOptimizationLevel);
+        try {
+            if (loadLongJs) {
+                compile(cx, LONG_JS).exec(cx, scope);
+            }
+            if (loadBytebufferJs) {
+                compile(cx, BYTEBUFFER_JS).exec(cx, scope);
+            }
+            compile(cx, DITTO_SCOPE_JS).exec(cx, scope);
+        } finally {
+            cx.setOptimizationLevel(optimizationLevel);
+        }
+        compile(cx, INCOMING_JS).exec(cx, scope);
+        compile(cx, OUTGOING_JS).exec(cx, scope);
+        return scope;
+    }
+
+    /**
+     * Returns the compiled form of a script at the optimization level of the current context.
+     *
+     * @param cx the current context.
+     * @param source the source of the script.
+     * @param sourceName the name of the script used in error messages.
+     * @return the compiled script.
+     * @throws org.mozilla.javascript.RhinoException if the script cannot be compiled.
+     */
+    static Script compile(final Context cx, final String source, final String sourceName) {
+        return compile(cx, new ScriptSource(source, sourceName));
+    }
+
+    private static Script compile(final Context cx, final ScriptSource scriptSource) {
+        final ScriptKey key = new ScriptKey(scriptSource.digest, scriptSource.sourceName, cx.getOptimizationLevel());
+        final Script cachedScript = COMPILED_SCRIPTS.get(key);
+        if (null != cachedScript) {
+            return cachedScript;
+        }
+        // compiling outside the lock; concurrent compilations of the same script yield equivalent results
+        final Script script = cx.compileString(scriptSource.source, scriptSource.sourceName, 1, null);
+        COMPILED_SCRIPTS.put(key, script);
+        return script;
+    }
+
+    private static String readResource(final String resourceName) {
+        try (final Reader reader = new InputStreamReader(
+                RhinoScriptCache.class.getResourceAsStream(resourceName), StandardCharsets.UTF_8)) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                stringBuilder.append(buffer, 0, read);
+            }
+            return stringBuilder.toString();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + resourceName + ">", e);
+        }
+    }
+
+    private static byte[] digest(final String source) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(source.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ScriptSource {
+
+        private final String source;
+        private final String sourceName;
+        private final byte[] digest;
+
+        private ScriptSource(final String source, final String sourceName) {
+            this.source = source;
+            this.sourceName = sourceName;
+            digest = digest(source);
+        }
+
+        private static ScriptSource ofResource(final String resourceName) {
+            return new ScriptSource(readResource(resourceName), resourceName);
+        }
+
+    }
+
+    private static final class ScriptKey {
+
+        private final byte[] digest;
+        private final String sourceName;
+        private final int optimizationLevel;
+
+        private ScriptKey(final byte[] digest, final String sourceName, final int optimizationLevel) {
+            this.digest = digest;
+            this.sourceName = sourceName;
+            this.optimizationLevel = optimizationLevel;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ScriptKey that = (ScriptKey) o;
+            return optimizationLevel == that.optimizationLevel &&
+                    Arrays.equals(digest, that.digest) &&
+                    sourceName.equals(that.sourceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Arrays.hashCode(digest) + sourceName.hashCode()) + optimizationLevel;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
@@ -84,7 +85,8 @@ public final class DittoMessageMapperTest {
     private static Map<ExternalMessage, List<Adaptable>> createValidIncomingMappings() {
         return Stream.of(
                 valid1(),
-                valid2()
+                valid2(),
+                validUtf8Bytes()
         ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
@@ -133,6 +135,24 @@ public final class DittoMessageMapperTest {
         return new AbstractMap.SimpleEntry<>(message, expected);
     }
 
+    private static Map.Entry<ExternalMessage, List<Adaptable>> validUtf8Bytes() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, DittoConstants.DITTO_PROTOCOL_CONTENT_TYPE);
+
+        final JsonObject json = JsonFactory.newObjectBuilder()
+                .set("path", "/attributes/f\u00fc\u00fc")
+                .set("value", "b\u00e4r \ud83d\ude00")
+                .build();
+
+        final List<Adaptable> expected = Collections.singletonList(
+                ProtocolFactory.newAdaptableBuilder(ProtocolFactory.jsonifiableAdaptableFromJson(json))
+                        .build());
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withBytes(json.toString().getBytes(StandardCharsets.UTF_8))
+                .build();
+        return new AbstractMap.SimpleEntry<>(message, expected);
+    }
+
     private static Map<ExternalMessage, Throwable> createInvalidIncomingMappings() {
         final Map<ExternalMessage, Throwable> mappings = new HashMap<>();
 
@@ -154,6 +174,19 @@ public final class DittoMessageMapperTest {
         mappings.put(message, new DittoJsonException(
                 new JsonParseException("Failed to create JSON object from string!")));
 
+        message = ExternalMessageFactory.newExternalMessageBuilder(headers).withBytes(new byte[0]).build();
+        mappings.put(message, MessageMappingFailedException.newBuilder("").build());
+
+        message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withBytes("no json".getBytes(StandardCharsets.UTF_8))
+                .build();
+        mappings.put(message, new DittoJsonException(new JsonParseException("Failed to parse JSON!")));
+
+        message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withBytes("[1,2]".getBytes(StandardCharsets.UTF_8))
+                .build();
+        mappings.put(message, new DittoJsonException(new JsonParseException("No JSON object!")));
+
         return mappings;
     }
 
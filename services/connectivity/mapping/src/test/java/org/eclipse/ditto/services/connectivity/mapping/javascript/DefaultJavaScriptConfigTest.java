@@ -74,6 +74,10 @@ public final class DefaultJavaScriptConfigTest {
         softly.assertThat(underTest.getMaxScriptStackDepth())
                 .as(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath())
                 .isEqualTo(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getDefaultValue());
+
+        softly.assertThat(underTest.getLibrariesOptimizationLevel())
+                .as(JavaScriptConfig.JavaScriptConfigValue.LIBRARIES_OPTIMIZATION_LEVEL.getConfigPath())
+                .isEqualTo(JavaScriptConfig.JavaScriptConfigValue.LIBRARIES_OPTIMIZATION_LEVEL.getDefaultValue());
     }
 
     @Test
@@ -91,5 +95,9 @@ public final class DefaultJavaScriptConfigTest {
         softly.assertThat(underTest.getMaxScriptStackDepth())
                 .as(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath())
                 .isEqualTo(1);
+
+        softly.assertThat(underTest.getLibrariesOptimizationLevel())
+                .as(JavaScriptConfig.JavaScriptConfigValue.LIBRARIES_OPTIMIZATION_LEVEL.getConfigPath())
+                .isEqualTo(9);
     }
 }
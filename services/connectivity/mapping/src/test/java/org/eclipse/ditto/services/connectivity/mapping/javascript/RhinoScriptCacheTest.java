@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Unit test for {@link RhinoScriptCache}.
+ */
+public final class RhinoScriptCacheTest {
+
+    private static final ContextFactory CONTEXT_FACTORY = new SandboxingContextFactory(Duration.ofSeconds(5L), 100);
+
+    @Test
+    public void equalScriptsAreCompiledOnce() {
+        CONTEXT_FACTORY.call(cx -> {
+            final Script script = RhinoScriptCache.compile(cx, "var a = 1;", "test");
+
+            assertThat(RhinoScriptCache.compile(cx, "var a = 1;", "test")).isSameAs(script);
+            assertThat(RhinoScriptCache.compile(cx, "var a = 2;", "test")).isNotSameAs(script);
+            return null;
+        });
+    }
+
+    @Test
+    public void scriptsAreLookedUpByDigestOfSourceAndByName() {
+        CONTEXT_FACTORY.call(cx -> {
+            final Script script = RhinoScriptCache.compile(cx, "var b = 1;", "test");
+
+            assertThat(RhinoScriptCache.compile(cx, new StringBuilder("var b = ").append(1).append(';').toString(),
+                    "test")).isSameAs(script);
+            assertThat(RhinoScriptCache.compile(cx, "var b = 1;", "other")).isNotSameAs(script);
+            return null;
+        });
+    }
+
+    @Test
+    public void mapperScopesDoNotShareLibraryState() {
+        CONTEXT_FACTORY.call(cx -> {
+            final Scriptable scope1 = RhinoScriptCache.newMapperScope(cx, true, true, -1);
+            final Scriptable scope2 = RhinoScriptCache.newMapperScope(cx, true, true, -1);
+
+            assertThat(scope1).isNotSameAs(scope2);
+            assertThat(scope1.get("mapToDittoProtocolMsgWrapper", scope1)).isInstanceOf(Function.class);
+            assertThat(scope2.get("mapFromDittoProtocolMsgWrapper", scope2)).isInstanceOf(Function.class);
+            assertThat(scope1.get("dcodeIO", scope1)).isNotSameAs(scope2.get("dcodeIO", scope2));
+
+            RhinoScriptCache.compile(cx, "var a = 1;", "test").exec(cx, scope1);
+            assertThat(scope1.has("a", scope1)).isTrue();
+            assertThat(scope2.has("a", scope2)).isFalse();
+            return null;
+        });
+    }
+
+    @Test
+    public void mappingScriptMayExtendStandardPrototypesOfItsOwnScope() {
+        CONTEXT_FACTORY.call(cx -> {
+            final Scriptable scope1 = RhinoScriptCache.newMapperScope(cx, false, false, -1);
+            final Scriptable scope2 = RhinoScriptCache.newMapperScope(cx, false, false, -1);
+            final Script extendPrototype = RhinoScriptCache.compile(cx,
+                    "String.prototype.shout = function() { return this.toUpperCase() + '!'; };", "test");
+
+            extendPrototype.exec(cx, scope1);
+
+            assertThat(Context.toString(cx.evaluateString(scope1, "'hello'.shout()", "test", 1, null)))
+                    .isEqualTo("HELLO!");
+            assertThat(Context.toString(cx.evaluateString(scope2, "typeof 'hello'.shout", "test", 1, null)))
+                    .isEqualTo("undefined");
+            return null;
+        });
+    }
+
+}
@@ -21,11 +21,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -55,7 +57,7 @@ import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.JsonObjectPredicateVisitor;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
@@ -132,6 +134,7 @@ public final class OutboundMappingProcessorActor
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
+    private final Map<String, Predicate<JsonObject>> compiledFilters;
 
     // not final because it may change when the underlying config changed
     private OutboundMappingProcessor outboundMappingProcessor;
@@ -167,6 +170,7 @@ public final class OutboundMappingProcessorActor
                 ConnectivitySignalEnrichmentProvider.get(getContext().getSystem()).getFacade(this.connection.getId());
         this.processorPoolSize = determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
+        compiledFilters = new ConcurrentHashMap<>();
     }
 
     /**
@@ -619,13 +623,12 @@ public final class OutboundMappingProcessorActor
             // evaluate filter criteria again if signal enrichment is involved.
             final Signal<?> signal = outboundSignalWithExtra.getSource();
             final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased()
-                    .filterCriteria(filter.get(), dittoHeaders);
+            final Predicate<JsonObject> compiledFilter = getCompiledFilter(filter.get(), dittoHeaders);
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
-                            .mergeThingWithExtraFields(signal, extraFields.get(), extra)
-                            .filter(ThingPredicateVisitor.apply(criteria))
-                            .map(thing -> outboundSignalWithExtra))
+                            .mergeThingJsonWithExtraFields(signal, extraFields.get(), extra)
+                            .filter(compiledFilter)
+                            .map(thingJson -> outboundSignalWithExtra))
                     .map(Collections::singletonList)
                     .orElse(List.of());
         } else {
@@ -634,6 +637,21 @@ public final class OutboundMappingProcessorActor
         }
     }
 
+    /**
+     * Get the predicate of a target filter, compiling it only when it is evaluated for the first time.
+     * Applying the filter is called from the mapping futures, hence the concurrent map.
+     *
+     * @param filter the RQL filter of a target topic.
+     * @param dittoHeaders headers of the signal to filter to report an invalid filter with.
+     * @return the compiled filter.
+     */
+    private Predicate<JsonObject> getCompiledFilter(final String filter, final DittoHeaders dittoHeaders) {
+        return compiledFilters.computeIfAbsent(filter, f -> {
+            final Criteria criteria = QueryFilterCriteriaFactory.modelBased().filterCriteria(f, dittoHeaders);
+            return JsonObjectPredicateVisitor.apply(criteria);
+        });
+    }
+
     private static String stackTraceAsString(final DittoRuntimeException exception) {
         final StringWriter stringWriter = new StringWriter();
         exception.printStackTrace(new PrintWriter(stringWriter));
@@ -58,6 +58,7 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     private final ConnectionId connectionId;
     private final Uri baseUri;
     private final int parallelism;
+    private final int pipeliningLimit;
 
     @Nullable
     private final ClientTransport clientTransport;
@@ -66,10 +67,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     private final HttpsConnectionContext httpsConnectionContext;
 
     private DefaultHttpPushFactory(final ConnectionId connectionId, final Uri baseUri, final int parallelism,
-            final HttpPushConfig httpPushConfig, @Nullable final HttpsConnectionContext httpsConnectionContext) {
+            final int pipeliningLimit, final HttpPushConfig httpPushConfig,
+            @Nullable final HttpsConnectionContext httpsConnectionContext) {
         this.connectionId = connectionId;
         this.baseUri = baseUri;
         this.parallelism = parallelism;
+        this.pipeliningLimit = pipeliningLimit;
         if (!httpPushConfig.getHttpProxyConfig().isEnabled()) {
             clientTransport = null;
         } else {
@@ -82,7 +85,11 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             final ConnectionLogger connectionLogger) {
         final ConnectionId connectionId = connection.getId();
         final Uri baseUri = Uri.create(connection.getUri());
-        final int parallelism = parseParallelism(connection.getSpecificConfig());
+        final int parallelism = parsePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PARALLELISM);
+        // Akka HTTP never pipelines non-idempotent requests; do not let them queue up in front of busy connections
+        final int pipeliningLimit = hasOnlyIdempotentTargets(connection)
+                ? parsePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PIPELINING_LIMIT)
+                : 1;
 
         final HttpsConnectionContext httpsConnectionContext;
         if (HttpPushValidator.isSecureScheme(baseUri.getScheme())) {
@@ -96,7 +103,8 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             httpsConnectionContext = null;
         }
 
-        return new DefaultHttpPushFactory(connectionId, baseUri, parallelism, httpPushConfig, httpsConnectionContext);
+        return new DefaultHttpPushFactory(connectionId, baseUri, parallelism, pipeliningLimit, httpPushConfig,
+                httpsConnectionContext);
     }
 
     @Override
@@ -159,19 +167,28 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             flow = http.<T>cachedHostConnectionPool(ConnectHttp.toHost(baseUri), poolSettings, log);
         }
 
-        // make requests in parallel
-        return Flow.<Pair<HttpRequest, T>>create().flatMapMerge(parallelism, request ->
+        // make requests in parallel; each connection of the pool accepts up to pipeliningLimit requests at once
+        return Flow.<Pair<HttpRequest, T>>create().flatMapMerge(getMaxInFlightRequests(), request ->
                 TimeoutFlow.single(request, flow, requestTimeout, DefaultHttpPushFactory::onRequestTimeout));
     }
 
-    private ConnectionPoolSettings getConnectionPoolSettings(final ActorSystem system) {
-        final ConnectionPoolSettings settings =
-                disambiguateByConnectionId(system, connectionId).withMaxConnections(parallelism);
+    ConnectionPoolSettings getConnectionPoolSettings(final ActorSystem system) {
+        final ConnectionPoolSettings defaultSettings = disambiguateByConnectionId(system, connectionId);
+        // the pool rejects requests beyond max-open-requests with a BufferOverflowException
+        final int maxOpenRequests =
+                Math.max(defaultSettings.getMaxOpenRequests(), ceilPowerOfTwo(getMaxInFlightRequests()));
+        final ConnectionPoolSettings settings = defaultSettings.withMaxConnections(parallelism)
+                .withPipeliningLimit(pipeliningLimit)
+                .withMaxOpenRequests(maxOpenRequests);
         return clientTransport == null
                 ? settings
                 : settings.withTransport(clientTransport);
     }
 
+    private int getMaxInFlightRequests() {
+        return parallelism * pipeliningLimit;
+    }
+
     private static <T> Pair<Try<HttpResponse>, T> onRequestTimeout(final Pair<HttpRequest, T> requestPair) {
         final Try<HttpResponse> failure =
                 new Failure<>(new TimeoutException("Request timed out: " + requestPair.first().getUri()));
@@ -200,8 +217,18 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
                         .withParserSettings(parserSettings.withHeaderValueCacheLimits(disambiguator)));
     }
 
-    private static int parseParallelism(final Map<String, String> specificConfig) {
-        return Optional.ofNullable(specificConfig.get(HttpPushFactory.PARALLELISM))
+    private static boolean hasOnlyIdempotentTargets(final Connection connection) {
+        return connection.getTargets()
+                .stream()
+                .allMatch(target -> HttpPublishTarget.of(target.getAddress()).getMethod().isIdempotent());
+    }
+
+    private static int ceilPowerOfTwo(final int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private static int parsePositiveInt(final Map<String, String> specificConfig, final String key) {
+        return Optional.ofNullable(specificConfig.get(key))
                 .map(Integer::valueOf)
                 .orElse(1);
     }
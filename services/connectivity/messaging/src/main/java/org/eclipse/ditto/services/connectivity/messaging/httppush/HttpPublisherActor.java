@@ -22,6 +22,7 @@ import java.util.Base64;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -121,6 +122,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private final Materializer materializer;
     private final SourceQueue<Pair<HttpRequest, HttpPushContext>> sourceQueue;
     private final KillSwitch killSwitch;
+    private final boolean batching;
 
     @SuppressWarnings("unused")
     private HttpPublisherActor(final Connection connection, final HttpPushFactory factory, final String clientId) {
@@ -128,9 +130,13 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         this.factory = factory;
         materializer = Materializer.createMaterializer(this::getContext);
         final HttpPushConfig config = connectionConfig.getHttpPushConfig();
+        final Optional<HttpPushBatching> httpPushBatching =
+                HttpPushBatching.fromSpecificConfig(connection.getSpecificConfig(), READ_BODY_TIMEOUT_MS);
+        batching = httpPushBatching.isPresent();
         final Pair<Pair<SourceQueueWithComplete<Pair<HttpRequest, HttpPushContext>>, UniqueKillSwitch>,
                 CompletionStage<Done>> materialized =
                 Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
+                        .viaMat(httpPushBatching.map(b -> b.flow(materializer)).orElseGet(Flow::create), Keep.left())
                         .viaMat(buildHttpRequestFlow(config), Keep.left())
                         .viaMat(KillSwitches.single(), Keep.both())
                         .toMat(Sink.foreach(HttpPublisherActor::processResponse), Keep.both())
@@ -205,7 +211,10 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final HttpRequest request = createRequest(publishTarget, message);
         final HttpPushContext context = newContext(signal, autoAckTarget, request, message, maxTotalMessageSize,
                 ackSizeQuota, resultFuture);
-        sourceQueue.offer(Pair.create(request, context))
+        // live messages expect their own response and are never combined with other requests
+        final HttpPushContext contextToUse =
+                batching && !(signal instanceof MessageCommand) ? HttpPushContext.batchable(context) : context;
+        sourceQueue.offer(Pair.create(request, contextToUse))
                 .handle(handleQueueOfferResult(message, resultFuture));
         return resultFuture;
     }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Flow;
+import akka.util.ByteString;
+import scala.util.Failure;
+import scala.util.Success;
+
+/**
+ * Combines HTTP requests with identical method, URI, headers and JSON content type which are published within a
+ * configured latency into one request whose body is a JSON array or newline delimited JSON of the single bodies.
+ * All contexts of a combined request are completed with the response to the combined request.
+ * <p>
+ * Headers which differ for each message, e.g. the correlation ID mapped by the default header mapping of targets, are
+ * ignored when comparing requests and are not sent with combined requests. The bodies of the single requests still
+ * contain them if the payload mapping includes headers, like the Ditto protocol does.
+ * </p>
+ */
+final class HttpPushBatching {
+
+    /**
+     * Value of {@link HttpPushFactory#BATCH_FORMAT} to combine request bodies into a JSON array.
+     */
+    static final String JSON_ARRAY = "json-array";
+
+    /**
+     * Value of {@link HttpPushFactory#BATCH_FORMAT} to combine request bodies into newline delimited JSON.
+     */
+    static final String NDJSON = "ndjson";
+
+    private static final ContentType NDJSON_CONTENT_TYPE = ContentTypes.parse("application/x-ndjson");
+    private static final ByteString NEWLINE = ByteString.fromString("\n");
+    private static final ByteString COMMA = ByteString.fromString(",");
+    private static final ByteString ARRAY_START = ByteString.fromString("[");
+    private static final ByteString ARRAY_END = ByteString.fromString("]");
+    private static final long DEFAULT_MAX_LATENCY_MS = 100L;
+
+    /**
+     * Lower case names of headers which differ for each message.
+     */
+    private static final Set<String> PER_MESSAGE_HEADERS = Set.of(DittoHeaderDefinition.CORRELATION_ID.getKey());
+
+    private final int batchSize;
+    private final Duration maxLatency;
+    private final boolean ndjson;
+    private final long readBodyTimeoutMs;
+
+    private HttpPushBatching(final int batchSize, final Duration maxLatency, final boolean ndjson,
+            final long readBodyTimeoutMs) {
+
+        this.batchSize = batchSize;
+        this.maxLatency = maxLatency;
+        this.ndjson = ndjson;
+        this.readBodyTimeoutMs = readBodyTimeoutMs;
+    }
+
+    /**
+     * Create the batching of a connection from its valid specific config.
+     *
+     * @param specificConfig the specific config of the connection.
+     * @param readBodyTimeoutMs how long to wait for the body of the response to a combined request.
+     * @return the batching or an empty optional if the connection does not combine requests.
+     */
+    static Optional<HttpPushBatching> fromSpecificConfig(final Map<String, String> specificConfig,
+            final long readBodyTimeoutMs) {
+
+        final int batchSize = Optional.ofNullable(specificConfig.get(HttpPushFactory.BATCH_SIZE))
+                .map(Integer::valueOf)
+                .orElse(1);
+        if (batchSize <= 1) {
+            return Optional.empty();
+        }
+        final Duration maxLatency = Duration.ofMillis(
+                Optional.ofNullable(specificConfig.get(HttpPushFactory.BATCH_MAX_LATENCY_MS))
+                        .map(Long::valueOf)
+                        .orElse(DEFAULT_MAX_LATENCY_MS));
+        final boolean ndjson = NDJSON.equals(specificConfig.get(HttpPushFactory.BATCH_FORMAT));
+        return Optional.of(new HttpPushBatching(batchSize, maxLatency, ndjson, readBodyTimeoutMs));
+    }
+
+    /**
+     * Create a flow combining the requests of batchable contexts.
+     * Requests of contexts which are not batchable pass the flow unchanged, but may wait up to the maximum latency.
+     *
+     * @param materializer materializer to read the body of responses to combined requests with.
+     * @return the flow.
+     */
+    Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> flow(
+            final Materializer materializer) {
+
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .groupedWithin(batchSize, maxLatency)
+                .mapConcat(group -> combine(group, materializer));
+    }
+
+    private List<Pair<HttpRequest, HttpPushContext>> combine(final List<Pair<HttpRequest, HttpPushContext>> group,
+            final Materializer materializer) {
+
+        final Map<Object, List<Pair<HttpRequest, HttpPushContext>>> batches = new LinkedHashMap<>();
+        for (final Pair<HttpRequest, HttpPushContext> pair : group) {
+            final Object batchKey = getBatchKey(pair);
+            batches.computeIfAbsent(batchKey != null ? batchKey : new Object(), k -> new ArrayList<>()).add(pair);
+        }
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>(batches.size());
+        for (final List<Pair<HttpRequest, HttpPushContext>> batch : batches.values()) {
+            result.add(batch.size() == 1 ? batch.get(0) : toCombinedRequest(batch, materializer));
+        }
+        return result;
+    }
+
+    @Nullable
+    private Object getBatchKey(final Pair<HttpRequest, HttpPushContext> pair) {
+        final HttpRequest request = pair.first();
+        if (!pair.second().isBatchable() || !(request.entity() instanceof HttpEntity.Strict)) {
+            return null;
+        }
+        final HttpEntity.Strict entity = (HttpEntity.Strict) request.entity();
+        final org.eclipse.ditto.model.base.headers.contenttype.ContentType contentType =
+                org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(entity.getContentType().toString());
+        if (!contentType.isJson() || (ndjson && containsNewline(entity.getData()))) {
+            return null;
+        }
+        final List<Object> batchKey = new ArrayList<>();
+        batchKey.add(request.method());
+        batchKey.add(request.getUri());
+        batchKey.add(entity.getContentType());
+        for (final HttpHeader header : request.getHeaders()) {
+            if (!isPerMessageHeader(header)) {
+                batchKey.add(header);
+            }
+        }
+        return batchKey;
+    }
+
+    private static boolean isPerMessageHeader(final HttpHeader header) {
+        return PER_MESSAGE_HEADERS.contains(header.lowercaseName());
+    }
+
+    private static boolean containsNewline(final ByteString data) {
+        for (int i = 0; i < data.size(); ++i) {
+            if (data.apply(i) == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Pair<HttpRequest, HttpPushContext> toCombinedRequest(
+            final List<Pair<HttpRequest, HttpPushContext>> batch, final Materializer materializer) {
+
+        final HttpRequest firstRequest = batch.get(0).first();
+        final List<HttpPushContext> contexts = new ArrayList<>(batch.size());
+        ByteString body = ndjson ? ByteString.emptyByteString() : ARRAY_START;
+        for (int i = 0; i < batch.size(); ++i) {
+            final Pair<HttpRequest, HttpPushContext> pair = batch.get(i);
+            final ByteString data = ((HttpEntity.Strict) pair.first().entity()).getData();
+            if (ndjson) {
+                body = body.concat(data).concat(NEWLINE);
+            } else {
+                body = (i == 0 ? body : body.concat(COMMA)).concat(data);
+            }
+            contexts.add(pair.second());
+        }
+        final ContentType contentType = ndjson ? NDJSON_CONTENT_TYPE : firstRequest.entity().getContentType();
+        HttpRequest combinedRequest =
+                firstRequest.withEntity(HttpEntities.create(contentType, ndjson ? body : body.concat(ARRAY_END)));
+        for (final HttpHeader header : firstRequest.getHeaders()) {
+            if (isPerMessageHeader(header)) {
+                combinedRequest = combinedRequest.removeHeader(header.name());
+            }
+        }
+        return Pair.create(combinedRequest, newCombinedContext(contexts, materializer));
+    }
+
+    private HttpPushContext newCombinedContext(final List<HttpPushContext> contexts,
+            final Materializer materializer) {
+
+        return tryResponse -> {
+            if (tryResponse.isFailure()) {
+                contexts.forEach(context -> context.onResponse(tryResponse));
+            } else {
+                // the response entity is read by each context and must therefore be strict
+                final HttpResponse response = tryResponse.get();
+                response.entity()
+                        .toStrict(readBodyTimeoutMs, materializer)
+                        .whenComplete((strictEntity, error) -> contexts.forEach(context -> context.onResponse(
+                                error != null
+                                        ? new Failure<>(error)
+                                        : new Success<>(response.withEntity(strictEntity)))));
+            }
+        };
+    }
+
+}
@@ -25,4 +25,31 @@ import scala.util.Try;
 interface HttpPushContext {
 
     void onResponse(final Try<HttpResponse> response);
+
+    /**
+     * @return whether the request of this context may be combined with other requests into one request.
+     */
+    default boolean isBatchable() {
+        return false;
+    }
+
+    /**
+     * Mark a context as batchable so that it accepts the response to a combined request as its own response.
+     *
+     * @param context the context.
+     * @return the batchable context.
+     */
+    static HttpPushContext batchable(final HttpPushContext context) {
+        return new HttpPushContext() {
+            @Override
+            public void onResponse(final Try<HttpResponse> response) {
+                context.onResponse(response);
+            }
+
+            @Override
+            public boolean isBatchable() {
+                return true;
+            }
+        };
+    }
 }
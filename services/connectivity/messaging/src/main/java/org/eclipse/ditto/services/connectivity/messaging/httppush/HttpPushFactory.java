@@ -36,6 +36,27 @@ public interface HttpPushFactory {
      */
     String PARALLELISM = "parallelism";
 
+    /**
+     * Specific config name for the maximum amount of requests to send over one TCP connection without waiting for
+     * their responses (HTTP pipelining). Ignored unless all targets use idempotent methods.
+     */
+    String PIPELINING_LIMIT = "pipeliningLimit";
+
+    /**
+     * Specific config name for the maximum amount of messages to combine into one HTTP request.
+     */
+    String BATCH_SIZE = "batchSize";
+
+    /**
+     * Specific config name for the maximum time in milliseconds a message waits for others to be combined with.
+     */
+    String BATCH_MAX_LATENCY_MS = "batchMaxLatencyMs";
+
+    /**
+     * Specific config name for the format of combined request bodies: {@code json-array} or {@code ndjson}.
+     */
+    String BATCH_FORMAT = "batchFormat";
+
     /**
      * Create a request template without headers or payload for an HTTP publish target.
      * Published external messages set the headers and payload.
@@ -54,6 +54,13 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
             .map(HttpMethod::name)
             .collect(Collectors.joining(", "));
 
+    private static final Collection<String> POSITIVE_INTEGER_SPECIFIC_CONFIGS = Collections.unmodifiableList(
+            Arrays.asList(HttpPushFactory.PARALLELISM, HttpPushFactory.PIPELINING_LIMIT, HttpPushFactory.BATCH_SIZE,
+                    HttpPushFactory.BATCH_MAX_LATENCY_MS));
+
+    private static final Collection<String> BATCH_FORMATS =
+            Collections.unmodifiableList(Arrays.asList(HttpPushBatching.JSON_ARRAY, HttpPushBatching.NDJSON));
+
     /**
      * Create a new validator for http-push connections.
      *
@@ -74,7 +81,7 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateSourceConfigs(connection, dittoHeaders);
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
-        validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        validateSpecificConfig(connection.getSpecificConfig(), dittoHeaders);
     }
 
     @Override
@@ -126,28 +133,33 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
-    private void validateParallelism(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
-
-        final String parallelismString = specificConfig.get(HttpPushFactory.PARALLELISM);
-        if (parallelismString != null) {
-            try {
-                final int parallelism = Integer.parseInt(parallelismString);
-                if (parallelism <= 0) {
-                    throw parallelismValidationFailed(parallelismString, dittoHeaders);
-                }
-            } catch (final NumberFormatException e) {
-                throw parallelismValidationFailed(parallelismString, dittoHeaders);
+    private void validateSpecificConfig(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
+        for (final String key : POSITIVE_INTEGER_SPECIFIC_CONFIGS) {
+            final String value = specificConfig.get(key);
+            if (value != null && !isPositiveInteger(value)) {
+                throw specificConfigValidationFailed(key, value, "It must be a positive integer.", dittoHeaders);
             }
         }
+        final String batchFormat = specificConfig.get(HttpPushFactory.BATCH_FORMAT);
+        if (batchFormat != null && !BATCH_FORMATS.contains(batchFormat)) {
+            throw specificConfigValidationFailed(HttpPushFactory.BATCH_FORMAT, batchFormat,
+                    "It must be one of: " + String.join(", ", BATCH_FORMATS), dittoHeaders);
+        }
     }
 
-    private static ConnectionConfigurationInvalidException parallelismValidationFailed(final String parallelismString,
-            final DittoHeaders headers) {
+    private static boolean isPositiveInteger(final String value) {
+        try {
+            return Integer.parseInt(value) > 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static ConnectionConfigurationInvalidException specificConfigValidationFailed(final String key,
+            final String value, final String expectation, final DittoHeaders headers) {
 
-        final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
-                        "It must be a positive integer.",
-                parallelismString,
-                HttpPushFactory.PARALLELISM);
+        final String errorMessage =
+                String.format("The configured value '%s' of '%s' is invalid. %s", value, key, expectation);
         return ConnectionConfigurationInvalidException.newBuilder(errorMessage)
                 .dittoHeaders(headers)
                 .build();
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -48,6 +50,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -63,8 +67,10 @@ public final class KafkaClientActor extends BaseClientActor {
         final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory =
                 DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig, getClientId(connection.getId()));
+        this.kafkaConfig = kafkaConfig;
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -154,7 +160,7 @@ public final class KafkaClientActor extends BaseClientActor {
 
         // start publisher
         startKafkaPublisher(dryRun, connectionId, correlationId);
-        // no command consumers as we don't support consuming from sources yet
+        // consumers are started once the client is connected
     }
 
     private void startKafkaPublisher(final boolean dryRun, final ConnectionId connectionId,
@@ -170,10 +176,39 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(@Nullable final ClientConnected clientConnected) {
+        if (!isDryRun()) {
+            startKafkaConsumers();
+        }
+        return super.startConsumerActors(clientConnected);
+    }
+
+    private void startKafkaConsumers() {
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        getSourcesOrEmptyList().forEach(source -> {
+            for (int i = 0; i < source.getConsumerCount(); i++) {
+                final String consumerName = "consumer-" + source.getIndex() + "-" + i;
+                logger.info("Starting Kafka consumer <{}> of topics <{}>.", consumerName, source.getAddresses());
+                final Props consumerActorProps = KafkaConsumerActor.props(connection(), connectionFactory,
+                        kafkaConfig, source, getInboundMappingProcessorActor(), consumerName);
+                kafkaConsumerActors.add(startChildActorConflictFree(
+                        KafkaConsumerActor.ACTOR_NAME_PREFIX + consumerName, consumerActorProps));
+            }
+        });
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
         stopPublisherActor();
+        stopConsumerActors();
+    }
+
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
     }
 
     @Override
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Keeps track of the offsets of records of a Kafka consumer which were received and acknowledged.
+ * <p>
+ * Records may be acknowledged in any order. The committable offset of a partition only advances over records which
+ * were acknowledged together with all records received before them from the same partition, so that no
+ * unacknowledged record is skipped when the consumer is restarted from the committed offsets.
+ * </p>
+ */
+@ThreadSafe
+final class KafkaCommittableOffsets {
+
+    private final Map<TopicPartition, PartitionOffsets> partitionOffsets;
+    private int acknowledgedSinceLastPoll;
+
+    KafkaCommittableOffsets() {
+        partitionOffsets = new HashMap<>();
+        acknowledgedSinceLastPoll = 0;
+    }
+
+    /**
+     * Tracks a received record. Records of the same partition must be tracked in the order of their offsets.
+     *
+     * @param topicPartition the partition of the record.
+     * @param offset the offset of the record.
+     */
+    synchronized void track(final TopicPartition topicPartition, final long offset) {
+        partitionOffsets.computeIfAbsent(topicPartition, tp -> new PartitionOffsets()).track(offset);
+    }
+
+    /**
+     * Acknowledges a tracked record. Records of revoked partitions are ignored.
+     *
+     * @param topicPartition the partition of the record.
+     * @param offset the offset of the record.
+     */
+    synchronized void acknowledge(final TopicPartition topicPartition, final long offset) {
+        final PartitionOffsets offsets = partitionOffsets.get(topicPartition);
+        if (null != offsets && offsets.acknowledge(offset)) {
+            ++acknowledgedSinceLastPoll;
+        }
+    }
+
+    /**
+     * Returns how many records were acknowledged since committable offsets were last polled.
+     *
+     * @return the number of acknowledged records.
+     */
+    synchronized int getAcknowledgedSinceLastPoll() {
+        return acknowledgedSinceLastPoll;
+    }
+
+    /**
+     * Returns the offsets to commit for all partitions whose committable offset advanced since the last poll.
+     *
+     * @return the offsets to commit, i.e. the offsets of the next records to consume.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> pollCommittableOffsets() {
+        acknowledgedSinceLastPoll = 0;
+        final Map<TopicPartition, OffsetAndMetadata> result = new HashMap<>();
+        partitionOffsets.forEach((topicPartition, offsets) -> {
+            final long nextOffset = offsets.advance();
+            if (nextOffset >= 0) {
+                result.put(topicPartition, new OffsetAndMetadata(nextOffset));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stops tracking the records of partitions which are no longer assigned to the consumer.
+     *
+     * @param topicPartitions the revoked partitions.
+     */
+    synchronized void revoke(final Collection<TopicPartition> topicPartitions) {
+        topicPartitions.forEach(partitionOffsets::remove);
+    }
+
+    private static final class PartitionOffsets {
+
+        // offsets of the received records in the order of receiving which were not committable at the last poll
+        private final Queue<Long> received = new ArrayDeque<>();
+        // offsets of the received records which were not acknowledged yet; looked up on each acknowledgement
+        private final Set<Long> unacknowledged = new HashSet<>();
+
+        private void track(final long offset) {
+            received.add(offset);
+            unacknowledged.add(offset);
+        }
+
+        private boolean acknowledge(final long offset) {
+            return unacknowledged.remove(offset);
+        }
+
+        /**
+         * Removes all acknowledged records at the head of the received records.
+         *
+         * @return the offset after the last removed record or -1 if no record was removed.
+         */
+        private long advance() {
+            long nextOffset = -1L;
+            while (!received.isEmpty() && !unacknowledged.contains(received.peek())) {
+                nextOffset = received.remove() + 1L;
+            }
+            return nextOffset;
+        }
+
+    }
+
+}
@@ -12,11 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -32,5 +33,14 @@ interface KafkaConnectionFactory {
      *
      * @return the producer.
      */
-    Producer<String, String> newProducer();
+    Producer<String, byte[]> newProducer();
+
+    /**
+     * Create a consumer of Kafka messages. The consumer belongs to the consumer group of the connection and does not
+     * commit offsets automatically.
+     *
+     * @param consumerName name of the consumer which is unique within the client of the connection.
+     * @return the consumer.
+     */
+    Consumer<String, byte[]> newConsumer(String consumerName);
 }
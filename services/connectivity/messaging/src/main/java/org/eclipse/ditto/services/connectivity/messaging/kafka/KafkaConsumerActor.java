@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.common.CharsetDeterminer;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectivityMdcEntryKey;
+import org.eclipse.ditto.services.models.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.SharedKillSwitch;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor which consumes records of the topics of a Kafka source and forwards them to the
+ * {@code InboundMappingProcessorActor}.
+ * <p>
+ * The records are polled by a stream which pauses the assigned partitions while
+ * {@link KafkaConfig#getConsumerMaxInFlight()} records are in flight, see {@link KafkaConsumerSession}. The offsets of
+ * acknowledged records are committed in batches. The consumer belongs to the consumer group of the connection, thus
+ * the partitions of the topics are distributed among all consumers of the connection. If the redelivery of a record is
+ * required, the consumer is restarted from the last committed offsets.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+    static final String KAFKA_PARTITION_HEADER = "kafka.partition";
+    static final String KAFKA_OFFSET_HEADER = "kafka.offset";
+
+    private static final String CONTENT_TYPE_APPLICATION_OCTET_STREAM = "application/octet-stream";
+    private static final String RESTART_TIMER_KEY = "restartConsumerStream";
+
+    private final ThreadSafeDittoLoggingAdapter log;
+    private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final String consumerName;
+    private final Materializer materializer;
+    @Nullable
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final PayloadMapping payloadMapping;
+
+    @Nullable private SharedKillSwitch killSwitch;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final Connection connection, final KafkaConnectionFactory connectionFactory,
+            final KafkaConfig kafkaConfig, final Source source, final ActorRef inboundMappingProcessor,
+            final String consumerName) {
+
+        super(connection, String.join(";", source.getAddresses()), inboundMappingProcessor, source);
+        log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this)
+                .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID.toString(), connectionId);
+        this.connectionFactory = connectionFactory;
+        this.kafkaConfig = kafkaConfig;
+        this.consumerName = consumerName;
+        materializer = Materializer.createMaterializer(this::getContext);
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(enforcement -> EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+        payloadMapping = source.getPayloadMapping();
+        killSwitch = null;
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connection the connection the source belongs to.
+     * @param connectionFactory the factory to create the Kafka consumer with.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @param source the source to consume.
+     * @param inboundMappingProcessor the actor to forward the consumed messages to.
+     * @param consumerName name of the consumer which is unique within the client of the connection.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final Connection connection, final KafkaConnectionFactory connectionFactory,
+            final KafkaConfig kafkaConfig, final Source source, final ActorRef inboundMappingProcessor,
+            final String consumerName) {
+
+        return Props.create(KafkaConsumerActor.class, connection, connectionFactory, kafkaConfig, source,
+                inboundMappingProcessor, consumerName);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        startConsumerStream();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        stopConsumerStream();
+        super.postStop();
+    }
+
+    @Override
+    protected ThreadSafeDittoLoggingAdapter log() {
+        return log;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ConsumedRecord.class, this::handleConsumedRecord)
+                .match(ConsumerStreamTerminated.class, this::handleConsumerStreamTerminated)
+                .matchEquals(Control.RESTART_CONSUMER_STREAM, restart -> startConsumerStream())
+                .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void startConsumerStream() {
+        stopConsumerStream();
+        log.info("Starting to consume topics <{}>.", source.getAddresses());
+        final SharedKillSwitch currentKillSwitch = KillSwitches.shared(ACTOR_NAME_PREFIX + consumerName);
+        final ActorRef self = getSelf();
+        // the sink never backpressures the polls; the session pauses its partitions instead
+        final CompletionStage<Done> terminated =
+                akka.stream.javadsl.Source.unfoldResource(
+                        () -> KafkaConsumerSession.subscribe(connectionFactory.newConsumer(consumerName),
+                                source.getAddresses(), kafkaConfig, log),
+                        session -> Optional.of(toConsumedRecords(session, session.poll())),
+                        KafkaConsumerSession::close)
+                        .mapConcat(records -> records)
+                        .via(currentKillSwitch.flow())
+                        .runWith(Sink.foreach(consumedRecord -> {
+                            consumedRecord.acknowledged.thenAccept(isAcknowledged -> {
+                                if (isAcknowledged) {
+                                    consumedRecord.session.acknowledge(consumedRecord.record);
+                                } else {
+                                    currentKillSwitch.abort(new RedeliveryRequiredException(consumedRecord.record));
+                                }
+                            });
+                            self.tell(consumedRecord, ActorRef.noSender());
+                        }), materializer);
+
+        killSwitch = currentKillSwitch;
+        terminated.whenComplete((done, error) ->
+                self.tell(new ConsumerStreamTerminated(currentKillSwitch, error), ActorRef.noSender()));
+        resetResourceStatus();
+    }
+
+    private static List<ConsumedRecord> toConsumedRecords(final KafkaConsumerSession session,
+            final ConsumerRecords<String, byte[]> records) {
+
+        final List<ConsumedRecord> consumedRecords = new ArrayList<>(records.count());
+        for (final ConsumerRecord<String, byte[]> record : records) {
+            consumedRecords.add(new ConsumedRecord(session, record));
+        }
+        return consumedRecords;
+    }
+
+    private void stopConsumerStream() {
+        if (null != killSwitch) {
+            killSwitch.shutdown();
+            killSwitch = null;
+        }
+    }
+
+    private void handleConsumerStreamTerminated(final ConsumerStreamTerminated terminated) {
+        if (terminated.killSwitch != killSwitch) {
+            // a previous stream terminated after it was replaced
+            return;
+        }
+        killSwitch = null;
+        final Duration restartDelay = kafkaConfig.getConsumerRestartDelay();
+        @Nullable final Throwable error = terminated.error;
+        if (isRedeliveryRequired(error)) {
+            log.info("Restarting consumer in <{}> to receive unacknowledged records again: {}", restartDelay,
+                    error.getMessage());
+        } else {
+            final String description = null != error ? error.getMessage() : "Consumer stream completed";
+            log.warning("Restarting consumer in <{}> after failure: {}", restartDelay, description);
+            handleAddressStatus(ConnectivityModelFactory.newStatusUpdate(
+                    InstanceIdentifierSupplier.getInstance().get(),
+                    ConnectivityStatus.FAILED,
+                    sourceAddress,
+                    "Consumer failed: " + description,
+                    Instant.now()));
+        }
+        timers().startSingleTimer(RESTART_TIMER_KEY, Control.RESTART_CONSUMER_STREAM, restartDelay);
+    }
+
+    private static boolean isRedeliveryRequired(@Nullable final Throwable error) {
+        return error instanceof RedeliveryRequiredException ||
+                error instanceof CompletionException && error.getCause() instanceof RedeliveryRequiredException;
+    }
+
+    private void handleConsumedRecord(final ConsumedRecord consumedRecord) {
+        final ConsumerRecord<String, byte[]> record = consumedRecord.record;
+        final CompletableFuture<Boolean> acknowledged = consumedRecord.acknowledged;
+        Map<String, String> headers = null;
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Received record from Kafka topic <{}> partition <{}> at offset <{}>: {}", record.topic(),
+                        record.partition(), record.offset(), record.value() != null
+                                ? new String(record.value(), StandardCharsets.UTF_8) : null);
+            }
+            headers = extractHeadersFromRecord(record);
+            final ExternalMessage externalMessage = toExternalMessage(record, headers);
+            inboundMonitor.success(externalMessage);
+
+            forwardToMappingActor(externalMessage,
+                    () -> {
+                        inboundAcknowledgedMonitor.success(externalMessage,
+                                "Marking offset {0} of partition {1} of topic {2} as committable.",
+                                String.valueOf(record.offset()), String.valueOf(record.partition()), record.topic());
+                        acknowledged.complete(true);
+                    },
+                    redeliver -> {
+                        if (redeliver) {
+                            inboundAcknowledgedMonitor.exception(externalMessage,
+                                    "Restarting consumer for redelivery of offset {0} of partition {1} of topic " +
+                                            "{2} due to unfulfilled acknowledgements.",
+                                    String.valueOf(record.offset()), String.valueOf(record.partition()),
+                                    record.topic());
+                            acknowledged.complete(false);
+                        } else {
+                            inboundAcknowledgedMonitor.exception(externalMessage,
+                                    "Unfulfilled acknowledgements are present, but redelivery was not requested.");
+                            acknowledged.complete(true);
+                        }
+                    });
+        } catch (final DittoRuntimeException e) {
+            log.warning("Processing record of topic <{}> at offset <{}> failed: {}", record.topic(),
+                    record.offset(), e.getMessage());
+            if (headers != null) {
+                // send response if headers were extracted successfully
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+                inboundMonitor.failure(headers, e);
+            } else {
+                inboundMonitor.failure(e);
+            }
+            acknowledged.complete(true);
+        } catch (final Exception e) {
+            log.warning("Processing record of topic <{}> at offset <{}> failed: {}", record.topic(),
+                    record.offset(), e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+            acknowledged.complete(true);
+        }
+    }
+
+    private ExternalMessage toExternalMessage(final ConsumerRecord<String, byte[]> record,
+            final Map<String, String> headers) {
+
+        final byte[] value = null != record.value() ? record.value() : new byte[0];
+        final ExternalMessageBuilder externalMessageBuilder = ExternalMessageFactory.newExternalMessageBuilder(headers);
+        final String contentType = headers.get(ExternalMessage.CONTENT_TYPE_HEADER);
+        if (shouldBeInterpretedAsBytes(contentType)) {
+            externalMessageBuilder.withBytes(value);
+        } else {
+            final String text = new String(value, CharsetDeterminer.getInstance().apply(contentType));
+            externalMessageBuilder.withTextAndBytes(text, value);
+        }
+        externalMessageBuilder.withAuthorizationContext(source.getAuthorizationContext());
+        if (headerEnforcementFilterFactory != null) {
+            externalMessageBuilder.withEnforcement(headerEnforcementFilterFactory.getFilter(headers));
+        }
+        externalMessageBuilder.withHeaderMapping(source.getHeaderMapping().orElse(null));
+        externalMessageBuilder.withSourceAddress(sourceAddress);
+        externalMessageBuilder.withPayloadMapping(payloadMapping);
+        return externalMessageBuilder.build();
+    }
+
+    private static boolean shouldBeInterpretedAsBytes(@Nullable final String contentType) {
+        return contentType != null && contentType.startsWith(CONTENT_TYPE_APPLICATION_OCTET_STREAM);
+    }
+
+    private static Map<String, String> extractHeadersFromRecord(final ConsumerRecord<String, byte[]> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (null != header.value()) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, record.topic());
+        if (null != record.key()) {
+            headers.put(KAFKA_KEY_HEADER, record.key());
+        }
+        headers.put(KAFKA_PARTITION_HEADER, String.valueOf(record.partition()));
+        headers.put(KAFKA_OFFSET_HEADER, String.valueOf(record.offset()));
+        return headers;
+    }
+
+    private static final class ConsumedRecord {
+
+        private final KafkaConsumerSession session;
+        private final ConsumerRecord<String, byte[]> record;
+        private final CompletableFuture<Boolean> acknowledged;
+
+        private ConsumedRecord(final KafkaConsumerSession session, final ConsumerRecord<String, byte[]> record) {
+            this.session = session;
+            this.record = record;
+            acknowledged = new CompletableFuture<>();
+        }
+
+    }
+
+    private static final class ConsumerStreamTerminated {
+
+        private final SharedKillSwitch killSwitch;
+        @Nullable private final Throwable error;
+
+        private ConsumerStreamTerminated(final SharedKillSwitch killSwitch, @Nullable final Throwable error) {
+            this.killSwitch = killSwitch;
+            this.error = error;
+        }
+
+    }
+
+    private static final class RedeliveryRequiredException extends RuntimeException {
+
+        private static final long serialVersionUID = 2364389617343213046L;
+
+        private RedeliveryRequiredException(final ConsumerRecord<?, ?> record) {
+            super("Redelivery of offset " + record.offset() + " of partition " + record.partition() + " of topic " +
+                    record.topic() + " required.", null, false, false);
+        }
+
+    }
+
+    private enum Control {
+        RESTART_CONSUMER_STREAM
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+
+/**
+ * A Kafka consumer subscribed to the topics of a source.
+ * <p>
+ * The consumer is polled continuously, independent of how fast the consumed records are processed, so that the
+ * consumer stays in its group and the offsets of acknowledged records are committed in time. While
+ * {@link KafkaConfig#getConsumerMaxInFlight()} records are in flight, the assigned partitions are paused.
+ * </p>
+ * <p>
+ * All methods except {@link #acknowledge(ConsumerRecord)} must be called by the same thread or sequentially, because
+ * the Kafka consumer must not be accessed concurrently.
+ * </p>
+ */
+@NotThreadSafe
+final class KafkaConsumerSession implements ConsumerRebalanceListener {
+
+    private final Consumer<String, byte[]> consumer;
+    private final ThreadSafeDittoLoggingAdapter log;
+    private final KafkaCommittableOffsets offsets;
+    private final AtomicInteger inFlight;
+    private final Duration pollTimeout;
+    private final long commitIntervalNanos;
+    private final int commitBatchSize;
+    private final int maxInFlight;
+    private long nextCommitNanos;
+    private boolean paused;
+
+    private KafkaConsumerSession(final Consumer<String, byte[]> consumer,
+            final Collection<String> topics,
+            final KafkaConfig kafkaConfig,
+            final ThreadSafeDittoLoggingAdapter log) {
+
+        this.consumer = consumer;
+        this.log = log;
+        offsets = new KafkaCommittableOffsets();
+        inFlight = new AtomicInteger();
+        pollTimeout = kafkaConfig.getConsumerPollTimeout();
+        commitIntervalNanos = kafkaConfig.getConsumerCommitInterval().toNanos();
+        commitBatchSize = kafkaConfig.getConsumerCommitBatchSize();
+        maxInFlight = kafkaConfig.getConsumerMaxInFlight();
+        nextCommitNanos = System.nanoTime() + commitIntervalNanos;
+        paused = false;
+        consumer.subscribe(topics, this);
+    }
+
+    /**
+     * Subscribes a consumer to topics.
+     *
+     * @param consumer the consumer which does not commit offsets automatically. It is closed with the session.
+     * @param topics the topics to subscribe to.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @param log the logger.
+     * @return the session.
+     */
+    static KafkaConsumerSession subscribe(final Consumer<String, byte[]> consumer,
+            final Collection<String> topics,
+            final KafkaConfig kafkaConfig,
+            final ThreadSafeDittoLoggingAdapter log) {
+
+        return new KafkaConsumerSession(consumer, topics, kafkaConfig, log);
+    }
+
+    /**
+     * Commits the offsets of acknowledged records if due, pauses or resumes the assigned partitions depending on the
+     * records in flight and polls new records. Each of the returned records must be acknowledged once it is
+     * processed.
+     *
+     * @return the polled records, which are empty while the partitions are paused.
+     */
+    ConsumerRecords<String, byte[]> poll() {
+        commitIfDue();
+        pauseOrResume();
+        final ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+        for (final ConsumerRecord<String, byte[]> record : records) {
+            offsets.track(new TopicPartition(record.topic(), record.partition()), record.offset());
+        }
+        inFlight.addAndGet(records.count());
+        return records;
+    }
+
+    /**
+     * Acknowledges a polled record so that its offset is committed once all earlier records of its partition are
+     * acknowledged. May be called by any thread.
+     *
+     * @param record the processed record.
+     */
+    void acknowledge(final ConsumerRecord<?, ?> record) {
+        offsets.acknowledge(new TopicPartition(record.topic(), record.partition()), record.offset());
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Commits the offsets of acknowledged records and closes the consumer. Unacknowledged records are consumed again
+     * by the next consumer of their partitions.
+     */
+    void close() {
+        try {
+            commitSync();
+        } finally {
+            consumer.close();
+        }
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+        // commit before the partitions are assigned to another consumer of the connection
+        commitSync();
+        offsets.revoke(partitions);
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+        log.debug("Assigned partitions <{}>.", partitions);
+        if (paused) {
+            // newly assigned partitions are not paused
+            consumer.pause(partitions);
+        }
+    }
+
+    private void commitIfDue() {
+        final long now = System.nanoTime();
+        if (now - nextCommitNanos >= 0 || offsets.getAcknowledgedSinceLastPoll() >= commitBatchSize) {
+            nextCommitNanos = now + commitIntervalNanos;
+            final Map<TopicPartition, OffsetAndMetadata> committableOffsets = offsets.pollCommittableOffsets();
+            if (!committableOffsets.isEmpty()) {
+                consumer.commitAsync(committableOffsets, (committedOffsets, error) -> {
+                    if (null != error) {
+                        log.warning("Failed to commit offsets <{}>: {}", committedOffsets, error.getMessage());
+                    }
+                });
+            }
+        }
+    }
+
+    private void commitSync() {
+        final Map<TopicPartition, OffsetAndMetadata> committableOffsets = offsets.pollCommittableOffsets();
+        if (!committableOffsets.isEmpty()) {
+            try {
+                consumer.commitSync(committableOffsets);
+            } catch (final RuntimeException e) {
+                log.warning("Failed to commit offsets <{}>: {}", committableOffsets, e.getMessage());
+            }
+        }
+    }
+
+    private void pauseOrResume() {
+        final int currentlyInFlight = inFlight.get();
+        if (!paused && currentlyInFlight >= maxInFlight) {
+            log.debug("Pausing consumption with <{}> records in flight.", currentlyInFlight);
+            consumer.pause(consumer.assignment());
+            paused = true;
+        } else if (paused && currentlyInFlight < maxInFlight) {
+            log.debug("Resuming consumption with <{}> records in flight.", currentlyInFlight);
+            consumer.resume(consumer.paused());
+            paused = false;
+        }
+    }
+
+}
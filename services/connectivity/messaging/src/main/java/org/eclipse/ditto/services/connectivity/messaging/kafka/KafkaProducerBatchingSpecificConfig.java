@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+/**
+ * Handles how the producer of a connection batches records sent to the same partition.
+ * The specific config of a connection may contain {@code lingerMs}, the time in milliseconds to wait for more records
+ * before sending a batch, and {@code batchSize}, the maximum size of a batch in bytes.
+ */
+final class KafkaProducerBatchingSpecificConfig implements KafkaSpecificConfig {
+
+    static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+
+    private static final String INVALID_VALUE =
+            "The value ''{1}'' of ''{0}'' in the specific config is not valid. It must be a non-negative integer.";
+
+    @Nullable private static KafkaProducerBatchingSpecificConfig instance;
+
+    private KafkaProducerBatchingSpecificConfig() {
+        // no-op
+    }
+
+    public static KafkaProducerBatchingSpecificConfig getInstance() {
+        KafkaProducerBatchingSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerBatchingSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return specificConfig.containsKey(SPECIFIC_CONFIG_LINGER_MS_KEY) ||
+                specificConfig.containsKey(SPECIFIC_CONFIG_BATCH_SIZE_KEY);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        for (final String key : new String[]{SPECIFIC_CONFIG_LINGER_MS_KEY, SPECIFIC_CONFIG_BATCH_SIZE_KEY}) {
+            final String value = connection.getSpecificConfig().get(key);
+            if (value != null && parseNonNegativeInt(value).isEmpty()) {
+                final String message = MessageFormat.format(INVALID_VALUE, key, value);
+                throw ConnectionConfigurationInvalidException.newBuilder(message)
+                        .dittoHeaders(dittoHeaders)
+                        .build();
+            }
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return isAbsentOrValid(specificConfig.get(SPECIFIC_CONFIG_LINGER_MS_KEY)) &&
+                isAbsentOrValid(specificConfig.get(SPECIFIC_CONFIG_BATCH_SIZE_KEY));
+    }
+
+    @Override
+    public void apply(final HashMap<String, Object> producerProperties, final Connection connection) {
+        if (isApplicable(connection) && isValid(connection)) {
+            final Map<String, String> specificConfig = connection.getSpecificConfig();
+            getValue(specificConfig, SPECIFIC_CONFIG_BATCH_SIZE_KEY).ifPresent(batchSize ->
+                    producerProperties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize));
+            getValue(specificConfig, SPECIFIC_CONFIG_LINGER_MS_KEY).ifPresent(lingerMs -> {
+                producerProperties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+                extendDeliveryTimeout(producerProperties, lingerMs);
+            });
+        }
+    }
+
+    /**
+     * The Kafka producer refuses to start if a configured delivery timeout is shorter than the linger time plus the
+     * request timeout. Extend the delivery timeout by the linger time so that a send attempt keeps its full time.
+     */
+    private static void extendDeliveryTimeout(final Map<String, Object> producerProperties, final int lingerMs) {
+        final Object deliveryTimeout = producerProperties.get(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG);
+        final Object requestTimeout = producerProperties.get(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG);
+        if (deliveryTimeout != null && requestTimeout != null) {
+            final long minDeliveryTimeout = Long.parseLong(requestTimeout.toString()) + lingerMs;
+            if (Long.parseLong(deliveryTimeout.toString()) < minDeliveryTimeout) {
+                producerProperties.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG,
+                        (int) Math.min(Integer.MAX_VALUE, minDeliveryTimeout));
+            }
+        }
+    }
+
+    private static Optional<Integer> getValue(final Map<String, String> specificConfig, final String key) {
+        return Optional.ofNullable(specificConfig.get(key))
+                .flatMap(KafkaProducerBatchingSpecificConfig::parseNonNegativeInt);
+    }
+
+    private static boolean isAbsentOrValid(@Nullable final String value) {
+        return value == null || parseNonNegativeInt(value).isPresent();
+    }
+
+    private static Optional<Integer> parseNonNegativeInt(final String value) {
+        try {
+            final int result = Integer.parseInt(value.trim());
+            return result >= 0 ? Optional.of(result) : Optional.empty();
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+}
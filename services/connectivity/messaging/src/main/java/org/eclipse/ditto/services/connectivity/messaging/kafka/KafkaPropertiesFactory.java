@@ -21,16 +21,18 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
- * Creates Kafka producer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * Creates Kafka producer and consumer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
  * configuration.
  */
-final class ProducerPropertiesFactory {
+final class KafkaPropertiesFactory {
 
     /**
      * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config.
@@ -41,11 +43,17 @@ final class ProducerPropertiesFactory {
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
             List.of(KafkaAuthenticationSpecificConfig.getInstance(), KafkaBootstrapServerSpecificConfig.getInstance());
 
+    /**
+     * Specific configs which only apply to producers.
+     */
+    private static final Collection<KafkaSpecificConfig> PRODUCER_SPECIFIC_CONFIGS =
+            List.of(KafkaProducerBatchingSpecificConfig.getInstance());
+
     private final Connection connection;
     private final KafkaConfig kafkaConfig;
     private final String clientId;
 
-    private ProducerPropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig,
+    private KafkaPropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig,
             final String clientId) {
         this.connection = checkNotNull(connection, "connection");
         this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
@@ -53,7 +61,7 @@ final class ProducerPropertiesFactory {
     }
 
     /**
-     * Returns an instance of the ProducerSettings factory.
+     * Returns an instance of the Kafka properties factory.
      *
      * @param connection the Kafka connection.
      * @param kafkaConfig the Kafka configuration settings.
@@ -61,9 +69,9 @@ final class ProducerPropertiesFactory {
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static ProducerPropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
+    static KafkaPropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
             final String clientId) {
-        return new ProducerPropertiesFactory(connection, kafkaConfig, clientId);
+        return new KafkaPropertiesFactory(connection, kafkaConfig, clientId);
     }
 
     Map<String, Object> getProducerProperties() {
@@ -72,9 +80,36 @@ final class ProducerPropertiesFactory {
         addMetadata(producerProperties);
         addSecurityProtocol(producerProperties);
         addSpecificConfig(producerProperties);
+        for (final KafkaSpecificConfig specificConfig : PRODUCER_SPECIFIC_CONFIGS) {
+            specificConfig.apply(producerProperties, connection);
+        }
         return Collections.unmodifiableMap(producerProperties);
     }
 
+    /**
+     * Returns the properties of Kafka consumers of the connection. All consumers of a connection belong to the
+     * consumer group named after the connection ID so that the partitions of the source topics are distributed among
+     * the consumers of all clients of the connection. Offsets are not committed automatically. Unless configured
+     * otherwise, a poll returns at most as many records as a consumer may have in flight.
+     *
+     * @return the consumer properties.
+     */
+    Map<String, Object> getConsumerProperties() {
+        final Config internalConsumerConfig = kafkaConfig.getInternalConsumerConfig();
+        final HashMap<String, Object> consumerProperties = configToProperties(
+                internalConsumerConfig.hasPath(KAFKA_CLIENTS_KEY)
+                        ? internalConsumerConfig.getConfig(KAFKA_CLIENTS_KEY)
+                        : ConfigFactory.empty());
+        addMetadata(consumerProperties);
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, connection.getId().toString());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // a single poll should not exceed the records a consumer may have in flight
+        consumerProperties.putIfAbsent(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, kafkaConfig.getConsumerMaxInFlight());
+        addSecurityProtocol(consumerProperties);
+        addSpecificConfig(consumerProperties);
+        return Collections.unmodifiableMap(consumerProperties);
+    }
+
     private void addMetadata(final HashMap<String, Object> properties) {
         properties.put(CommonClientConfigs.CLIENT_ID_CONFIG, clientId);
     }
@@ -12,13 +12,15 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -50,7 +52,6 @@ import akka.Done;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.pf.ReceiveBuilder;
-import akka.util.ByteString;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
@@ -62,10 +63,12 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
 
-    private Producer<String, String> producer;
+    private Producer<String, byte[]> producer;
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
@@ -146,13 +149,13 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         } else {
             final ExternalMessage messageWithConnectionIdHeader = message
                     .withHeader("ditto-connection-id", connection.getId().toString());
-            final ProducerRecord<String, String> record = producerRecord(publishTarget, messageWithConnectionIdHeader);
-            final CompletableFuture<CommandResponse<?>> resultFuture = new CompletableFuture<>();
+            final ProducerRecord<String, byte[]> record = producerRecord(publishTarget, messageWithConnectionIdHeader);
             final AcknowledgementLabel autoAckLabel = getAcknowledgementLabel(autoAckTarget).orElse(NO_ACK_LABEL);
-            final Callback callBack = new ProducerCallBack(signal, autoAckLabel, ackSizeQuota, resultFuture,
+            // the callback is the result future so that a send allocates one object to track the record
+            final ProducerCallBack callBack = new ProducerCallBack(signal, autoAckLabel, ackSizeQuota,
                     this::escalateIfNotRetryable, connection);
             producer.send(record, callBack);
-            return resultFuture;
+            return callBack;
         }
     }
 
@@ -173,10 +176,10 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return dryRun;
     }
 
-    private static ProducerRecord<String, String> producerRecord(final KafkaPublishTarget publishTarget,
+    private static ProducerRecord<String, byte[]> producerRecord(final KafkaPublishTarget publishTarget,
             final ExternalMessage externalMessage) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final byte[] payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
         return new ProducerRecord<>(publishTarget.getTopic(),
@@ -186,26 +189,35 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
     }
 
     private static Iterable<Header> mapExternalMessageHeaders(final ExternalMessage externalMessage) {
-        return externalMessage.getHeaders()
-                .entrySet()
-                .stream()
-                .map(header -> new RecordHeader(header.getKey(), header.getValue().getBytes(StandardCharsets.UTF_8)))
-                .collect(Collectors.toList());
+        final Map<String, String> externalHeaders = externalMessage.getHeaders();
+        final List<Header> headers = new ArrayList<>(externalHeaders.size());
+        externalHeaders.forEach((key, value) ->
+                headers.add(new RecordHeader(key, value.getBytes(StandardCharsets.UTF_8))));
+        return headers;
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static byte[] mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> text.getBytes(StandardCharsets.UTF_8))
+                    .orElse(EMPTY_PAYLOAD);
         } else if (externalMessage.isBytesMessage()) {
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
+                    .map(KafkaPublisherActor::toByteArray)
+                    .orElse(EMPTY_PAYLOAD);
         } else {
-            return "";
+            return EMPTY_PAYLOAD;
         }
     }
 
+    private static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        // read from a duplicate to leave the position of the payload of the external message untouched
+        final ByteBuffer duplicate = byteBuffer.duplicate();
+        final byte[] bytes = new byte[duplicate.remaining()];
+        duplicate.get(bytes);
+        return bytes;
+    }
+
     private void startInternalKafkaProducer() {
         logger.info("Starting internal Kafka producer.");
         closeProducer();
@@ -248,12 +260,14 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     }
 
-    private static final class ProducerCallBack implements Callback {
+    /**
+     * Callback of a sent record which is completed with the acknowledgement of the record.
+     */
+    private static final class ProducerCallBack extends CompletableFuture<CommandResponse<?>> implements Callback {
 
         private final Signal<?> signal;
         private final AcknowledgementLabel autoAckLabel;
         private final int ackSizeQuota;
-        private final CompletableFuture<CommandResponse<?>> resultFuture;
         private final Consumer<Exception> checkException;
         private int currentQuota;
         private final Connection connection;
@@ -261,14 +275,12 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         private ProducerCallBack(final Signal<?> signal,
                 final AcknowledgementLabel autoAckLabel,
                 final int ackSizeQuota,
-                final CompletableFuture<CommandResponse<?>> resultFuture,
                 final Consumer<Exception> checkException,
                 final Connection connection) {
 
             this.signal = signal;
             this.autoAckLabel = autoAckLabel;
             this.ackSizeQuota = ackSizeQuota;
-            this.resultFuture = resultFuture;
             this.checkException = checkException;
             this.connection = connection;
         }
@@ -276,10 +288,10 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         @Override
         public void onCompletion(final RecordMetadata metadata, final Exception exception) {
             if (exception != null) {
-                resultFuture.completeExceptionally(exception);
+                completeExceptionally(exception);
                 checkException.accept(exception);
             } else {
-                resultFuture.complete(ackFromMetadata(metadata));
+                complete(ackFromMetadata(metadata));
             }
         }
 
@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
@@ -53,7 +54,8 @@ public final class KafkaValidator extends AbstractProtocolValidator {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS = Collections.unmodifiableList(
             Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaProducerBatchingSpecificConfig.getInstance()));
 
     private static final KafkaValidator INSTANCE = new KafkaValidator();
 
@@ -88,10 +90,16 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        source.getAddresses().forEach(topic -> validateSourceTopic(topic, dittoHeaders));
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, PlaceholderFactory.newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, PlaceholderFactory.newThingPlaceholder(),
+                            PlaceholderFactory.newPolicyPlaceholder(),
+                            PlaceholderFactory.newEntityPlaceholder(),
+                            PlaceholderFactory.newFeaturePlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
     }
 
     @Override
@@ -153,6 +161,18 @@ public final class KafkaValidator extends AbstractProtocolValidator {
         }
     }
 
+    private static void validateSourceTopic(final String topic, final DittoHeaders dittoHeaders) {
+        try {
+            Topic.validate(topic);
+        } catch (final InvalidTopicException e) {
+            final String message = MessageFormat.format(INVALID_TOPIC_FORMAT, topic, e.getMessage());
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static void validateKey(final String key, final DittoHeaders dittoHeaders) {
         if (key.isEmpty()) {
             throwEmptyException("key", dittoHeaders);
@@ -14,34 +14,40 @@
 package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 
 import java.util.AbstractQueue;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Default implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.EvictingQueue}.
- * This implementation does not care about synchronization, as we don't care if there might be an element too much or
- * too little in the queue. We care about speed of the queue.
+ * The elements are stored in a ring buffer which is allocated once with the capacity of the queue; adding an element
+ * overwrites the oldest element if the queue is full. This implementation does not care about synchronization of
+ * concurrent adds and polls, as we don't care if there might be an element too much or too little in the queue. We
+ * care about speed of the queue.
  *
  * @param <E> type of elements in the queue.
  */
-@NotThreadSafe
+@ThreadSafe
 final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements EvictingQueue<E> {
 
-    private final int capacity;
-    private final Queue<E> elements;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLong head;
+    private final AtomicLong tail;
 
     private DefaultEvictingQueue(final int capacity) {
-        this.capacity = capacity;
-        this.elements = new ConcurrentLinkedQueue<>();
+        elements = new AtomicReferenceArray<>(capacity);
+        head = new AtomicLong();
+        tail = new AtomicLong();
     }
 
     /**
-     * Create a new synchronized evicting queue.
+     * Create a new evicting queue.
      *
      * @param capacity capacity of the queue.
      * @param <E> type of elements in the queue.
@@ -53,30 +59,72 @@ final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements Evicting
 
     @Override
     public Iterator<E> iterator() {
-        return elements.iterator();
+        return snapshot().iterator();
     }
 
     @Override
     public boolean offer(@Nullable final E e) {
-        if (capacity == elements.size()) {
-            elements.poll();
+        Objects.requireNonNull(e);
+        final int capacity = elements.length();
+        if (capacity > 0) {
+            final long index = tail.getAndIncrement();
+            elements.set(toSlot(index), e);
+            // evict the oldest element if the buffer was full
+            head.accumulateAndGet(index - capacity + 1, Math::max);
         }
-        return elements.offer(e);
+        return true;
     }
 
     @Override
+    @Nullable
     public E poll() {
-        return elements.poll();
+        while (true) {
+            final long index = head.get();
+            if (index >= tail.get()) {
+                return null;
+            }
+            final E element = elements.get(toSlot(index));
+            if (head.compareAndSet(index, index + 1)) {
+                return element;
+            }
+        }
     }
 
     @Override
+    @Nullable
     public E peek() {
-        return elements.peek();
+        final long index = head.get();
+        return index < tail.get() ? elements.get(toSlot(index)) : null;
     }
 
     @Override
     public int size() {
-        return elements.size();
+        return (int) Math.max(0L, Math.min(elements.length(), tail.get() - head.get()));
+    }
+
+    @Override
+    public void clear() {
+        head.set(tail.get());
+        for (int i = 0; i < elements.length(); ++i) {
+            elements.set(i, null);
+        }
+    }
+
+    private List<E> snapshot() {
+        final long end = tail.get();
+        final long start = Math.max(head.get(), end - elements.length());
+        final List<E> result = new ArrayList<>((int) Math.max(0L, end - start));
+        for (long index = start; index < end; ++index) {
+            final E element = elements.get(toSlot(index));
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    private int toSlot(final long index) {
+        return (int) Math.floorMod(index, (long) elements.length());
     }
 
     @Override
@@ -88,20 +136,32 @@ final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements Evicting
             return false;
         }
         final DefaultEvictingQueue<?> that = (DefaultEvictingQueue<?>) o;
-        return capacity == that.capacity &&
-                Objects.equals(elements, that.elements);
+        if (elements.length() != that.elements.length() || head.get() != that.head.get() ||
+                tail.get() != that.tail.get()) {
+            return false;
+        }
+        for (int i = 0; i < elements.length(); ++i) {
+            if (!Objects.equals(elements.get(i), that.elements.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(capacity, elements);
+        int result = Objects.hash(elements.length(), head.get(), tail.get());
+        for (int i = 0; i < elements.length(); ++i) {
+            result = 31 * result + Objects.hashCode(elements.get(i));
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", capacity=" + capacity +
-                ", elements=" + elements +
+                ", capacity=" + elements.length() +
+                ", elements=" + snapshot() +
                 "]";
     }
 
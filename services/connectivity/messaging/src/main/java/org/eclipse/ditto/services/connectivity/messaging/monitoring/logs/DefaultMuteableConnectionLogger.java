@@ -38,7 +38,7 @@ final class DefaultMuteableConnectionLogger implements MuteableConnectionLogger
     private final ThreadSafeDittoLogger logger;
     private final ConnectionId connectionId;
     private final ConnectionLogger delegate;
-    private boolean active;
+    private volatile boolean active;
 
     /**
      * Create a new mutable connection logger that is currently muted.
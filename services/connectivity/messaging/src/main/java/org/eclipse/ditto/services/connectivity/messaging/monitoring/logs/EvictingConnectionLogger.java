@@ -16,7 +16,9 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -28,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.LogCategory;
 import org.eclipse.ditto.model.connectivity.LogEntry;
 import org.eclipse.ditto.model.connectivity.LogLevel;
 import org.eclipse.ditto.model.connectivity.LogType;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLogger;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
@@ -35,6 +38,8 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 /**
  * Implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger} that
  * has fixed capacity for its success and failure logs and will evict old logs when new logs are added.
+ * Logs are stored with their message template and a string snapshot of their arguments, headers and payload. They
+ * are only formatted to {@link LogEntry}s when they are retrieved.
  */
 final class EvictingConnectionLogger implements ConnectionLogger {
 
@@ -45,8 +50,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     private final LogCategory category;
     private final LogType type;
 
-    private final EvictingQueue<LogEntry> successLogs;
-    private final EvictingQueue<LogEntry> failureLogs;
+    private final EvictingQueue<UnformattedLog> successLogs;
+    private final EvictingQueue<UnformattedLog> failureLogs;
 
     private final String defaultSuccessMessage;
     private final String defaultFailureMessage;
@@ -107,9 +112,9 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     public void success(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
 
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "success", infoProvider, formattedMessage);
-        successLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.SUCCESS));
+        final UnformattedLog log = toUnformattedLog(infoProvider, LogLevel.SUCCESS, message, messageArguments);
+        logTraceWithCorrelationId("success", log);
+        successLogs.add(log);
     }
 
     @Override
@@ -128,9 +133,9 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     public void failure(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
 
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "failure", infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        final UnformattedLog log = toUnformattedLog(infoProvider, LogLevel.FAILURE, message, messageArguments);
+        logTraceWithCorrelationId("failure", log);
+        failureLogs.add(log);
     }
 
     @Override
@@ -146,9 +151,9 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     public void exception(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
 
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "exception", infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        final UnformattedLog log = toUnformattedLog(infoProvider, LogLevel.FAILURE, message, messageArguments);
+        logTraceWithCorrelationId("exception", log);
+        failureLogs.add(log);
     }
 
     @Override
@@ -161,30 +166,46 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     @Override
     public Collection<LogEntry> getLogs() {
         final Collection<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
-        logs.addAll(successLogs);
-        logs.addAll(failureLogs);
+        successLogs.forEach(log -> logs.add(toLogEntry(log)));
+        failureLogs.forEach(log -> logs.add(toLogEntry(log)));
 
         LOGGER.trace("Returning logs: {}", logs);
         return logs;
     }
 
-    private String formatMessage(final ConnectionMonitor.InfoProvider infoProvider, final String message,
+    /**
+     * Take what is needed from the info provider and the arguments of a log at the time of logging, so that the
+     * stored log does not keep the signal or message of the info provider reachable.
+     * The payload is only read if payload debug logging is enabled for the message.
+     */
+    private UnformattedLog toUnformattedLog(final ConnectionMonitor.InfoProvider infoProvider,
+            final LogLevel logLevel,
+            final String message,
             final Object... messageArguments) {
 
-        final String formattedMessage = formatMessage(message, messageArguments);
-        return addHeadersAndPayloadToMessage(infoProvider, formattedMessage);
+        return new UnformattedLog(infoProvider.getCorrelationId(), infoProvider.getTimestamp(),
+                infoProvider.getThingId(), logLevel, message, snapshotArguments(messageArguments),
+                getHeadersAndPayloadMessage(infoProvider));
     }
 
-    private String addHeadersAndPayloadToMessage(final ConnectionMonitor.InfoProvider infoProvider,
-            final String initialMessage) {
+    private static Object[] snapshotArguments(final Object... messageArguments) {
+        final Object[] snapshot = new Object[messageArguments.length];
+        for (int i = 0; i < messageArguments.length; i++) {
+            final Object argument = messageArguments[i];
+            // numbers are immutable and formatted locale-specific by MessageFormat, anything else as its string
+            snapshot[i] = argument instanceof Number ? argument : String.valueOf(argument);
+        }
+        return snapshot;
+    }
 
+    private String getHeadersAndPayloadMessage(final ConnectionMonitor.InfoProvider infoProvider) {
         if (!infoProvider.isEmpty() && logHeadersAndPayload) {
             final String headersMessage = getDebugHeaderMessage(infoProvider);
             final String payloadMessage = getDebugPayloadMessage(infoProvider);
-            return initialMessage + headersMessage + payloadMessage;
+            return headersMessage + payloadMessage;
         }
 
-        return initialMessage;
+        return "";
     }
 
     private static String getDebugHeaderMessage(final ConnectionMonitor.InfoProvider infoProvider) {
@@ -243,28 +264,96 @@ final class EvictingConnectionLogger implements ConnectionLogger {
                 "]";
     }
 
-    private LogEntry getLogEntry(final ConnectionMonitor.InfoProvider infoProvider, final String message,
-            final LogLevel logLevel) {
-
-        return ConnectivityModelFactory.newLogEntryBuilder(infoProvider.getCorrelationId(), infoProvider.getTimestamp(),
-                category, type, logLevel, message)
+    private LogEntry toLogEntry(final UnformattedLog log) {
+        return ConnectivityModelFactory.newLogEntryBuilder(log.correlationId, log.timestamp, category, type,
+                log.logLevel, log.formatMessage())
                 .address(address)
-                .thingId(infoProvider.getThingId())
+                .thingId(log.thingId)
                 .build();
     }
 
-    private static void logTraceWithCorrelationId(final CharSequence correlationId,
-            final String level,
-            final ConnectionMonitor.InfoProvider infoProvider,
-            final String message) {
-
+    private static void logTraceWithCorrelationId(final String level, final UnformattedLog log) {
         if (LOGGER.isTraceEnabled()) {
-            LOGGER.withCorrelationId(correlationId)
-                    .trace("Saving {} log at <{}> for thing <{}> with message: {}", level, infoProvider.getTimestamp(),
-                            infoProvider.getThingId(), message);
+            LOGGER.withCorrelationId(log.correlationId)
+                    .trace("Saving {} log at <{}> for thing <{}> with message: {}", level, log.timestamp,
+                            log.thingId, log.formatMessage());
         }
     }
 
+    /**
+     * A log as it was passed to the logger with its arguments, headers and payload taken as immutable snapshot.
+     * The message template is formatted when the log is retrieved.
+     */
+    private static final class UnformattedLog {
+
+        private final String correlationId;
+        private final Instant timestamp;
+        @Nullable private final ThingId thingId;
+        private final LogLevel logLevel;
+        private final String message;
+        private final Object[] messageArguments;
+        private final String headersAndPayloadMessage;
+
+        private UnformattedLog(final String correlationId,
+                final Instant timestamp,
+                @Nullable final ThingId thingId,
+                final LogLevel logLevel,
+                final String message,
+                final Object[] messageArguments,
+                final String headersAndPayloadMessage) {
+
+            this.correlationId = correlationId;
+            this.timestamp = timestamp;
+            this.thingId = thingId;
+            this.logLevel = logLevel;
+            this.message = message;
+            this.messageArguments = messageArguments;
+            this.headersAndPayloadMessage = headersAndPayloadMessage;
+        }
+
+        private String formatMessage() {
+            return EvictingConnectionLogger.formatMessage(message, messageArguments) + headersAndPayloadMessage;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final UnformattedLog that = (UnformattedLog) o;
+            return Objects.equals(correlationId, that.correlationId) &&
+                    Objects.equals(timestamp, that.timestamp) &&
+                    Objects.equals(thingId, that.thingId) &&
+                    logLevel == that.logLevel &&
+                    Objects.equals(message, that.message) &&
+                    Arrays.equals(messageArguments, that.messageArguments) &&
+                    Objects.equals(headersAndPayloadMessage, that.headersAndPayloadMessage);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(correlationId, timestamp, thingId, logLevel, message, headersAndPayloadMessage) +
+                    Arrays.hashCode(messageArguments);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "correlationId=" + correlationId +
+                    ", timestamp=" + timestamp +
+                    ", thingId=" + thingId +
+                    ", logLevel=" + logLevel +
+                    ", message=" + message +
+                    ", messageArguments=" + Arrays.toString(messageArguments) +
+                    ", headersAndPayloadMessage=" + headersAndPayloadMessage +
+                    "]";
+        }
+
+    }
+
     /**
      * Builder for {@code EvictingConnectionLogger}.
      */
@@ -82,6 +82,7 @@ public final class ImmutableInfoProvider implements ConnectionMonitor.InfoProvid
         return isEmpty;
     }
 
+    // the payload supplier is left out: lambdas have identity equality and computing the payload is what it postpones
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -95,13 +96,12 @@ public final class ImmutableInfoProvider implements ConnectionMonitor.InfoProvid
                 Objects.equals(timestamp, that.timestamp) &&
                 Objects.equals(thingId, that.thingId) &&
                 Objects.equals(headers, that.headers) &&
-                Objects.equals(payloadSupplier, that.payloadSupplier) &&
                 isEmpty == that.isEmpty;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(correlationId, timestamp, thingId, headers, payloadSupplier, isEmpty);
+        return Objects.hash(correlationId, timestamp, thingId, headers, isEmpty);
     }
 
     @Override
@@ -17,30 +17,32 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * Lock-free implementation of a sliding window using a ring buffer of time slots per measurement window. Depending on
+ * the given {@code windows} this implementation holds counters for time slots of the size of the resolution of each
+ * window to fill the window. Incrementing the counter of a current slot does not allocate; the counter of an outdated
+ * slot is replaced once a newer slot falls onto its position in the ring.
  */
 public final class SlidingWindowCounter {
 
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final SlotRing[] successMeasurements;
+    private final SlotRing[] failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
-    private final Counter metricsCounter;
+    private final Counter successMetricsCounter;
+    private final Counter failureMetricsCounter;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -50,14 +52,20 @@ public final class SlidingWindowCounter {
      */
     SlidingWindowCounter(final Counter metricsCounter,
             final Clock clock, final MeasurementWindow... windows) {
-        this.metricsCounter = metricsCounter;
+        successMetricsCounter = metricsCounter.tag("success", true);
+        failureMetricsCounter = metricsCounter.tag("success", false);
         this.clock = clock;
         this.windows = windows;
+        successMeasurements = createSlotRings(windows);
+        failureMeasurements = createSlotRings(windows);
+    }
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+    private static SlotRing[] createSlotRings(final MeasurementWindow[] windows) {
+        final SlotRing[] result = new SlotRing[windows.length];
+        for (int i = 0; i < windows.length; ++i) {
+            result[i] = new SlotRing(windows[i]);
+        }
+        return result;
     }
 
     /**
@@ -89,7 +97,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -99,57 +107,21 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            metricsCounter.tag("success", true).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
+            successMetricsCounter.increment();
+            lastSuccessTimestamp.accumulateAndGet(ts, Math::max);
             incrementMeasurements(ts, successMeasurements);
         } else {
-            metricsCounter.tag("success", false).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
+            failureMetricsCounter.increment();
+            lastFailureTimestamp.accumulateAndGet(ts, Math::max);
             incrementMeasurements(ts, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
-    }
-
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
-        }
-    }
-
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
     }
 
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
-            }
+    private static void incrementMeasurements(final long ts, final SlotRing[] measurements) {
+        for (final SlotRing slotRing : measurements) {
+            slotRing.increment(ts);
         }
-        return true;
     }
 
     /**
@@ -168,27 +140,14 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the slot rings of the windows to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final SlotRing[] measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
-            long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
-            }
-            result.put(window.getWindow(), sum);
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; ++i) {
+            result.put(windows[i].getWindow(), measurements[i].sum(now));
         }
         return result;
     }
@@ -201,22 +160,94 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    private static void reset(final SlotRing[] measurements) {
+        for (final SlotRing slotRing : measurements) {
+            slotRing.reset();
+        }
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "successMeasurements=" + getCounts(true) +
+                ", failureMeasurements=" + getCounts(false) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
     }
 
+    /**
+     * Counts of the most recent time slots of one measurement window. The ring holds twice the number of slots of
+     * the window so that measurements with timestamps up to one window ahead of the clock do not replace slots which
+     * are still counted.
+     */
+    private static final class SlotRing {
+
+        private final long resolutionInMs;
+        private final long windowInMs;
+        private final AtomicReferenceArray<SlotCount> slotCounts;
+
+        private SlotRing(final MeasurementWindow window) {
+            resolutionInMs = window.getResolution().toMillis();
+            windowInMs = window.getWindow().toMillis();
+            final long slotsPerWindow = (windowInMs + resolutionInMs - 1) / resolutionInMs;
+            slotCounts = new AtomicReferenceArray<>((int) (2 * slotsPerWindow));
+        }
+
+        private void increment(final long ts) {
+            final long slot = ts / resolutionInMs;
+            final int index = (int) Math.floorMod(slot, (long) slotCounts.length());
+            while (true) {
+                @Nullable final SlotCount slotCount = slotCounts.get(index);
+                if (slotCount != null && slotCount.slot == slot) {
+                    slotCount.count.increment();
+                    return;
+                } else if (slotCount != null && slotCount.slot > slot) {
+                    // the slot of the measurement already left the ring
+                    return;
+                } else {
+                    final SlotCount newSlotCount = new SlotCount(slot);
+                    newSlotCount.count.increment();
+                    if (slotCounts.compareAndSet(index, slotCount, newSlotCount)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private long sum(final long now) {
+            // min is where we start to sum up the slots
+            final long min = (now - windowInMs) / resolutionInMs;
+            // max is the current active time slot
+            final long max = now / resolutionInMs;
+            long sum = 0;
+            for (int i = 0; i < slotCounts.length(); ++i) {
+                @Nullable final SlotCount slotCount = slotCounts.get(i);
+                if (slotCount != null && slotCount.slot > min && slotCount.slot <= max) {
+                    sum += slotCount.count.sum();
+                }
+            }
+            return sum;
+        }
+
+        private void reset() {
+            for (int i = 0; i < slotCounts.length(); ++i) {
+                slotCounts.set(i, null);
+            }
+        }
+
+    }
+
+    private static final class SlotCount {
+
+        private final long slot;
+        private final LongAdder count;
+
+        private SlotCount(final long slot) {
+            this.slot = slot;
+            count = new LongAdder();
+        }
+
+    }
+
 }
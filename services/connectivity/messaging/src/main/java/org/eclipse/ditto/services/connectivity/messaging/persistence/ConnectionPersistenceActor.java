@@ -308,7 +308,7 @@ public final class ConnectionPersistenceActor
     }
 
     @Override
-    protected void publishEvent(final ConnectivityEvent<?> event) {
+    protected void publishEvent(final ConnectivityEvent<?> event, final ActorRef sender) {
         // Do nothing because nobody subscribes for connectivity events.
     }
 
@@ -17,14 +17,18 @@ import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -62,10 +66,16 @@ public final class SignalFilter {
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
 
+    /**
+     * Filters of the topics of the targets compiled once, ignoring the extra fields of their topic.
+     */
+    private final Map<FilteredTopic, Predicate<JsonObject>> compiledFilters;
+
     SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledFilters = new ConcurrentHashMap<>();
     }
 
     /**
@@ -91,6 +101,7 @@ public final class SignalFilter {
      */
     @SuppressWarnings("squid:S3864")
     public List<Target> filter(final Signal<?> signal) {
+        final ThingJsonOfSignal thingJson = new ThingJsonOfSignal(signal);
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
                 .filter(t -> isTargetSubscribedForTopicGenerally(t, signal))
@@ -98,7 +109,7 @@ public final class SignalFilter {
                 .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection,
                         authorizedTarget.getAddress())
                         .success(signal))
-                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signal))
+                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signal, thingJson))
                 // count authorized + filtered targets
                 .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection,
                         filteredTarget.getAddress())
@@ -122,11 +133,13 @@ public final class SignalFilter {
                 .anyMatch(applyTopicFilter(signal));
     }
 
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal,
+            final ThingJsonOfSignal thingJson) {
+
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
                 .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal, thingJson));
     }
 
     private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
@@ -142,24 +155,36 @@ public final class SignalFilter {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
-        final Optional<String> filterOptional = filteredTopic.getFilter();
-        if (filterOptional.isPresent() && signal instanceof ThingEvent) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal,
+            final ThingJsonOfSignal thingJson) {
+
+        if (filteredTopic.getFilter().isPresent() && signal instanceof ThingEvent) {
             // match filter ignoring "extraFields"
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                    .filter(thing -> {
-                        final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders());
-                        final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
-                                .map(JsonFieldSelector::getPointers)
-                                .orElse(Collections.emptySet());
-                        return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing);
-                    })
+            return thingJson.get()
+                    .filter(json -> getCompiledFilter(filteredTopic, signal.getDittoHeaders()).test(json))
                     .isPresent();
         } else {
             return true;
         }
     }
 
+    /**
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion
+     */
+    private Predicate<JsonObject> getCompiledFilter(final FilteredTopic filteredTopic,
+            final DittoHeaders dittoHeaders) {
+
+        // invalid filters are not cached and fail each signal with its headers
+        return compiledFilters.computeIfAbsent(filteredTopic, topic -> {
+            final Criteria criteria = parseCriteria(topic.getFilter().orElseThrow(), dittoHeaders);
+            final Set<JsonPointer> extraFields = topic.getExtraFields()
+                    .map(JsonFieldSelector::getPointers)
+                    .orElse(Collections.emptySet());
+            return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields);
+        });
+    }
+
     /**
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
@@ -217,4 +242,34 @@ public final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * JSON of the thing in a thing event including its special fields, computed once for all targets on demand.
+     */
+    private static final class ThingJsonOfSignal implements Supplier<Optional<JsonObject>> {
+
+        private final Signal<?> signal;
+        private boolean computed;
+        @Nullable private JsonObject thingJson;
+
+        private ThingJsonOfSignal(final Signal<?> signal) {
+            this.signal = signal;
+            computed = false;
+            thingJson = null;
+        }
+
+        @Override
+        public Optional<JsonObject> get() {
+            if (!computed) {
+                if (signal instanceof ThingEvent) {
+                    thingJson = ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
+                            .map(thing -> thing.toJson(field -> true))
+                            .orElse(null);
+                }
+                computed = true;
+            }
+            return Optional.ofNullable(thingJson);
+        }
+
+    }
+
 }
@@ -15,25 +15,25 @@ package org.eclipse.ditto.services.connectivity.messaging.persistence;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
-import org.eclipse.ditto.model.query.things.ExistsThingPredicateVisitor;
-import org.eclipse.ditto.model.query.things.FilterThingPredicateVisitor;
-import org.eclipse.ditto.model.query.things.ThingPredicatePredicateVisitor;
+import org.eclipse.ditto.model.query.things.JsonObjectPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 
 /**
- * Visitor to evaluate a criteria against a partial thing with unknown fields.
+ * Visitor to compile a criteria into a function which evaluates the JSON of a partial thing with unknown fields.
+ * The compiled function is thread-safe and should be reused for evaluating many partial things.
  */
-final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thing, Trilean>> {
+final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<JsonObject, Trilean>> {
 
     private final Set<JsonPointer> unknownFields;
 
@@ -43,58 +43,64 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
     }
 
     /**
-     * Evaluate criteria against a partial thing to see whether it could be true.
+     * Compile a criteria into a predicate of the JSON of partial things which tests whether the criteria could be
+     * true.
      *
      * @param criteria the criteria.
      * @param unknownFields the set of unknown fields that shall not falsify the criteria evaluation result.
-     * @param partialThing the partial thing.
-     * @return whether the criteria may evaluate to true after replacing 'ignoredFields' by unknown values in
-     * 'partialThing'.
+     * @return predicate testing whether the criteria may evaluate to true after replacing 'unknownFields' by unknown
+     * values in the JSON of a partial thing including its special fields.
      */
-    static boolean couldBeTrue(final Criteria criteria, final Set<JsonPointer> unknownFields,
-            final Thing partialThing) {
-        return Trilean.FALSE != criteria.accept(new Thing3ValuePredicateVisitor(unknownFields)).apply(partialThing);
+    static Predicate<JsonObject> couldBeTrue(final Criteria criteria, final Set<JsonPointer> unknownFields) {
+        final Function<JsonObject, Trilean> compiled = criteria.accept(new Thing3ValuePredicateVisitor(unknownFields));
+        return partialThingJson -> Trilean.FALSE != compiled.apply(partialThingJson);
     }
 
     @Override
-    public Function<Thing, Trilean> visitAnd(final List<Function<Thing, Trilean>> conjuncts) {
-        return thing -> conjuncts.stream().map(f -> f.apply(thing)).reduce(Trilean::and).orElse(Trilean.TRUE);
+    public Function<JsonObject, Trilean> visitAnd(final List<Function<JsonObject, Trilean>> conjuncts) {
+        return thingJson -> conjuncts.stream()
+                .map(f -> f.apply(thingJson))
+                .reduce(Trilean::and)
+                .orElse(Trilean.TRUE);
     }
 
     @Override
-    public Function<Thing, Trilean> visitAny() {
-        return thing -> Trilean.TRUE;
+    public Function<JsonObject, Trilean> visitAny() {
+        return thingJson -> Trilean.TRUE;
     }
 
     @Override
-    public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
-        return thing -> isUnknownField(fieldExpression)
-                ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression).test(thing));
+    public Function<JsonObject, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
+        if (isUnknownField(fieldExpression)) {
+            return thingJson -> Trilean.UNKNOWN;
+        }
+        final Predicate<JsonObject> predicate = JsonObjectPredicateVisitor.getInstance().visitExists(fieldExpression);
+        return thingJson -> Trilean.lift(predicate.test(thingJson));
     }
 
     @Override
-    public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor.getInstance();
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
-        };
+    public Function<JsonObject, Trilean> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+        if (isUnknownField(fieldExpression)) {
+            return thingJson -> Trilean.UNKNOWN;
+        }
+        final Predicate<JsonObject> compiledPredicate =
+                JsonObjectPredicateVisitor.getInstance().visitField(fieldExpression, predicate);
+        return thingJson -> Trilean.lift(compiledPredicate.test(thingJson));
     }
 
     @Override
-    public Function<Thing, Trilean> visitNor(final List<Function<Thing, Trilean>> negativeDisjoints) {
+    public Function<JsonObject, Trilean> visitNor(final List<Function<JsonObject, Trilean>> negativeDisjoints) {
         return visitOr(negativeDisjoints).andThen(Trilean::not);
     }
 
     @Override
-    public Function<Thing, Trilean> visitOr(final List<Function<Thing, Trilean>> disjoints) {
-        return thing -> disjoints.stream().map(f -> f.apply(thing)).reduce(Trilean::or).orElse(Trilean.FALSE);
+    public Function<JsonObject, Trilean> visitOr(final List<Function<JsonObject, Trilean>> disjoints) {
+        return thingJson -> disjoints.stream()
+                .map(f -> f.apply(thingJson))
+                .reduce(Trilean::or)
+                .orElse(Trilean.FALSE);
     }
 
     private boolean isUnknownField(final FieldExpression fieldExpression) {
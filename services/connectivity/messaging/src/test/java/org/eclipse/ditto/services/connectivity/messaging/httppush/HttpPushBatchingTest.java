@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpMethods;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Tests {@link HttpPushBatching}.
+ */
+public final class HttpPushBatchingTest {
+
+    private static final long TIMEOUT_MS = 10_000L;
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Test
+    public void noBatchingWithoutBatchSize() {
+        assertThat(HttpPushBatching.fromSpecificConfig(Map.of(), TIMEOUT_MS)).isEmpty();
+        assertThat(HttpPushBatching.fromSpecificConfig(Map.of("batchSize", "1"), TIMEOUT_MS)).isEmpty();
+    }
+
+    @Test
+    public void combineIdenticalJsonRequestsIntoJsonArray() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatching(Map.of("batchSize", "3"),
+                List.of(jsonRequest("{\"a\":1}"), jsonRequest("{\"b\":2}"), jsonRequest("{\"c\":3}")),
+                new ArrayList<>());
+
+        assertThat(result).hasSize(1);
+        final HttpEntity.Strict entity = (HttpEntity.Strict) result.get(0).first().entity();
+        assertThat(entity.getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+        assertThat(entity.getData().utf8String()).isEqualTo("[{\"a\":1},{\"b\":2},{\"c\":3}]");
+    }
+
+    @Test
+    public void combineIdenticalJsonRequestsIntoNdjson() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> result =
+                runBatching(Map.of("batchSize", "2", "batchFormat", "ndjson"),
+                        List.of(jsonRequest("{\"a\":1}"), jsonRequest("{\"b\":2}")), new ArrayList<>());
+
+        assertThat(result).hasSize(1);
+        final HttpEntity.Strict entity = (HttpEntity.Strict) result.get(0).first().entity();
+        assertThat(entity.getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(entity.getData().utf8String()).isEqualTo("{\"a\":1}\n{\"b\":2}\n");
+    }
+
+    @Test
+    public void combineRequestsWithDefaultHeaderMappingAndDropCorrelationIds() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatching(Map.of("batchSize", "2"),
+                List.of(withDefaultMappedHeaders(jsonRequest("{\"a\":1}"), "correlation-1"),
+                        withDefaultMappedHeaders(jsonRequest("{\"b\":2}"), "correlation-2")),
+                new ArrayList<>());
+
+        assertThat(result).hasSize(1);
+        final HttpRequest combinedRequest = result.get(0).first();
+        assertThat(combinedRequest.getHeader("correlation-id")).isEmpty();
+        assertThat(combinedRequest.getHeader("reply-to"))
+                .hasValueSatisfying(header -> assertThat(header.value()).isEqualTo("replies"));
+        final HttpEntity.Strict entity = (HttpEntity.Strict) combinedRequest.entity();
+        assertThat(entity.getData().utf8String()).isEqualTo("[{\"a\":1},{\"b\":2}]");
+    }
+
+    @Test
+    public void doNotCombineDifferentOrNonJsonRequests() throws Exception {
+        final HttpRequest otherMethod = jsonRequest("{\"b\":2}").withMethod(HttpMethods.PUT);
+        final HttpRequest text =
+                jsonRequest("").withEntity(HttpEntities.create(ContentTypes.TEXT_PLAIN_UTF8, "hello"));
+        final HttpRequest otherReplyTo = jsonRequest("{\"c\":3}")
+                .addHeader(RawHeader.create("correlation-id", "correlation-3"))
+                .addHeader(RawHeader.create("reply-to", "other-replies"));
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatching(Map.of("batchSize", "4"),
+                List.of(withDefaultMappedHeaders(jsonRequest("{\"a\":1}"), "correlation-1"), otherMethod, text,
+                        otherReplyTo), new ArrayList<>());
+
+        assertThat(result).hasSize(4);
+    }
+
+    @Test
+    public void completeAllContextsWithTheResponseToTheCombinedRequest() throws Exception {
+        final List<CompletableFuture<Try<HttpResponse>>> responses = new ArrayList<>();
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatching(Map.of("batchSize", "2"),
+                List.of(jsonRequest("{\"a\":1}"), jsonRequest("{\"b\":2}")), responses);
+
+        assertThat(result).hasSize(1);
+        result.get(0).second().onResponse(new Success<>(HttpResponse.create().withEntity("ok")));
+        for (final CompletableFuture<Try<HttpResponse>> response : responses) {
+            final HttpEntity.Strict entity = (HttpEntity.Strict) response.get(TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                    .get()
+                    .entity();
+            assertThat(entity.getData().utf8String()).isEqualTo("ok");
+        }
+    }
+
+    private List<Pair<HttpRequest, HttpPushContext>> runBatching(final Map<String, String> specificConfig,
+            final List<HttpRequest> requests, final List<CompletableFuture<Try<HttpResponse>>> responses)
+            throws Exception {
+
+        final HttpPushBatching underTest = HttpPushBatching.fromSpecificConfig(specificConfig, TIMEOUT_MS)
+                .orElseThrow();
+        final List<Pair<HttpRequest, HttpPushContext>> pairs = new ArrayList<>();
+        for (final HttpRequest request : requests) {
+            final CompletableFuture<Try<HttpResponse>> response = new CompletableFuture<>();
+            responses.add(response);
+            pairs.add(Pair.create(request, HttpPushContext.batchable(response::complete)));
+        }
+        return Source.from(pairs)
+                .via(underTest.flow(materializer))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static HttpRequest withDefaultMappedHeaders(final HttpRequest request, final String correlationId) {
+        return request.addHeader(RawHeader.create("correlation-id", correlationId))
+                .addHeader(RawHeader.create("reply-to", "replies"));
+    }
+
+    private static HttpRequest jsonRequest(final String body) {
+        return HttpRequest.POST("http://8.8.4.4:12345/events")
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, body));
+    }
+
+}
@@ -32,6 +32,7 @@ import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.base.config.DittoServiceConfig;
 import org.eclipse.ditto.services.base.config.http.DefaultHttpProxyConfig;
 import org.eclipse.ditto.services.base.config.http.HttpProxyConfig;
@@ -58,6 +59,7 @@ import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.model.headers.Authorization;
+import akka.http.javadsl.settings.ConnectionPoolSettings;
 import akka.japi.Pair;
 import akka.stream.KillSwitches;
 import akka.stream.OverflowStrategy;
@@ -265,6 +267,44 @@ public final class HttpPushFactoryTest {
         sinkQueue.pull();
     }
 
+    @Test
+    public void pipelineOnlyIdempotentRequests() {
+        // GIVEN: the connection has the specific configs parallelism=3 and pipeliningLimit=4 and a POST target
+        connection = connection.toBuilder()
+                .specificConfig(Map.of("parallelism", "3", "pipeliningLimit", "4"))
+                .build();
+
+        // WHEN: the connection pool settings are created
+        final ConnectionPoolSettings postSettings = getConnectionPoolSettings(connection);
+
+        // THEN: requests are not pipelined
+        assertThat(postSettings.getMaxConnections()).isEqualTo(3);
+        assertThat(postSettings.getPipeliningLimit()).isEqualTo(1);
+
+        // WHEN: the connection has only a PUT target
+        final Target putTarget = ConnectivityModelFactory.newTargetBuilder(AbstractBaseClientActorTest.HTTP_TARGET)
+                .address("PUT:/target/address")
+                .build();
+        final ConnectionPoolSettings putSettings =
+                getConnectionPoolSettings(connection.toBuilder().setTargets(singletonList(putTarget)).build());
+
+        // THEN: requests are pipelined
+        assertThat(putSettings.getMaxConnections()).isEqualTo(3);
+        assertThat(putSettings.getPipeliningLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void raiseMaxOpenRequestsToTheMaximumNumberOfRequestsInFlight() {
+        final int defaultMaxOpenRequests = ConnectionPoolSettings.create(actorSystem).getMaxOpenRequests();
+        connection = connection.toBuilder()
+                .specificConfig(Map.of("parallelism", String.valueOf(defaultMaxOpenRequests + 1)))
+                .build();
+
+        final ConnectionPoolSettings settings = getConnectionPoolSettings(connection);
+
+        assertThat(settings.getMaxOpenRequests()).isEqualTo(2 * defaultMaxOpenRequests);
+    }
+
     @Test
     public void emitFailureOnTimeout() {
         connection = connection.toBuilder().uri("http://127.0.0.1:" + binding.localAddress().getPort()).build();
@@ -294,6 +334,12 @@ public final class HttpPushFactoryTest {
         sinkQueue.cancel();
     }
 
+    private ConnectionPoolSettings getConnectionPoolSettings(final Connection connection) {
+        final DefaultHttpPushFactory underTest = (DefaultHttpPushFactory) HttpPushFactory.of(connection,
+                connectionConfig.getHttpPushConfig(), mock(ConnectionLogger.class));
+        return underTest.getConnectionPoolSettings(actorSystem);
+    }
+
     private void newBinding() {
         requestQueue = new LinkedBlockingQueue<>();
         responseQueue = new LinkedBlockingQueue<>();
@@ -107,6 +107,33 @@ public final class HttpPushValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("DELETE:/bar"));
     }
 
+    @Test
+    public void testValidBatchingSpecificConfig() {
+        underTest.validate(getConnectionWithSpecificConfig(
+                Map.of("batchSize", "10", "batchMaxLatencyMs", "50", "batchFormat", "ndjson", "pipeliningLimit", "4")),
+                DittoHeaders.empty(), actorSystem);
+        underTest.validate(getConnectionWithSpecificConfig(Map.of("batchSize", "10", "batchFormat", "json-array")),
+                DittoHeaders.empty(), actorSystem);
+    }
+
+    @Test
+    public void testInvalidSpecificConfig() {
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(Map.of("parallelism", "0")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(Map.of("pipeliningLimit", "many")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(Map.of("batchSize", "-1")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(Map.of("batchMaxLatencyMs", "1s")));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(Map.of("batchFormat", "xml")));
+    }
+
+    private static Connection getConnectionWithSpecificConfig(final Map<String, String> specificConfig) {
+        return getConnectionWithTarget("POST:events").toBuilder().specificConfig(specificConfig).build();
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return getConnectionWithHostAndTarget("8.8.4.4", target);
     }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KafkaCommittableOffsets}.
+ */
+public final class KafkaCommittableOffsetsTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("topic", 1);
+
+    private KafkaCommittableOffsets underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new KafkaCommittableOffsets();
+    }
+
+    @Test
+    public void nothingIsCommittableWithoutAcknowledgements() {
+        underTest.track(PARTITION_0, 5L);
+
+        assertThat(underTest.pollCommittableOffsets()).isEmpty();
+    }
+
+    @Test
+    public void offsetAdvancesOverContiguouslyAcknowledgedRecordsOnly() {
+        underTest.track(PARTITION_0, 5L);
+        underTest.track(PARTITION_0, 6L);
+        underTest.track(PARTITION_0, 7L);
+
+        underTest.acknowledge(PARTITION_0, 5L);
+        underTest.acknowledge(PARTITION_0, 7L);
+
+        assertThat(underTest.getAcknowledgedSinceLastPoll()).isEqualTo(2);
+        assertThat(underTest.pollCommittableOffsets()).containsOnly(Map.entry(PARTITION_0, new OffsetAndMetadata(6L)));
+        assertThat(underTest.getAcknowledgedSinceLastPoll()).isZero();
+        assertThat(underTest.pollCommittableOffsets()).isEmpty();
+
+        underTest.acknowledge(PARTITION_0, 6L);
+
+        assertThat(underTest.pollCommittableOffsets()).containsOnly(Map.entry(PARTITION_0, new OffsetAndMetadata(8L)));
+    }
+
+    @Test
+    public void recordsAreAcknowledgedOnceInAnyOrder() {
+        final int records = 10_000;
+        for (int offset = 0; offset < records; ++offset) {
+            underTest.track(PARTITION_0, offset);
+        }
+
+        for (int offset = records - 1; offset > 0; --offset) {
+            underTest.acknowledge(PARTITION_0, offset);
+            underTest.acknowledge(PARTITION_0, offset);
+        }
+
+        assertThat(underTest.getAcknowledgedSinceLastPoll()).isEqualTo(records - 1);
+        assertThat(underTest.pollCommittableOffsets()).isEmpty();
+
+        underTest.acknowledge(PARTITION_0, 0L);
+
+        assertThat(underTest.pollCommittableOffsets())
+                .containsOnly(Map.entry(PARTITION_0, new OffsetAndMetadata(records)));
+        underTest.acknowledge(PARTITION_0, 0L);
+        assertThat(underTest.getAcknowledgedSinceLastPoll()).isZero();
+    }
+
+    @Test
+    public void partitionsAreCommittedIndependently() {
+        underTest.track(PARTITION_0, 1L);
+        underTest.track(PARTITION_1, 10L);
+        underTest.track(PARTITION_1, 11L);
+
+        underTest.acknowledge(PARTITION_1, 10L);
+        underTest.acknowledge(PARTITION_1, 11L);
+
+        assertThat(underTest.pollCommittableOffsets())
+                .containsOnly(Map.entry(PARTITION_1, new OffsetAndMetadata(12L)));
+    }
+
+    @Test
+    public void acknowledgementsOfRevokedPartitionsAndUntrackedRecordsAreIgnored() {
+        underTest.track(PARTITION_0, 1L);
+        underTest.track(PARTITION_1, 1L);
+
+        underTest.revoke(List.of(PARTITION_0));
+        underTest.acknowledge(PARTITION_0, 1L);
+        underTest.acknowledge(PARTITION_1, 2L);
+
+        assertThat(underTest.getAcknowledgedSinceLastPoll()).isZero();
+        assertThat(underTest.pollCommittableOffsets()).isEmpty();
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.ditto.services.connectivity.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KafkaConsumerSession}.
+ */
+public final class KafkaConsumerSessionTest {
+
+    private static final String TOPIC = "topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final int MAX_IN_FLIGHT = 2;
+
+    private MockConsumer<String, byte[]> consumer;
+    private KafkaConfig kafkaConfig;
+    private KafkaConsumerSession underTest;
+
+    @Before
+    public void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        kafkaConfig = mock(KafkaConfig.class);
+        when(kafkaConfig.getConsumerPollTimeout()).thenReturn(Duration.ZERO);
+        // commit on every poll
+        when(kafkaConfig.getConsumerCommitInterval()).thenReturn(Duration.ZERO);
+        when(kafkaConfig.getConsumerCommitBatchSize()).thenReturn(1000);
+        when(kafkaConfig.getConsumerMaxInFlight()).thenReturn(MAX_IN_FLIGHT);
+        underTest = KafkaConsumerSession.subscribe(consumer, List.of(TOPIC), kafkaConfig,
+                mock(ThreadSafeDittoLoggingAdapter.class));
+        consumer.rebalance(List.of(PARTITION_0, PARTITION_1));
+        consumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+    }
+
+    @Test
+    public void acknowledgedOffsetsAreCommittedByNextPollWithoutNewRecords() {
+        addRecords(PARTITION_0, 0L, 1L);
+        final List<ConsumerRecord<String, byte[]>> records = poll();
+        assertThat(records).hasSize(2);
+
+        underTest.acknowledge(records.get(0));
+        underTest.acknowledge(records.get(1));
+
+        assertThat(poll()).isEmpty();
+        assertThat(committed(PARTITION_0)).isEqualTo(2L);
+    }
+
+    @Test
+    public void unacknowledgedRecordIsNotSkippedOnRedelivery() {
+        addRecords(PARTITION_0, 0L, 1L, 2L);
+        final List<ConsumerRecord<String, byte[]>> records = pollMaxInFlightAndMore();
+
+        // the record at offset 1 requires redelivery and is never acknowledged
+        underTest.acknowledge(records.get(0));
+        underTest.acknowledge(records.get(2));
+        poll();
+
+        // the next consumer of the partition starts at offset 1
+        assertThat(committed(PARTITION_0)).isEqualTo(1L);
+
+        underTest.close();
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    public void partitionsArePausedWhileMaxInFlightRecordsAreUnacknowledged() {
+        addRecords(PARTITION_0, 0L, 1L);
+        addRecords(PARTITION_1, 0L);
+        final List<ConsumerRecord<String, byte[]>> records = pollMaxInFlightAndMore();
+
+        assertThat(poll()).isEmpty();
+        assertThat(consumer.paused()).containsExactlyInAnyOrder(PARTITION_0, PARTITION_1);
+
+        records.forEach(underTest::acknowledge);
+        poll();
+
+        assertThat(consumer.paused()).isEmpty();
+        assertThat(committed(PARTITION_0)).isEqualTo(2L);
+        assertThat(committed(PARTITION_1)).isEqualTo(1L);
+    }
+
+    @Test
+    public void acknowledgedOffsetsAreCommittedWhenPartitionsAreRevoked() {
+        addRecords(PARTITION_0, 0L);
+        addRecords(PARTITION_1, 0L);
+        final List<ConsumerRecord<String, byte[]>> records = poll();
+        records.forEach(underTest::acknowledge);
+
+        underTest.onPartitionsRevoked(List.of(PARTITION_0, PARTITION_1));
+        consumer.rebalance(List.of(PARTITION_1));
+        underTest.onPartitionsAssigned(List.of(PARTITION_1));
+
+        assertThat(committed(PARTITION_0)).isEqualTo(1L);
+        assertThat(committed(PARTITION_1)).isEqualTo(1L);
+
+        // records of the partition assigned again are tracked anew
+        addRecords(PARTITION_1, 1L);
+        final List<ConsumerRecord<String, byte[]>> recordsAfterRebalance = poll();
+        assertThat(recordsAfterRebalance).hasSize(1);
+        underTest.acknowledge(recordsAfterRebalance.get(0));
+        poll();
+        assertThat(committed(PARTITION_1)).isEqualTo(2L);
+    }
+
+    @Test
+    public void newlyAssignedPartitionsArePausedWhileBackpressured() {
+        addRecords(PARTITION_0, 0L, 1L);
+        pollMaxInFlightAndMore();
+        poll();
+        final TopicPartition partition2 = new TopicPartition(TOPIC, 2);
+
+        consumer.rebalance(List.of(PARTITION_0, PARTITION_1, partition2));
+        underTest.onPartitionsAssigned(List.of(partition2));
+
+        assertThat(consumer.paused()).contains(partition2);
+    }
+
+    private List<ConsumerRecord<String, byte[]>> pollMaxInFlightAndMore() {
+        final List<ConsumerRecord<String, byte[]>> records = poll();
+        assertThat(records).hasSizeGreaterThanOrEqualTo(MAX_IN_FLIGHT);
+        return records;
+    }
+
+    private List<ConsumerRecord<String, byte[]>> poll() {
+        final ConsumerRecords<String, byte[]> records = underTest.poll();
+        final List<ConsumerRecord<String, byte[]>> result = new ArrayList<>();
+        records.forEach(result::add);
+        return result;
+    }
+
+    private void addRecords(final TopicPartition partition, final long... offsets) {
+        for (final long offset : offsets) {
+            consumer.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key",
+                    new byte[0]));
+        }
+    }
+
+    private long committed(final TopicPartition partition) {
+        final Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.of(partition));
+        final OffsetAndMetadata offsetAndMetadata = committed.get(partition);
+        assertThat(offsetAndMetadata).isNotNull();
+        return offsetAndMetadata.offset();
+    }
+
+}
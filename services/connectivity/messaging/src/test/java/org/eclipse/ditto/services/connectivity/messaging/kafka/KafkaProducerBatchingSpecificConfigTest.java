@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KafkaProducerBatchingSpecificConfig}.
+ */
+public final class KafkaProducerBatchingSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    private final KafkaProducerBatchingSpecificConfig underTest = KafkaProducerBatchingSpecificConfig.getInstance();
+
+    @Test
+    public void shouldOnlyBeApplicableIfLingerOrBatchSizeIsConfigured() {
+        assertThat(underTest.isApplicable(connectionWithSpecificConfig(Map.of()))).isFalse();
+        assertThat(underTest.isApplicable(connectionWithSpecificConfig(Map.of("lingerMs", "5")))).isTrue();
+        assertThat(underTest.isApplicable(connectionWithSpecificConfig(Map.of("batchSize", "65536")))).isTrue();
+    }
+
+    @Test
+    public void shouldValidateNonNegativeIntegers() {
+        final Connection connection = connectionWithSpecificConfig(Map.of("lingerMs", "0", "batchSize", "65536"));
+
+        assertThat(underTest.isValid(connection)).isTrue();
+        underTest.validateOrThrow(connection, HEADERS);
+    }
+
+    @Test
+    public void shouldNotValidateInvalidValues() {
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("lingerMs", "-1")));
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("lingerMs", "5ms")));
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("batchSize", "")));
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("batchSize", "3000000000")));
+    }
+
+    @Test
+    public void shouldAddLingerAndBatchSize() {
+        final HashMap<String, Object> properties = new HashMap<>();
+
+        underTest.apply(properties, connectionWithSpecificConfig(Map.of("lingerMs", "20", "batchSize", "65536")));
+
+        assertThat(properties)
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20)
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 65536);
+    }
+
+    @Test
+    public void shouldExtendDeliveryTimeoutByLinger() {
+        final HashMap<String, Object> properties = new HashMap<>();
+        properties.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 10000);
+        properties.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 10000);
+
+        underTest.apply(properties, connectionWithSpecificConfig(Map.of("lingerMs", "20")));
+
+        assertThat(properties).containsEntry(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 10020);
+    }
+
+    @Test
+    public void shouldNotAddInvalidValues() {
+        final HashMap<String, Object> properties = new HashMap<>();
+
+        underTest.apply(properties, connectionWithSpecificConfig(Map.of("lingerMs", "-1", "batchSize", "65536")));
+
+        assertThat(properties).isEmpty();
+    }
+
+    private void shouldNotValidate(final Connection connection) {
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, HEADERS));
+    }
+
+    private static Connection connectionWithSpecificConfig(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(TestConstants.createRandomConnectionId(),
+                ConnectionType.KAFKA, ConnectivityStatus.OPEN, "tcp://s1.org.apache.kafka:9092")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("target")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .qos(1)
+                        .topics(Topic.LIVE_EVENTS)
+                        .build()))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -38,9 +39,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 /**
- * Unit test for {@link ProducerPropertiesFactory}.
+ * Unit test for {@link KafkaPropertiesFactory}.
  */
-public final class ProducerPropertiesFactoryTest {
+public final class KafkaPropertiesFactoryTest {
 
     private static final String[] BOOTSTRAP_SERVERS = {
             "foo:123",
@@ -56,7 +57,7 @@ public final class ProducerPropertiesFactoryTest {
     private static KafkaConfig kafkaConfig;
     private static Connection connection;
 
-    private ProducerPropertiesFactory underTest;
+    private KafkaPropertiesFactory underTest;
 
     @BeforeClass
     public static void initTestFixture() {
@@ -83,7 +84,7 @@ public final class ProducerPropertiesFactoryTest {
 
     @Before
     public void setUp() {
-        underTest = ProducerPropertiesFactory.getInstance(connection, kafkaConfig, UUID.randomUUID().toString());
+        underTest = KafkaPropertiesFactory.getInstance(connection, kafkaConfig, UUID.randomUUID().toString());
     }
 
     @Test
@@ -103,4 +104,16 @@ public final class ProducerPropertiesFactoryTest {
         );
     }
 
+    @Test
+    public void consumersJoinConnectionGroupAndPollAtMostMaxInFlightRecords() {
+        final Map<String, Object> properties = underTest.getConsumerProperties();
+
+        assertThat(properties).contains(
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.GROUP_ID_CONFIG, CONNECTION_ID.toString()),
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false),
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                        kafkaConfig.getConsumerMaxInFlight())
+        );
+    }
+
 }
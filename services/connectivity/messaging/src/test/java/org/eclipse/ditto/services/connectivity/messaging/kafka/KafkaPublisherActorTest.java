@@ -74,9 +74,9 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
 
     private static final String OUTBOUND_ADDRESS = "anyTopic/keyA";
 
-    private final Queue<ProducerRecord<String, String>> received = new ConcurrentLinkedQueue<>();
+    private final Queue<ProducerRecord<String, byte[]>> received = new ConcurrentLinkedQueue<>();
     private KafkaConnectionFactory connectionFactory;
-    private Producer<String, String> mockProducer;
+    private Producer<String, byte[]> mockProducer;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -86,7 +86,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         when(connectionFactory.newProducer()).thenReturn(mockProducer);
         when(mockProducer.send(any(), any()))
                 .thenAnswer(invocationOnMock -> {
-                    final ProducerRecord<String, String> record = invocationOnMock.getArgument(0);
+                    final ProducerRecord<String, byte[]> record = invocationOnMock.getArgument(0);
                     final RecordMetadata dummyMetadata =
                             new RecordMetadata(new TopicPartition("topic", 5), 0L, 0L, 0L, 0L, 0, 0);
                     invocationOnMock.getArgument(1, Callback.class).onCompletion(dummyMetadata, null);
@@ -119,12 +119,12 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     @Override
     protected void verifyPublishedMessage() {
         Awaitility.await().until(() -> !received.isEmpty());
-        final ProducerRecord<String, String> record = checkNotNull(received.poll());
+        final ProducerRecord<String, byte[]> record = checkNotNull(received.poll());
         assertThat(received).isEmpty();
         assertThat(record).isNotNull();
         assertThat(record.topic()).isEqualTo("anyTopic");
         assertThat(record.key()).isEqualTo("keyA");
-        assertThat(record.value()).isEqualTo("payload");
+        assertThat(new String(record.value(), StandardCharsets.UTF_8)).isEqualTo("payload");
         final List<Header> headers = Arrays.asList(record.headers().toArray());
         shouldContainHeader(headers, "thing_id", TestConstants.Things.THING_ID.toString());
         shouldContainHeader(headers, "suffixed_thing_id", TestConstants.Things.THING_ID + ".some.suffix");
@@ -143,7 +143,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     @Override
     protected void verifyPublishedMessageToReplyTarget() {
         Awaitility.await().until(() -> !received.isEmpty());
-        final ProducerRecord<String, String> record = checkNotNull(received.poll());
+        final ProducerRecord<String, byte[]> record = checkNotNull(received.poll());
         assertThat(received).isEmpty();
         assertThat(record.topic()).isEqualTo("replyTarget");
         assertThat(record.key()).isEqualTo("thing:id");
@@ -221,6 +221,44 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         };
     }
 
+    @Test
+    public void bytePayloadIsPublishedUnchanged() {
+        new TestKit(actorSystem) {
+            {
+                final TestProbe probe = new TestProbe(actorSystem);
+                setupMocks(probe);
+                final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+
+                final Target target = ConnectivityModelFactory.newTargetBuilder()
+                        .address(getOutboundAddress())
+                        .originalAddress(getOutboundAddress())
+                        .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                        .topics(Topic.TWIN_EVENTS)
+                        .build();
+
+                // not valid UTF-8
+                final byte[] payload = {(byte) 0xC3, (byte) 0x28, 0x00, (byte) 0xFF};
+                final ThingEvent source = ThingDeleted.of(TestConstants.Things.THING_ID, 99L, DittoHeaders.empty());
+                final OutboundSignal outboundSignal = OutboundSignalFactory.newOutboundSignal(source, List.of(target));
+                final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(Map.of())
+                        .withBytes(payload)
+                        .build();
+                final Adaptable adaptable = DittoProtocolAdapter.newInstance().toAdaptable(source);
+                final OutboundSignal.Mapped mappedSignal =
+                        OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable, externalMessage);
+                final OutboundSignal.MultiMapped multiMappedSignal =
+                        OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(mappedSignal), getRef());
+
+                publisherCreated(this, publisherActor);
+                publisherActor.tell(multiMappedSignal, getRef());
+
+                Awaitility.await().until(() -> !received.isEmpty());
+                final ProducerRecord<String, byte[]> record = checkNotNull(received.poll());
+                assertThat(record.value()).isEqualTo(payload);
+            }
+        };
+    }
+
     @Test
     public void retriableExceptionBecomesInternalErrorAcknowledgement() {
         testSendFailure(new DisconnectException(), (sender, parent) ->
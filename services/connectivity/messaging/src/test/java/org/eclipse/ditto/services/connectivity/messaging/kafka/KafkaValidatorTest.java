@@ -77,11 +77,21 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "telemetry.events_1");
 
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        final Source emptyTopicSource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "");
+        final Source invalidTopicSource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "telemetry/{{x}}");
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(emptyTopicSource, DittoHeaders.empty(), () -> ""));
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+                .isThrownBy(() -> underTest.validateSource(invalidTopicSource, DittoHeaders.empty(), () -> ""));
     }
 
     @Test
@@ -47,6 +47,32 @@ public final class DefaultEvictingQueueTest {
                 .hasSize(remainingStrings.size());
     }
 
+    @Test
+    public void pollReturnsOldestRemainingElements() {
+        final EvictingQueue<String> queue = DefaultEvictingQueue.withCapacity(2);
+
+        queue.add("a");
+        queue.add("b");
+        queue.add("c");
+
+        assertThat(queue.poll()).isEqualTo("b");
+        assertThat(queue.peek()).isEqualTo("c");
+        assertThat(queue.poll()).isEqualTo("c");
+        assertThat(queue.poll()).isNull();
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    public void clearRemovesAllElements() {
+        final EvictingQueue<String> queue = DefaultEvictingQueue.withCapacity(CAPACITY);
+        queue.addAll(createRandomStrings(CAPACITY + 1));
+
+        queue.clear();
+        queue.add("a");
+
+        assertThat(queue).containsExactly("a");
+    }
+
     private List<String> createRandomStrings(final int n) {
         return Stream.iterate(0, UnaryOperator.identity())
                 .limit(n)
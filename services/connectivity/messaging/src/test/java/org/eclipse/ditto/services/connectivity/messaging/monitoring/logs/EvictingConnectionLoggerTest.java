@@ -20,7 +20,9 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -350,6 +352,44 @@ public final class EvictingConnectionLoggerTest {
                 .hasMessageContainingPayload(payloadWithBadCharacters);
     }
 
+    @Test
+    public void argumentsAreTakenWhenLoggedAndMessageIsFormattedWhenRetrieved() {
+        final EvictingConnectionLogger logger = builder().build();
+        final StringBuilder argument = new StringBuilder("before");
+
+        logger.success(randomInfoProvider(), "message with {0} and {1}", argument, 1138);
+        argument.replace(0, argument.length(), "after");
+
+        LogEntryAssertions.assertThat(getFirstAndOnlyEntry(logger))
+                .hasMessage(new MessageFormat("message with {0} and {1}").format(new Object[]{"before", 1138}));
+    }
+
+    @Test
+    public void payloadIsOnlyReadWhenLoggedIfPayloadDebugLoggingIsEnabled() {
+        final EvictingConnectionLogger logger = builder().logHeadersAndPayload().build();
+        final AtomicInteger payloadReads = new AtomicInteger();
+        final Supplier<String> payloadSupplier = () -> {
+            payloadReads.incrementAndGet();
+            return "the payload";
+        };
+        final DittoHeaders headers = DittoHeaders.newBuilder().putHeader("connectivity-debug-log", "OFF").build();
+        final DittoHeaders debugHeaders =
+                DittoHeaders.newBuilder().putHeader("connectivity-debug-log", "PAYLOAD").build();
+
+        logger.success(new ImmutableInfoProvider("withoutPayload", Instant.now(), null, headers, payloadSupplier,
+                false));
+        assertThat(payloadReads).hasValue(0);
+
+        logger.success(new ImmutableInfoProvider("withPayload", Instant.now(), null, debugHeaders, payloadSupplier,
+                false));
+        assertThat(payloadReads).hasValue(1);
+
+        final Collection<LogEntry> logs = logger.getLogs();
+        assertThat(payloadReads).hasValue(1);
+        assertThat(logs).hasSize(2)
+                .anySatisfy(entry -> LogEntryAssertions.assertThat(entry).hasMessageContainingPayload("the payload"));
+    }
+
     @Test
     public void testEqualsAndHashcode() {
         EqualsVerifier.forClass(EvictingConnectionLogger.class)
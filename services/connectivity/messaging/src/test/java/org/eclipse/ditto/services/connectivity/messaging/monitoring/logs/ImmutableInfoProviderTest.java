@@ -18,6 +18,7 @@ import static org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.
 import java.time.Instant;
 import java.util.Map;
 
+import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -47,4 +48,18 @@ public final class ImmutableInfoProviderTest {
                 .hasHeaders(headers);
     }
 
+    @Test
+    public void equalityIgnoresThePayloadSupplier() {
+        final Map<String, String> headers = DittoHeaders.newBuilder().putHeader("foo", "bar").build();
+        final Instant timestamp = Instant.now();
+        final ThingId thingId = ThingId.of("the:thing");
+
+        final ConnectionMonitor.InfoProvider info = new ImmutableInfoProvider("theCorrelation", timestamp,
+                thingId, headers, () -> "payload", false);
+        final ConnectionMonitor.InfoProvider otherInfo = new ImmutableInfoProvider("theCorrelation", timestamp,
+                thingId, headers, () -> "payload", false);
+
+        Assertions.assertThat(info).isEqualTo(otherInfo).hasSameHashCodeAs(otherInfo);
+    }
+
 }
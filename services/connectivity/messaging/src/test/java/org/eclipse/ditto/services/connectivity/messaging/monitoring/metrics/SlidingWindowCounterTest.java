@@ -19,7 +19,11 @@ import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.junit.Before;
@@ -81,4 +85,39 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void testOutdatedSlotsAreReplaced() {
+        final long now = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+        final SlidingWindowCounter counter = new SlidingWindowCounter(metricsCounter,
+                Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC), MeasurementWindow.ONE_MINUTE);
+
+        // measurements two windows ago fall onto the same positions of the ring as the current measurements
+        for (long i = now - 180_000L; i < now + 10_000L; i += 1000) {
+            counter.increment(true, i);
+        }
+        // measurements older than the ring are dropped
+        counter.increment(true, now - 180_000L);
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 60L);
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L);
+    }
+
+    @Test
+    public void testConcurrentIncrements() {
+        final SlidingWindowCounter counter =
+                new SlidingWindowCounter(metricsCounter, Clock.systemUTC(), MeasurementWindow.ONE_HOUR);
+        final long ts = System.currentTimeMillis();
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 10_000; ++j) {
+                        counter.increment(true, ts);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), 80_000L);
+    }
+
 }
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
@@ -249,4 +250,54 @@ public final class SignalFilterWithFilterTest {
                 targetD); // THEN: only targetA and targetD should be in the filtered targets
     }
 
+    @Test
+    public void applyCompiledRqlFilterToSeveralSignals() {
+
+        // targetA filters that attribute "test" > 23
+        final Target targetA = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/a")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .headerMapping(HEADER_MAPPING)
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withFilter("gt(attributes/test,23)")
+                        .build())
+                .build();
+
+        // targetB filters additionally on the extra field "other" which is unknown before enrichment
+        final Target targetB = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/b")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .headerMapping(HEADER_MAPPING)
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withFilter("and(gt(attributes/test,23),eq(attributes/other,1))")
+                        .withExtraFields(JsonFieldSelector.newInstance("attributes/other"))
+                        .build())
+                .build();
+
+        final Connection connection = ConnectivityModelFactory
+                .newConnectionBuilder(CONNECTION_ID, ConnectionType.AMQP_10, ConnectivityStatus.OPEN, URI)
+                .targets(List.of(targetA, targetB))
+                .build();
+
+        // WHEN: the same signal filter evaluates its filters against several signals
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+
+        // THEN: every signal is filtered by its own "test" value
+        assertThat(signalFilter.filter(thingModifiedWithTestAttribute(42))).containsOnly(targetA, targetB);
+        assertThat(signalFilter.filter(thingModifiedWithTestAttribute(10))).isEmpty();
+        assertThat(signalFilter.filter(thingModifiedWithTestAttribute(50))).containsOnly(targetA, targetB);
+        assertThat(signalFilter.filter(thingModifiedWithTestAttribute(23))).isEmpty();
+    }
+
+    private static ThingModified thingModifiedWithTestAttribute(final int value) {
+        final Thing thing = Thing.newBuilder()
+                .setId(THING_ID)
+                .setAttribute(JsonPointer.of("test"), JsonValue.of(value))
+                .build();
+        final DittoHeaders headers = DittoHeaders.newBuilder()
+                .readGrantedSubjects(List.of(AUTHORIZED))
+                .build();
+        return ThingModified.of(thing, 3L, headers);
+    }
+
 }
@@ -14,8 +14,6 @@ package org.eclipse.ditto.services.gateway.endpoints.routes;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
@@ -33,6 +31,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -71,7 +70,6 @@ import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.RunnableGraph;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
-import akka.stream.javadsl.StreamConverters;
 import akka.util.ByteString;
 
 /**
@@ -192,6 +190,27 @@ public abstract class AbstractRoute extends AllDirectives {
         return handlePerRequest(ctx, dittoHeaders, payloadSource, requestJsonToCommandFunction, null);
     }
 
+    /**
+     * Handle a request by converting its JSON body to a command. The UTF-8 encoded body is parsed directly without
+     * decoding it to a string first.
+     *
+     * @param ctx the request context.
+     * @param dittoHeaders the extracted Ditto headers.
+     * @param payloadSource source of the request body.
+     * @param requestJsonValueToCommandFunction function converting the parsed request body to a command.
+     * @return the request handling route.
+     */
+    protected Route handlePerJsonRequest(final RequestContext ctx,
+            final DittoHeaders dittoHeaders,
+            final Source<ByteString, ?> payloadSource,
+            final Function<JsonValue, Command<?>> requestJsonValueToCommandFunction) {
+
+        return handlePerRequestWithPayloadBytes(ctx, dittoHeaders, payloadSource,
+                payload -> requestJsonValueToCommandFunction.apply(
+                        DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.readFrom(payload.toArray()))),
+                null);
+    }
+
     protected Route handlePerRequest(final RequestContext ctx, final Command<?> command) {
         return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(), emptyRequestBody -> command);
     }
@@ -209,6 +228,16 @@ public abstract class AbstractRoute extends AllDirectives {
             final Function<String, Command<?>> requestJsonToCommandFunction,
             @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
 
+        return handlePerRequestWithPayloadBytes(ctx, dittoHeaders, payloadSource,
+                payload -> requestJsonToCommandFunction.apply(payload.utf8String()), responseTransformFunction);
+    }
+
+    private Route handlePerRequestWithPayloadBytes(final RequestContext ctx,
+            final DittoHeaders dittoHeaders,
+            final Source<ByteString, ?> payloadSource,
+            final Function<ByteString, Command<?>> payloadToCommandFunction,
+            @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
+
         // check if Akka HTTP timeout was overwritten by our code (e.g. for claim messages)
         final boolean increasedAkkaHttpTimeout = ctx.getRequest().getHeader(TimeoutAccess.class)
                 .map(TimeoutAccess::timeoutAccess)
@@ -218,14 +247,14 @@ public abstract class AbstractRoute extends AllDirectives {
                 .isPresent();
 
         if (increasedAkkaHttpTimeout) {
-            return doHandlePerRequest(ctx, dittoHeaders, payloadSource, requestJsonToCommandFunction,
+            return doHandlePerRequest(ctx, dittoHeaders, payloadSource, payloadToCommandFunction,
                     responseTransformFunction);
         } else {
             return withCustomRequestTimeout(dittoHeaders.getTimeout().orElse(null),
                     this::validateCommandTimeout,
                     null, // don't set default timeout in order to use the configured akka-http default
                     timeout -> doHandlePerRequest(ctx, dittoHeaders.toBuilder().timeout(timeout).build(), payloadSource,
-                            requestJsonToCommandFunction, responseTransformFunction));
+                            payloadToCommandFunction, responseTransformFunction));
         }
     }
 
@@ -236,18 +265,17 @@ public abstract class AbstractRoute extends AllDirectives {
     private Route doHandlePerRequest(final RequestContext ctx,
             final DittoHeaders dittoHeaders,
             final Source<ByteString, ?> payloadSource,
-            final Function<String, Command<?>> requestJsonToCommandFunction,
+            final Function<ByteString, Command<?>> payloadToCommandFunction,
             @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
 
         final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
 
         runWithSupervisionStrategy(payloadSource
                 .fold(ByteString.emptyByteString(), ByteString::concat)
-                .map(ByteString::utf8String)
                 .map(x -> {
                     try {
                         // DON'T replace this try-catch by .recover: The supervising strategy is called before recovery!
-                        final Command<?> command = requestJsonToCommandFunction.apply(x);
+                        final Command<?> command = payloadToCommandFunction.apply(x);
                         final JsonSchemaVersion schemaVersion =
                                 dittoHeaders.getSchemaVersion().orElse(command.getImplementedSchemaVersion());
                         return command.implementsSchemaVersion(schemaVersion) ? command
@@ -264,30 +292,31 @@ public abstract class AbstractRoute extends AllDirectives {
 
         // optional step: transform the response entity:
         if (responseTransformFunction != null) {
-            final CompletableFuture<HttpResponse> transformedResponse = httpResponseFuture.thenApply(response -> {
+            final CompletableFuture<HttpResponse> transformedResponse = httpResponseFuture.thenCompose(response -> {
                 final boolean isSuccessfulResponse = response.status().isSuccess();
                 // we have to check if response is empty, because otherwise we'll get an IOException when trying to
                 // read it
                 final boolean isEmptyResponse = response.entity().isKnownEmpty();
                 if (isSuccessfulResponse && !isEmptyResponse) {
-                    final InputStream inputStream = runWithSupervisionStrategy(response.entity()
+                    final CompletionStage<ByteString> entityBytes = runWithSupervisionStrategy(response.entity()
                             .getDataBytes()
-                            .fold(ByteString.emptyByteString(), ByteString::concat)
-                            .toMat(StreamConverters.asInputStream(), Keep.right())
+                            .toMat(Sink.fold(ByteString.emptyByteString(), ByteString::concat), Keep.right())
                     );
-                    final JsonValue jsonValue = JsonFactory.readFrom(new InputStreamReader(inputStream));
-                    try {
-                        final JsonValue transformed = responseTransformFunction.apply(jsonValue);
-                        return response.withEntity(ContentTypes.APPLICATION_JSON, transformed.toString());
-                    } catch (final Exception e) {
-                        throw JsonParseException.newBuilder()
-                                .message("Could not transform JSON: " + e.getMessage())
-                                .cause(e)
-                                .build();
-                    }
+                    return entityBytes.thenApply(bytes -> {
+                        final JsonValue jsonValue = JsonFactory.readFrom(bytes.toArray());
+                        try {
+                            final JsonValue transformed = responseTransformFunction.apply(jsonValue);
+                            return response.withEntity(ContentTypes.APPLICATION_JSON, transformed.toString());
+                        } catch (final Exception e) {
+                            throw JsonParseException.newBuilder()
+                                    .message("Could not transform JSON: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+                        }
+                    });
                 } else {
                     // for non-successful and empty responses, don't transform the response body
-                    return response;
+                    return CompletableFuture.completedFuture(response);
                 }
             });
             return completeWithFuture(preprocessResponse(transformedResponse));
@@ -51,6 +51,7 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.routes.things.ThingsParameter;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
+import org.eclipse.ditto.services.gateway.endpoints.utils.OutgoingSignalSerializationCache;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
@@ -116,6 +117,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private final StreamingConfig streamingConfig;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ActorRef pubSubMediator;
+    private final OutgoingSignalSerializationCache<Collection<JsonObject>> serializationCache;
 
     private SseAuthorizationEnforcer sseAuthorizationEnforcer;
     private SseConnectionSupervisor sseConnectionSupervisor;
@@ -132,6 +134,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         this.streamingConfig = streamingConfig;
         this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
         this.pubSubMediator = pubSubMediator;
+        serializationCache = OutgoingSignalSerializationCache.of(streamingConfig.getSerializationCacheSize(),
+                "gateway_sse_serialization_cache");
         sseAuthorizationEnforcer = new NoOpSseAuthorizationEnforcer();
         sseConnectionSupervisor = new NoOpSseConnectionSupervisor();
         eventSniffer = EventSniffer.noOp();
@@ -372,7 +376,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                 .thenApply(extra ->
                                         Optional.of(session.mergeThingWithExtra(event, extra))
                                                 .filter(session::matchesFilter)
-                                                .map(thing -> toNonemptyThingJson(thing, event, fields))
+                                                // SSE payloads contain no headers set for the session
+                                                .map(thing -> serializationCache.serialize(
+                                                        jsonifiable.getPublishedSignal().orElse(event),
+                                                        List.of(session.getExtraFields(), extra,
+                                                                Optional.ofNullable(fields)),
+                                                        () -> toNonemptyThingJson(thing, event, fields)))
                                                 .orElseGet(Collections::emptyList)
                                 )
                                 .exceptionally(error -> {
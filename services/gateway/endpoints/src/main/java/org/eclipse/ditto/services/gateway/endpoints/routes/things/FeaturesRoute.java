@@ -15,7 +15,6 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonKey;
-import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
@@ -318,22 +317,20 @@ final class FeaturesRoute extends AbstractRoute {
                                         // PUT /features/{featureId}/properties/<propertyJsonPointerStr>
                                         put(() -> ensureMediaTypeJsonWithFallbacksThenExtractDataBytes(ctx,
                                                 dittoHeaders,
-                                                payloadSource -> handlePerRequest(ctx, dittoHeaders, payloadSource,
-                                                        propertyJson -> ModifyFeatureProperty.of(thingId, featureId,
+                                                payloadSource -> handlePerJsonRequest(ctx, dittoHeaders, payloadSource,
+                                                        propertyValue -> ModifyFeatureProperty.of(thingId, featureId,
                                                                 JsonFactory.newPointer(jsonPointerString),
-                                                                DittoJsonException.wrapJsonRuntimeException(
-                                                                        () -> JsonFactory.readFrom(propertyJson)),
+                                                                propertyValue,
                                                                 dittoHeaders))
                                                 )
                                         ),
                                         // PATCH /features/{featureId}/properties/<propertyJsonPointerStr>
                                         patch(() -> ensureMediaTypeMergePatchJsonThenExtractDataBytes(ctx,
                                                 dittoHeaders,
-                                                payloadSource -> handlePerRequest(ctx, dittoHeaders, payloadSource,
-                                                        propertyJson -> MergeThing.withFeatureProperty(thingId,
+                                                payloadSource -> handlePerJsonRequest(ctx, dittoHeaders, payloadSource,
+                                                        propertyValue -> MergeThing.withFeatureProperty(thingId,
                                                                 featureId, JsonFactory.newPointer(jsonPointerString),
-                                                                DittoJsonException.wrapJsonRuntimeException(
-                                                                        () -> JsonFactory.readFrom(propertyJson)),
+                                                                propertyValue,
                                                                 dittoHeaders))
                                                 )
                                         ),
@@ -423,23 +420,21 @@ final class FeaturesRoute extends AbstractRoute {
                                         // PUT /features/{featureId}/desiredProperties/<desiredPropertyJsonPointerStr>
                                         put(() -> ensureMediaTypeJsonWithFallbacksThenExtractDataBytes(ctx,
                                                 dittoHeaders,
-                                                payloadSource -> handlePerRequest(ctx, dittoHeaders, payloadSource,
-                                                        propertyJson -> ModifyFeatureDesiredProperty.of(thingId,
+                                                payloadSource -> handlePerJsonRequest(ctx, dittoHeaders, payloadSource,
+                                                        propertyValue -> ModifyFeatureDesiredProperty.of(thingId,
                                                                 featureId,
                                                                 JsonFactory.newPointer(jsonPointerString),
-                                                                DittoJsonException.wrapJsonRuntimeException(
-                                                                        () -> JsonFactory.readFrom(propertyJson)),
+                                                                propertyValue,
                                                                 dittoHeaders))
                                                 )
                                         ),
                                         // PATCH /features/{featureId}/desiredProperties/<desiredPropertyJsonPointerStr>
                                         patch(() -> ensureMediaTypeMergePatchJsonThenExtractDataBytes(ctx,
                                                 dittoHeaders,
-                                                payloadSource -> handlePerRequest(ctx, dittoHeaders, payloadSource,
-                                                        propertyJson -> MergeThing.withFeatureDesiredProperty(thingId,
+                                                payloadSource -> handlePerJsonRequest(ctx, dittoHeaders, payloadSource,
+                                                        propertyValue -> MergeThing.withFeatureDesiredProperty(thingId,
                                                                 featureId, JsonFactory.newPointer(jsonPointerString),
-                                                                DittoJsonException.wrapJsonRuntimeException(
-                                                                        () -> JsonFactory.readFrom(propertyJson)),
+                                                                propertyValue,
                                                                 dittoHeaders))
                                                 )
                                         ),
@@ -452,22 +452,20 @@ public final class ThingsRoute extends AbstractRoute {
                         // PUT /things/<thingId>/attributes/<attributePointerStr>
                         put(() -> ensureMediaTypeJsonWithFallbacksThenExtractDataBytes(ctx, dittoHeaders,
                                 payloadSource ->
-                                        handlePerRequest(ctx, dittoHeaders, payloadSource, attributeValueJson ->
+                                        handlePerJsonRequest(ctx, dittoHeaders, payloadSource, attributeValue ->
                                                 ModifyAttribute.of(thingId,
                                                         JsonFactory.newPointer(jsonPointerString),
-                                                        DittoJsonException.wrapJsonRuntimeException(() ->
-                                                                JsonFactory.readFrom(attributeValueJson)),
+                                                        attributeValue,
                                                         dittoHeaders))
                                 )
                         ),
                         // PATCH /things/<thingId>/attributes/<attributePointerStr>
                         patch(() -> ensureMediaTypeMergePatchJsonThenExtractDataBytes(ctx, dittoHeaders,
                                 payloadSource ->
-                                        handlePerRequest(ctx, dittoHeaders, payloadSource, attributeValueJson ->
+                                        handlePerJsonRequest(ctx, dittoHeaders, payloadSource, attributeValue ->
                                                 MergeThing.withAttribute(thingId,
                                                         JsonFactory.newPointer(jsonPointerString),
-                                                        DittoJsonException.wrapJsonRuntimeException(() ->
-                                                                JsonFactory.readFrom(attributeValueJson)),
+                                                        attributeValue,
                                                         dittoHeaders)
                                         )
                                 )
@@ -25,26 +25,32 @@ import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.Prot
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessageType.STOP_SEND_MESSAGES;
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessageType.STOP_SEND_POLICY_ANNOUNCEMENTS;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -72,6 +78,7 @@ import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.utils.EventSniffer;
 import org.eclipse.ditto.services.gateway.endpoints.utils.GatewaySignalEnrichmentProvider;
+import org.eclipse.ditto.services.gateway.endpoints.utils.OutgoingSignalSerializationCache;
 import org.eclipse.ditto.services.gateway.security.HttpHeader;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.IncomingSignal;
@@ -105,6 +112,7 @@ import akka.actor.ActorRef;
 import akka.event.Logging;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ws.BinaryMessage;
 import akka.http.javadsl.model.ws.Message;
 import akka.http.javadsl.model.ws.TextMessage;
 import akka.http.javadsl.model.ws.WebSocketUpgrade;
@@ -126,6 +134,7 @@ import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Merge;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import scala.util.Either;
 import scala.util.Left;
 import scala.util.Right;
@@ -136,6 +145,13 @@ import scala.util.Right;
 @NotThreadSafe
 public final class WebSocketRoute implements WebSocketRouteBuilder {
 
+    /**
+     * Websocket subprotocol with which clients request Ditto protocol messages as CBOR in binary frames.
+     * Several outgoing messages may be sent as a CBOR sequence in one binary frame. Stream control messages and their
+     * acknowledgements remain text frames.
+     */
+    public static final String CBOR_SUBPROTOCOL = "ditto-protocol-cbor";
+
     /**
      * The backend sends the protocol message above suffixed by ":ACK" when the subscription was created. E.g.: {@code
      * START-SEND-EVENTS:ACK}
@@ -144,6 +160,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     private static final String STREAMING_TYPE_WS = "WS";
 
+    private static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+
     private static final String BEARER = "Bearer";
 
     private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(WebSocketRoute.class);
@@ -170,6 +188,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
     private final Materializer materializer;
+    private final OutgoingSignalSerializationCache<JsonObject> serializationCache;
 
     private EventSniffer<String> incomingMessageSniffer;
     private EventSniffer<String> outgoingMessageSniffer;
@@ -194,6 +213,8 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         signalEnrichmentProvider = null;
         headerTranslator = HeaderTranslator.empty();
         this.materializer = materializer;
+        serializationCache = OutgoingSignalSerializationCache.of(streamingConfig.getSerializationCacheSize(),
+                "gateway_websocket_serialization_cache");
     }
 
     /**
@@ -289,7 +310,9 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
         final AuthorizationContext authContext = dittoHeaders.getAuthorizationContext();
         final ThreadSafeDittoLogger logger = LOGGER.withCorrelationId(connectionCorrelationId);
-        logger.info("Creating WebSocket for connection authContext: <{}>", authContext);
+        final boolean binary = isCborSubprotocolRequested(upgradeToWebSocket);
+        logger.info("Creating WebSocket for connection authContext: <{}>, CBOR subprotocol: <{}>", authContext,
+                binary);
 
         return retrieveWebsocketConfig()
                 .thenApply(overwriteWebSocketConfig(dittoHeaders))
@@ -297,17 +320,31 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                     final Pair<Connect, Flow<DittoRuntimeException, Message, NotUsed>> outgoing =
                             createOutgoing(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
                                     request,
-                                    websocketConfig, signalEnrichmentFacade, logger);
+                                    websocketConfig, signalEnrichmentFacade, binary, logger);
 
                     final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                             createIncoming(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
                                     request,
-                                    websocketConfig, outgoing.first(), logger);
+                                    websocketConfig, outgoing.first(), binary, logger);
 
-                    return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing.second()));
+                    if (binary) {
+                        return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing.second()),
+                                CBOR_SUBPROTOCOL);
+                    } else {
+                        return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing.second()));
+                    }
                 });
     }
 
+    private static boolean isCborSubprotocolRequested(final WebSocketUpgrade upgradeToWebSocket) {
+        for (final String requestedProtocol : upgradeToWebSocket.getRequestedProtocols()) {
+            if (CBOR_SUBPROTOCOL.equalsIgnoreCase(requestedProtocol.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private java.util.function.Function<WebsocketConfig, WebsocketConfig> overwriteWebSocketConfig(
             final DittoHeaders dittoHeaders) {
         return wsConfig -> webSocketConfigProvider.apply(dittoHeaders, wsConfig);
@@ -346,12 +383,13 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             final Connect connect,
+            final boolean binary,
             final ThreadSafeDittoLogger logger) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
             final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, logger)
+                    builder.add(getStrictifyFlow(request, binary, logger)
                             .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig())));
 
             final FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException> select =
@@ -402,22 +440,22 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
     }
 
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final Logger logger) {
+    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final boolean binary,
+            final Logger logger) {
+
         return Flow.<Message>create()
                 .via(Flow.fromFunction(msg -> {
                     IN_COUNTER.increment();
                     return msg;
                 }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
+                .filter(msg -> msg.isText() || binary)
+                .flatMapConcat(msg -> {
+                    if (msg.isText()) {
+                        return strictifyText(msg.asTextMessage());
                     } else {
-                        return textMsg.getStreamedText();
+                        return strictifyBinary(msg.asBinaryMessage(), logger);
                     }
                 })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
                 .via(incomingMessageSniffer.toAsyncFlow(request))
                 .via(Flow.fromFunction(result -> {
                     logger.debug("Received incoming WebSocket message: {}", result);
@@ -428,6 +466,30 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     }
 
+    private static Source<String, ?> strictifyText(final TextMessage textMsg) {
+        final Source<String, ?> text = textMsg.isStrict() ? Source.single(textMsg.getStrictText()) :
+                textMsg.getStreamedText();
+        return text.fold("", (str1, str2) -> str1 + str2);
+    }
+
+    /**
+     * Decode a binary frame of a websocket with CBOR subprotocol into the JSON string of the Ditto protocol message.
+     * Frames which are no CBOR are passed on as UTF-8 so that building the signal reports the error to the client.
+     */
+    private static Source<String, ?> strictifyBinary(final BinaryMessage binaryMsg, final Logger logger) {
+        final Source<ByteString, ?> data = binaryMsg.isStrict() ? Source.single(binaryMsg.getStrictData()) :
+                binaryMsg.getStreamedData();
+        return data.fold(ByteString.emptyByteString(), ByteString::concat)
+                .map(bytes -> {
+                    try {
+                        return CBOR_FACTORY.readFrom(bytes.toArray()).toString();
+                    } catch (final RuntimeException e) {
+                        logger.debug("Received binary WebSocket message which is no CBOR: {}", e.getMessage());
+                        return bytes.utf8String();
+                    }
+                });
+    }
+
     private Graph<FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException>, NotUsed>
     selectStreamControlOrSignal(
             final JsonSchemaVersion version,
@@ -480,6 +542,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             @Nullable final SignalEnrichmentFacade signalEnrichmentFacade,
+            final boolean binary,
             final ThreadSafeDittoLogger logger) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
@@ -519,7 +582,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 Flow.fromFunction(SessionedJsonifiable::error);
 
         final int signalEnrichmentParallelism = streamingConfig.getParallelism();
-        final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow =
+        final Flow<SessionedJsonifiable, JsonValue, NotUsed> jsonFlow =
                 Flow.<SessionedJsonifiable>create()
                         .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade, logger))
                         .mapConcat(x -> x)
@@ -527,16 +590,74 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                             logger.debug("Sending outgoing WebSocket message: {}", result);
                             return result;
                         }))
-                        .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
-                        .via(Flow.fromFunction(msg -> {
+                        .via(outgoingMessageSniffer.toAsyncFlow(request, WebSocketRoute::toText))
+                        .via(Flow.fromFunction(result -> {
                             OUT_COUNTER.increment();
-                            return msg;
+                            return result;
                         }));
+        final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow = binary
+                ? jsonFlow.via(toBinaryMessages(websocketConfig))
+                : jsonFlow.<Message>map(json -> TextMessage.create(toText(json)));
 
         return Pair.create(connect, joinOutgoingFlows(eventAndResponseSource, errorFlow, messageFlow));
     }
 
+    /**
+     * Outgoing Ditto protocol messages are JSON objects; stream control acknowledgements are JSON strings whose value
+     * is sent as it is.
+     */
+    private static String toText(final JsonValue outgoingMessage) {
+        return outgoingMessage.isString() ? outgoingMessage.asString() : outgoingMessage.toString();
+    }
+
+    /**
+     * Encode Ditto protocol messages as CBOR in binary frames and send consecutive binary frames as one CBOR sequence
+     * if batching is configured. Stream control acknowledgements remain text frames.
+     */
+    private static Flow<JsonValue, Message, NotUsed> toBinaryMessages(final WebsocketConfig websocketConfig) {
+        final Flow<JsonValue, Message, NotUsed> toMessage = Flow.fromFunction(json -> json.isString()
+                ? TextMessage.create(json.asString())
+                : BinaryMessage.create(toCbor(json)));
+        final int batchSize = websocketConfig.getBinaryBatchSize();
+        if (batchSize <= 1) {
+            return toMessage;
+        }
+        return toMessage.groupedWithin(batchSize, websocketConfig.getBinaryBatchDelay())
+                .mapConcat(WebSocketRoute::concatConsecutiveBinaryMessages);
+    }
+
+    /**
+     * Encode a Ditto protocol message as CBOR. JSON objects remember their CBOR representation, so that a message
+     * shared by the serialization cache is encoded once for all sessions.
+     */
+    private static ByteString toCbor(final JsonValue json) {
+        try {
+            return ByteString.fromArrayUnsafe(CBOR_FACTORY.toByteArray(json));
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to encode outgoing message as CBOR", e);
+        }
+    }
+
+    static List<Message> concatConsecutiveBinaryMessages(final List<Message> messages) {
+        final List<Message> result = new ArrayList<>(messages.size());
+        ByteString batch = ByteString.emptyByteString();
+        for (final Message message : messages) {
+            if (message.isText()) {
+                if (!batch.isEmpty()) {
+                    result.add(BinaryMessage.create(batch));
+                    batch = ByteString.emptyByteString();
+                }
+                result.add(message);
+            } else {
+                batch = batch.concat(message.asBinaryMessage().getStrictData());
+            }
+        }
+        if (!batch.isEmpty()) {
+            result.add(BinaryMessage.create(batch));
+        }
+        return result;
+    }
+
     private static Set<AcknowledgementLabel> readDeclaredAcknowledgementLabels(final DittoHeaders dittoHeaders) {
         return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.DECLARED_ACKS.getKey()))
                 .map(JsonFactory::readFrom)
@@ -645,7 +766,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return signal.setDittoHeaders(internalHeadersBuilder.build());
     }
 
-    private Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
+    private Function<SessionedJsonifiable, CompletionStage<Collection<JsonValue>>> postprocess(
             final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
             final ThreadSafeDittoLogger logger) {
 
@@ -653,22 +774,41 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
             if (jsonifiable instanceof StreamingAck) {
                 return CompletableFuture.completedFuture(
-                        Collections.singletonList(streamingAckToString((StreamingAck) jsonifiable))
+                        Collections.singletonList(JsonValue.of(streamingAckToString((StreamingAck) jsonifiable)))
                 );
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
-            return extraFuture.<Collection<String>>thenApply(extra -> {
+            return extraFuture.<Collection<JsonValue>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    return Collections.singletonList(toProtocolJson(sessionedJsonifiable, adapter, extra));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 return Collections.emptyList();
-            }).exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger));
+            }).exceptionally(error -> WebSocketRoute.reportEnrichmentError(error, adapter,
+                    jsonifiableToAdaptable(jsonifiable, adapter), logger));
         };
     }
 
+    /**
+     * Convert a Jsonifiable together with its extra fields into a Ditto protocol message. Signals published to
+     * streaming sessions are converted once for all sessions of this gateway instance which use the same protocol
+     * adapter, receive the same extra fields and the same headers. Headers differ between sessions only if their
+     * acknowledgement forwarders changed the correlation ID or the requested acknowledgements. The shared JSON object
+     * remembers its string and CBOR representations, so that it is also serialized once.
+     */
+    JsonObject toProtocolJson(final SessionedJsonifiable sessionedJsonifiable, final ProtocolAdapter adapter,
+            final JsonObject extra) {
+
+        final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
+        final Supplier<JsonObject> serializer =
+                () -> toJsonWithExtra(jsonifiableToAdaptable(jsonifiable, adapter), extra);
+        return sessionedJsonifiable.getPublishedSignal()
+                .map(publishedSignal -> serializationCache.serialize(publishedSignal,
+                        List.of(adapter, extra, sessionedJsonifiable.getDittoHeaders()), serializer))
+                .orElseGet(serializer);
+    }
+
     private void issuePotentialWeakAcknowledgements(final SessionedJsonifiable sessionedJsonifiable) {
         sessionedJsonifiable.getSession().ifPresent(session -> {
             final DittoHeaders dittoHeaders = sessionedJsonifiable.getDittoHeaders();
@@ -698,7 +838,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Acknowledgement.weak(label, entityId, dittoHeaders, payload);
     }
 
-    private static Collection<String> reportEnrichmentError(final Throwable error,
+    private static Collection<JsonValue> reportEnrichmentError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable,
             final ThreadSafeDittoLogger logger) {
@@ -723,12 +863,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                                 adaptable.getDittoHeaders()
                         )
                 ));
-        return Collections.singletonList(errorAdaptable.toJsonString());
+        return Collections.singletonList(errorAdaptable.toJson());
     }
 
-    private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
+    private static JsonObject toJsonWithExtra(final Adaptable adaptable, final JsonObject extra) {
         final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJson();
     }
 
     /**
@@ -745,7 +885,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .filter(session -> jsonifiable instanceof Signal)
                 .map(session ->
                         // evaluate to false if filter is present but does not match or has insufficient info to match
-                        session.matchesFilter(session.mergeThingWithExtra((Signal<?>) jsonifiable, extra))
+                        session.matchesFilter(session.mergeThingJsonWithExtra((Signal<?>) jsonifiable, extra))
                 )
                 .orElse(true);
     }
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.endpoints.utils;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import akka.NotUsed;
 import akka.http.javadsl.model.HttpRequest;
@@ -49,6 +50,24 @@ public interface EventSniffer<T> {
                                 createSink(request)))));
     }
 
+    /**
+     * Create an async flow for sniffing elements which are converted into events only for the sink for sniffed events.
+     *
+     * @param request the HTTP request that started the event stream.
+     * @param toEvent converts passing elements into events.
+     * @param <S> type of passing elements.
+     * @return flow to pass elements through with a wiretap attached over an async barrier to the sink for sniffed
+     * events.
+     */
+    default <S> Flow<S, S, NotUsed> toAsyncFlow(final HttpRequest request, final Function<S, T> toEvent) {
+        return Flow.<S>create().wireTap(
+                Flow.<S>create()
+                        .async()
+                        .map(toEvent::apply)
+                        .to(Sink.lazyInitAsync(() -> CompletableFuture.completedFuture(
+                                createSink(request)))));
+    }
+
     /**
      * Create an event sniffer that does not do anything.
      *
@@ -77,6 +96,11 @@ public interface EventSniffer<T> {
         public Flow<T, T, NotUsed> toAsyncFlow(final HttpRequest request) {
             return Flow.create();
         }
+
+        @Override
+        public <S> Flow<S, S, NotUsed> toAsyncFlow(final HttpRequest request, final Function<S, T> toEvent) {
+            return Flow.create();
+        }
     }
 
 }
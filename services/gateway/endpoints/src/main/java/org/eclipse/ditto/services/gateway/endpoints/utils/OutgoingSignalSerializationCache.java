@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Shares the serialized form of outgoing signals between the streaming sessions of a gateway instance.
+ * <p>
+ * All streaming sessions of a gateway instance which are subscribed for a signal receive the same signal instance.
+ * Serializations are remembered by the identity of that instance and by the shape of the output, e. g. the protocol
+ * adapter, the extra fields and the selected fields. A signal published to many sessions is thus serialized once per
+ * distinct shape instead of once per session.
+ * </p>
+ *
+ * @param <T> type of the serialized form.
+ */
+@ThreadSafe
+public final class OutgoingSignalSerializationCache<T> {
+
+    @Nullable private final ConcurrentMap<Object, Map<List<?>, T>> serializations;
+
+    private OutgoingSignalSerializationCache(@Nullable final ConcurrentMap<Object, Map<List<?>, T>> serializations) {
+        this.serializations = serializations;
+    }
+
+    /**
+     * Create a cache of serialized signals.
+     *
+     * @param size the maximum number of signals to remember the serializations of; 0 disables sharing.
+     * @param cacheName name of the cache for metrics or {@code null} to not report metrics.
+     * @param <T> type of the serialized form.
+     * @return the cache.
+     */
+    public static <T> OutgoingSignalSerializationCache<T> of(final int size, @Nullable final String cacheName) {
+        if (size <= 0) {
+            return disabled();
+        } else {
+            // weak keys are compared by identity and do not keep signals alive which are no longer published
+            final CaffeineCache<Object, Map<List<?>, T>> cache =
+                    CaffeineCache.of(Caffeine.newBuilder().weakKeys().maximumSize(size), cacheName);
+            return new OutgoingSignalSerializationCache<>(cache.asMap());
+        }
+    }
+
+    /**
+     * Create a cache which never remembers anything, i. e. each session serializes each signal itself.
+     *
+     * @param <T> type of the serialized form.
+     * @return the disabled cache.
+     */
+    public static <T> OutgoingSignalSerializationCache<T> disabled() {
+        return new OutgoingSignalSerializationCache<>(null);
+    }
+
+    /**
+     * Retrieve the serialized form of a signal in some shape or compute it if no session serialized the same signal
+     * instance in the same shape before.
+     *
+     * @param signal the signal instance as received from pub-sub.
+     * @param shape everything besides the signal the serialized form depends on; elements must implement equals and
+     * hashCode.
+     * @param serializer computes the serialized form.
+     * @return the serialized form.
+     */
+    public T serialize(final Object signal, final List<?> shape, final Supplier<T> serializer) {
+        if (serializations == null) {
+            return serializer.get();
+        }
+        return serializations.computeIfAbsent(signal, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(shape, s -> serializer.get());
+    }
+
+}
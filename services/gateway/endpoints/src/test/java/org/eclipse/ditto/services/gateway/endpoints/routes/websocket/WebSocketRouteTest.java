@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.gateway.streaming.Connect;
+import org.eclipse.ditto.services.gateway.streaming.IncomingSignal;
+import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
+import org.eclipse.ditto.services.gateway.streaming.actors.StreamingActor;
+import org.eclipse.ditto.services.gateway.streaming.actors.StreamingSession;
+import org.eclipse.ditto.services.utils.pubsub.StreamingType;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.ws.BinaryMessage;
+import akka.http.javadsl.model.ws.Message;
+import akka.http.javadsl.model.ws.TextMessage;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRouteResult;
+import akka.http.javadsl.testkit.WSProbe;
+import akka.stream.javadsl.SourceQueueWithComplete;
+import akka.testkit.TestActor;
+import akka.testkit.TestProbe;
+import akka.util.ByteString;
+
+/**
+ * Tests {@link WebSocketRoute}.
+ */
+public final class WebSocketRouteTest extends EndpointTestBase {
+
+    private static final ProtocolAdapter ADAPTER = DittoProtocolAdapter.newInstance();
+    private static final JacksonCborFactory CBOR_FACTORY = new JacksonCborFactory();
+    private static final String CBOR_SUBPROTOCOL = "ditto-protocol-cbor";
+    private static final AttributeModified EVENT = AttributeModified.of(ThingId.of("thing:id"), JsonPointer.of("x"),
+            JsonValue.of(5), 1L, DittoHeaders.newBuilder().correlationId("cid").build());
+
+    private TestProbe sessionActor;
+    private CompletableFuture<Connect> connect;
+    private WebSocketRoute underTest;
+
+    @Before
+    public void setUp() {
+        sessionActor = TestProbe.apply(system());
+        connect = new CompletableFuture<>();
+        final TestProbe streamingActor = TestProbe.apply(system());
+        streamingActor.setAutoPilot(new StreamingActorAutoPilot());
+        underTest = WebSocketRoute.getInstance(streamingActor.ref(), streamingConfig, materializer());
+    }
+
+    @Test
+    public void sessionsReceivingOnePublishedEventShareItsSerialization() {
+        final DittoHeaders headers = DittoHeaders.newBuilder().correlationId("cid").build();
+        final AttributeModified publishedEvent = AttributeModified.of(ThingId.of("thing:id"), JsonPointer.of("x"),
+                JsonValue.of(5), 1L, headers);
+
+        // the acknowledgement forwarder of each session copies the published event
+        final JsonObject serialization1 = underTest.toProtocolJson(
+                sessioned(publishedEvent.setDittoHeaders(headers), publishedEvent), ADAPTER, JsonObject.empty());
+        final JsonObject serialization2 = underTest.toProtocolJson(
+                sessioned(publishedEvent.setDittoHeaders(headers), publishedEvent), ADAPTER, JsonObject.empty());
+
+        assertThat(serialization2).isSameAs(serialization1);
+        assertThat(serialization1.toString()).contains("cid");
+    }
+
+    @Test
+    public void sessionsReceivingOnePublishedEventWithDifferentHeadersDoNotShareItsSerialization() {
+        final DittoHeaders headers = DittoHeaders.newBuilder().correlationId("cid").build();
+        final AttributeModified publishedEvent = AttributeModified.of(ThingId.of("thing:id"), JsonPointer.of("x"),
+                JsonValue.of(5), 1L, headers);
+        final DittoHeaders conflictFreeHeaders = headers.toBuilder().correlationId("cid_1").build();
+
+        final JsonObject serialization1 = underTest.toProtocolJson(
+                sessioned(publishedEvent.setDittoHeaders(headers), publishedEvent), ADAPTER, JsonObject.empty());
+        final JsonObject serialization2 = underTest.toProtocolJson(
+                sessioned(publishedEvent.setDittoHeaders(conflictFreeHeaders), publishedEvent), ADAPTER,
+                JsonObject.empty());
+
+        assertThat(serialization1.toString()).doesNotContain("cid_1");
+        assertThat(serialization2.toString()).contains("cid_1");
+    }
+
+    @Test
+    public void negotiateCborSubprotocolIfRequested() {
+        final WSProbe client = WSProbe.create(system(), materializer());
+
+        final TestRouteResult result = connect(client, Arrays.asList("other-protocol", CBOR_SUBPROTOCOL));
+
+        result.assertStatusCode(StatusCodes.SWITCHING_PROTOCOLS);
+        result.assertHeaderExists("Sec-WebSocket-Protocol", CBOR_SUBPROTOCOL);
+    }
+
+    @Test
+    public void sendOutgoingMessagesAsCborInBinaryFrames() throws Exception {
+        final WSProbe client = WSProbe.create(system(), materializer());
+        connect(client, Collections.singletonList(CBOR_SUBPROTOCOL));
+
+        eventAndResponsePublisher().offer(sessioned(EVENT, EVENT));
+
+        final Message message = client.expectMessage();
+        assertThat(message.isText()).isFalse();
+        assertThat(CBOR_FACTORY.readFrom(message.asBinaryMessage().getStrictData().toArray()))
+                .isEqualTo(toProtocolJson(EVENT));
+    }
+
+    @Test
+    public void sendStreamingAcknowledgementsInTextFramesIfCborIsNegotiated() throws Exception {
+        final WSProbe client = WSProbe.create(system(), materializer());
+        connect(client, Collections.singletonList(CBOR_SUBPROTOCOL));
+
+        eventAndResponsePublisher().offer(SessionedJsonifiable.ack(StreamingType.EVENTS, true, "cid"));
+
+        client.expectMessage("START-SEND-EVENTS:ACK");
+    }
+
+    @Test
+    public void decodeIncomingCborInBinaryFrames() throws IOException {
+        final WSProbe client = WSProbe.create(system(), materializer());
+        connect(client, Collections.singletonList(CBOR_SUBPROTOCOL));
+        final RetrieveThing command = RetrieveThing.of(ThingId.of("thing:id"), DittoHeaders.empty());
+
+        client.sendMessage(ByteString.fromArray(CBOR_FACTORY.toByteArray(toProtocolJson(command))));
+
+        final IncomingSignal incomingSignal = sessionActor.expectMsgClass(IncomingSignal.class);
+        assertThat(incomingSignal.getSignal()).isInstanceOf(RetrieveThing.class);
+        assertThat(((RetrieveThing) incomingSignal.getSignal()).getEntityId()).isEqualTo(command.getEntityId());
+    }
+
+    @Test
+    public void sendJsonInTextFramesAndIgnoreBinaryFramesWithoutCborSubprotocol() throws Exception {
+        final WSProbe client = WSProbe.create(system(), materializer());
+        final TestRouteResult result = connect(client, Collections.emptyList());
+        result.assertStatusCode(StatusCodes.SWITCHING_PROTOCOLS);
+        result.assertHeaderKindNotExists("Sec-WebSocket-Protocol");
+
+        eventAndResponsePublisher().offer(sessioned(EVENT, EVENT));
+        final Message message = client.expectMessage();
+        assertThat(message.isText()).isTrue();
+        assertThat(JsonObject.of(message.asTextMessage().getStrictText())).isEqualTo(toProtocolJson(EVENT));
+
+        final RetrieveThing command = RetrieveThing.of(ThingId.of("thing:id"), DittoHeaders.empty());
+        client.sendMessage(ByteString.fromArray(CBOR_FACTORY.toByteArray(toProtocolJson(command))));
+        sessionActor.expectNoMessage();
+    }
+
+    @Test
+    public void concatConsecutiveBinaryMessagesBetweenTextMessages() {
+        final List<Message> messages = Arrays.asList(
+                BinaryMessage.create(ByteString.fromString("a")),
+                BinaryMessage.create(ByteString.fromString("b")),
+                TextMessage.create("START-SEND-EVENTS:ACK"),
+                BinaryMessage.create(ByteString.fromString("c")));
+
+        final List<Message> result = WebSocketRoute.concatConsecutiveBinaryMessages(messages);
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).asBinaryMessage().getStrictData()).isEqualTo(ByteString.fromString("ab"));
+        assertThat(result.get(1).asTextMessage().getStrictText()).isEqualTo("START-SEND-EVENTS:ACK");
+        assertThat(result.get(2).asBinaryMessage().getStrictData()).isEqualTo(ByteString.fromString("c"));
+    }
+
+    private TestRouteResult connect(final WSProbe client, final List<String> subprotocols) {
+        final Route route = underTest.build(JsonSchemaVersion.V_2, "connection-cid", DittoHeaders.empty(), ADAPTER);
+        final TestRouteResult result =
+                testRoute(route).run(WS(Uri.create("/ws/2"), client.flow(), materializer(), subprotocols));
+        return result;
+    }
+
+    private SourceQueueWithComplete<SessionedJsonifiable> eventAndResponsePublisher() throws Exception {
+        return connect.get(10L, TimeUnit.SECONDS).getEventAndResponsePublisher();
+    }
+
+    private static JsonObject toProtocolJson(final Signal<?> signal) {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(ADAPTER.toAdaptable(signal)).toJson();
+    }
+
+    private static SessionedJsonifiable sessioned(final Signal<?> signal, final Signal<?> publishedSignal) {
+        final StreamingSession session = mock(StreamingSession.class);
+        when(session.matchesFilter(nullable(JsonObject.class))).thenReturn(true);
+        return SessionedJsonifiable.signal(signal, publishedSignal, DittoHeaders.empty(), session);
+    }
+
+    /**
+     * Answers the websocket route like the streaming actor and the streaming session actor.
+     */
+    private final class StreamingActorAutoPilot extends TestActor.AutoPilot {
+
+        @Override
+        public TestActor.AutoPilot run(final ActorRef sender, final Object msg) {
+            if (msg == StreamingActor.Control.RETRIEVE_WEBSOCKET_CONFIG) {
+                sender.tell(streamingConfig.getWebsocketConfig(), ActorRef.noSender());
+            } else if (msg instanceof Connect) {
+                connect.complete((Connect) msg);
+                sender.tell(sessionActor.ref(), ActorRef.noSender());
+            }
+            return keepRunning();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OutgoingSignalSerializationCache}.
+ */
+public final class OutgoingSignalSerializationCacheTest {
+
+    private static final AttributeModified SIGNAL = AttributeModified.of(ThingId.of("thing:id"),
+            JsonPointer.of("x"), JsonValue.of(5), 1L, DittoHeaders.empty());
+
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    public void sameSignalInSameShapeIsSerializedOnce() {
+        final OutgoingSignalSerializationCache<String> underTest = OutgoingSignalSerializationCache.of(10, null);
+
+        assertThat(underTest.serialize(SIGNAL, List.of(JsonObject.empty()), this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(SIGNAL, List.of(JsonObject.empty()), this::serialize)).isEqualTo("1");
+        assertThat(serializations).hasValue(1);
+    }
+
+    @Test
+    public void differentShapesAreSerializedSeparately() {
+        final OutgoingSignalSerializationCache<String> underTest = OutgoingSignalSerializationCache.of(10, null);
+
+        assertThat(underTest.serialize(SIGNAL, List.of(JsonObject.empty()), this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(SIGNAL, List.of(JsonObject.of("{\"y\":1}")), this::serialize))
+                .isEqualTo("2");
+        assertThat(underTest.serialize(SIGNAL, List.of(JsonObject.of("{\"y\":1}")), this::serialize))
+                .isEqualTo("2");
+        assertThat(serializations).hasValue(2);
+    }
+
+    @Test
+    public void equalSignalInstancesAreSerializedSeparately() {
+        final OutgoingSignalSerializationCache<String> underTest = OutgoingSignalSerializationCache.of(10, null);
+        final AttributeModified equalSignal = SIGNAL.setDittoHeaders(DittoHeaders.empty());
+
+        assertThat(underTest.serialize(SIGNAL, List.of(), this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(equalSignal, List.of(), this::serialize)).isEqualTo("2");
+    }
+
+    @Test
+    public void disabledCacheAlwaysSerializes() {
+        final OutgoingSignalSerializationCache<String> underTest = OutgoingSignalSerializationCache.of(0, null);
+
+        assertThat(underTest.serialize(SIGNAL, List.of(), this::serialize)).isEqualTo("1");
+        assertThat(underTest.serialize(SIGNAL, List.of(), this::serialize)).isEqualTo("2");
+    }
+
+    private String serialize() {
+        return String.valueOf(serializations.incrementAndGet());
+    }
+
+}
@@ -13,7 +13,10 @@
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -21,9 +24,12 @@ import java.util.stream.Collectors;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
@@ -65,6 +71,7 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
     private QueryThingsResponse queryThingsResponse;
     private List<ThingId> queryThingsResponseThingIds;
+    private Map<ThingId, JsonObject> itemsFromSearchIndex;
 
     @SuppressWarnings("unused")
     private QueryThingsPerRequestActor(final QueryThings queryThings,
@@ -112,16 +119,23 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                     log.withCorrelationId(qtr)
                             .debug("Received QueryThingsResponse: {}", qtr);
 
+                    itemsFromSearchIndex = getItemsFromSearchIndex(qtr);
                     queryThingsResponseThingIds = qtr.getSearchResult()
                             .stream()
                             .map(val -> val.asObject().getValue(Thing.JsonFields.ID).orElse(null))
                             .map(ThingId::of)
+                            .filter(thingId -> !itemsFromSearchIndex.containsKey(thingId))
                             .collect(Collectors.toList());
 
-                    if (queryThingsResponseThingIds.isEmpty()) {
+                    if (queryThingsResponseThingIds.isEmpty() && itemsFromSearchIndex.isEmpty()) {
                         // shortcut - for no search results we don't have to lookup the things
                         originatingSender.tell(qtr, getSelf());
                         stopMyself();
+                    } else if (queryThingsResponseThingIds.isEmpty()) {
+                        // shortcut - the search index answered the selected fields of all things
+                        originatingSender.tell(toQueryThingsResponse(JsonArray.empty(), qtr.getDittoHeaders()),
+                                getSelf());
+                        stopMyself();
                     } else {
                         final Optional<JsonFieldSelector> selectedFieldsWithThingId = getSelectedFieldsWithThingId();
                         final RetrieveThings retrieveThings = RetrieveThings.getBuilder(queryThingsResponseThingIds)
@@ -138,15 +152,7 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
                     if (queryThingsResponse != null) {
                         final JsonArray rtrEntity = rtr.getEntity(rtr.getImplementedSchemaVersion()).asArray();
-                        final JsonArray retrievedEntitiesWithFieldSelection = getEntitiesWithSelectedFields(rtrEntity);
-                        final SearchResult resultWithRetrievedItems = SearchModelFactory.newSearchResultBuilder()
-                                .addAll(retrievedEntitiesWithFieldSelection)
-                                .nextPageOffset(queryThingsResponse.getSearchResult().getNextPageOffset().orElse(null))
-                                .cursor(queryThingsResponse.getSearchResult().getCursor().orElse(null))
-                                .build();
-                        final QueryThingsResponse theQueryThingsResponse =
-                                QueryThingsResponse.of(resultWithRetrievedItems, rtr.getDittoHeaders());
-                        originatingSender.tell(theQueryThingsResponse, getSelf());
+                        originatingSender.tell(toQueryThingsResponse(rtrEntity, rtr.getDittoHeaders()), getSelf());
                         notifyOutOfSyncThings(rtrEntity);
                     } else {
                         log.warning("Did not receive a QueryThingsResponse when a RetrieveThingsResponse occurred: {}",
@@ -163,6 +169,69 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    private QueryThingsResponse toQueryThingsResponse(final JsonArray retrievedEntities,
+            final DittoHeaders dittoHeaders) {
+
+        final JsonArray entitiesWithFieldSelection =
+                getEntitiesWithSelectedFields(mergeWithItemsFromSearchIndex(retrievedEntities));
+        final SearchResult resultWithRetrievedItems = SearchModelFactory.newSearchResultBuilder()
+                .addAll(entitiesWithFieldSelection)
+                .nextPageOffset(queryThingsResponse.getSearchResult().getNextPageOffset().orElse(null))
+                .cursor(queryThingsResponse.getSearchResult().getCursor().orElse(null))
+                .build();
+        return QueryThingsResponse.of(resultWithRetrievedItems, dittoHeaders);
+    }
+
+    /**
+     * Collects the items of a search result which contain the selected fields of things as kept by the search index.
+     * The search service answers with such items only if {@link #queryThings} allows it; items containing nothing
+     * but the thing ID have to be retrieved.
+     *
+     * @param qtr the response of the search service.
+     * @return the items containing selected fields by their thing IDs.
+     */
+    private Map<ThingId, JsonObject> getItemsFromSearchIndex(final QueryThingsResponse qtr) {
+        final boolean searchFromIndex = queryThings.getFields().isPresent() && Boolean.parseBoolean(
+                queryThings.getDittoHeaders().get(DittoHeaderDefinition.SEARCH_FROM_INDEX.getKey()));
+        if (!searchFromIndex) {
+            return Map.of();
+        }
+        final Map<ThingId, JsonObject> result = new HashMap<>();
+        qtr.getSearchResult()
+                .stream()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .filter(item -> item.getSize() > 1)
+                .forEach(item -> item.getValue(Thing.JsonFields.ID)
+                        .ifPresent(thingId -> result.put(ThingId.of(thingId), item)));
+        return result;
+    }
+
+    /**
+     * Orders the retrieved entities together with the items answered by the search index like the search result.
+     *
+     * @param retrievedEntities the retrieved entities.
+     * @return the entities of the search result.
+     */
+    private JsonArray mergeWithItemsFromSearchIndex(final JsonArray retrievedEntities) {
+        if (itemsFromSearchIndex.isEmpty()) {
+            return retrievedEntities;
+        }
+        final Map<ThingId, JsonValue> retrievedEntitiesById = new HashMap<>();
+        retrievedEntities.stream()
+                .filter(JsonValue::isObject)
+                .forEach(entity -> entity.asObject().getValue(Thing.JsonFields.ID)
+                        .ifPresent(thingId -> retrievedEntitiesById.put(ThingId.of(thingId), entity)));
+        return queryThingsResponse.getSearchResult()
+                .stream()
+                .flatMap(item -> item.asObject().getValue(Thing.JsonFields.ID).stream())
+                .map(ThingId::of)
+                .map(thingId -> Optional.<JsonValue>ofNullable(itemsFromSearchIndex.get(thingId))
+                        .orElseGet(() -> retrievedEntitiesById.get(thingId)))
+                .filter(Objects::nonNull)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
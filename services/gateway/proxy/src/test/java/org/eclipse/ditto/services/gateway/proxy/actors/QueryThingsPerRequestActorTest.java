@@ -19,6 +19,7 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
@@ -155,6 +156,41 @@ public final class QueryThingsPerRequestActorTest {
                 QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(), responseHeaders));
     }
 
+    @Test
+    public void retrieveOnlyThingsNotAnsweredBySearchIndex() {
+        // GIVEN: QueryThings allows answers from the search index
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("attributes/x");
+        final JsonFieldSelector fieldsWithId = JsonFieldSelector.newInstance("thingId", "attributes/x");
+        final DittoHeaders searchFromIndexHeaders = dittoHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_FROM_INDEX.getKey(), "true")
+                .build();
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, searchFromIndexHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final JsonObject attributes1 = JsonObject.of("{\"attributes\":{\"x\":1}}");
+        final JsonObject attributes2 = JsonObject.of("{\"attributes\":{\"x\":2}}");
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .add(idItem(thingId1))
+                .add(idItem(thingId2).toBuilder().setAll(attributes2).build())
+                .build();
+
+        // WHEN: the search index answered the selected fields of thingId2 only
+        underTest.tell(QueryThingsResponse.of(searchResult, responseHeaders), ActorRef.noSender());
+
+        // THEN: aggregator is asked to retrieve thingId1 only
+        aggregatorProbe.expectMsg(RetrieveThings.getBuilder(thingId1)
+                .selectedFields(fieldsWithId)
+                .dittoHeaders(dittoHeaders)
+                .build());
+        aggregatorProbe.reply(
+                RetrieveThingsResponse.of(asArrayWithExtra(attributes1, thingId1), "thing", responseHeaders));
+
+        // THEN: final response contains both things in the order of the search result
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(
+                SearchResult.newBuilder().add(attributes1, attributes2).build(), responseHeaders));
+    }
+
     @Test
     public void reportOutOfSyncThings() {
         final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
@@ -12,34 +12,62 @@
  */
 package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.model.base.common.BinaryValidationResult;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.jwt.JjwtDeserializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayAuthenticationFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
 
 /**
  * Default implementation of {@link org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtValidator}.
+ * <p>
+ * If configured with a cache of verified JWTs, the signature of a token is verified only once as long as the token is
+ * not expired and its issuer still provides the same public key. Only tokens with an expiration time are cached.
+ * </p>
  */
 @ThreadSafe
 public final class DefaultJwtValidator implements JwtValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJwtValidator.class);
 
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
     private final PublicKeyProvider publicKeyProvider;
+    @Nullable private final Cache<String, VerifiedJwt> verifiedJwts;
+
+    private DefaultJwtValidator(final PublicKeyProvider publicKeyProvider,
+            @Nullable final Cache<String, VerifiedJwt> verifiedJwts) {
 
-    private DefaultJwtValidator(final PublicKeyProvider publicKeyProvider) {
         this.publicKeyProvider = publicKeyProvider;
+        this.verifiedJwts = verifiedJwts;
     }
 
     /**
@@ -49,16 +77,64 @@ public final class DefaultJwtValidator implements JwtValidator {
      * @return the instance.
      */
     public static JwtValidator of(final PublicKeyProvider publicKeyProvider) {
-        return new DefaultJwtValidator(publicKeyProvider);
+        return new DefaultJwtValidator(publicKeyProvider, null);
+    }
+
+    /**
+     * Creates a new {@code JwtValidator} instance which caches verified JWTs until they expire.
+     *
+     * @param publicKeyProvider provider for public keys of jwt issuers.
+     * @param verifiedJwtsCacheConfig the config of the cache of verified JWTs. Its expire-after-write is the maximum
+     * time a token is cached, its maximum-size the maximum number of cached tokens.
+     * @param cacheName the name of the cache of verified JWTs, used for metrics.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JwtValidator of(final PublicKeyProvider publicKeyProvider,
+            final CacheConfig verifiedJwtsCacheConfig,
+            final String cacheName) {
+
+        checkNotNull(verifiedJwtsCacheConfig, "verifiedJwtsCacheConfig");
+        checkNotNull(cacheName, "cacheName");
+        final Caffeine<String, VerifiedJwt> caffeine = Caffeine.newBuilder()
+                .maximumSize(verifiedJwtsCacheConfig.getMaximumSize())
+                .expireAfter(new VerifiedJwtExpiry(verifiedJwtsCacheConfig.getExpireAfterWrite()));
+
+        return new DefaultJwtValidator(checkNotNull(publicKeyProvider, "publicKeyProvider"),
+                CaffeineCache.of(caffeine, cacheName));
     }
 
     @Override
     public CompletableFuture<BinaryValidationResult> validate(final JsonWebToken jsonWebToken) {
+        if (null == verifiedJwts) {
+            return validateWithPublicKeyOfIssuer(jsonWebToken,
+                    publicKey -> tryToValidateWithPublicKey(jsonWebToken, publicKey));
+        }
+        final Cache<String, VerifiedJwt> cache = verifiedJwts;
+        final String tokenDigest = digest(jsonWebToken.getToken());
+        return cache.getIfPresent(tokenDigest).thenCompose(verifiedJwtOpt ->
+                validateWithPublicKeyOfIssuer(jsonWebToken, publicKey -> {
+                    // the public key provider caches keys, so an unchanged key of the issuer is the same instance
+                    if (verifiedJwtOpt.filter(verifiedJwt -> verifiedJwt.isVerifiedWith(publicKey)).isPresent()) {
+                        return BinaryValidationResult.valid();
+                    }
+                    final BinaryValidationResult result = tryToValidateWithPublicKey(jsonWebToken, publicKey);
+                    if (result.isValid()) {
+                        getExpirationTime(jsonWebToken).ifPresent(expirationTime ->
+                                cache.put(tokenDigest, new VerifiedJwt(publicKey, expirationTime)));
+                    }
+                    return result;
+                }));
+    }
+
+    private CompletableFuture<BinaryValidationResult> validateWithPublicKeyOfIssuer(final JsonWebToken jsonWebToken,
+            final Function<Key, BinaryValidationResult> validation) {
+
         final String issuer = jsonWebToken.getIssuer();
         final String keyId = jsonWebToken.getKeyId();
         return publicKeyProvider.getPublicKey(issuer, keyId)
                 .thenApply(publicKeyOpt -> publicKeyOpt
-                        .map(publicKey -> tryToValidateWithPublicKey(jsonWebToken, publicKey))
+                        .map(validation)
                         .orElseGet(() -> {
                             final String msgPattern = "Public Key of issuer <{0}> with key ID <{1}> not found!";
                             final String msg = MessageFormat.format(msgPattern, issuer, keyId);
@@ -87,4 +163,83 @@ public final class DefaultJwtValidator implements JwtValidator {
         return BinaryValidationResult.valid();
     }
 
+    private static Optional<Instant> getExpirationTime(final JsonWebToken jsonWebToken) {
+        try {
+            return jsonWebToken.getBody()
+                    .getValue(JsonWebToken.JsonFields.EXP)
+                    .map(Instant::ofEpochSecond);
+        } catch (final RuntimeException e) {
+            // a token with a malformed expiration time is validated again on every use
+            return Optional.empty();
+        }
+    }
+
+    private static String digest(final String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            final byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A token whose signature was verified with a public key, cached until the token expires.
+     */
+    @Immutable
+    private static final class VerifiedJwt {
+
+        private final Key publicKey;
+        private final Instant expirationTime;
+
+        private VerifiedJwt(final Key publicKey, final Instant expirationTime) {
+            this.publicKey = publicKey;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isVerifiedWith(final Key currentPublicKey) {
+            return publicKey == currentPublicKey && Instant.now().isBefore(expirationTime);
+        }
+
+    }
+
+    /**
+     * Expires verified JWTs at their expiration time, but not later than the configured maximum time.
+     */
+    @Immutable
+    private static final class VerifiedJwtExpiry implements Expiry<String, VerifiedJwt> {
+
+        private final Duration maxExpireAfter;
+
+        private VerifiedJwtExpiry(final Duration maxExpireAfter) {
+            this.maxExpireAfter = maxExpireAfter;
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final VerifiedJwt value, final long currentTime) {
+            final Duration untilExpiration = Duration.between(Instant.now(), value.expirationTime);
+            if (untilExpiration.isNegative()) {
+                return 0L;
+            }
+            return untilExpiration.compareTo(maxExpireAfter) < 0 ? untilExpiration.toNanos() : maxExpireAfter.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final VerifiedJwt value, final long currentTime,
+                final long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final VerifiedJwt value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
 }
@@ -26,9 +26,11 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 public final class JwtAuthenticationFactory {
 
     private static final String PUBLIC_KEY_CACHE_NAME = "ditto_authorization_jwt_publicKeys_cache";
+    private static final String VERIFIED_JWTS_CACHE_NAME = "ditto_authorization_jwt_verifiedJwts_cache";
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    @Nullable private final CacheConfig verifiedJwtsCacheConfig;
     private final HttpClientFacade httpClientFacade;
     private final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory;
 
@@ -38,11 +40,13 @@ public final class JwtAuthenticationFactory {
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            @Nullable final CacheConfig verifiedJwtsCacheConfig,
             final HttpClientFacade httpClientFacade,
             final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
 
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.verifiedJwtsCacheConfig = verifiedJwtsCacheConfig;
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
         this.jwtAuthorizationSubjectsProviderFactory =
                 checkNotNull(jwtAuthorizationSubjectsProviderFactory, "jwtAuthorizationSubjectsProviderFactory");
@@ -62,13 +66,39 @@ public final class JwtAuthenticationFactory {
             final HttpClientFacade httpClientFacade,
             final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
 
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade,
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, null, httpClientFacade,
+                jwtAuthorizationSubjectsProviderFactory);
+    }
+
+    /**
+     * Creates a new {@code JwtAuthenticationFactory} instance whose JWT validator caches verified JWTs.
+     *
+     * @param oAuthConfig the OAuth configuration.
+     * @param publicKeyCacheConfig the public key cache configuration.
+     * @param verifiedJwtsCacheConfig the configuration of the cache of verified JWTs.
+     * @param httpClientFacade the client facade of the HTTP client.
+     * @param jwtAuthorizationSubjectsProviderFactory used to instantiate a new auth subjects provider.
+     * @return the new created instance.
+     */
+    public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
+            final CacheConfig publicKeyCacheConfig,
+            final CacheConfig verifiedJwtsCacheConfig,
+            final HttpClientFacade httpClientFacade,
+            final JwtAuthorizationSubjectsProviderFactory jwtAuthorizationSubjectsProviderFactory) {
+
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig,
+                checkNotNull(verifiedJwtsCacheConfig, "verifiedJwtsCacheConfig"), httpClientFacade,
                 jwtAuthorizationSubjectsProviderFactory);
     }
 
     public JwtValidator getJwtValidator() {
         if (null == jwtValidator) {
-            jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            if (null != verifiedJwtsCacheConfig) {
+                jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider(), verifiedJwtsCacheConfig,
+                        VERIFIED_JWTS_CACHE_NAME);
+            } else {
+                jwtValidator = DefaultJwtValidator.of(getPublicKeyProvider());
+            }
         }
         return jwtValidator;
     }
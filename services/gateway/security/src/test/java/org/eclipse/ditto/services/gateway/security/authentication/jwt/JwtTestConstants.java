@@ -31,6 +31,7 @@ final class JwtTestConstants {
 
     static final String VALID_JWT_TOKEN;
     static final String EXPIRED_JWT_TOKEN;
+    static final String EXPIRING_JWT_TOKEN;
     static final PublicKey PUBLIC_KEY_2;
 
     static final String KEY_ID = "pFXsMxGhnXJgzg9aO9xYUTYegCP4XsnuGhQEeQaAQrI";
@@ -53,6 +54,7 @@ final class JwtTestConstants {
 
             VALID_JWT_TOKEN = createJwt();
             EXPIRED_JWT_TOKEN = createExpiredJwt();
+            EXPIRING_JWT_TOKEN = createExpiringJwt();
         } catch (final Exception e) {
             throw new IllegalStateException(e);
         }
@@ -75,4 +77,13 @@ final class JwtTestConstants {
                 .compact();
     }
 
+    private static String createExpiringJwt() {
+        return Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setIssuer(ISSUER)
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .signWith(PRIVATE_KEY, SignatureAlgorithm.RS256)
+                .compact();
+    }
+
 }
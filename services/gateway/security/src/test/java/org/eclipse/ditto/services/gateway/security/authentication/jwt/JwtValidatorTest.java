@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -22,6 +23,7 @@ import java.util.concurrent.ExecutionException;
 import org.eclipse.ditto.model.base.common.BinaryValidationResult;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -41,9 +43,15 @@ public final class JwtValidatorTest {
     private static final JsonWebToken INVALID_JSON_WEB_TOKEN =
             ImmutableJsonWebToken.fromAuthorization("Bearer " + JwtTestConstants.EXPIRED_JWT_TOKEN);
 
+    private static final JsonWebToken EXPIRING_JSON_WEB_TOKEN =
+            ImmutableJsonWebToken.fromAuthorization("Bearer " + JwtTestConstants.EXPIRING_JWT_TOKEN);
+
     @Mock
     private PublicKeyProvider publicKeyProvider;
 
+    @Mock
+    private CacheConfig verifiedJwtsCacheConfig;
+
     @Test
     public void validate() throws ExecutionException, InterruptedException {
         when(publicKeyProvider.getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID)).thenReturn(
@@ -69,4 +77,34 @@ public final class JwtValidatorTest {
         assertThat(jwtValidationResult.getReasonForInvalidity()).isInstanceOf(ExpiredJwtException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void validateWithCacheOfVerifiedJwts() throws ExecutionException, InterruptedException {
+        when(publicKeyProvider.getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY)));
+
+        final JwtValidator underTest = newCachingJwtValidator();
+
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+        assertThat(underTest.validate(INVALID_JSON_WEB_TOKEN).get().isValid()).isFalse();
+    }
+
+    @Test
+    public void cachedJwtIsVerifiedAgainIfPublicKeyChanged() throws ExecutionException, InterruptedException {
+        when(publicKeyProvider.getPublicKey(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(JwtTestConstants.PUBLIC_KEY_2)));
+
+        final JwtValidator underTest = newCachingJwtValidator();
+
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isTrue();
+        assertThat(underTest.validate(EXPIRING_JSON_WEB_TOKEN).get().isValid()).isFalse();
+    }
+
+    private JwtValidator newCachingJwtValidator() {
+        when(verifiedJwtsCacheConfig.getMaximumSize()).thenReturn(100L);
+        when(verifiedJwtsCacheConfig.getExpireAfterWrite()).thenReturn(Duration.ofMinutes(1L));
+        return DefaultJwtValidator.of(publicKeyProvider, verifiedJwtsCacheConfig, "verified-jwts");
+    }
+
+}
@@ -134,17 +134,18 @@ final class GatewayRootActor extends DittoRootActor {
                 DefaultHttpClientFacade.getInstance(actorSystem, authenticationConfig.getHttpProxyConfig());
 
         final CacheConfig publicKeysConfig = gatewayConfig.getCachesConfig().getPublicKeysConfig();
+        final CacheConfig verifiedJwtsConfig = gatewayConfig.getCachesConfig().getVerifiedJwtsConfig();
         final OAuthConfig oAuthConfig = authenticationConfig.getOAuthConfig();
         final JwtAuthorizationSubjectsProviderFactory authorizationSubjectsProviderFactory =
                 DittoJwtAuthorizationSubjectsProvider::of;
         final JwtAuthenticationFactory jwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, httpClient,
+                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, verifiedJwtsConfig, httpClient,
                         authorizationSubjectsProviderFactory);
 
         final OAuthConfig devopsOauthConfig = authenticationConfig.getDevOpsConfig().getOAuthConfig();
         final JwtAuthenticationFactory devopsJwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, httpClient,
-                        authorizationSubjectsProviderFactory);
+                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, verifiedJwtsConfig,
+                        httpClient, authorizationSubjectsProviderFactory);
         final DevopsAuthenticationDirectiveFactory devopsAuthenticationDirectiveFactory =
                 DevopsAuthenticationDirectiveFactory.newInstance(devopsJwtAuthenticationFactory,
                         authenticationConfig.getDevOpsConfig());
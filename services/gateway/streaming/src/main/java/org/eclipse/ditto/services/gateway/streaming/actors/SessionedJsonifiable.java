@@ -65,17 +65,26 @@ public interface SessionedJsonifiable {
      */
     Optional<StreamingSession> getSession();
 
+    /**
+     * Retrieve the signal instance as published to all streaming sessions if this is a signal with an associated
+     * session. It may differ from the Jsonifiable in the headers set for this session.
+     *
+     * @return the published signal if this is a signal with an associated session.
+     */
+    Optional<Signal<?>> getPublishedSignal();
+
     /**
      * Create a sessioned Jsonifiable for a signal.
      *
-     * @param signal the signal.
+     * @param signal the signal with the headers for this session.
+     * @param publishedSignal the signal instance as published to all sessions.
      * @param sessionHeaders headers of the request that created the streaming session.
      * @param session session information for the signal's streaming type.
      * @return the sessioned Jsonifiable.
      */
-    static SessionedJsonifiable signal(final Signal<?> signal, final DittoHeaders sessionHeaders,
-            final StreamingSession session) {
-        return new SessionedSignal(signal, sessionHeaders, session);
+    static SessionedJsonifiable signal(final Signal<?> signal, final Signal<?> publishedSignal,
+            final DittoHeaders sessionHeaders, final StreamingSession session) {
+        return new SessionedSignal(signal, publishedSignal, sessionHeaders, session);
     }
 
     /**
@@ -24,6 +24,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.signals.base.Signal;
 
 /**
  * Sessioned Jsonifiable that does not support signal enrichment.
@@ -60,4 +61,9 @@ final class SessionedResponseErrorOrAck implements SessionedJsonifiable {
     public Optional<StreamingSession> getSession() {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<Signal<?>> getPublishedSignal() {
+        return Optional.empty();
+    }
 }
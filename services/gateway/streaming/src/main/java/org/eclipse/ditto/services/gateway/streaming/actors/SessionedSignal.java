@@ -37,11 +37,14 @@ import org.eclipse.ditto.signals.base.Signal;
 final class SessionedSignal implements SessionedJsonifiable {
 
     private final Signal<?> signal;
+    private final Signal<?> publishedSignal;
     private final DittoHeaders sessionHeaders;
     private final StreamingSession session;
 
-    SessionedSignal(final Signal<?> signal, final DittoHeaders sessionHeaders, final StreamingSession session) {
+    SessionedSignal(final Signal<?> signal, final Signal<?> publishedSignal, final DittoHeaders sessionHeaders,
+            final StreamingSession session) {
         this.signal = signal;
+        this.publishedSignal = publishedSignal;
         this.sessionHeaders = sessionHeaders;
         this.session = session;
     }
@@ -77,4 +80,9 @@ final class SessionedSignal implements SessionedJsonifiable {
     public Optional<StreamingSession> getSession() {
         return Optional.of(session);
     }
+
+    @Override
+    public Optional<Signal<?>> getPublishedSignal() {
+        return Optional.of(publishedSignal);
+    }
 }
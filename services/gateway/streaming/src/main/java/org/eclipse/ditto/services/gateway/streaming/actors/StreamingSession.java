@@ -21,7 +21,7 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.JsonObjectPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
@@ -34,7 +34,7 @@ import akka.actor.ActorRef;
 public final class StreamingSession {
 
     private final List<String> namespaces;
-    private final Predicate<Thing> thingPredicate;
+    private final Predicate<JsonObject> thingPredicate;
     @Nullable private final JsonFieldSelector extraFields;
     private final ActorRef streamingSessionActor;
 
@@ -42,8 +42,8 @@ public final class StreamingSession {
             @Nullable final JsonFieldSelector extraFields, final ActorRef streamingSessionActor) {
         this.namespaces = namespaces;
         thingPredicate = eventFilterCriteria == null
-                ? thing -> true
-                : ThingPredicateVisitor.apply(eventFilterCriteria);
+                ? thingJson -> true
+                : JsonObjectPredicateVisitor.apply(eventFilterCriteria);
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
     }
@@ -81,6 +81,19 @@ public final class StreamingSession {
                 .orElseGet(() -> Thing.newBuilder().build());
     }
 
+    /**
+     * Merge any thing information in a signal event together with extra fields from signal enrichment into the JSON
+     * representation of a thing including its special fields, without building the merged thing.
+     *
+     * @param signal the signal.
+     * @param extra extra fields from signal enrichment.
+     * @return the merged thing JSON if thing information exists in any of the 2 sources, or an empty object otherwise.
+     */
+    public JsonObject mergeThingJsonWithExtra(final Signal<?> signal, final JsonObject extra) {
+        return ThingEventToThingConverter.mergeThingJsonWithExtraFields(signal, extraFields, extra)
+                .orElseGet(JsonObject::empty);
+    }
+
     /**
      * Test whether a thing matches the filter defined in this session.
      *
@@ -88,7 +101,18 @@ public final class StreamingSession {
      * @return whether the thing passes the filter.
      */
     public boolean matchesFilter(final Thing thing) {
-        return thingPredicate.test(thing);
+        return thingPredicate.test(thing.toJson(field -> true));
+    }
+
+    /**
+     * Test whether the JSON representation of a thing including its special fields matches the filter defined in
+     * this session.
+     *
+     * @param thingJson the JSON of the thing.
+     * @return whether the thing passes the filter.
+     */
+    public boolean matchesFilter(final JsonObject thingJson) {
+        return thingPredicate.test(thingJson);
     }
 
     public ActorRef getStreamingSessionActor() {
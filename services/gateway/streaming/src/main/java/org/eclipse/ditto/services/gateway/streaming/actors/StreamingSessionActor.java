@@ -230,12 +230,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     }
 
     private Receive createOutgoingSignalBehavior() {
-        final PartialFunction<Object, Object> setCorrelationIdAndStartAckForwarder = new PFBuilder<>()
-                .match(Signal.class, this::startAckForwarder)
-                .match(DittoRuntimeException.class, x -> x)
-                .build();
-
-        final Receive publishSignal = ReceiveBuilder.create()
+        return ReceiveBuilder.create()
                 .match(SubscriptionEvent.class, signal -> {
                     logger.debug("Got SubscriptionEvent in <{}> session, publishing: {}", type, signal);
                     eventAndResponsePublisher.offer(SessionedJsonifiable.subscription(signal));
@@ -259,15 +254,14 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                                 .authorizationContext(authorizationContext)
                                 .schemaVersion(jsonSchemaVersion)
                                 .build();
+                        // the published signal is shared by all sessions; the ack forwarder may change headers
                         final SessionedJsonifiable sessionedJsonifiable =
-                                SessionedJsonifiable.signal(signal, sessionHeaders, session);
+                                SessionedJsonifiable.signal(startAckForwarder(signal), signal, sessionHeaders, session);
                         eventAndResponsePublisher.offer(sessionedJsonifiable);
                     }
                 })
                 .matchEquals(Done.getInstance(), done -> { /* already done, nothing to publish */ })
                 .build();
-
-        return addPreprocessors(List.of(setCorrelationIdAndStartAckForwarder), publishSignal);
     }
 
     private Receive createPubSubBehavior() {
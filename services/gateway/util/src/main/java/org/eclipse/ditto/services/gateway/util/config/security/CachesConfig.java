@@ -29,4 +29,11 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of JWTs whose signature was verified.
+     *
+     * @return the config.
+     */
+    CacheConfig getVerifiedJwtsConfig();
+
 }
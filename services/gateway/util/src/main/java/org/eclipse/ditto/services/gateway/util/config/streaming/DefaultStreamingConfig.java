@@ -34,6 +34,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     private final int parallelism;
     private final AcknowledgementConfig acknowledgementConfig;
     private final Duration searchIdleTimeout;
+    private final int serializationCacheSize;
     private final WebsocketConfig websocketConfig;
     private final SseConfig sseConfig;
     private final GatewaySignalEnrichmentConfig signalEnrichmentConfig;
@@ -44,6 +45,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         parallelism = scopedConfig.getInt(StreamingConfigValue.PARALLELISM.getConfigPath());
         acknowledgementConfig = DefaultAcknowledgementConfig.of(scopedConfig);
         searchIdleTimeout = scopedConfig.getDuration(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath());
+        serializationCacheSize = scopedConfig.getInt(StreamingConfigValue.SERIALIZATION_CACHE_SIZE.getConfigPath());
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
         sseConfig = DefaultSseConfig.of(scopedConfig);
         signalEnrichmentConfig = DefaultGatewaySignalEnrichmentConfig.of(scopedConfig);
@@ -96,6 +98,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return searchIdleTimeout;
     }
 
+    @Override
+    public int getSerializationCacheSize() {
+        return serializationCacheSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -106,6 +113,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         }
         final DefaultStreamingConfig that = (DefaultStreamingConfig) o;
         return parallelism == that.parallelism &&
+                serializationCacheSize == that.serializationCacheSize &&
                 Objects.equals(searchIdleTimeout, that.searchIdleTimeout) &&
                 Objects.equals(sessionCounterScrapeInterval, that.sessionCounterScrapeInterval) &&
                 Objects.equals(signalEnrichmentConfig, that.signalEnrichmentConfig) &&
@@ -117,7 +125,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     @Override
     public int hashCode() {
         return Objects.hash(parallelism, sessionCounterScrapeInterval, signalEnrichmentConfig, acknowledgementConfig,
-                websocketConfig, sseConfig, searchIdleTimeout);
+                websocketConfig, sseConfig, searchIdleTimeout, serializationCacheSize);
     }
 
     @Override
@@ -126,6 +134,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 "sessionCounterScrapeInterval=" + sessionCounterScrapeInterval +
                 ", parallelism=" + parallelism +
                 ", searchIdleTimeout=" + searchIdleTimeout +
+                ", serializationCacheSize=" + serializationCacheSize +
                 ", signalEnrichmentConfig=" + signalEnrichmentConfig +
                 ", acknowledgementConfig=" + acknowledgementConfig +
                 ", websocketConfig=" + websocketConfig +
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.util.config.streaming;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -32,6 +33,8 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
     private final int publisherBackpressureBufferSize;
     private final double throttlingRejectionFactor;
     private final ThrottlingConfig throttlingConfig;
+    private final int binaryBatchSize;
+    private final Duration binaryBatchDelay;
 
     private DefaultWebsocketConfig(final ScopedConfig scopedConfig) {
         subscriberBackpressureQueueSize =
@@ -41,6 +44,8 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         throttlingRejectionFactor =
                 scopedConfig.getDouble(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath());
         throttlingConfig = ThrottlingConfig.of(scopedConfig);
+        binaryBatchSize = scopedConfig.getPositiveIntOrThrow(WebsocketConfigValue.BINARY_BATCH_SIZE);
+        binaryBatchDelay = scopedConfig.getNonNegativeDurationOrThrow(WebsocketConfigValue.BINARY_BATCH_DELAY);
     }
 
     /**
@@ -75,6 +80,16 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return throttlingConfig;
     }
 
+    @Override
+    public int getBinaryBatchSize() {
+        return binaryBatchSize;
+    }
+
+    @Override
+    public Duration getBinaryBatchDelay() {
+        return binaryBatchDelay;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -87,13 +102,15 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return subscriberBackpressureQueueSize == that.subscriberBackpressureQueueSize &&
                 publisherBackpressureBufferSize == that.publisherBackpressureBufferSize &&
                 Double.compare(throttlingRejectionFactor, that.throttlingRejectionFactor) == 0 &&
+                binaryBatchSize == that.binaryBatchSize &&
+                Objects.equals(binaryBatchDelay, that.binaryBatchDelay) &&
                 Objects.equals(throttlingConfig, that.throttlingConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(subscriberBackpressureQueueSize, publisherBackpressureBufferSize,
-                throttlingRejectionFactor, throttlingConfig);
+                throttlingRejectionFactor, throttlingConfig, binaryBatchSize, binaryBatchDelay);
     }
 
     @Override
@@ -103,6 +120,8 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
                 ", publisherBackpressureBufferSize=" + publisherBackpressureBufferSize +
                 ", throttlingRejectionFactor=" + throttlingRejectionFactor +
                 ", throttlingConfig=" + throttlingConfig +
+                ", binaryBatchSize=" + binaryBatchSize +
+                ", binaryBatchDelay=" + binaryBatchDelay +
                 "]";
     }
 
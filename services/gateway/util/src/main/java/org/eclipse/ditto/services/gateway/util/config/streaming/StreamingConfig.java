@@ -83,6 +83,14 @@ public interface StreamingConfig {
      */
     Duration getSearchIdleTimeout();
 
+    /**
+     * Returns the maximum number of outgoing signals whose serialized form is shared between the streaming sessions
+     * of a gateway instance.
+     *
+     * @return the maximum number of signals; 0 disables sharing.
+     */
+    int getSerializationCacheSize();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -94,6 +102,7 @@ public interface StreamingConfig {
                 getSessionCounterScrapeInterval().toMillis() + "ms");
         map.put(StreamingConfigValue.PARALLELISM.getConfigPath(), getParallelism());
         map.put(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath(), getSearchIdleTimeout());
+        map.put(StreamingConfigValue.SERIALIZATION_CACHE_SIZE.getConfigPath(), getSerializationCacheSize());
         return ConfigFactory.parseMap(map)
                 .withFallback(getWebsocketConfig().render())
                 .withFallback(getSignalEnrichmentConfig().render())
@@ -119,7 +128,12 @@ public interface StreamingConfig {
         /**
          * How long to wait before closing an idle search stream.
          */
-        SEARCH_IDLE_TIMEOUT("search-idle-timeout", Duration.ofSeconds(45));
+        SEARCH_IDLE_TIMEOUT("search-idle-timeout", Duration.ofSeconds(45)),
+
+        /**
+         * Maximum number of outgoing signals whose serialized form is shared between streaming sessions.
+         */
+        SERIALIZATION_CACHE_SIZE("serialization-cache-size", 1000);
 
         private final String path;
         private final Object defaultValue;
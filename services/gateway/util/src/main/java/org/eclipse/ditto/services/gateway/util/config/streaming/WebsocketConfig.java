@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.util.config.streaming;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -62,6 +63,21 @@ public interface WebsocketConfig {
      */
     ThrottlingConfig getThrottlingConfig();
 
+    /**
+     * Returns the maximum number of outgoing Ditto protocol messages to send in one binary frame of a websocket
+     * using the CBOR subprotocol.
+     *
+     * @return the maximum number of messages per binary frame; 1 disables batching.
+     */
+    int getBinaryBatchSize();
+
+    /**
+     * Returns how long to wait for further outgoing messages before sending an incomplete batch in a binary frame.
+     *
+     * @return the maximum delay of an outgoing message caused by batching.
+     */
+    Duration getBinaryBatchDelay();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -74,6 +90,8 @@ public interface WebsocketConfig {
         map.put(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath(),
                 getPublisherBackpressureBufferSize());
         map.put(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath(), getThrottlingRejectionFactor());
+        map.put(WebsocketConfigValue.BINARY_BATCH_SIZE.getConfigPath(), getBinaryBatchSize());
+        map.put(WebsocketConfigValue.BINARY_BATCH_DELAY.getConfigPath(), getBinaryBatchDelay().toMillis() + "ms");
         return ConfigFactory.parseMap(map)
                 .withFallback(getThrottlingConfig().render())
                 .atKey(CONFIG_PATH);
@@ -98,7 +116,17 @@ public interface WebsocketConfig {
         /**
          * The factor of maximum throughput at which rejections were sent.
          */
-        THROTTLING_REJECTION_FACTOR("throttling-rejection-factor", 1.25);
+        THROTTLING_REJECTION_FACTOR("throttling-rejection-factor", 1.25),
+
+        /**
+         * The maximum number of outgoing messages in one binary frame.
+         */
+        BINARY_BATCH_SIZE("binary.batch-size", 1),
+
+        /**
+         * The maximum delay of an outgoing message caused by batching.
+         */
+        BINARY_BATCH_DELAY("binary.batch-delay", Duration.ofMillis(20L));
 
         private final String path;
         private final Object defaultValue;
@@ -70,6 +70,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSearchIdleTimeout())
                 .as(StreamingConfig.StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath())
                 .isEqualTo(StreamingConfig.StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getSerializationCacheSize())
+                .as(StreamingConfig.StreamingConfigValue.SERIALIZATION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.SERIALIZATION_CACHE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -85,6 +88,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSearchIdleTimeout())
                 .as(StreamingConfig.StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(7L));
+        softly.assertThat(underTest.getSerializationCacheSize())
+                .as(StreamingConfig.StreamingConfigValue.SERIALIZATION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(50);
         softly.assertThat(underTest.getSignalEnrichmentConfig().isCachingEnabled())
                 .as(GatewaySignalEnrichmentConfig.CachingSignalEnrichmentFacadeConfigValue.CACHING_ENABLED.getConfigPath())
                 .isFalse();
@@ -74,6 +74,12 @@ public final class DefaultWebsocketConfigTest {
                 .as(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath())
                 .isCloseTo((Double) WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getDefaultValue(),
                         Percentage.withPercentage(1.0));
+        softly.assertThat(underTest.getBinaryBatchSize())
+                .as(WebsocketConfigValue.BINARY_BATCH_SIZE.getConfigPath())
+                .isEqualTo(WebsocketConfigValue.BINARY_BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getBinaryBatchDelay())
+                .as(WebsocketConfigValue.BINARY_BATCH_DELAY.getConfigPath())
+                .isEqualTo(WebsocketConfigValue.BINARY_BATCH_DELAY.getDefaultValue());
     }
 
     @Test
@@ -95,6 +101,12 @@ public final class DefaultWebsocketConfigTest {
         softly.assertThat(underTest.getThrottlingConfig().getLimit())
                 .as("throttling.limit")
                 .isEqualTo(9);
+        softly.assertThat(underTest.getBinaryBatchSize())
+                .as(WebsocketConfigValue.BINARY_BATCH_SIZE.getConfigPath())
+                .isEqualTo(16);
+        softly.assertThat(underTest.getBinaryBatchDelay())
+                .as(WebsocketConfigValue.BINARY_BATCH_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(5L));
     }
 
     @Test
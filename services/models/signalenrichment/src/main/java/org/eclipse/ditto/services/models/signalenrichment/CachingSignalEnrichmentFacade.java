@@ -12,17 +12,19 @@
  */
 package org.eclipse.ditto.services.models.signalenrichment;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -39,17 +41,39 @@ import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
 import org.eclipse.ditto.signals.events.things.ThingDeleted;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
 
 /**
  * Retrieve additional parts of things by asking an asynchronous cache.
  * Instantiated once per cluster node so that it builds up a cache across all signal enrichments on a local cluster
  * node.
+ * <p>
+ * The cache holds one view on the whole thing per authorization context and schema version which is updated by
+ * the thing events of consecutive revisions. The requested fields are selected from the cached view on read, so that
+ * all sessions and connections with the same authorization context share one cache entry per thing regardless of
+ * their further headers and selected extra fields.
+ * </p>
  */
 public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFacade {
 
     private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory
             .getThreadSafeLogger(CachingSignalEnrichmentFacade.class);
 
+    /**
+     * Top-level fields of the cached views on things; requested fields outside of them are added to the selector.
+     */
+    private static final JsonFieldSelector THING_FIELD_SELECTOR = JsonFactory.newFieldSelectorBuilder()
+            .addFieldDefinition(Thing.JsonFields.ID,
+                    Thing.JsonFields.NAMESPACE,
+                    Thing.JsonFields.POLICY_ID,
+                    Thing.JsonFields.DEFINITION,
+                    Thing.JsonFields.ATTRIBUTES,
+                    Thing.JsonFields.FEATURES,
+                    Thing.JsonFields.REVISION,
+                    Thing.JsonFields.CREATED,
+                    Thing.JsonFields.MODIFIED)
+            .build();
+
     private final Cache<EntityIdWithResourceType, JsonObject> extraFieldsCache;
 
     private CachingSignalEnrichmentFacade(
@@ -103,14 +127,11 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
             final DittoHeaders dittoHeaders,
             @Nullable final Signal<?> concernedSignal) {
 
-        final JsonFieldSelector enhancedFieldSelector = JsonFactory.newFieldSelectorBuilder()
-                .addPointers(jsonFieldSelector)
-                .addFieldDefinition(Thing.JsonFields.REVISION) // additionally always select the revision
-                .build();
+        final JsonFieldSelector enhancedFieldSelector = toThingFieldSelector(jsonFieldSelector);
 
         final EntityIdWithResourceType idWithResourceType =
                 EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId,
-                        CacheFactory.newCacheLookupContext(dittoHeaders, enhancedFieldSelector));
+                        CacheFactory.newCacheLookupContext(toCacheKeyHeaders(dittoHeaders), enhancedFieldSelector));
 
         if (concernedSignal instanceof ThingEvent && !(ProtocolAdapter.isLiveSignal(concernedSignal))) {
             final ThingEvent<?> thingEvent = (ThingEvent<?>) concernedSignal;
@@ -119,6 +140,37 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
         return doCacheLookup(idWithResourceType, dittoHeaders);
     }
 
+    /**
+     * Select the whole thing together with the requested fields outside of the top-level fields of things.
+     */
+    private static JsonFieldSelector toThingFieldSelector(final JsonFieldSelector jsonFieldSelector) {
+        final List<JsonKey> thingKeys = THING_FIELD_SELECTOR.getPointers()
+                .stream()
+                .flatMap(pointer -> pointer.getRoot().stream())
+                .collect(Collectors.toList());
+        final List<JsonPointer> furtherPointers = jsonFieldSelector.getPointers()
+                .stream()
+                .filter(pointer -> pointer.getRoot().filter(thingKeys::contains).isEmpty())
+                .collect(Collectors.toList());
+        if (furtherPointers.isEmpty()) {
+            return THING_FIELD_SELECTOR;
+        }
+        return JsonFactory.newFieldSelectorBuilder()
+                .addFieldSelector(THING_FIELD_SELECTOR)
+                .addPointers(furtherPointers)
+                .build();
+    }
+
+    /**
+     * Retain only the headers which determine the view on the thing so that they do not split up cache entries.
+     */
+    private static DittoHeaders toCacheKeyHeaders(final DittoHeaders dittoHeaders) {
+        return DittoHeaders.newBuilder()
+                .authorizationContext(dittoHeaders.getAuthorizationContext())
+                .schemaVersion(dittoHeaders.getSchemaVersion().orElse(null))
+                .build();
+    }
+
     private CompletableFuture<JsonObject> doCacheLookup(final EntityIdWithResourceType idWithResourceType,
             final DittoHeaders dittoHeaders) {
 
@@ -135,7 +187,6 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
 
         final DittoHeaders dittoHeaders = thingEvent.getDittoHeaders();
         return doCacheLookup(idWithResourceType, dittoHeaders).thenCompose(cachedJsonObject -> {
-            final JsonObjectBuilder jsonObjectBuilder = cachedJsonObject.toBuilder();
             final long cachedRevision = cachedJsonObject.getValue(Thing.JsonFields.REVISION).orElse(0L);
             if (cachedRevision == thingEvent.getRevision()) {
                 // the cache entry was not present before and just loaded
@@ -144,7 +195,7 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
                 // the cache entry was already present and the thingEvent was the next expected revision no
                 // -> we have all information necessary to calculate it without making another roundtrip
                 return handleNextExpectedThingEvent(enhancedFieldSelector, idWithResourceType, thingEvent,
-                        jsonObjectBuilder);
+                        cachedJsonObject);
             } else {
                 // the cache entry was already present, but we missed sth and need to invalidate the cache
                 // and to another cache lookup (via roundtrip)
@@ -156,29 +207,58 @@ public final class CachingSignalEnrichmentFacade implements SignalEnrichmentFaca
 
     private CompletionStage<JsonObject> handleNextExpectedThingEvent(final JsonFieldSelector enhancedFieldSelector,
             final EntityIdWithResourceType idWithResourceType, final ThingEvent<?> thingEvent,
-            final JsonObjectBuilder jsonObjectBuilder) {
+            final JsonObject cachedJsonObject) {
 
         final JsonPointer resourcePath = thingEvent.getResourcePath();
+        final Optional<JsonValue> optEntity = thingEvent instanceof ThingMerged
+                ? Optional.of(((ThingMerged) thingEvent).getValue())
+                : thingEvent.getEntity();
         if (Thing.JsonFields.POLICY_ID.getPointer().equals(resourcePath) ||
-                resourcePath.toString().startsWith(Thing.JsonFields.ACL.getPointer().toString())) {
+                resourcePath.toString().startsWith(Thing.JsonFields.ACL.getPointer().toString()) ||
+                resourcePath.isEmpty() && changesAuthorization(optEntity.orElse(null), cachedJsonObject)) {
             // invalidate the cache
             extraFieldsCache.invalidate(idWithResourceType);
             // and to another cache lookup (via roundtrip):
             return doCacheLookup(idWithResourceType, thingEvent.getDittoHeaders());
         }
-        final Optional<JsonValue> optEntity = thingEvent.getEntity();
-        if (resourcePath.isEmpty() && optEntity.filter(JsonValue::isObject).isPresent()) {
-            optEntity.map(JsonValue::asObject).ifPresent(jsonObjectBuilder::setAll);
+        final JsonObject updatedJsonObject;
+        if (thingEvent instanceof ThingMerged) {
+            final JsonObject mergePatch = JsonFactory.newObject(resourcePath, optEntity.get());
+            updatedJsonObject = JsonFactory.mergeJsonValues(mergePatch, cachedJsonObject).asObject();
+        } else if (resourcePath.isEmpty()) {
+            updatedJsonObject = optEntity.filter(JsonValue::isObject)
+                    .map(entity -> cachedJsonObject.toBuilder().setAll(entity.asObject()).build())
+                    .orElse(cachedJsonObject);
+        } else if (optEntity.isPresent()) {
+            updatedJsonObject = cachedJsonObject.setValue(resourcePath, optEntity.get());
         } else {
-            optEntity.ifPresent(entity -> jsonObjectBuilder
-                    .set(resourcePath.toString(), entity)
-            );
+            // events without entity delete their resource
+            updatedJsonObject = cachedJsonObject.remove(resourcePath);
         }
-        jsonObjectBuilder.set(Thing.JsonFields.REVISION, thingEvent.getRevision());
-        final JsonObject enhancedJsonObject = jsonObjectBuilder.build().get(enhancedFieldSelector);
+        final JsonObject enhancedJsonObject = updatedJsonObject
+                .set(Thing.JsonFields.REVISION, thingEvent.getRevision())
+                .get(enhancedFieldSelector);
         // update local cache with enhanced object:
         extraFieldsCache.put(idWithResourceType, enhancedJsonObject);
         return CompletableFuture.completedFuture(enhancedJsonObject);
     }
 
+    /**
+     * Check whether a thing-level event changes the policy ID or the ACL which determine the view on the thing.
+     */
+    private static boolean changesAuthorization(@Nullable final JsonValue thingJson,
+            final JsonObject cachedJsonObject) {
+
+        if (thingJson == null || !thingJson.isObject()) {
+            return false;
+        }
+        final JsonObject thingObject = thingJson.asObject();
+        return thingObject.contains(Thing.JsonFields.ACL.getPointer()) ||
+                thingObject.getValue(Thing.JsonFields.POLICY_ID)
+                        .filter(policyId -> !cachedJsonObject.getValue(Thing.JsonFields.POLICY_ID)
+                                .filter(policyId::equals)
+                                .isPresent())
+                        .isPresent();
+    }
+
 }
@@ -19,6 +19,8 @@ import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
@@ -32,6 +34,8 @@ import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.signals.base.DittoTestSystem;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.events.things.AttributeDeleted;
+import org.eclipse.ditto.signals.events.things.ThingMerged;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -87,9 +91,17 @@ public final class CachingSignalEnrichmentFacadeTest extends AbstractSignalEnric
 
     @Override
     protected JsonFieldSelector actualSelectedFields(final JsonFieldSelector selector) {
+        // the whole thing is cached and the selected fields are applied on read
         return JsonFactory.newFieldSelectorBuilder()
-                .addPointers(selector)
-                .addFieldDefinition(Thing.JsonFields.REVISION) // additionally always select the revision
+                .addFieldDefinition(Thing.JsonFields.ID,
+                        Thing.JsonFields.NAMESPACE,
+                        Thing.JsonFields.POLICY_ID,
+                        Thing.JsonFields.DEFINITION,
+                        Thing.JsonFields.ATTRIBUTES,
+                        Thing.JsonFields.FEATURES,
+                        Thing.JsonFields.REVISION,
+                        Thing.JsonFields.CREATED,
+                        Thing.JsonFields.MODIFIED)
                 .build();
     }
 
@@ -215,7 +227,7 @@ public final class CachingSignalEnrichmentFacadeTest extends AbstractSignalEnric
     }
 
     @Test
-    public void differentFieldSelectorsLeadToCacheRetrievals() {
+    public void differentFieldSelectorsAndCorrelationIdsReuseCacheEntry() {
         DittoTestSystem.run(this, kit -> {
             // GIVEN: SignalEnrichmentFacade.retrievePartialThing()
             final SignalEnrichmentFacade underTest =
@@ -242,15 +254,59 @@ public final class CachingSignalEnrichmentFacadeTest extends AbstractSignalEnric
             askResult.toCompletableFuture().join();
             softly.assertThat(askResult).isCompletedWithValue(getExpectedThingJson());
 
-            // WHEN: same thing is asked again with different selector for an event with one revision ahead
-            underTest.retrievePartialThing(thingId, selector2, headers,
-                    THING_EVENT.setRevision(THING_EVENT.getRevision() + 1));
+            // WHEN: same thing is asked again with different selector and correlation ID for an event with one
+            // revision ahead
+            final DittoHeaders headers2 = headers.toBuilder().randomCorrelationId().build();
+            final CompletionStage<JsonObject> askResultCached =
+                    underTest.retrievePartialThing(thingId, selector2, headers2,
+                            THING_EVENT.setRevision(THING_EVENT.getRevision() + 1));
 
-            // THEN: a cache lookup should be done using the other selector
-            final RetrieveThing retrieveThing2 = kit.expectMsgClass(RetrieveThing.class);
-            softly.assertThat(retrieveThing2.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds())
-                    .contains(userId);
-            softly.assertThat(retrieveThing2.getSelectedFields()).contains(actualSelectedFields(selector2));
+            // THEN: no cache lookup should be done and the other selector is applied to the cached thing
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            askResultCached.toCompletableFuture().join();
+            softly.assertThat(askResultCached).isCompletedWithValue(JsonObject.of("{\n" +
+                    "  \"attributes\": {\"x\":  5},\n" +
+                    "  \"features\": {\"y\": {\"properties\": {\"z\":  true}}}\n" +
+                    "}"));
+        });
+    }
+
+    @Test
+    public void deletedAndMergedEventsAreAppliedToCacheEntry() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: SignalEnrichmentFacade.retrievePartialThing()
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.dummy();
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, SELECTOR, headers, THING_EVENT);
+            kit.expectMsgClass(RetrieveThing.class);
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers));
+            askResult.toCompletableFuture().join();
+
+            // WHEN: the attribute is deleted
+            final long revision = THING_EVENT.getRevision();
+            final CompletionStage<JsonObject> askResultDeleted = underTest.retrievePartialThing(thingId, SELECTOR,
+                    headers, AttributeDeleted.of(thingId, JsonPointer.of("x"), revision + 1, headers));
+
+            // THEN: the cached thing no longer contains it
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            final JsonObject deletedResult = askResultDeleted.toCompletableFuture().join();
+            softly.assertThat(deletedResult.getValue(JsonPointer.of("attributes/x"))).isEmpty();
+            softly.assertThat(deletedResult.getValue(Thing.JsonFields.POLICY_ID)).contains(RESULT_POLICY_ID);
+
+            // WHEN: a feature property is merged
+            final CompletionStage<JsonObject> askResultMerged = underTest.retrievePartialThing(thingId, SELECTOR,
+                    headers, ThingMerged.of(thingId, JsonPointer.of("features/y/properties"),
+                            JsonObject.of("{\"z\": false}"), revision + 2, null, headers, null));
+
+            // THEN: the cached thing contains the merged value
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            final JsonObject mergedResult = askResultMerged.toCompletableFuture().join();
+            softly.assertThat(mergedResult.getValue(JsonPointer.of("features/y/properties/z")))
+                    .contains(JsonValue.of(false));
+            softly.assertThat(mergedResult.getValue(JsonPointer.of("attributes/x"))).isEmpty();
         });
     }
 
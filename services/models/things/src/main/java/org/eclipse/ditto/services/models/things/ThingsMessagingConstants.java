@@ -38,6 +38,11 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_SNAPSHOT_STREAMING_ACTOR_PATH = ROOT_ACTOR_PATH + "/snapshotStreamingActor";
 
+    /**
+     * Path of the actor that retrieves batches of things from the local shard region.
+     */
+    public static final String SUDO_RETRIEVE_THINGS_ACTOR_PATH = ROOT_ACTOR_PATH + "/sudoRetrieveThings";
+
     /**
      * Name of the shard region for Thing entities.
      */
@@ -201,8 +201,8 @@ public final class PolicyPersistenceActor
     }
 
     @Override
-    protected void publishEvent(final PolicyEvent<?> event) {
-        pubSubMediator.tell(DistPubSubAccess.publishViaGroup(PolicyEvent.TYPE_PREFIX, event), getSender());
+    protected void publishEvent(final PolicyEvent<?> event, final ActorRef sender) {
+        pubSubMediator.tell(DistPubSubAccess.publishViaGroup(PolicyEvent.TYPE_PREFIX, event), sender);
 
         final boolean policyEnforcerInvalidatedPreemptively = Boolean.parseBoolean(event.getDittoHeaders()
                 .getOrDefault(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
@@ -210,7 +210,7 @@ public final class PolicyPersistenceActor
         if (!policyEnforcerInvalidatedPreemptively) {
             final PolicyTag policyTag = PolicyTag.of(entityId, event.getRevision());
             pubSubMediator.tell(DistPubSubAccess.publish(PolicyTag.PUB_SUB_TOPIC_INVALIDATE_ENFORCERS, policyTag),
-                    getSender());
+                    sender);
         }
     }
 
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.things.common.config;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
@@ -23,4 +24,43 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Returns the maximum number of events of consecutive modifying commands of one thing to persist with a single
+     * write to the event journal. A value of 1 persists each event on its own.
+     *
+     * @return the maximum number of events of a group commit.
+     */
+    int getGroupCommitSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for {@code ThingConfig}.
+     */
+    enum ThingConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of events of a group commit.
+         */
+        GROUP_COMMIT_SIZE("group-commit-size", 1);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Source;
+
+/**
+ * Answers {@link SudoRetrieveThings} by retrieving each thing from the things shard region of this cluster member.
+ * Senders address the instance of the member hosting the shards of the requested things so that few messages cross
+ * the network per batch instead of one per thing.
+ * <p>
+ * The retrieved things are sent as several non-empty {@link SudoRetrieveThingsResponse}s whose things fit into half
+ * of the maximum remote frame size together, unless a single thing is larger. An empty
+ * {@code SudoRetrieveThingsResponse} concludes the answer.
+ * </p>
+ */
+public final class SudoRetrieveThingsActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "sudoRetrieveThings";
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30L);
+
+    private static final String MAXIMUM_FRAME_SIZE = "akka.remote.artery.advanced.maximum-frame-size";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final ActorRef thingsShardRegion;
+    private final Materializer materializer;
+    private final long maxChunkSize;
+
+    @SuppressWarnings("unused")
+    private SudoRetrieveThingsActor(final ActorRef thingsShardRegion) {
+        this.thingsShardRegion = thingsShardRegion;
+        materializer = Materializer.createMaterializer(this::getContext);
+        // leave room for the headers and the serialization of the response
+        maxChunkSize = getContext().getSystem().settings().config().getBytes(MAXIMUM_FRAME_SIZE) / 2L;
+    }
+
+    /**
+     * Create Props of this actor.
+     *
+     * @param thingsShardRegion the things shard region of this cluster member.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef thingsShardRegion) {
+        return Props.create(SudoRetrieveThingsActor.class, thingsShardRegion);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrieveThings.class, this::retrieveThings)
+                .match(RetrievalResults.class, this::answer)
+                .matchAny(message -> {
+                    log.warning("Got unknown message: {}", message);
+                    unhandled(message);
+                })
+                .build();
+    }
+
+    private void retrieveThings(final SudoRetrieveThings command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final List<ThingId> thingIds = command.getThingIds();
+        final Duration timeout = dittoHeaders.getTimeout().orElse(DEFAULT_TIMEOUT);
+        log.withCorrelationId(command).debug("Retrieving <{}> things", thingIds.size());
+
+        // the batch size is chosen by the sender; retrieve all things of the batch in parallel and keep their order
+        final CompletionStage<RetrievalResults> resultsFuture = Source.from(thingIds)
+                .mapAsync(Math.max(1, thingIds.size()),
+                        thingId -> retrieveThing(toSudoRetrieveThing(command, thingId), timeout))
+                .runFold(new RetrievalResults(dittoHeaders, getSender()), RetrievalResults::add, materializer);
+
+        // answer and log in the actor
+        Patterns.pipe(resultsFuture, getContext().dispatcher()).to(getSelf());
+    }
+
+    private CompletionStage<RetrievalResult> retrieveThing(final SudoRetrieveThing command, final Duration timeout) {
+        return Patterns.ask(thingsShardRegion, command, timeout)
+                .handle((response, error) -> new RetrievalResult(command, response, error));
+    }
+
+    private void answer(final RetrievalResults results) {
+        JsonArrayBuilder chunk = JsonFactory.newArrayBuilder();
+        long chunkSize = 0L;
+        for (final RetrievalResult result : results.results) {
+            if (result.response instanceof SudoRetrieveThingResponse) {
+                final JsonValue thing = ((SudoRetrieveThingResponse) result.response).getEntity();
+                final long thingSize = thing.toString().length();
+                if (chunkSize > 0L && chunkSize + thingSize > maxChunkSize) {
+                    results.sender.tell(SudoRetrieveThingsResponse.of(chunk.build(), results.dittoHeaders), getSelf());
+                    chunk = JsonFactory.newArrayBuilder();
+                    chunkSize = 0L;
+                }
+                chunk.add(thing);
+                chunkSize += thingSize;
+            } else if (result.error != null) {
+                log.withCorrelationId(results.dittoHeaders)
+                        .error(result.error, "Failed command <{}>", result.command);
+            } else if (!(result.response instanceof ThingNotAccessibleException)) {
+                log.withCorrelationId(results.dittoHeaders)
+                        .error("Unexpected response for <{}>: <{}>", result.command, result.response);
+            }
+        }
+        if (chunkSize > 0L) {
+            results.sender.tell(SudoRetrieveThingsResponse.of(chunk.build(), results.dittoHeaders), getSelf());
+        }
+        results.sender.tell(SudoRetrieveThingsResponse.of(JsonFactory.newArray(), results.dittoHeaders), getSelf());
+    }
+
+    private static SudoRetrieveThing toSudoRetrieveThing(final SudoRetrieveThings command, final ThingId thingId) {
+        @Nullable final JsonFieldSelector selectedFields = command.getSelectedFields().orElse(null);
+        if (command.useOriginalSchemaVersion()) {
+            return SudoRetrieveThing.withOriginalSchemaVersion(thingId, selectedFields, command.getDittoHeaders());
+        } else {
+            return SudoRetrieveThing.of(thingId, selectedFields, command.getDittoHeaders());
+        }
+    }
+
+    private static final class RetrievalResult {
+
+        private final SudoRetrieveThing command;
+        @Nullable private final Object response;
+        @Nullable private final Throwable error;
+
+        private RetrievalResult(final SudoRetrieveThing command, @Nullable final Object response,
+                @Nullable final Throwable error) {
+            this.command = command;
+            this.response = response;
+            this.error = error;
+        }
+
+    }
+
+    private static final class RetrievalResults {
+
+        private final DittoHeaders dittoHeaders;
+        private final ActorRef sender;
+        private final List<RetrievalResult> results;
+
+        private RetrievalResults(final DittoHeaders dittoHeaders, final ActorRef sender) {
+            this.dittoHeaders = dittoHeaders;
+            this.sender = sender;
+            results = new ArrayList<>();
+        }
+
+        private RetrievalResults add(final RetrievalResult result) {
+            results.add(result);
+            return this;
+        }
+
+    }
+
+}
@@ -161,6 +161,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected int getGroupCommitSize() {
+        return thingConfig.getGroupCommitSize();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -181,8 +186,8 @@ public final class ThingPersistenceActor
     }
 
     @Override
-    protected void publishEvent(final ThingEvent<?> event) {
-        distributedPub.publishWithAcks(event, ACK_EXTRACTOR, getSender());
+    protected void publishEvent(final ThingEvent<?> event, final ActorRef sender) {
+        distributedPub.publishWithAcks(event, ACK_EXTRACTOR, sender);
     }
 
     @Override
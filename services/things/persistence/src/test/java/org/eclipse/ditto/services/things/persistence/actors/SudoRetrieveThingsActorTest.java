@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link SudoRetrieveThingsActor}.
+ */
+public final class SudoRetrieveThingsActorTest {
+
+    private static final ThingId THING_ID_1 = ThingId.of("thing:1");
+    private static final ThingId THING_ID_2 = ThingId.of("thing:2");
+    private static final ThingId THING_ID_3 = ThingId.of("thing:3");
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void init() {
+        system = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void answerWithAllRetrievedThingsInRequestedOrder() {
+        new TestKit(system) {{
+            final TestKit shardRegion = new TestKit(system);
+            final ActorRef underTest = system.actorOf(SudoRetrieveThingsActor.props(shardRegion.getRef()));
+
+            underTest.tell(SudoRetrieveThings.withOriginalSchemaVersion(List.of(THING_ID_1, THING_ID_2),
+                    DittoHeaders.empty()), getRef());
+
+            // both things are retrieved in parallel; answer them in reverse order
+            final SudoRetrieveThing retrieveThing1 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            final ActorRef sender1 = shardRegion.getLastSender();
+            final SudoRetrieveThing retrieveThing2 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            final ActorRef sender2 = shardRegion.getLastSender();
+            assertThat(retrieveThing1.getEntityId()).isEqualTo(THING_ID_1);
+            assertThat(retrieveThing2.getEntityId()).isEqualTo(THING_ID_2);
+            assertThat(retrieveThing1.useOriginalSchemaVersion()).isTrue();
+            sender2.tell(retrieveThingResponse(THING_ID_2), ActorRef.noSender());
+            sender1.tell(retrieveThingResponse(THING_ID_1), ActorRef.noSender());
+
+            assertThat(expectAnswer(this)).containsExactly(List.of(THING_ID_1, THING_ID_2));
+        }};
+    }
+
+    @Test
+    public void omitMissingAndFailedThings() {
+        new TestKit(system) {{
+            final TestKit shardRegion = new TestKit(system);
+            final ActorRef underTest = system.actorOf(SudoRetrieveThingsActor.props(shardRegion.getRef()));
+
+            underTest.tell(SudoRetrieveThings.of(List.of(THING_ID_1, THING_ID_2, THING_ID_3), DittoHeaders.empty()),
+                    getRef());
+
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(ThingNotAccessibleException.newBuilder(THING_ID_1).build());
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(retrieveThingResponse(THING_ID_2));
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(new Status.Failure(new IllegalStateException("shard unavailable")));
+
+            assertThat(expectAnswer(this)).containsExactly(List.of(THING_ID_2));
+        }};
+    }
+
+    @Test
+    public void answerBeforeTimeoutWithThingsRetrievedSoFar() {
+        new TestKit(system) {{
+            final TestKit shardRegion = new TestKit(system);
+            final ActorRef underTest = system.actorOf(SudoRetrieveThingsActor.props(shardRegion.getRef()));
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().timeout(Duration.ofSeconds(1L)).build();
+
+            underTest.tell(SudoRetrieveThings.of(List.of(THING_ID_1, THING_ID_2), dittoHeaders), getRef());
+
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(retrieveThingResponse(THING_ID_1));
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+
+            // thing 2 never answers
+            final SudoRetrieveThingsResponse response =
+                    expectMsgClass(Duration.ofSeconds(3L), SudoRetrieveThingsResponse.class);
+            assertThat(getThingIds(response)).containsExactly(THING_ID_1);
+            assertThat(getThingIds(expectMsgClass(SudoRetrieveThingsResponse.class))).isEmpty();
+        }};
+    }
+
+    @Test
+    public void answerEmptyBatch() {
+        new TestKit(system) {{
+            final TestKit shardRegion = new TestKit(system);
+            final ActorRef underTest = system.actorOf(SudoRetrieveThingsActor.props(shardRegion.getRef()));
+
+            underTest.tell(SudoRetrieveThings.of(List.of(), DittoHeaders.empty()), getRef());
+
+            assertThat(expectAnswer(this)).isEmpty();
+            shardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void answerLargeThingsInChunksWhichFitIntoRemoteFrames() {
+        new TestKit(system) {{
+            final TestKit shardRegion = new TestKit(system);
+            final ActorRef underTest = system.actorOf(SudoRetrieveThingsActor.props(shardRegion.getRef()));
+            final long maximumFrameSize =
+                    system.settings().config().getBytes("akka.remote.artery.advanced.maximum-frame-size");
+
+            underTest.tell(SudoRetrieveThings.of(List.of(THING_ID_1, THING_ID_2, THING_ID_3), DittoHeaders.empty()),
+                    getRef());
+
+            // the 3 things together exceed the maximum frame size
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(retrieveThingResponse(THING_ID_1, (int) (maximumFrameSize * 3 / 10)));
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(retrieveThingResponse(THING_ID_2, (int) (maximumFrameSize * 3 / 10)));
+            shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.reply(retrieveThingResponse(THING_ID_3, (int) (maximumFrameSize * 6 / 10)));
+
+            final List<SudoRetrieveThingsResponse> chunks = expectChunks(this);
+            assertThat(chunks.stream().map(SudoRetrieveThingsActorTest::getThingIds))
+                    .containsExactly(List.of(THING_ID_1), List.of(THING_ID_2), List.of(THING_ID_3));
+            assertThat(chunks).allSatisfy(chunk ->
+                    assertThat((long) chunk.toJsonString().length()).isLessThan(maximumFrameSize));
+        }};
+    }
+
+    private static List<List<ThingId>> expectAnswer(final TestKit testKit) {
+        return expectChunks(testKit).stream()
+                .map(SudoRetrieveThingsActorTest::getThingIds)
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * Expects the non-empty chunks of an answer and the empty response which concludes it.
+     */
+    private static List<SudoRetrieveThingsResponse> expectChunks(final TestKit testKit) {
+        final List<SudoRetrieveThingsResponse> chunks = new ArrayList<>();
+        SudoRetrieveThingsResponse chunk = testKit.expectMsgClass(SudoRetrieveThingsResponse.class);
+        while (!getThingIds(chunk).isEmpty()) {
+            chunks.add(chunk);
+            chunk = testKit.expectMsgClass(SudoRetrieveThingsResponse.class);
+        }
+        return chunks;
+    }
+
+    private static SudoRetrieveThingResponse retrieveThingResponse(final ThingId thingId) {
+        return SudoRetrieveThingResponse.of(Thing.newBuilder().setId(thingId).build().toJson(),
+                DittoHeaders.empty());
+    }
+
+    private static SudoRetrieveThingResponse retrieveThingResponse(final ThingId thingId, final int attributeSize) {
+        final String largeAttribute = "x".repeat(attributeSize);
+        return SudoRetrieveThingResponse.of(Thing.newBuilder()
+                .setId(thingId)
+                .setAttribute(JsonPointer.of("large"), JsonValue.of(largeAttribute))
+                .build()
+                .toJson(), DittoHeaders.empty());
+    }
+
+    private static List<ThingId> getThingIds(final SudoRetrieveThingsResponse response) {
+        return response.getEntity(JsonSchemaVersion.LATEST)
+                .asArray()
+                .stream()
+                .map(JsonValue::asObject)
+                .map(thing -> ThingId.of(thing.getValueOrThrow(Thing.JsonFields.ID)))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.test.Retry;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the group commit of the {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorGroupCommitTest extends PersistenceActorTestBase {
+
+    private static final int NUMBER_OF_MODIFICATIONS = 25;
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit-size = 10"));
+    }
+
+    @Test
+    public void respondInOrderToBurstOfModifications() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow();
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, attributePointer(i), JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    assertThat(response.getAttributePointer()).isEqualTo(attributePointer(i));
+                }
+                assertAllAttributesModified(expectMsgClass(RetrieveThingResponse.class).getThing());
+            }
+        };
+    }
+
+    @Test
+    public void recoverModificationsOfGroupCommits() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow();
+                final ActorRef underTest = watch(createPersistenceActorFor(thingId));
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, attributePointer(i), JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                receiveN(NUMBER_OF_MODIFICATIONS);
+
+                // restart actor to recover thing state
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+                Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+                    underTestAfterRestart.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                    assertAllAttributesModified(expectMsgClass(RetrieveThingResponse.class).getThing());
+                });
+            }
+        };
+    }
+
+    private static JsonPointer attributePointer(final int i) {
+        return JsonPointer.of("attribute" + i);
+    }
+
+    private static void assertAllAttributesModified(final Thing thing) {
+        for (int i = 0; i < NUMBER_OF_MODIFICATIONS; i++) {
+            final JsonPointer attributePointer = attributePointer(i);
+            assertThat(thing.getAttributes().flatMap(attributes -> attributes.getValue(attributePointer)))
+                    .contains(JsonValue.of(i));
+        }
+    }
+
+}
@@ -38,6 +38,7 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private final int maxBulkSize;
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final int incrementalUpdateCacheSize;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -54,6 +55,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        incrementalUpdateCacheSize = persistenceStreamScopedConfig.getInt(
+                PersistenceStreamConfigValue.INCREMENTAL_UPDATE_CACHE_SIZE.getConfigPath());
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -85,6 +88,11 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public int getIncrementalUpdateCacheSize() {
+        return incrementalUpdateCacheSize;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -107,12 +115,14 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return maxBulkSize == that.maxBulkSize &&
                 Objects.equals(ackDelay, that.ackDelay) &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
+                incrementalUpdateCacheSize == that.incrementalUpdateCacheSize &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, ackDelay, withAcknowledgementsWriteConcern, incrementalUpdateCacheSize,
+                defaultStreamStageConfig);
     }
 
     @Override
@@ -121,6 +131,7 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                 "maxBulkSize=" + maxBulkSize +
                 ", ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", incrementalUpdateCacheSize=" + incrementalUpdateCacheSize +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
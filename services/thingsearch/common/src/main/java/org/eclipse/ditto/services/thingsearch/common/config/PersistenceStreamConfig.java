@@ -48,6 +48,14 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the maximum number of search index documents to remember per search updater stream in order to update
+     * the search index incrementally. Zero disables incremental updates.
+     *
+     * @return the maximum number of documents to remember.
+     */
+    int getIncrementalUpdateCacheSize();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -69,7 +77,12 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * The maximum number of search index documents to remember for incremental updates.
+         */
+        INCREMENTAL_UPDATE_CACHE_SIZE("incremental-update-cache-size", 0);
 
         private final String configPath;
         private final Object defaultValue;
@@ -45,6 +45,13 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns how many things to retrieve with one command from the things service member hosting their shards.
+     *
+     * @return the batch size; 0 retrieves each thing by its own command.
+     */
+    int getRetrievalBatchSize();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +91,12 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * How many things to retrieve with one command from the things service member hosting their shards.
+         */
+        RETRIEVAL_BATCH_SIZE("retrieval-batch-size", 100);
 
         private final String configPath;
         private final Object defaultValue;
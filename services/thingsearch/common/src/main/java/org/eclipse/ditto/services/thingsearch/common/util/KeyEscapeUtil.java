@@ -15,7 +15,7 @@ package org.eclipse.ditto.services.thingsearch.common.util;
 import static java.util.Objects.requireNonNull;
 
 /**
- * Escapes strings to be usable as valid MongoDB keys.
+ * Escapes strings to be usable as valid MongoDB keys and restores them.
  *
  * @see <a href="https://docs.mongodb.org/manual/faq/developers/#faq-dollar-sign-escaping">MongoDB Documentation</a>
  */
@@ -41,4 +41,43 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Restores a String escaped by {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the original String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        final int firstTilda = str.indexOf('~');
+        if (firstTilda < 0) {
+            return str;
+        }
+        final StringBuilder builder = new StringBuilder(str.length());
+        builder.append(str, 0, firstTilda);
+        for (int i = firstTilda; i < str.length(); ++i) {
+            final char c = str.charAt(i);
+            if (c == '~' && i + 1 < str.length()) {
+                builder.append(unescape(str.charAt(i + 1)));
+                ++i;
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String unescape(final char escapeCode) {
+        switch (escapeCode) {
+            case '0':
+                return "~";
+            case '1':
+                return "$";
+            case '2':
+                return ".";
+            default:
+                return "~" + escapeCode;
+        }
+    }
 }
@@ -85,6 +85,10 @@ public final class DefaultPersistenceStreamConfigTest {
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.valueOf(
                         (String) PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getDefaultValue()));
+
+        softly.assertThat(underTest.getIncrementalUpdateCacheSize())
+                .as(PersistenceStreamConfigValue.INCREMENTAL_UPDATE_CACHE_SIZE.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.INCREMENTAL_UPDATE_CACHE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -111,6 +115,10 @@ public final class DefaultPersistenceStreamConfigTest {
         softly.assertThat(underTest.getWithAcknowledgementsWriteConcern())
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.MAJORITY);
+
+        softly.assertThat(underTest.getIncrementalUpdateCacheSize())
+                .as(PersistenceStreamConfigValue.INCREMENTAL_UPDATE_CACHE_SIZE.getConfigPath())
+                .isEqualTo(70);
     }
 
 }
@@ -31,6 +31,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -39,6 +40,8 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -199,21 +202,52 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int skip = query.getSkip();
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        MongoThingsSearchPersistence::toId))
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("findAll");
     }
 
+    @Override
+    public Source<ResultList<JsonObject>, NotUsed> findAllWithSelectedFields(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fields) {
+
+        final Optional<SearchIndexProjection> searchIndexProjection =
+                SearchIndexProjection.of(fields, authorizationSubjectIds);
+        if (searchIndexProjection.isEmpty()) {
+            return ThingsSearchPersistence.super.findAllWithSelectedFields(query, authorizationSubjectIds,
+                    namespaces, fields);
+        }
+
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+        final Bson projection = searchIndexProjection.get()
+                .toMongoProjection(GetSortBsonVisitor.projections(query.getSortOptions()).keySet());
+
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection)
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        searchIndexProjection.get()::project))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllWithSelectedFields");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, projection)
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
@@ -221,7 +255,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
-            @Nullable final Duration maxQueryTime) {
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
 
         checkNotNull(query, "query");
 
@@ -233,7 +268,6 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -266,31 +300,31 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
-    private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
-            final List<SortOption> sortOptions) {
+    private <T> ResultList<T> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
+            final List<SortOption> sortOptions, final Function<Document, T> resultMapper) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<ThingId> pagedResultList;
+        final ResultList<T> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(mapResults(resultsPlus0ne, resultMapper), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(mapResults(results, resultMapper), nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
         return pagedResultList;
     }
 
-    private static List<ThingId> toIds(final List<Document> docs) {
+    private static <T> List<T> mapResults(final List<Document> docs, final Function<Document, T> resultMapper) {
         return docs.stream()
-                .map(MongoThingsSearchPersistence::toId)
+                .map(resultMapper)
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction.mapSortKey;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonDocumentToJsonObjectMapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * Projects selected fields of things from their search index documents.
+ * <p>
+ * The search index keeps a copy of each thing for sorting and the subjects granted and revoked to read each of its
+ * values. A projection of a document contains the selected values which the authorization subjects may read. Only
+ * fields are projected whose absence from the copy means their absence from the thing: Arrays may be truncated in the
+ * search index and values too long for the index have no recorded grants, thus a document whose selected fields
+ * contain any of them is projected to its thing ID only.
+ * </p>
+ */
+@Immutable
+final class SearchIndexProjection {
+
+    private static final Set<JsonKey> PROJECTABLE_ROOT_KEYS = Stream.of(Thing.JsonFields.ID,
+            Thing.JsonFields.POLICY_ID,
+            Thing.JsonFields.DEFINITION,
+            Thing.JsonFields.ATTRIBUTES,
+            Thing.JsonFields.FEATURES,
+            Thing.JsonFields.REVISION,
+            Thing.JsonFields.MODIFIED,
+            Thing.JsonFields.CREATED)
+            .map(fieldDefinition -> fieldDefinition.getPointer().getRoot().orElseThrow())
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final JsonKey WILDCARD = JsonKey.of("*");
+
+    private static final BsonDocumentToJsonObjectMapper SORTING_FIELD_MAPPER =
+            BsonDocumentToJsonObjectMapper.getInstance(KeyEscapeUtil::unescape);
+
+    private final List<JsonPointer> pointers;
+    private final Set<String> authorizationSubjectIds;
+
+    private SearchIndexProjection(final List<JsonPointer> pointers, final Collection<String> authorizationSubjectIds) {
+        this.pointers = pointers;
+        this.authorizationSubjectIds = Set.copyOf(authorizationSubjectIds);
+    }
+
+    /**
+     * Create a projection of the selected fields for the given authorization subjects.
+     *
+     * @param fields the selected fields.
+     * @param authorizationSubjectIds the authorization subjects reading the projection.
+     * @return the projection or an empty optional if the search index does not keep some selected field.
+     */
+    static Optional<SearchIndexProjection> of(final JsonFieldSelector fields,
+            final Collection<String> authorizationSubjectIds) {
+
+        final List<JsonPointer> pointers = new ArrayList<>(fields.getSize());
+        for (final JsonPointer pointer : fields.getPointers()) {
+            final boolean projectable = pointer.getRoot().filter(PROJECTABLE_ROOT_KEYS::contains).isPresent() &&
+                    !containsWildcard(pointer);
+            if (!projectable) {
+                return Optional.empty();
+            }
+            // the thing ID is part of every projection
+            if (!Thing.JsonFields.ID.getPointer().equals(pointer)) {
+                pointers.add(pointer);
+            }
+        }
+        return Optional.of(new SearchIndexProjection(pointers, authorizationSubjectIds));
+    }
+
+    /**
+     * Compute the MongoDB projection of the document fields required to project the selected fields.
+     *
+     * @param additionalPaths paths of further document fields to include, e. g. the keys to sort by.
+     * @return the MongoDB projection.
+     */
+    Document toMongoProjection(final Collection<String> additionalPaths) {
+        final Set<String> paths = new HashSet<>(additionalPaths);
+        paths.add(FIELD_ID);
+        paths.add(FIELD_INTERNAL + DOT + FIELD_INTERNAL_KEY);
+        paths.add(FIELD_INTERNAL + DOT + FIELD_GRANTED);
+        paths.add(FIELD_INTERNAL + DOT + FIELD_REVOKED);
+        pointers.forEach(pointer -> paths.add(mapSortKey(FIELD_SORTING + pointer)));
+
+        // MongoDB rejects projections of a path together with one of its sub-paths
+        final Document projection = new Document();
+        for (final String path : paths) {
+            if (!isSubPathOfAny(path, paths)) {
+                projection.append(path, true);
+            }
+        }
+        return projection;
+    }
+
+    /**
+     * Project the selected fields of a search index document.
+     *
+     * @param document the search index document with the fields of {@link #toMongoProjection(Collection)}.
+     * @return the projection, containing at least the thing ID.
+     */
+    JsonObject project(final Document document) {
+        final String thingId = document.getString(FIELD_ID);
+        final JsonObject thingIdOnly = JsonObject.newBuilder().set(Thing.JsonFields.ID, thingId).build();
+        final Document sortingField = document.get(FIELD_SORTING, Document.class);
+        if (pointers.isEmpty() || sortingField == null) {
+            return thingIdOnly;
+        }
+        final JsonObject selectedFields = SORTING_FIELD_MAPPER.apply(BsonUtil.toBsonDocument(sortingField))
+                .get(JsonFactory.newFieldSelector(pointers));
+        final JsonObject readableFields = filterReadable(JsonPointer.empty(), selectedFields, readGrants(document));
+        if (readableFields == null) {
+            return thingIdOnly;
+        }
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, thingId)
+                .setAll(readableFields)
+                .build();
+    }
+
+    /**
+     * Remove fields the authorization subjects may not read.
+     *
+     * @return the readable fields or {@code null} if the readability of some field is unknown.
+     */
+    @Nullable
+    private static JsonObject filterReadable(final JsonPointer pointer, final JsonObject object,
+            final Map<String, Boolean> readGrants) {
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : object) {
+            final JsonPointer fieldPointer = pointer.addLeaf(field.getKey());
+            final JsonValue value = field.getValue();
+            if (value.isArray()) {
+                return null;
+            } else if (value.isObject() && !value.asObject().isEmpty()) {
+                final JsonObject readableValue = filterReadable(fieldPointer, value.asObject(), readGrants);
+                if (readableValue == null) {
+                    return null;
+                } else if (!readableValue.isEmpty()) {
+                    builder.set(field.getKey(), readableValue);
+                }
+            } else {
+                final Boolean readable = readGrants.get(fieldPointer.toString());
+                if (readable == null) {
+                    return null;
+                } else if (readable) {
+                    builder.set(field.getKey(), value);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private Map<String, Boolean> readGrants(final Document document) {
+        final Object internalField = document.get(FIELD_INTERNAL);
+        if (!(internalField instanceof List)) {
+            return Map.of();
+        }
+        final List<?> entries = (List<?>) internalField;
+        final Map<String, Boolean> result = new HashMap<>(entries.size() * 4 / 3 + 1);
+        for (final Object entry : entries) {
+            if (entry instanceof Document) {
+                final Document internalEntry = (Document) entry;
+                final String key = internalEntry.getString(FIELD_INTERNAL_KEY);
+                if (key != null) {
+                    final boolean readable = containsAny(internalEntry.get(FIELD_GRANTED)) &&
+                            !containsAny(internalEntry.get(FIELD_REVOKED));
+                    result.merge(key, readable, Boolean::logicalAnd);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean containsAny(@Nullable final Object subjectIds) {
+        if (subjectIds instanceof List) {
+            for (final Object subjectId : (List<?>) subjectIds) {
+                if (authorizationSubjectIds.contains(subjectId)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSubPathOfAny(final String path, final Set<String> paths) {
+        for (int dot = path.lastIndexOf(DOT); dot > 0; dot = path.lastIndexOf(DOT, dot - 1)) {
+            if (paths.contains(path.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsWildcard(final JsonPointer pointer) {
+        for (final JsonKey key : pointer) {
+            if (WILDCARD.equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -15,14 +15,19 @@ package org.eclipse.ditto.services.thingsearch.persistence.read;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
@@ -79,6 +84,36 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the selected fields of all found things as kept by the search index. The search index is eventually
+     * consistent; the selected fields may thus lag behind the current state of the things.
+     * <p>
+     * Each element contains at least the thing ID. An element containing nothing but the thing ID means that the
+     * search index does not cover the selected fields of the thing, which has to be retrieved to answer them.
+     * This default implementation does not cover any selected fields.
+     * </p>
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields the selected fields.
+     * @return an {@link Source} which emits the selected fields of the found things.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<ResultList<JsonObject>, NotUsed> findAllWithSelectedFields(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fields) {
+
+        return findAll(query, authorizationSubjectIds, namespaces).map(thingIds -> new ResultListImpl<>(
+                thingIds.stream()
+                        .map(thingId -> JsonObject.newBuilder().set(Thing.JsonFields.ID, thingId.toString()).build())
+                        .collect(Collectors.toList()),
+                thingIds.nextPageOffset(),
+                thingIds.lastResultSortValues().orElse(null)));
+    }
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
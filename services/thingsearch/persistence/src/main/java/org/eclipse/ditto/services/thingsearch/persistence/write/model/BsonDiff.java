@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+/**
+ * Computes the MongoDB update turning one search index document into another by {@code $set} and {@code $unset} of
+ * the changed paths only.
+ * Keys of search index documents are escaped, i. e. they never contain dots and may be concatenated to paths.
+ * <p>
+ * The order of the elements of the flattened array {@code d} does not matter.
+ * Its elements are therefore matched by value instead of by index: removed elements are overwritten in place by added
+ * elements, further added elements are appended by index and if elements are removed only, they are pulled.
+ * MongoDB rejects updates modifying an array both by index and by {@code $pull}; if more elements are removed than
+ * added and some are added, the flattened array is set as a whole.
+ * </p>
+ */
+@NotThreadSafe
+final class BsonDiff {
+
+    private static final String UNSET = "$unset";
+    private static final String PULL = "$pull";
+    private static final String IN = "$in";
+
+    private final BsonDocument set;
+    private final BsonDocument unset;
+    private final BsonDocument pull;
+    private int diffSize;
+
+    private BsonDiff() {
+        set = new BsonDocument();
+        unset = new BsonDocument();
+        pull = new BsonDocument();
+        diffSize = 0;
+    }
+
+    /**
+     * Compute the update turning the previous document into the next document.
+     *
+     * @param previousDocument the document currently in the search index.
+     * @param nextDocument the document which should be in the search index.
+     * @return the update, or an empty optional if the update is not smaller than the next document (measured in
+     * number of BSON values) or if a document contains values of unexpected types.
+     */
+    static Optional<BsonDocument> computeUpdate(final Document previousDocument, final Document nextDocument) {
+        final BsonDiff diff = new BsonDiff();
+        int documentSize = 0;
+        for (final Map.Entry<String, Object> entry : nextDocument.entrySet()) {
+            final BsonValue nextValue = toBsonValue(entry.getValue());
+            if (nextValue == null) {
+                return Optional.empty();
+            }
+            documentSize += sizeOf(nextValue);
+            final String key = entry.getKey();
+            if (previousDocument.containsKey(key)) {
+                final BsonValue previousValue = toBsonValue(previousDocument.get(key));
+                if (previousValue == null) {
+                    return Optional.empty();
+                }
+                if (FIELD_INTERNAL.equals(key) && previousValue.isArray() && nextValue.isArray()) {
+                    diff.diffUnorderedArrays(key, previousValue.asArray(), nextValue.asArray());
+                } else {
+                    diff.diffValues(key, previousValue, nextValue);
+                }
+            } else {
+                diff.setValue(key, nextValue);
+            }
+        }
+        for (final String key : previousDocument.keySet()) {
+            if (!nextDocument.containsKey(key)) {
+                diff.unsetValue(key);
+            }
+        }
+
+        if (diff.diffSize >= documentSize) {
+            return Optional.empty();
+        } else {
+            return Optional.of(diff.toUpdate(nextDocument));
+        }
+    }
+
+    private BsonDocument toUpdate(final Document nextDocument) {
+        // always set the revision to get a valid update even if nothing changed
+        set.append(FIELD_REVISION, toBsonValue(nextDocument.get(FIELD_REVISION)));
+        // the previous document may have been marked as deleted by a concurrent write
+        unset.append(FIELD_DELETE_AT, new BsonString(""));
+        final BsonDocument update = new BsonDocument().append(AbstractWriteModel.SET, set).append(UNSET, unset);
+        if (!pull.isEmpty()) {
+            update.append(PULL, pull);
+        }
+        return update;
+    }
+
+    private void diffValues(final String path, final BsonValue previousValue, final BsonValue nextValue) {
+        if (previousValue.isDocument() && nextValue.isDocument()) {
+            diffDocuments(path, previousValue.asDocument(), nextValue.asDocument());
+        } else if (previousValue.isArray() && nextValue.isArray() &&
+                previousValue.asArray().size() == nextValue.asArray().size()) {
+            diffArrays(path, previousValue.asArray(), nextValue.asArray());
+        } else if (!previousValue.equals(nextValue)) {
+            setValue(path, nextValue);
+        }
+    }
+
+    private void diffDocuments(final String path, final BsonDocument previousDocument,
+            final BsonDocument nextDocument) {
+
+        for (final Map.Entry<String, BsonValue> entry : nextDocument.entrySet()) {
+            final String childPath = path + "." + entry.getKey();
+            final BsonValue previousValue = previousDocument.get(entry.getKey());
+            if (previousValue == null) {
+                setValue(childPath, entry.getValue());
+            } else {
+                diffValues(childPath, previousValue, entry.getValue());
+            }
+        }
+        for (final String key : previousDocument.keySet()) {
+            if (!nextDocument.containsKey(key)) {
+                unsetValue(path + "." + key);
+            }
+        }
+    }
+
+    private void diffArrays(final String path, final BsonArray previousArray, final BsonArray nextArray) {
+        for (int i = 0; i < nextArray.size(); ++i) {
+            diffValues(path + "." + i, previousArray.get(i), nextArray.get(i));
+        }
+    }
+
+    private void diffUnorderedArrays(final String path, final BsonArray previousArray, final BsonArray nextArray) {
+        final Map<BsonValue, Deque<Integer>> previousIndexes = new HashMap<>();
+        for (int i = 0; i < previousArray.size(); ++i) {
+            previousIndexes.computeIfAbsent(previousArray.get(i), element -> new ArrayDeque<>()).add(i);
+        }
+        final List<BsonValue> addedElements = new ArrayList<>();
+        for (final BsonValue element : nextArray) {
+            final Deque<Integer> indexes = previousIndexes.get(element);
+            if (indexes == null || indexes.isEmpty()) {
+                addedElements.add(element);
+            } else {
+                indexes.poll();
+            }
+        }
+        final List<Integer> removedIndexes = new ArrayList<>();
+        previousIndexes.values().forEach(removedIndexes::addAll);
+        removedIndexes.sort(Integer::compare);
+
+        if (addedElements.size() >= removedIndexes.size()) {
+            for (int i = 0; i < addedElements.size(); ++i) {
+                final int index = i < removedIndexes.size()
+                        ? removedIndexes.get(i)
+                        : previousArray.size() + i - removedIndexes.size();
+                setValue(path + "." + index, addedElements.get(i));
+            }
+        } else if (addedElements.isEmpty() && !containsAnyRemovedElement(nextArray, previousArray, removedIndexes)) {
+            final BsonArray removedElements = new BsonArray();
+            for (final int index : removedIndexes) {
+                removedElements.add(previousArray.get(index));
+                diffSize += sizeOf(previousArray.get(index));
+            }
+            pull.append(path, new BsonDocument(IN, removedElements));
+        } else {
+            setValue(path, nextArray);
+        }
+    }
+
+    private void setValue(final String path, final BsonValue value) {
+        set.append(path, value);
+        diffSize += sizeOf(value);
+    }
+
+    private void unsetValue(final String path) {
+        unset.append(path, new BsonString(""));
+        ++diffSize;
+    }
+
+    private static boolean containsAnyRemovedElement(final BsonArray nextArray, final BsonArray previousArray,
+            final List<Integer> removedIndexes) {
+
+        // $pull removes all equal elements, also those which should remain
+        return removedIndexes.stream().map(previousArray::get).anyMatch(nextArray::contains);
+    }
+
+    private static int sizeOf(final BsonValue value) {
+        int size = 1;
+        if (value.isDocument()) {
+            for (final BsonValue child : value.asDocument().values()) {
+                size += sizeOf(child);
+            }
+        } else if (value.isArray()) {
+            for (final BsonValue child : value.asArray()) {
+                size += sizeOf(child);
+            }
+        }
+        return size;
+    }
+
+    @Nullable
+    private static BsonValue toBsonValue(@Nullable final Object value) {
+        final BsonValue result;
+        if (null == value) {
+            result = BsonNull.VALUE;
+        } else if (value instanceof BsonValue) {
+            result = (BsonValue) value;
+        } else if (value instanceof String) {
+            result = new BsonString((String) value);
+        } else if (value instanceof Long) {
+            result = new BsonInt64((Long) value);
+        } else if (value instanceof Integer) {
+            result = new BsonInt32((Integer) value);
+        } else if (value instanceof Boolean) {
+            result = BsonBoolean.valueOf((Boolean) value);
+        } else {
+            // unexpected type in search index document; do not compute a diff
+            result = null;
+        }
+        return result;
+    }
+
+}
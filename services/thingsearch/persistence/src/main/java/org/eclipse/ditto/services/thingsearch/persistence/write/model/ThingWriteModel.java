@@ -12,15 +12,22 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 
 /**
@@ -30,10 +37,15 @@ import com.mongodb.client.model.WriteModel;
 public final class ThingWriteModel extends AbstractWriteModel {
 
     private final Document thingDocument;
+    @Nullable private final Document previousThingDocument;
+    @Nullable private final BsonDocument patchUpdate;
 
-    private ThingWriteModel(final Metadata metadata, final Document thingDocument) {
+    private ThingWriteModel(final Metadata metadata, final Document thingDocument,
+            @Nullable final Document previousThingDocument, @Nullable final BsonDocument patchUpdate) {
         super(metadata);
         this.thingDocument = thingDocument;
+        this.previousThingDocument = previousThingDocument;
+        this.patchUpdate = patchUpdate;
     }
 
     /**
@@ -44,12 +56,50 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel of(final Metadata metadata, final Document thingDocument) {
-        return new ThingWriteModel(metadata, thingDocument);
+        return new ThingWriteModel(metadata, thingDocument, null, null);
+    }
+
+    /**
+     * Create a write model which updates only the changed paths of the search index document, provided that the
+     * search index contains the document of the previous write model.
+     * If the search index contains a different document, the write model does not match any document.
+     *
+     * @param previousWriteModel the write model of the document assumed to be in the search index.
+     * @return the incremental write model, or this write model if the incremental update is not smaller than the
+     * document.
+     */
+    public ThingWriteModel toIncrementalUpdate(final ThingWriteModel previousWriteModel) {
+        final Document previousDocument = previousWriteModel.thingDocument;
+        return BsonDiff.computeUpdate(previousDocument, thingDocument)
+                .map(update -> new ThingWriteModel(getMetadata(), thingDocument, previousDocument, update))
+                .orElse(this);
+    }
+
+    /**
+     * @return whether this write model updates only the changed paths of the search index document.
+     */
+    public boolean isPatchUpdate() {
+        return patchUpdate != null;
+    }
+
+    @Override
+    public Bson getFilter() {
+        if (previousThingDocument != null) {
+            return Filters.and(super.getFilter(),
+                    Filters.eq(FIELD_REVISION, previousThingDocument.get(FIELD_REVISION)),
+                    Filters.eq(FIELD_POLICY_REVISION, previousThingDocument.get(FIELD_POLICY_REVISION)));
+        } else {
+            return super.getFilter();
+        }
     }
 
     @Override
     public WriteModel<Document> toMongo() {
-        return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
+        if (patchUpdate != null) {
+            return new UpdateOneModel<>(getFilter(), patchUpdate);
+        } else {
+            return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
+        }
     }
 
     /**
@@ -75,12 +125,14 @@ public final class ThingWriteModel extends AbstractWriteModel {
             return false;
         }
         final ThingWriteModel that = (ThingWriteModel) o;
-        return thingDocument.equals(that.thingDocument);
+        return thingDocument.equals(that.thingDocument) &&
+                Objects.equals(previousThingDocument, that.previousThingDocument) &&
+                Objects.equals(patchUpdate, that.patchUpdate);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), thingDocument);
+        return Objects.hash(super.hashCode(), thingDocument, previousThingDocument, patchUpdate);
     }
 
 }
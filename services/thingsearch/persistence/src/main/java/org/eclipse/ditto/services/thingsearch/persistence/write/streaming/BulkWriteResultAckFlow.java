@@ -27,6 +27,8 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
@@ -49,15 +51,21 @@ final class BulkWriteResultAckFlow {
     private static final String ERRORS_COUNTER_NAME = "search-index-update-errors";
 
     private final ActorRef updaterShard;
+    private final LastWriteModelCache lastWriteModelCache;
     private final Counter errorsCounter;
 
-    private BulkWriteResultAckFlow(final ActorRef updaterShard) {
+    private BulkWriteResultAckFlow(final ActorRef updaterShard, final LastWriteModelCache lastWriteModelCache) {
         this.updaterShard = updaterShard;
+        this.lastWriteModelCache = lastWriteModelCache;
         this.errorsCounter = DittoMetrics.counter(ERRORS_COUNTER_NAME);
     }
 
     static BulkWriteResultAckFlow of(final ActorRef updaterShard) {
-        return new BulkWriteResultAckFlow(updaterShard);
+        return of(updaterShard, LastWriteModelCache.disabled());
+    }
+
+    static BulkWriteResultAckFlow of(final ActorRef updaterShard, final LastWriteModelCache lastWriteModelCache) {
+        return new BulkWriteResultAckFlow(updaterShard, lastWriteModelCache);
     }
 
     Flow<WriteResultAndErrors, String, NotUsed> start(final Duration delay) {
@@ -80,16 +88,30 @@ final class BulkWriteResultAckFlow {
                 final List<String> logEntries = new ArrayList<>(errors.size() + 1);
                 final List<Metadata> failedMetadata = new ArrayList<>(errors.size());
                 logEntries.add(logResult("Acknowledged", writeResultAndErrors, errors.isEmpty()));
-                final BitSet failedIndices = new BitSet(writeResultAndErrors.getWriteModels().size());
+                final List<AbstractWriteModel> writeModels = writeResultAndErrors.getWriteModels();
+                final BitSet errorIndices = new BitSet(writeModels.size());
+                final BitSet failedIndices = new BitSet(writeModels.size());
                 for (final BulkWriteError error : errors) {
-                    final Metadata metadata = writeResultAndErrors.getWriteModels().get(error.getIndex()).getMetadata();
+                    final Metadata metadata = writeModels.get(error.getIndex()).getMetadata();
                     logEntries.add(String.format("UpdateFailed for %s due to %s", metadata, error));
+                    errorIndices.set(error.getIndex());
                     if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
                         failedIndices.set(error.getIndex());
                         failedMetadata.add(metadata);
                         // duplicate key error is considered success
                     }
                 }
+                if (mayHaveMissedPatchUpdates(writeResultAndErrors, errorIndices)) {
+                    // it is unknown which patch update did not match; fail all of them to replace the documents
+                    for (int i = 0; i < writeModels.size(); ++i) {
+                        if (!failedIndices.get(i) && isPatchUpdate(writeModels.get(i))) {
+                            final Metadata metadata = writeModels.get(i).getMetadata();
+                            logEntries.add(String.format("PatchUpdateMayHaveMissed for %s", metadata));
+                            failedIndices.set(i);
+                            failedMetadata.add(metadata);
+                        }
+                    }
+                }
                 acknowledgeFailures(failedMetadata);
                 acknowledgeSuccesses(failedIndices, writeResultAndErrors.getWriteModels());
                 return logEntries;
@@ -107,6 +129,9 @@ final class BulkWriteResultAckFlow {
 
     private void acknowledgeFailures(final List<Metadata> metadataList) {
         errorsCounter.increment(metadataList.size());
+        lastWriteModelCache.invalidateAll(metadataList.stream()
+                .map(Metadata::getThingId)
+                .collect(Collectors.toList()));
         for (final Metadata metadata : metadataList) {
             final UpdateThingResponse response = createFailureResponse(metadata);
             final ShardedMessageEnvelope envelope =
@@ -162,6 +187,42 @@ final class BulkWriteResultAckFlow {
         }
     }
 
+    /**
+     * Check whether some patch update may not have matched its search index document. Patch updates only match if the
+     * search index document is the one they were computed against. Delete models may or may not match, hence they
+     * are counted as expected matches in order to never miss a mismatch.
+     *
+     * @param resultAndErrors data structure containing input and output of the bulk write operation.
+     * @param errorIndices indices of the write models for which an error was reported.
+     * @return whether some patch update may not have matched.
+     */
+    private static boolean mayHaveMissedPatchUpdates(final WriteResultAndErrors resultAndErrors,
+            final BitSet errorIndices) {
+
+        final List<AbstractWriteModel> writeModels = resultAndErrors.getWriteModels();
+        boolean hasPatchUpdates = false;
+        int expectedMatches = 0;
+        for (int i = 0; i < writeModels.size(); ++i) {
+            if (!errorIndices.get(i)) {
+                final AbstractWriteModel writeModel = writeModels.get(i);
+                hasPatchUpdates |= isPatchUpdate(writeModel);
+                if (writeModel instanceof ThingWriteModel || writeModel instanceof ThingDeleteModel) {
+                    ++expectedMatches;
+                }
+            }
+        }
+        if (hasPatchUpdates) {
+            final BulkWriteResult bulkWriteResult = resultAndErrors.getBulkWriteResult();
+            return bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() < expectedMatches;
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean isPatchUpdate(final AbstractWriteModel writeModel) {
+        return writeModel instanceof ThingWriteModel && ((ThingWriteModel) writeModel).isPatchUpdate();
+    }
+
     private static boolean areAllIndexesWithinBounds(final List<BulkWriteError> bulkWriteErrors, final int requested) {
         return bulkWriteErrors.stream().mapToInt(BulkWriteError::getIndex).allMatch(i -> 0 <= i && i < requested);
     }
@@ -73,18 +73,24 @@ final class EnforcementFlow {
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final LastWriteModelCache lastWriteModelCache;
+    @Nullable private final ThingBatchRetrieval thingBatchRetrieval;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
-            final int maxArraySize) {
+            final int maxArraySize,
+            final LastWriteModelCache lastWriteModelCache,
+            @Nullable final ThingBatchRetrieval thingBatchRetrieval) {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.lastWriteModelCache = lastWriteModelCache;
+        this.thingBatchRetrieval = thingBatchRetrieval;
     }
 
     /**
@@ -101,6 +107,28 @@ final class EnforcementFlow {
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher) {
 
+        return of(updaterStreamConfig, thingsShardRegion, policiesShardRegion, cacheDispatcher,
+                LastWriteModelCache.disabled(), null);
+    }
+
+    /**
+     * Create an EnforcementFlow object which turns write models into incremental updates where possible.
+     *
+     * @param updaterStreamConfig configuration of the updater stream.
+     * @param thingsShardRegion the shard region to retrieve things from.
+     * @param policiesShardRegion the shard region to retrieve policies from.
+     * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param lastWriteModelCache cache of the last write model of each thing.
+     * @param thingBatchRetrieval retrieval of things in batches, or null to retrieve each thing by its own command.
+     * @return an EnforcementFlow object.
+     */
+    static EnforcementFlow of(final StreamConfig updaterStreamConfig,
+            final ActorRef thingsShardRegion,
+            final ActorRef policiesShardRegion,
+            final MessageDispatcher cacheDispatcher,
+            final LastWriteModelCache lastWriteModelCache,
+            @Nullable final ThingBatchRetrieval thingBatchRetrieval) {
+
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
 
@@ -112,7 +140,8 @@ final class EnforcementFlow {
                         .projectValues(PolicyEnforcer::project, PolicyEnforcer::embed);
 
         return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize());
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), lastWriteModelCache,
+                thingBatchRetrieval);
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -157,7 +186,7 @@ final class EnforcementFlow {
      *
      * @param shouldAcknowledge defines whether for the created flow the requested ack
      * {@link org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel#SEARCH_PERSISTED} was required or not.
-     * @param parallelism how many SudoRetrieveThing commands to send in parallel.
+     * @param parallelism how many SudoRetrieveThing or batched SudoRetrieveThings commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(
@@ -170,6 +199,7 @@ final class EnforcementFlow {
                             Source.fromIterator(changeMap.values()::iterator)
                                     .flatMapMerge(parallelism, metadataRef ->
                                             computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId()))
+                                                    .map(lastWriteModelCache::rememberAndDiff)
                                     )
                                     .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
                     );
@@ -181,9 +211,19 @@ final class EnforcementFlow {
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Map<ThingId, Metadata> changeMap) {
 
-        return Source.fromIterator(changeMap.entrySet()::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
-                .withAttributes(Attributes.inputBuffer(parallelism, parallelism))
+        final Source<SudoRetrieveThingResponse, NotUsed> responses;
+        if (thingBatchRetrieval != null) {
+            changeMap.values().forEach(ConsistencyLag::startS3RetrieveThing);
+            responses = thingBatchRetrieval.retrieveThings(changeMap.keySet(), parallelism, this::sudoRetrieveThing);
+        } else {
+            responses = Source.fromIterator(changeMap.entrySet()::iterator)
+                    .flatMapMerge(parallelism, entry -> {
+                        ConsistencyLag.startS3RetrieveThing(entry.getValue());
+                        return sudoRetrieveThing(entry.getKey());
+                    })
+                    .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
+        }
+        return responses
                 .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
                     map.put(getThingId(response), response);
                     return map;
@@ -194,9 +234,7 @@ final class EnforcementFlow {
                 });
     }
 
-    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final Map.Entry<ThingId, Metadata> entry) {
-        final ThingId thingId = entry.getKey();
-        ConsistencyLag.startS3RetrieveThing(entry.getValue());
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final ThingId thingId) {
         final SudoRetrieveThing command =
                 SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
         final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers the last write model of each thing in order to turn the next write model into an incremental update.
+ * Incremental updates only match the search index document if it is the remembered one; entries of things whose
+ * write failed must be invalidated so that the next write replaces the whole document.
+ */
+final class LastWriteModelCache {
+
+    private static final String CACHE_NAME = "things-search_incremental-update_cache";
+
+    @Nullable private final ConcurrentMap<ThingId, ThingWriteModel> lastWriteModels;
+
+    private LastWriteModelCache(@Nullable final ConcurrentMap<ThingId, ThingWriteModel> lastWriteModels) {
+        this.lastWriteModels = lastWriteModels;
+    }
+
+    /**
+     * Create a cache of last write models.
+     *
+     * @param size the maximum number of write models to remember; 0 disables incremental updates.
+     * @return the cache.
+     */
+    static LastWriteModelCache of(final int size) {
+        if (size <= 0) {
+            return disabled();
+        } else {
+            final CaffeineCache<ThingId, ThingWriteModel> cache =
+                    CaffeineCache.of(Caffeine.newBuilder().maximumSize(size), CACHE_NAME);
+            return new LastWriteModelCache(cache.asMap());
+        }
+    }
+
+    /**
+     * Create a cache which never remembers anything, i. e. all write models replace the whole document.
+     *
+     * @return the disabled cache.
+     */
+    static LastWriteModelCache disabled() {
+        return new LastWriteModelCache(null);
+    }
+
+    /**
+     * Remember a computed write model and turn it into an incremental update against the previously remembered
+     * write model of the same thing if possible.
+     *
+     * @param writeModel the computed write model.
+     * @return the write model to execute.
+     */
+    AbstractWriteModel rememberAndDiff(final AbstractWriteModel writeModel) {
+        if (lastWriteModels == null) {
+            return writeModel;
+        }
+        final Metadata metadata = writeModel.getMetadata();
+        final ThingId thingId = metadata.getThingId();
+        if (writeModel instanceof ThingWriteModel) {
+            final ThingWriteModel thingWriteModel = (ThingWriteModel) writeModel;
+            final ThingWriteModel previousWriteModel = lastWriteModels.put(thingId, thingWriteModel);
+            if (previousWriteModel != null && !metadata.shouldInvalidateCache()) {
+                return thingWriteModel.toIncrementalUpdate(previousWriteModel);
+            } else {
+                return thingWriteModel;
+            }
+        } else {
+            lastWriteModels.remove(thingId);
+            return writeModel;
+        }
+    }
+
+    /**
+     * Forget the write models of things whose search index documents are unknown, e. g. after a failed write.
+     *
+     * @param thingIds IDs of the things.
+     */
+    void invalidateAll(final Collection<ThingId> thingIds) {
+        if (lastWriteModels != null) {
+            lastWriteModels.keySet().removeAll(thingIds);
+        }
+    }
+
+}
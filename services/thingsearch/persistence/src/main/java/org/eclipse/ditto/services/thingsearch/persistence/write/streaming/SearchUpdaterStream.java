@@ -76,6 +76,7 @@ public final class SearchUpdaterStream {
      *
      * @param updaterConfig the search updater configuration settings.
      * @param actorSystem actor system to run the stream in.
+     * @param numberOfShards number of shards of the things shard region.
      * @param thingsShard shard region proxy of things.
      * @param policiesShard shard region proxy of policies.
      * @param updaterShard shard region of search updaters.
@@ -85,6 +86,7 @@ public final class SearchUpdaterStream {
      */
     public static SearchUpdaterStream of(final UpdaterConfig updaterConfig,
             final ActorSystem actorSystem,
+            final int numberOfShards,
             final ActorRef thingsShard,
             final ActorRef policiesShard,
             final ActorRef updaterShard,
@@ -98,13 +100,23 @@ public final class SearchUpdaterStream {
         final String dispatcherName = cacheConfig.getDispatcherName();
         final MessageDispatcher messageDispatcher = actorSystem.dispatchers().lookup(dispatcherName);
 
-        final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher);
+        final PersistenceStreamConfig persistenceConfig = streamConfig.getPersistenceConfig();
+        final LastWriteModelCache lastWriteModelCache =
+                LastWriteModelCache.of(persistenceConfig.getIncrementalUpdateCacheSize());
+
+        final int retrievalBatchSize = streamConfig.getRetrievalBatchSize();
+        final ThingBatchRetrieval thingBatchRetrieval = retrievalBatchSize > 0
+                ? ThingBatchRetrieval.of(actorSystem, thingsShard, numberOfShards, retrievalBatchSize,
+                streamConfig.getAskTimeout(), updaterConfig.getShardingStatePollInterval())
+                : null;
+
+        final EnforcementFlow enforcementFlow = EnforcementFlow.of(streamConfig, thingsShard, policiesShard,
+                messageDispatcher, lastWriteModelCache, thingBatchRetrieval);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
-                streamConfig.getPersistenceConfig());
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database, persistenceConfig);
 
-        final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
+        final BulkWriteResultAckFlow bulkWriteResultAckFlow =
+                BulkWriteResultAckFlow.of(updaterShard, lastWriteModelCache);
 
         return new SearchUpdaterStream(updaterConfig, enforcementFlow, mongoSearchUpdaterFlow, bulkWriteResultAckFlow,
                 changeQueueActor, blockedNamespaces);
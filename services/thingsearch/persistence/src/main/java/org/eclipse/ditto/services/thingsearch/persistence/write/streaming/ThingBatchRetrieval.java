@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.services.utils.cluster.ShardNumberCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.Status;
+import akka.cluster.sharding.ShardRegion;
+import akka.pattern.Patterns;
+import akka.stream.Attributes;
+import akka.stream.CompletionStrategy;
+import akka.stream.OverflowStrategy;
+import akka.stream.javadsl.Source;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Retrieves things in batches from the things service members hosting their shards.
+ * <p>
+ * The locations of the things shards are polled from the cluster sharding statistics of the things shard region.
+ * Thing IDs are grouped by the member hosting their shard and each group is sent as one {@link SudoRetrieveThings}
+ * command to the {@code SudoRetrieveThingsActor} of that member. It answers in chunks which fit into a remote frame,
+ * concluded by an empty chunk. Things of shards without known location and things of failed or incomplete batches
+ * are retrieved one by one.
+ * </p>
+ */
+final class ThingBatchRetrieval {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingBatchRetrieval.class);
+
+    private final ActorSystem actorSystem;
+    private final ActorRef thingsShardRegion;
+    private final ShardNumberCalculator shardNumberCalculator;
+    private final int batchSize;
+    private final Duration askTimeout;
+    private final Duration shardLocationsPollInterval;
+    private final AtomicLong nextShardLocationsPoll;
+
+    private volatile Map<String, Address> shardLocations;
+
+    private ThingBatchRetrieval(final ActorSystem actorSystem,
+            final ActorRef thingsShardRegion,
+            final ShardNumberCalculator shardNumberCalculator,
+            final int batchSize,
+            final Duration askTimeout,
+            final Duration shardLocationsPollInterval) {
+
+        this.actorSystem = actorSystem;
+        this.thingsShardRegion = thingsShardRegion;
+        this.shardNumberCalculator = shardNumberCalculator;
+        this.batchSize = batchSize;
+        this.askTimeout = askTimeout;
+        this.shardLocationsPollInterval = shardLocationsPollInterval;
+        nextShardLocationsPoll = new AtomicLong(System.nanoTime());
+        shardLocations = Map.of();
+    }
+
+    /**
+     * Create a batch retrieval of things.
+     *
+     * @param actorSystem the actor system to address the things service members with.
+     * @param thingsShardRegion the shard region proxy of things.
+     * @param numberOfShards the number of shards of the things shard region.
+     * @param batchSize the maximum number of things to retrieve with one command.
+     * @param askTimeout the timeout of each command.
+     * @param shardLocationsPollInterval how often to poll the locations of the things shards.
+     * @return the batch retrieval.
+     */
+    static ThingBatchRetrieval of(final ActorSystem actorSystem,
+            final ActorRef thingsShardRegion,
+            final int numberOfShards,
+            final int batchSize,
+            final Duration askTimeout,
+            final Duration shardLocationsPollInterval) {
+
+        return new ThingBatchRetrieval(actorSystem, thingsShardRegion,
+                ShardNumberCalculator.newInstance(numberOfShards), batchSize, askTimeout, shardLocationsPollInterval);
+    }
+
+    /**
+     * Retrieve things in batches grouped by the member hosting their shards.
+     *
+     * @param thingIds IDs of the things to retrieve.
+     * @param parallelism how many batches to retrieve in parallel.
+     * @param retrieveSingleThing how to retrieve a thing whose shard location is unknown or whose batch failed.
+     * @return source of responses of all things which exist.
+     */
+    Source<SudoRetrieveThingResponse, NotUsed> retrieveThings(final Collection<ThingId> thingIds,
+            final int parallelism,
+            final Function<ThingId, Source<SudoRetrieveThingResponse, NotUsed>> retrieveSingleThing) {
+
+        pollShardLocationsIfDue();
+        final Map<String, Address> currentShardLocations = shardLocations;
+        final Map<Address, List<ThingId>> thingIdsByLocation = new HashMap<>();
+        final List<ThingId> thingIdsWithoutLocation = new ArrayList<>();
+        for (final ThingId thingId : thingIds) {
+            final String shardId = String.valueOf(shardNumberCalculator.calculateShardNumber(thingId.toString()));
+            final Address location = currentShardLocations.get(shardId);
+            if (location != null) {
+                thingIdsByLocation.computeIfAbsent(location, a -> new ArrayList<>()).add(thingId);
+            } else {
+                thingIdsWithoutLocation.add(thingId);
+            }
+        }
+
+        // commands are sent when a batch is pulled so that at most 'parallelism' of them are in flight
+        final List<Supplier<Source<SudoRetrieveThingResponse, NotUsed>>> batches = new ArrayList<>();
+        thingIdsByLocation.forEach((location, thingIdsOfLocation) -> {
+            for (int i = 0; i < thingIdsOfLocation.size(); i += batchSize) {
+                final List<ThingId> batch =
+                        thingIdsOfLocation.subList(i, Math.min(i + batchSize, thingIdsOfLocation.size()));
+                batches.add(() -> retrieveBatch(location, batch, retrieveSingleThing));
+            }
+        });
+        thingIdsWithoutLocation.forEach(thingId -> batches.add(() -> retrieveSingleThing.apply(thingId)));
+
+        return Source.from(batches)
+                .flatMapMerge(parallelism, Supplier::get)
+                .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
+    }
+
+    private Source<SudoRetrieveThingResponse, NotUsed> retrieveBatch(final Address location,
+            final List<ThingId> thingIds,
+            final Function<ThingId, Source<SudoRetrieveThingResponse, NotUsed>> retrieveSingleThing) {
+
+        // the things service answers before the timeout even if single things do not respond in time
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().timeout(askTimeout.dividedBy(2L)).build();
+        final SudoRetrieveThings command = SudoRetrieveThings.withOriginalSchemaVersion(thingIds, dittoHeaders);
+        final String path = location.toString() + ThingsMessagingConstants.SUDO_RETRIEVE_THINGS_ACTOR_PATH;
+        final Set<String> retrievedThingIds = ConcurrentHashMap.newKeySet();
+
+        // the answer consists of several chunks bounded by the remote frame size and an empty response as last chunk
+        return Source.<Object>actorRef(ThingBatchRetrieval::completeOnLastChunk, ThingBatchRetrieval::failOnUnexpected,
+                        thingIds.size() + 1, OverflowStrategy.fail())
+                .mapMaterializedValue(receiver -> {
+                    actorSystem.actorSelection(path).tell(command, receiver);
+                    return NotUsed.getInstance();
+                })
+                .completionTimeout(askTimeout)
+                .mapConcat(chunk -> toSudoRetrieveThingResponses((SudoRetrieveThingsResponse) chunk))
+                .map(response -> {
+                    retrievedThingIds.add(getThingId(response));
+                    return response;
+                })
+                .recoverWithRetries(1, Throwable.class, () -> {
+                    final List<ThingId> missingThingIds = thingIds.stream()
+                            .filter(thingId -> !retrievedThingIds.contains(thingId.toString()))
+                            .collect(Collectors.toList());
+                    LOGGER.warn("Failed to retrieve <{}> of <{}> things from <{}>, retrieving them one by one",
+                            missingThingIds.size(), thingIds.size(), location);
+                    return Source.from(missingThingIds).flatMapConcat(retrieveSingleThing::apply);
+                });
+    }
+
+    private static Optional<CompletionStrategy> completeOnLastChunk(final Object message) {
+        if (message instanceof SudoRetrieveThingsResponse && isEmpty((SudoRetrieveThingsResponse) message)) {
+            return Optional.of(CompletionStrategy.draining());
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Throwable> failOnUnexpected(final Object message) {
+        if (message instanceof SudoRetrieveThingsResponse) {
+            return Optional.empty();
+        } else if (message instanceof Status.Failure) {
+            return Optional.of(((Status.Failure) message).cause());
+        }
+        return Optional.of(new IllegalStateException("Unexpected response: " + message));
+    }
+
+    private static boolean isEmpty(final SudoRetrieveThingsResponse response) {
+        final JsonValue things = response.getEntity(JsonSchemaVersion.LATEST);
+        return !things.isArray() || things.asArray().isEmpty();
+    }
+
+    private static String getThingId(final SudoRetrieveThingResponse response) {
+        return response.getEntity().asObject().getValue(Thing.JsonFields.ID).orElse("");
+    }
+
+    private void pollShardLocationsIfDue() {
+        final long now = System.nanoTime();
+        final long due = nextShardLocationsPoll.get();
+        if (now - due >= 0 && nextShardLocationsPoll.compareAndSet(due, now + shardLocationsPollInterval.toNanos())) {
+            final ShardRegion.GetClusterShardingStats getClusterShardingStats = new ShardRegion.GetClusterShardingStats(
+                    FiniteDuration.create(askTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            Patterns.ask(thingsShardRegion, getClusterShardingStats, askTimeout.multipliedBy(2L))
+                    .whenComplete((stats, error) -> {
+                        if (stats instanceof ShardRegion.ClusterShardingStats) {
+                            shardLocations = toShardLocations((ShardRegion.ClusterShardingStats) stats);
+                            LOGGER.debug("Updated locations of <{}> things shards", shardLocations.size());
+                        } else {
+                            LOGGER.warn("Failed to retrieve locations of things shards: <{}>",
+                                    error != null ? error.toString() : stats);
+                        }
+                    });
+        }
+    }
+
+    private static Map<String, Address> toShardLocations(final ShardRegion.ClusterShardingStats stats) {
+        final Map<String, Address> result = new HashMap<>();
+        stats.getRegions().forEach((address, shardRegionStats) ->
+                shardRegionStats.getStats().keySet().forEach(shardId -> result.put(shardId, address)));
+        return result;
+    }
+
+    private static List<SudoRetrieveThingResponse> toSudoRetrieveThingResponses(
+            final SudoRetrieveThingsResponse response) {
+
+        return response.getEntity(JsonSchemaVersion.LATEST)
+                .asArray()
+                .stream()
+                .filter(JsonValue::isObject)
+                .map(thing -> SudoRetrieveThingResponse.of(thing.asObject(), DittoHeaders.empty()))
+                .collect(Collectors.toList());
+    }
+
+}
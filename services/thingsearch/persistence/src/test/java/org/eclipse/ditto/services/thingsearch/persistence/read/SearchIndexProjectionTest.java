@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SearchIndexProjection}.
+ */
+public final class SearchIndexProjectionTest {
+
+    private static final List<String> SUBJECTS = List.of("user");
+
+    @Test
+    public void projectReadableFields() {
+        final SearchIndexProjection underTest =
+                SearchIndexProjection.of(JsonFieldSelector.newInstance("attributes"), SUBJECTS).orElseThrow();
+
+        final Document document = new Document("_id", "thing:1")
+                .append("s", new Document("attributes", new Document("a~2b", 1).append("c", "secret")))
+                .append("d", List.of(entry("/attributes/a.b", List.of("user"), List.of()),
+                        entry("/attributes/c", List.of("user"), List.of("user"))));
+
+        assertThat(underTest.project(document))
+                .isEqualTo(JsonObject.of("{\"thingId\":\"thing:1\",\"attributes\":{\"a.b\":1}}"));
+    }
+
+    @Test
+    public void projectThingIdOnlyIfReadabilityIsUnknown() {
+        final SearchIndexProjection underTest =
+                SearchIndexProjection.of(JsonFieldSelector.newInstance("attributes/a"), SUBJECTS).orElseThrow();
+
+        final Document document = new Document("_id", "thing:1")
+                .append("s", new Document("attributes", new Document("a", "too long to be indexed")))
+                .append("d", List.of());
+
+        assertThat(underTest.project(document)).isEqualTo(JsonObject.of("{\"thingId\":\"thing:1\"}"));
+    }
+
+    @Test
+    public void projectThingIdOnlyIfArraysAreSelected() {
+        final SearchIndexProjection underTest =
+                SearchIndexProjection.of(JsonFieldSelector.newInstance("attributes/a"), SUBJECTS).orElseThrow();
+
+        final Document document = new Document("_id", "thing:1")
+                .append("s", new Document("attributes", new Document("a", List.of(1, 2))))
+                .append("d", List.of(entry("/attributes/a", List.of("user"), List.of())));
+
+        assertThat(underTest.project(document)).isEqualTo(JsonObject.of("{\"thingId\":\"thing:1\"}"));
+    }
+
+    @Test
+    public void fieldsNotKeptBySearchIndexAreNotProjectable() {
+        assertThat(SearchIndexProjection.of(JsonFieldSelector.newInstance("_policy"), SUBJECTS)).isEmpty();
+        assertThat(SearchIndexProjection.of(JsonFieldSelector.newInstance("features/*/properties"), SUBJECTS))
+                .isEmpty();
+    }
+
+    @Test
+    public void mongoProjectionExcludesSubPaths() {
+        final SearchIndexProjection underTest = SearchIndexProjection.of(
+                JsonFieldSelector.newInstance("attributes", "attributes/a", "attributes-b"), SUBJECTS).orElseThrow();
+
+        assertThat(underTest.toMongoProjection(List.of("s.attributes.c")).keySet())
+                .containsExactlyInAnyOrder("_id", "d.k", "d.g", "d.r", "s.attributes", "s.attributes-b");
+    }
+
+    private static Document entry(final String key, final List<String> granted, final List<String> revoked) {
+        return new Document("k", key).append("g", granted).append("r", revoked);
+    }
+
+}
@@ -12,8 +12,30 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.List;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
 import org.junit.Test;
 
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.testkit.TestProbe;
@@ -24,6 +46,8 @@ import nl.jqno.equalsverifier.EqualsVerifier;
  */
 public final class ThingWriteModelTest extends AbstractWithActorSystemTest {
 
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+
     @Test
     public void testHashCodeAndEquals() {
         system = ActorSystem.create();
@@ -32,7 +56,128 @@ public final class ThingWriteModelTest extends AbstractWithActorSystemTest {
         EqualsVerifier.forClass(ThingWriteModel.class)
                 .usingGetClass()
                 .withPrefabValues(ActorRef.class, probe1.ref(), probe2.ref())
+                .withPrefabValues(BsonDocument.class, new BsonDocument("a", new BsonInt32(1)),
+                        new BsonDocument("b", new BsonInt32(2)))
                 .verify();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void incrementalUpdateSetsAndUnsetsChangedPathsOnly() {
+        final ThingWriteModel previous = writeModel(1L, new BsonDocument()
+                .append("attributes", new BsonDocument()
+                        .append("unchanged", new BsonString("value"))
+                        .append("changed", new BsonInt32(1))
+                        .append("removed", new BsonInt32(2))
+                        .append("other1", new BsonInt32(3))
+                        .append("other2", new BsonInt32(4))));
+        final ThingWriteModel next = writeModel(2L, new BsonDocument()
+                .append("attributes", new BsonDocument()
+                        .append("unchanged", new BsonString("value"))
+                        .append("changed", new BsonInt32(5))
+                        .append("other1", new BsonInt32(3))
+                        .append("other2", new BsonInt32(4))));
+
+        final ThingWriteModel underTest = next.toIncrementalUpdate(previous);
+        final WriteModel<Document> mongoWriteModel = underTest.toMongo();
+
+        assertThat(underTest.isPatchUpdate()).isTrue();
+        assertThat(mongoWriteModel).isInstanceOf(UpdateOneModel.class);
+        final BsonDocument update = (BsonDocument) ((UpdateOneModel<Document>) mongoWriteModel).getUpdate();
+        assertThat(update.getDocument("$set")).isEqualTo(new BsonDocument()
+                .append(FIELD_REVISION, new BsonInt64(2L))
+                .append(FIELD_SORTING + ".attributes.changed", new BsonInt32(5)));
+        assertThat(update.getDocument("$unset").keySet()).contains(FIELD_SORTING + ".attributes.removed");
+        assertThat(underTest.getFilter().toString()).contains(FIELD_REVISION, FIELD_POLICY_REVISION);
+    }
+
+    @Test
+    public void incrementalUpdateFallsBackToReplacementIfDiffIsLarge() {
+        final ThingWriteModel previous = writeModel(1L, new BsonDocument()
+                .append("a1", new BsonInt32(1))
+                .append("a2", new BsonInt32(2))
+                .append("a3", new BsonInt32(3))
+                .append("a4", new BsonInt32(4))
+                .append("a5", new BsonInt32(5)));
+        final ThingWriteModel next = writeModel(2L, new BsonDocument("b", new BsonInt32(6)));
+
+        final ThingWriteModel underTest = next.toIncrementalUpdate(previous);
+
+        assertThat(underTest.isPatchUpdate()).isFalse();
+        assertThat(underTest.toMongo()).isInstanceOf(ReplaceOneModel.class);
+    }
+
+    @Test
+    public void incrementalUpdateSetsAddedFlattenedElementsAtRemovedOrNewIndexes() {
+        final ThingWriteModel previous = writeModel(1L, flattenedArray(1, 2, 3, 4, 5));
+        final ThingWriteModel next = writeModel(2L, flattenedArray(1, 6, 2, 4, 7, 5, 8));
+
+        final BsonDocument update = getPatchUpdate(next.toIncrementalUpdate(previous));
+
+        assertThat(update.getDocument("$set")).isEqualTo(new BsonDocument()
+                .append(FIELD_REVISION, new BsonInt64(2L))
+                .append(FIELD_INTERNAL + ".2", flattenedElement(6))
+                .append(FIELD_INTERNAL + ".5", flattenedElement(7))
+                .append(FIELD_INTERNAL + ".6", flattenedElement(8)));
+        assertThat(update.containsKey("$pull")).isFalse();
+    }
+
+    @Test
+    public void incrementalUpdatePullsRemovedFlattenedElements() {
+        final ThingWriteModel previous = writeModel(1L, flattenedArray(1, 2, 3, 4, 5));
+        final ThingWriteModel next = writeModel(2L, flattenedArray(1, 2, 4));
+
+        final BsonDocument update = getPatchUpdate(next.toIncrementalUpdate(previous));
+
+        assertThat(update.getDocument("$set")).isEqualTo(new BsonDocument(FIELD_REVISION, new BsonInt64(2L)));
+        assertThat(update.getDocument("$pull")).isEqualTo(new BsonDocument(FIELD_INTERNAL,
+                new BsonDocument("$in", new BsonArray(List.of(flattenedElement(3), flattenedElement(5))))));
+    }
+
+    @Test
+    public void incrementalUpdateDoesNotPullRemainingFlattenedElements() {
+        final ThingWriteModel previous = writeModel(1L, flattenedArray(1, 2, 3, 3, 4, 5, 6, 7));
+        final ThingWriteModel next = writeModel(2L, flattenedArray(1, 2, 3, 4, 5, 6, 7));
+
+        final BsonDocument update = getPatchUpdate(next.toIncrementalUpdate(previous));
+
+        assertThat(update.getDocument("$set").get(FIELD_INTERNAL)).isEqualTo(flattenedArray(1, 2, 3, 4, 5, 6, 7));
+        assertThat(update.containsKey("$pull")).isFalse();
+    }
+
+    private static BsonDocument getPatchUpdate(final ThingWriteModel writeModel) {
+        assertThat(writeModel.isPatchUpdate()).isTrue();
+        return (BsonDocument) ((UpdateOneModel<Document>) writeModel.toMongo()).getUpdate();
+    }
+
+    private static ThingWriteModel writeModel(final long revision, final BsonArray flattenedArray) {
+        final Metadata metadata = Metadata.of(THING_ID, revision, null, null, null);
+        final Document document = new Document().append(FIELD_ID, THING_ID.toString())
+                .append(FIELD_REVISION, revision)
+                .append(FIELD_POLICY_REVISION, 1L)
+                .append(FIELD_INTERNAL, flattenedArray);
+        return ThingWriteModel.of(metadata, document);
+    }
+
+    private static BsonArray flattenedArray(final int... values) {
+        final BsonArray flattenedArray = new BsonArray();
+        for (final int value : values) {
+            flattenedArray.add(flattenedElement(value));
+        }
+        return flattenedArray;
+    }
+
+    private static BsonDocument flattenedElement(final int value) {
+        return new BsonDocument().append(FIELD_INTERNAL_KEY, new BsonString("attributes/a" + value))
+                .append(FIELD_INTERNAL_VALUE, new BsonInt32(value));
+    }
+
+    private static ThingWriteModel writeModel(final long revision, final BsonDocument sortingDocument) {
+        final Metadata metadata = Metadata.of(THING_ID, revision, null, null, null);
+        final Document document = new Document().append(FIELD_ID, THING_ID.toString())
+                .append(FIELD_REVISION, revision)
+                .append(FIELD_POLICY_REVISION, 1L)
+                .append(FIELD_SORTING, sortingDocument);
+        return ThingWriteModel.of(metadata, document);
+    }
+
+}
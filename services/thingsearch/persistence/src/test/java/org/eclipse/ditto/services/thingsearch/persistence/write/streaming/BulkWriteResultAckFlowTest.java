@@ -13,6 +13,10 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -21,6 +25,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.BsonString;
 import org.bson.Document;
 import org.eclipse.ditto.model.base.common.HttpStatus;
@@ -177,6 +182,60 @@ public final class BulkWriteResultAckFlowTest {
                 .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Test
+    public void missedPatchUpdateIsRetriedAsReplacement() {
+        final LastWriteModelCache cache = LastWriteModelCache.of(10);
+        final BulkWriteResultAckFlow flowWithCache = BulkWriteResultAckFlow.of(updaterShardProbe.ref(), cache);
+        final TestProbe sender = TestProbe.apply(actorSystem);
+        final ThingId thingId = ThingId.of("thing", "patched");
+        cache.rememberAndDiff(thingWriteModel(thingId, 1L, 1, sender));
+        final AbstractWriteModel patchUpdate = cache.rememberAndDiff(thingWriteModel(thingId, 2L, 2, sender));
+        assertThat(patchUpdate).isInstanceOf(ThingWriteModel.class);
+        assertThat(((ThingWriteModel) patchUpdate).isPatchUpdate()).isTrue();
+
+        // WHEN: the patch update reports no error but did not match the search index document
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of());
+        final List<String> logEntries = runBulkWriteResultAckFlow(flowWithCache,
+                WriteResultAndErrors.success(List.of(patchUpdate), result));
+
+        // THEN: the patch update fails, so that the thing updater retries, and its cache entry is forgotten
+        assertThat(logEntries).anySatisfy(entry -> assertThat(entry).contains("PatchUpdateMayHaveMissed"));
+        assertThat(expectUpdateThingResponse(thingId))
+                .describedAs("response is failure")
+                .returns(false, UpdateThingResponse::isSuccess);
+        assertThat(sender.expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        final AbstractWriteModel retry = cache.rememberAndDiff(thingWriteModel(thingId, 3L, 3, sender));
+        assertThat(((ThingWriteModel) retry).isPatchUpdate()).describedAs("retry is patch update").isFalse();
+    }
+
+    @Test
+    public void failedWritesInvalidateCache() {
+        final LastWriteModelCache cache = LastWriteModelCache.of(10);
+        final BulkWriteResultAckFlow flowWithCache = BulkWriteResultAckFlow.of(updaterShardProbe.ref(), cache);
+        final TestProbe sender = TestProbe.apply(actorSystem);
+        final ThingId succeeded = ThingId.of("thing", "succeeded");
+        final ThingId failed = ThingId.of("thing", "failed");
+        final List<AbstractWriteModel> writeModels = List.of(
+                cache.rememberAndDiff(thingWriteModel(succeeded, 1L, 1, sender)),
+                cache.rememberAndDiff(thingWriteModel(failed, 1L, 1, sender)));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 0, 0, 0,
+                List.of(new BulkWriteUpsert(0, new BsonString("upsert 0"))));
+        final List<BulkWriteError> updateFailure =
+                List.of(new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 1));
+
+        // WHEN: the write of one thing fails
+        runBulkWriteResultAckFlow(flowWithCache, WriteResultAndErrors.failure(writeModels,
+                new MongoBulkWriteException(result, updateFailure, null, new ServerAddress())));
+        expectUpdateThingResponse(failed);
+
+        // THEN: the next write of the failed thing replaces its document and that of the other thing is patched
+        final AbstractWriteModel nextOfFailed = cache.rememberAndDiff(thingWriteModel(failed, 2L, 2, sender));
+        final AbstractWriteModel nextOfSucceeded = cache.rememberAndDiff(thingWriteModel(succeeded, 2L, 2, sender));
+        assertThat(((ThingWriteModel) nextOfFailed).isPatchUpdate()).isFalse();
+        assertThat(((ThingWriteModel) nextOfSucceeded).isPatchUpdate()).isTrue();
+    }
+
     private String runBulkWriteResultAckFlowAndGetFirstLogEntry(final WriteResultAndErrors writeResultAndErrors) {
         return Source.single(writeResultAndErrors)
                 .via(underTest.start(Duration.ZERO))
@@ -185,6 +244,31 @@ public final class BulkWriteResultAckFlowTest {
                 .join();
     }
 
+    private List<String> runBulkWriteResultAckFlow(final BulkWriteResultAckFlow flow,
+            final WriteResultAndErrors writeResultAndErrors) {
+
+        return Source.single(writeResultAndErrors)
+                .via(flow.start(Duration.ZERO))
+                .runWith(Sink.seq(), actorSystem)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static ThingWriteModel thingWriteModel(final ThingId thingId, final long revision,
+            final int attributeValue, final TestProbe sender) {
+
+        final Metadata metadata = Metadata.of(thingId, revision, null, null, null, sender.ref());
+        final Document document = new Document().append(FIELD_ID, thingId.toString())
+                .append(FIELD_REVISION, revision)
+                .append(FIELD_POLICY_REVISION, 1L)
+                .append(FIELD_SORTING, new BsonDocument()
+                        .append("changed", new BsonInt32(attributeValue))
+                        .append("unchanged1", new BsonString("value1"))
+                        .append("unchanged2", new BsonString("value2"))
+                        .append("unchanged3", new BsonString("value3")));
+        return ThingWriteModel.of(metadata, document);
+    }
+
     private List<AbstractWriteModel> generate5WriteModels() {
         return generateWriteModels(
                 IntStream.range(0, 5).mapToObj(i -> TestProbe.apply(actorSystem)).collect(Collectors.toList()));
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.sharding.ShardRegion;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.immutable.Map;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit tests for {@link ThingBatchRetrieval}.
+ */
+public final class ThingBatchRetrievalTest {
+
+    private static final ThingId THING_ID_1 = ThingId.of("thing:1");
+    private static final ThingId THING_ID_2 = ThingId.of("thing:2");
+    private static final ThingId THING_ID_3 = ThingId.of("thing:3");
+
+    private ActorSystem system;
+    private TestProbe shardRegionProbe;
+    private TestProbe sudoRetrieveThingsProbe;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        shardRegionProbe = TestProbe.apply(system);
+        sudoRetrieveThingsProbe = TestProbe.apply(system);
+        // answers the actor selection of ThingsMessagingConstants.SUDO_RETRIEVE_THINGS_ACTOR_PATH
+        system.actorOf(Props.create(ThingsRootStub.class, sudoRetrieveThingsProbe.ref()), "thingsRoot");
+    }
+
+    @After
+    public void cleanup() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void retrieveThingsOneByOneWhileShardLocationsAreUnknown() {
+        final ThingBatchRetrieval underTest = createBatchRetrieval();
+
+        final List<ThingId> result = retrieve(underTest, List.of(THING_ID_1, THING_ID_2),
+                ThingBatchRetrievalTest::retrieveSingleThing);
+
+        shardRegionProbe.expectMsgClass(ShardRegion.GetClusterShardingStats.class);
+        assertThat(result).containsExactlyInAnyOrder(THING_ID_1, THING_ID_2);
+        sudoRetrieveThingsProbe.expectNoMessage();
+    }
+
+    @Test
+    public void retrieveThingsInBatchesAndOmitMissingThings() {
+        final ThingBatchRetrieval underTest = createBatchRetrieval();
+        learnShardLocations(underTest);
+
+        final CompletionStage<List<ThingId>> resultFuture =
+                startRetrieval(underTest, List.of(THING_ID_1, THING_ID_2, THING_ID_3),
+                        ThingBatchRetrievalTest::unexpectedSingleRetrieval);
+
+        // the second batch is not sent before the first one is answered with parallelism 1
+        final SudoRetrieveThings firstBatch = sudoRetrieveThingsProbe.expectMsgClass(SudoRetrieveThings.class);
+        assertThat(firstBatch.getThingIds()).containsExactly(THING_ID_1, THING_ID_2);
+        assertThat(firstBatch.useOriginalSchemaVersion()).isTrue();
+        sudoRetrieveThingsProbe.expectNoMessage();
+        // thing 2 does not exist (anymore)
+        sudoRetrieveThingsProbe.reply(batchResponse(THING_ID_1));
+        sudoRetrieveThingsProbe.reply(batchResponse());
+
+        final SudoRetrieveThings secondBatch = sudoRetrieveThingsProbe.expectMsgClass(SudoRetrieveThings.class);
+        assertThat(secondBatch.getThingIds()).containsExactly(THING_ID_3);
+        sudoRetrieveThingsProbe.reply(batchResponse(THING_ID_3));
+        sudoRetrieveThingsProbe.reply(batchResponse());
+
+        assertThat(resultFuture.toCompletableFuture().join()).containsExactly(THING_ID_1, THING_ID_3);
+    }
+
+    @Test
+    public void retrieveThingsOfFailedBatchOneByOne() {
+        final ThingBatchRetrieval underTest = createBatchRetrieval();
+        learnShardLocations(underTest);
+
+        final CompletionStage<List<ThingId>> resultFuture = startRetrieval(underTest,
+                List.of(THING_ID_1, THING_ID_2), ThingBatchRetrievalTest::retrieveSingleThing);
+
+        sudoRetrieveThingsProbe.expectMsgClass(SudoRetrieveThings.class);
+        sudoRetrieveThingsProbe.reply(new Status.Failure(new IllegalStateException("things service restarting")));
+
+        assertThat(resultFuture.toCompletableFuture().join()).containsExactly(THING_ID_1, THING_ID_2);
+    }
+
+    @Test
+    public void retrieveThingsOfBatchAnsweredInSeveralChunks() {
+        final ThingBatchRetrieval underTest = createBatchRetrieval();
+        learnShardLocations(underTest);
+
+        final CompletionStage<List<ThingId>> resultFuture = startRetrieval(underTest,
+                List.of(THING_ID_1, THING_ID_2), ThingBatchRetrievalTest::unexpectedSingleRetrieval);
+
+        sudoRetrieveThingsProbe.expectMsgClass(SudoRetrieveThings.class);
+        sudoRetrieveThingsProbe.reply(batchResponse(THING_ID_1));
+        sudoRetrieveThingsProbe.reply(batchResponse(THING_ID_2));
+        sudoRetrieveThingsProbe.reply(batchResponse());
+
+        assertThat(resultFuture.toCompletableFuture().join()).containsExactly(THING_ID_1, THING_ID_2);
+    }
+
+    @Test
+    public void retrieveThingsMissingFromIncompleteAnswerOneByOne() {
+        final ThingBatchRetrieval underTest = createBatchRetrieval();
+        learnShardLocations(underTest);
+
+        final CompletionStage<List<ThingId>> resultFuture = startRetrieval(underTest,
+                List.of(THING_ID_1, THING_ID_2), ThingBatchRetrievalTest::retrieveSingleThing);
+
+        // the chunk of thing 2 and the last chunk are lost, e. g. because they exceeded the remote frame size
+        sudoRetrieveThingsProbe.expectMsgClass(SudoRetrieveThings.class);
+        sudoRetrieveThingsProbe.reply(batchResponse(THING_ID_1));
+
+        assertThat(resultFuture.toCompletableFuture().join()).containsExactly(THING_ID_1, THING_ID_2);
+    }
+
+    private ThingBatchRetrieval createBatchRetrieval() {
+        return ThingBatchRetrieval.of(system, shardRegionProbe.ref(), 1, 2, Duration.ofSeconds(3L),
+                Duration.ofHours(1L));
+    }
+
+    /*
+     * Answers the poll of the shard locations with all shards on this actor system and waits until the locations
+     * are used.
+     */
+    private void learnShardLocations(final ThingBatchRetrieval underTest) {
+        startRetrieval(underTest, List.of(), ThingBatchRetrievalTest::unexpectedSingleRetrieval);
+        shardRegionProbe.expectMsgClass(ShardRegion.GetClusterShardingStats.class);
+        final Address address = ((ExtendedActorSystem) system).provider().getDefaultAddress();
+        shardRegionProbe.reply(new ShardRegion.ClusterShardingStats(new Map.Map1<>(address,
+                new ShardRegion.ShardRegionStats(new Map.Map1<String, Object>("0", 1)))));
+
+        new TestKit(system).awaitAssert(() -> {
+            startRetrieval(underTest, List.of(THING_ID_1), thingId -> Source.empty());
+            return sudoRetrieveThingsProbe.expectMsgClass(FiniteDuration.apply(200L, TimeUnit.MILLISECONDS),
+                    SudoRetrieveThings.class);
+        });
+        sudoRetrieveThingsProbe.reply(SudoRetrieveThingsResponse.of(JsonArray.empty(), DittoHeaders.empty()));
+    }
+
+    private List<ThingId> retrieve(final ThingBatchRetrieval underTest, final List<ThingId> thingIds,
+            final Function<ThingId, Source<SudoRetrieveThingResponse, NotUsed>> single) {
+
+        return startRetrieval(underTest, thingIds, single).toCompletableFuture().join();
+    }
+
+    private CompletionStage<List<ThingId>> startRetrieval(final ThingBatchRetrieval underTest,
+            final List<ThingId> thingIds,
+            final Function<ThingId, Source<SudoRetrieveThingResponse, NotUsed>> single) {
+
+        return underTest.retrieveThings(thingIds, 1, single)
+                .map(ThingBatchRetrievalTest::getThingId)
+                .runWith(Sink.seq(), system);
+    }
+
+    private static Source<SudoRetrieveThingResponse, NotUsed> retrieveSingleThing(final ThingId thingId) {
+        return Source.single(SudoRetrieveThingResponse.of(toThingJson(thingId), DittoHeaders.empty()));
+    }
+
+    private static Source<SudoRetrieveThingResponse, NotUsed> unexpectedSingleRetrieval(final ThingId thingId) {
+        return Source.failed(new AssertionError("Unexpected retrieval of single thing " + thingId));
+    }
+
+    private static SudoRetrieveThingsResponse batchResponse(final ThingId... thingIds) {
+        return SudoRetrieveThingsResponse.of(Arrays.stream(thingIds)
+                .map(ThingBatchRetrievalTest::toThingJson)
+                .collect(JsonCollectors.valuesToArray()), DittoHeaders.empty());
+    }
+
+    private static JsonObject toThingJson(final ThingId thingId) {
+        return Thing.newBuilder().setId(thingId).build().toJson();
+    }
+
+    private static ThingId getThingId(final SudoRetrieveThingResponse response) {
+        return ThingId.of(response.getEntity().asObject().getValueOrThrow(Thing.JsonFields.ID));
+    }
+
+    static final class ThingsRootStub extends AbstractActor {
+
+        private ThingsRootStub(final ActorRef sudoRetrieveThingsActor) {
+            getContext().actorOf(Props.create(ForwardingActor.class, sudoRetrieveThingsActor), "sudoRetrieveThings");
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder().build();
+        }
+
+    }
+
+    static final class ForwardingActor extends AbstractActor {
+
+        private final ActorRef target;
+
+        private ForwardingActor(final ActorRef target) {
+            this.target = target;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder().matchAny(message -> target.forward(message, getContext())).build();
+        }
+
+    }
+
+}
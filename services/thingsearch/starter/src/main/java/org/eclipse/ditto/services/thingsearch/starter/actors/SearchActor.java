@@ -21,9 +21,11 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -80,7 +82,9 @@ import akka.stream.javadsl.StreamRefs;
  * Query executes against the passed {@link ThingsSearchPersistence}.
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
- * things have to be retrieved from Things Service via distributed pub/sub.
+ * things have to be retrieved from Things Service via distributed pub/sub. If the requester allows it with the header
+ * {@link DittoHeaderDefinition#SEARCH_FROM_INDEX}, the ThingsSearchPersistence returns the selected fields of the things
+ * it covers and only the remaining things are retrieved.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -258,14 +262,14 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
                                 .getAuthorizationSubjectIds();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
+                        final Source<? extends ResultList<?>, NotUsed> findAllResult =
+                                findAll(command, query, subjectIds, namespaces);
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
                                     return result;
                                 }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                .map(results -> toQueryThingsResponse(command, cursor.orElse(null), results));
                     });
         });
 
@@ -276,6 +280,18 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    private Source<? extends ResultList<?>, NotUsed> findAll(final QueryThings queryThings, final Query query,
+            final List<String> subjectIds, @Nullable final Set<String> namespaces) {
+
+        final Optional<JsonFieldSelector> fields = queryThings.getFields();
+        if (fields.isPresent() && isSearchFromIndexAllowed(queryThings.getDittoHeaders())) {
+            // the gateway retrieves only those things whose selected fields the search index does not cover
+            return searchPersistence.findAllWithSelectedFields(query, subjectIds, namespaces, fields.get());
+        } else {
+            return searchPersistence.findAll(query, subjectIds, namespaces);
+        }
+    }
+
     private ActorSystem getSystem() {
         return getContext().getSystem();
     }
@@ -324,28 +340,39 @@ public final class SearchActor extends AbstractActor {
 
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<?> results) {
 
         final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
-        if (thingIds.isEmpty()) {
+        if (results.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
         } else {
-            // only respond with the determined "thingIds", the lookup of the things is done in gateway:
-            final JsonArray items = thingIds.stream()
-                    .map(JsonValue::of)
-                    .map(jsonStr -> JsonObject.newBuilder()
-                            .set(Thing.JsonFields.ID.getPointer(), jsonStr)
-                            .build()
-                    )
+            // respond with the determined "thingIds" or selected fields from the search index,
+            // the lookup of the things is done in gateway:
+            final JsonArray items = results.stream()
+                    .map(SearchActor::toSearchResultItem)
                     .collect(JsonCollectors.valuesToArray());
-            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, thingIds.nextPageOffset());
+            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, results.nextPageOffset());
             final SearchResult processedResults =
-                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, results);
 
             return QueryThingsResponse.of(processedResults, dittoHeaders);
         }
     }
 
+    private static JsonObject toSearchResultItem(final Object result) {
+        if (result instanceof JsonObject) {
+            return (JsonObject) result;
+        } else {
+            return JsonObject.newBuilder()
+                    .set(Thing.JsonFields.ID.getPointer(), JsonValue.of(result.toString()))
+                    .build();
+        }
+    }
+
+    private static boolean isSearchFromIndexAllowed(final DittoHeaders dittoHeaders) {
+        return Boolean.parseBoolean(dittoHeaders.get(DittoHeaderDefinition.SEARCH_FROM_INDEX.getKey()));
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.timer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
@@ -454,7 +454,7 @@ final class ThingsSearchCursor {
     static SearchResult processSearchResult(final QueryThings queryThings,
             @Nullable final ThingsSearchCursor cursor,
             final SearchResult searchResult,
-            final ResultList<ThingId> resultList) {
+            final ResultList<?> resultList) {
 
         if (!findAll(LimitOption.class, getOptions(queryThings)).isEmpty()) {
             // do not deliver cursor if "limit" is specified
@@ -23,13 +23,16 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
-import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.enforcers.trie.PolicyTrieInterner;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
@@ -45,6 +48,21 @@ import akka.actor.ActorRef;
 public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityIdWithResourceType,
         Entry<PolicyEnforcer>> {
 
+    /**
+     * Shares equal trie parts between the cached policy enforcers of all cache loaders of this JVM.
+     */
+    private static final PolicyTrieInterner TRIE_INTERNER = PolicyTrieInterner.newInstance();
+
+    /**
+     * Number of trie parts retained by the cached policy enforcers; equal parts of different policies count once.
+     */
+    private static final Gauge RETAINED_TRIE_PARTS = DittoMetrics.gauge("cache_policy-trie-parts-retained");
+
+    /**
+     * Number of trie parts which were not retained because an equal part of another policy enforcer was reused.
+     */
+    private static final Gauge DEDUPLICATED_TRIE_PARTS = DittoMetrics.gauge("cache_policy-trie-parts-deduplicated");
+
     private final ActorAskCacheLoader<PolicyEnforcer, Command<?>> delegate;
 
     /**
@@ -79,7 +97,10 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(() -> new IllegalStateException("Bad SudoRetrievePolicyResponse: no revision"));
-            return Entry.of(revision, PolicyEnforcer.of(policy, PolicyEnforcers.defaultEvaluator(policy)));
+            final TrieBasedPolicyEnforcer enforcer = TrieBasedPolicyEnforcer.newInstance(policy, TRIE_INTERNER);
+            final Entry<PolicyEnforcer> entry = Entry.of(revision, PolicyEnforcer.of(policy, enforcer));
+            updateTriePartMetrics();
+            return entry;
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -87,4 +108,9 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
         }
     }
 
+    private static void updateTriePartMetrics() {
+        RETAINED_TRIE_PARTS.set((long) TRIE_INTERNER.getRetainedPartCount());
+        DEDUPLICATED_TRIE_PARTS.set(TRIE_INTERNER.getDeduplicatedPartCount());
+    }
+
 }
@@ -13,10 +13,12 @@
 package org.eclipse.ditto.services.utils.cache;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * A general purpose cache for items which are associated with a key.
@@ -84,6 +86,17 @@ public interface Cache<K, V> {
      */
     ConcurrentMap<K, V> asMap();
 
+    /**
+     * Returns up to {@code limit} keys of this cache, the most frequently or most recently used ones first if the
+     * cache tracks its usage.
+     *
+     * @param limit the maximum number of keys to return.
+     * @return the keys.
+     */
+    default List<K> getHottestKeys(final int limit) {
+        return asMap().keySet().stream().limit(limit).collect(Collectors.toList());
+    }
+
     /**
      * Invalidate a collection of keys.
      *
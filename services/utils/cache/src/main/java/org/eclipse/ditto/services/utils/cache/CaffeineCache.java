@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.utils.cache;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -222,4 +223,15 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.asMap();
     }
 
+    // size-bounded caches know the most frequently used keys, time-bounded ones the most recently used keys
+    @Override
+    public List<K> getHottestKeys(final int limit) {
+        final Policy<K, V> policy = synchronousCacheView.policy();
+        return policy.eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .or(() -> policy.expireAfterAccess().map(expiration -> expiration.youngest(limit)))
+                .map(hottest -> List.copyOf(hottest.keySet()))
+                .orElseGet(() -> Cache.super.getHottestKeys(limit));
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cache;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -68,6 +69,11 @@ final class ProjectedCache<K, U, V> implements Cache<K, U> {
         cache.put(key, embed.apply(value));
     }
 
+    @Override
+    public List<K> getHottestKeys(final int limit) {
+        return cache.getHottestKeys(limit);
+    }
+
     @Override
     public ConcurrentMap<K, U> asMap() {
         final ConcurrentMap<K, U> concurrentMap = new ConcurrentHashMap<>();
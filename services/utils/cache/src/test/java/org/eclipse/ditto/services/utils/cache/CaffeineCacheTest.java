@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tests {@link CaffeineCache}.
+ */
+public final class CaffeineCacheTest {
+
+    private static final List<String> KEYS = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    public void hottestKeysOfSizeBoundedCacheAreMostFrequentlyUsedOnes() {
+        final CaffeineCache<String, Integer> underTest =
+                CaffeineCache.of(Caffeine.newBuilder().maximumSize(100).executor(Runnable::run));
+        KEYS.forEach(key -> underTest.put(key, 0));
+
+        for (int i = 0; i < 5; i++) {
+            underTest.getIfPresent("b");
+            underTest.getIfPresent("c");
+        }
+
+        assertThat(underTest.getHottestKeys(2)).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    public void hottestKeysOfTimeBoundedCacheAreMostRecentlyUsedOnes() {
+        final CaffeineCache<String, Integer> underTest =
+                CaffeineCache.of(Caffeine.newBuilder().expireAfterAccess(Duration.ofHours(1)).executor(Runnable::run));
+        KEYS.forEach(key -> underTest.put(key, 0));
+
+        underTest.getIfPresent("b");
+        underTest.getIfPresent("a");
+
+        assertThat(underTest.getHottestKeys(2)).containsExactly("a", "b");
+    }
+
+    @Test
+    public void hottestKeysOfUnboundedCacheAreLimited() {
+        final CaffeineCache<String, Integer> underTest = CaffeineCache.of(Caffeine.newBuilder());
+        KEYS.forEach(key -> underTest.put(key, 0));
+
+        assertThat(underTest.getHottestKeys(3)).hasSize(3).isSubsetOf(KEYS);
+    }
+
+}
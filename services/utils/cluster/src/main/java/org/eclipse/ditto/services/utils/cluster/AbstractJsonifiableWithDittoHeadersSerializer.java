@@ -21,15 +21,18 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
@@ -71,11 +74,13 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     protected static final Charset CHARSET = StandardCharsets.UTF_8;
 
+    private static final String DITTO_HEADERS_KEY = "dittoHeaders";
     private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
-            JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
+            JsonFactory.newJsonObjectFieldDefinition(DITTO_HEADERS_KEY);
 
+    private static final String PAYLOAD_KEY = "payload";
     private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
-            JsonFactory.newJsonValueFieldDefinition("payload");
+            JsonFactory.newJsonValueFieldDefinition(PAYLOAD_KEY);
 
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
@@ -140,9 +145,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
 
             final JsonValue jsonValue;
 
@@ -155,21 +158,19 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 jsonValue = ((Jsonifiable<?>) object).toJson();
             }
 
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                serializeIntoByteBuffer(dittoHeaders.toJson(), jsonValue, buf);
+                LOG.trace("toBinary payload about to send 'out': {}", jsonValue);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
+                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonValue);
                 LOG.error(errorMessage, e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
                 final String errorMessage = MessageFormat.format(
                         "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
+                        e.getClass().getName(), jsonValue);
                 LOG.warn(errorMessage, e);
                 throw new RuntimeException(errorMessage, e);
             }
@@ -190,6 +191,43 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes the passed {@code dittoHeaders} and {@code payload} as fields {@code "dittoHeaders"} and
+     * {@code "payload"} of one JSON object into the passed {@code byteBuffer}.
+     * <p>
+     * The default implementation builds the JSON object and serializes it via
+     * {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}. May be overridden in order to write the fields
+     * without building the JSON object.
+     * </p>
+     *
+     * @param dittoHeaders the JSON representation of the Ditto headers to serialize.
+     * @param payload the payload to serialize.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing to the ByteBuffer fails.
+     */
+    protected void serializeIntoByteBuffer(final JsonObject dittoHeaders, final JsonValue payload,
+            final ByteBuffer byteBuffer) throws IOException {
+
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(JSON_DITTO_HEADERS, dittoHeaders)
+                .set(JSON_PAYLOAD, payload)
+                .build();
+        serializeIntoByteBuffer(jsonObject, byteBuffer);
+    }
+
+    /**
+     * Returns the fields of the JSON object containing the passed {@code dittoHeaders} and {@code payload} in the
+     * order of serialization.
+     *
+     * @param dittoHeaders the JSON representation of the Ditto headers.
+     * @param payload the payload.
+     * @return the fields.
+     */
+    protected static List<JsonField> getFields(final JsonObject dittoHeaders, final JsonValue payload) {
+        return List.of(JsonField.newInstance(DITTO_HEADERS_KEY, dittoHeaders, JSON_DITTO_HEADERS),
+                JsonField.newInstance(PAYLOAD_KEY, payload, JSON_PAYLOAD));
+    }
+
     @Override
     public byte[] toBinary(final Object object) {
         final ByteBuffer buf = byteBufferPool.acquire();
@@ -259,7 +297,35 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer bytebuffer)
             throws NotSerializableException {
 
-        final JsonValue jsonValue = deserializeFromByteBuffer(bytebuffer);
+        final Map<String, JsonField> fields = deserializeFieldsFromByteBuffer(bytebuffer, manifest);
+
+        final JsonObject payload = getPayload(fields.get(PAYLOAD_KEY));
+
+        final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = Optional.ofNullable(fields.get(DITTO_HEADERS_KEY))
+                .map(JsonField::getValue)
+                .map(JSON_DITTO_HEADERS::mapValue)
+                .map(DittoHeaders::newBuilder)
+                .orElseGet(DittoHeaders::newBuilder);
+
+        return deserializeJson(payload, manifest, dittoHeadersBuilder.build());
+    }
+
+    /**
+     * Deserializes the fields of the JSON object in the passed {@code byteBuffer}.
+     * <p>
+     * The default implementation deserializes the JSON object via {@link #deserializeFromByteBuffer(ByteBuffer)}.
+     * May be overridden in order to read the fields without building the JSON object.
+     * </p>
+     *
+     * @param byteBuffer the ByteBuffer to deserialize.
+     * @param manifest the manifest of the serialized object.
+     * @return the deserialized fields by their keys.
+     * @throws JsonRuntimeException if the ByteBuffer does not contain a JSON object.
+     */
+    protected Map<String, JsonField> deserializeFieldsFromByteBuffer(final ByteBuffer byteBuffer,
+            final String manifest) {
+
+        final JsonValue jsonValue = deserializeFromByteBuffer(byteBuffer);
 
         final JsonObject jsonObject;
         if (jsonValue.isObject()) {
@@ -270,17 +336,13 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             LOG.warn("Expected object but received value <{}> with manifest <{}> via {}", jsonValue, manifest,
                     serializerName);
             final String errorMessage = MessageFormat.format("<{}> is not a valid {} object! (It''s a value.)",
-                    BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(bytebuffer), serializerName);
+                    BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(byteBuffer), serializerName);
             throw JsonParseException.newBuilder().message(errorMessage).build();
         }
 
-        final JsonObject payload = getPayload(jsonObject);
-
-        final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = jsonObject.getValue(JSON_DITTO_HEADERS)
-                .map(DittoHeaders::newBuilder)
-                .orElseGet(DittoHeaders::newBuilder);
-
-        return deserializeJson(payload, manifest, dittoHeadersBuilder.build());
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        jsonObject.forEach(jsonField -> result.put(jsonField.getKeyName(), jsonField));
+        return result;
     }
 
     private Jsonifiable<?> deserializeJson(final JsonObject jsonPayload, final String manifest,
@@ -308,12 +370,11 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract JsonValue deserializeFromByteBuffer(ByteBuffer byteBuffer);
 
-    private static JsonObject getPayload(final JsonObject sourceJsonObject) {
+    private static JsonObject getPayload(@Nullable final JsonField payloadField) {
         final JsonObject result;
 
-        final Optional<JsonValue> payloadJsonOptional = sourceJsonObject.getValue(JSON_PAYLOAD);
-        if (payloadJsonOptional.isPresent()) {
-            final JsonValue payloadJson = payloadJsonOptional.get();
+        if (null != payloadField) {
+            final JsonValue payloadJson = payloadField.getValue();
             if (!payloadJson.isObject()) {
                 final String msgPattern = "Value <{0}> for <{1}> was not of type <{2}>!";
                 final String simpleName = JSON_PAYLOAD.getValueType().getSimpleName();
@@ -14,8 +14,10 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Map;
 
 import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
@@ -47,9 +49,31 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         cborFactory.writeToByteBuffer(jsonObject, byteBuffer);
     }
 
+    /**
+     * Writes Ditto headers and payload directly into the buffer without building an enclosing JSON object; both are
+     * copied as they are if they already have a CBOR representation.
+     */
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject dittoHeaders, final JsonValue payload,
+            final ByteBuffer byteBuffer) throws IOException {
+
+        cborFactory.writeFieldsToByteBuffer(getFields(dittoHeaders, payload), byteBuffer);
+    }
+
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
         return cborFactory.readFrom(byteBuffer);
     }
 
+    /**
+     * Reads the fields directly from the buffer without retaining the CBOR representation of the enclosing JSON
+     * object, which is discarded after deserialization anyway.
+     */
+    @Override
+    protected Map<String, JsonField> deserializeFieldsFromByteBuffer(final ByteBuffer byteBuffer,
+            final String manifest) {
+
+        return cborFactory.readFieldsFrom(byteBuffer);
+    }
+
 }
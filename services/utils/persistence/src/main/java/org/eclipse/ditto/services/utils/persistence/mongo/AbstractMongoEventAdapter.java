@@ -18,11 +18,9 @@ import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
 import org.bson.BsonDocument;
-import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
-import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -75,7 +73,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
             final JsonObject jsonObject = performToJournalMigration(
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()))
             );
-            final BsonDocument bson = DittoBsonJson.getInstance().parse(jsonObject);
+            final BsonDocument bson = JsonValueBsonCodec.getInstance().toBsonDocument(jsonObject);
             final Set<String> tags = theEvent.getDittoHeaders().getJournalTags();
             return new Tagged(bson, tags);
         } else {
@@ -85,25 +83,27 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
 
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
-        if (event instanceof BsonValue) {
-            final JsonValue jsonValue = DittoBsonJson.getInstance().serialize((BsonValue) event);
+        if (event instanceof BsonDocument) {
+            // the revision is set while reading instead of copying the read JSON object
+            final JsonObject jsonObject = JsonValueBsonCodec.getInstance()
+                    .toJsonObjectBuilder((BsonDocument) event)
+                    .set(Event.JsonFields.REVISION, Event.DEFAULT_REVISION)
+                    .build();
             try {
-                final JsonObject jsonObject = jsonValue.asObject()
-                        .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
                 final T result =
                         eventRegistry.parse(performFromJournalMigration(jsonObject), DittoHeaders.empty());
                 return EventSeq.single(result);
             } catch (final JsonParseException | DittoRuntimeException e) {
                 if (system != null) {
-                    system.log().error(e, "Could not deserialize Event JSON: '{}'", jsonValue);
+                    system.log().error(e, "Could not deserialize Event JSON: '{}'", jsonObject);
                 } else {
-                    LOGGER.error("Could not deserialize Event JSON: '{}': {}", jsonValue, e.getMessage());
+                    LOGGER.error("Could not deserialize Event JSON: '{}': {}", jsonObject, e.getMessage());
                 }
                 return EventSeq.empty();
             }
         } else {
             throw new IllegalArgumentException(
-                    "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
+                    "Unable to fromJournal a non-'BsonDocument' object! Was: " + event.getClass());
         }
     }
 
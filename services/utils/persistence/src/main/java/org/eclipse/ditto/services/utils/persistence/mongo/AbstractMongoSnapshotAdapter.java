@@ -19,7 +19,7 @@ import java.text.MessageFormat;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
-import org.bson.BsonValue;
+import org.bson.BsonDocument;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -54,8 +54,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return JsonValueBsonCodec.getInstance().toBsonDocument(json);
     }
 
     /**
@@ -106,8 +105,8 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
-        if (rawSnapshotEntity instanceof BsonValue) {
-            return convertToJson((BsonValue) rawSnapshotEntity);
+        if (rawSnapshotEntity instanceof BsonDocument) {
+            return convertToJson((BsonDocument) rawSnapshotEntity);
         }
         final String pattern = "Unable to create a Jsonifiable from <{0}>! Expected was a BsonDocument instance.";
         throw new IllegalArgumentException(MessageFormat.format(pattern, rawSnapshotEntity.getClass()));
@@ -116,17 +115,16 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     /**
      * Converts the specified BsonDocument to a {@link JsonObject}.
      *
-     * @param bsonValue the BsonDocument to be converted.
-     * @return a JsonObject whose origin is {@code bsonValue}.
-     * @throws NullPointerException if {@code bsonValue} is {@code null}.
-     * @throws DittoJsonException if {@code bsonValue} cannot be serialized to a
+     * @param bsonDocument the BsonDocument to be converted.
+     * @return a JsonObject whose origin is {@code bsonDocument}.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     * @throws DittoJsonException if {@code bsonDocument} cannot be serialized to a
      * JsonObject.
      */
-    private static JsonObject convertToJson(final BsonValue bsonValue) {
-        checkNotNull(bsonValue, "BsonValue to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
-        return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
+    private static JsonObject convertToJson(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BsonDocument to be converted");
+        return DittoJsonException.wrapJsonRuntimeException(
+                () -> JsonValueBsonCodec.getInstance().toJsonObject(bsonDocument));
     }
 
     @Nullable
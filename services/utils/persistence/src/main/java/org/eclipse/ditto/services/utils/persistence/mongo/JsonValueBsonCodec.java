@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * BSON codec which writes {@link JsonValue}s directly to a {@link BsonWriter} and reads them directly from a
+ * {@link BsonReader} without building an intermediate copy of the whole value.
+ * Like {@link DittoBsonJson}, dots "." and dollar signs "$" in JSON keys are replaced with their unicode
+ * representations when writing and vice versa when reading.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class JsonValueBsonCodec implements Codec<JsonValue> {
+
+    private static final JsonValueBsonCodec INSTANCE = new JsonValueBsonCodec(
+            KeyNameReviser.escapeProblematicPlainChars(),
+            KeyNameReviser.decodeKnownUnicodeChars());
+
+    private final Function<String, String> jsonToMongoDbKeyNameReviser;
+    private final Function<String, String> jsonKeyNameReviser;
+
+    private JsonValueBsonCodec(final Function<String, String> jsonToMongoDbKeyNameReviser,
+            final Function<String, String> jsonKeyNameReviser) {
+
+        this.jsonToMongoDbKeyNameReviser = jsonToMongoDbKeyNameReviser;
+        this.jsonKeyNameReviser = jsonKeyNameReviser;
+    }
+
+    /**
+     * Returns an instance of {@code JsonValueBsonCodec}.
+     *
+     * @return the instance.
+     */
+    public static JsonValueBsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Writes the specified {@link JsonObject} to a new {@link BsonDocument}.
+     *
+     * @param jsonObject the JSON object to be written.
+     * @return the BsonDocument.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public BsonDocument toBsonDocument(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object to be written");
+        final BsonDocument result = new BsonDocument();
+        writeObject(new BsonDocumentWriter(result), jsonObject);
+        return result;
+    }
+
+    /**
+     * Reads the specified {@link BsonDocument} into a {@link JsonObjectBuilder} so that callers may add or replace
+     * fields before building the JSON object.
+     *
+     * @param bsonDocument the BsonDocument to be read.
+     * @return a builder containing all fields of {@code bsonDocument}.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObjectBuilder toJsonObjectBuilder(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BsonDocument to be read");
+        try (final BsonReader reader = new BsonDocumentReader(bsonDocument)) {
+            return readObject(reader);
+        }
+    }
+
+    /**
+     * Reads the specified {@link BsonDocument} into a {@link JsonObject}.
+     *
+     * @param bsonDocument the BsonDocument to be read.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject toJsonObject(final BsonDocument bsonDocument) {
+        return toJsonObjectBuilder(bsonDocument).build();
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonValue value, final EncoderContext encoderContext) {
+        writeValue(writer, checkNotNull(value, "JSON value to be encoded"));
+    }
+
+    @Override
+    public JsonValue decode(final BsonReader reader, final DecoderContext decoderContext) {
+        final BsonType currentBsonType = reader.getCurrentBsonType();
+        if (null == currentBsonType || BsonType.DOCUMENT == currentBsonType) {
+            // the type of a top-level document is not read yet
+            return readObject(reader).build();
+        }
+        return readValue(reader);
+    }
+
+    @Override
+    public Class<JsonValue> getEncoderClass() {
+        return JsonValue.class;
+    }
+
+    private void writeValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            writer.writeNull();
+        } else if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            writeNumber(writer, jsonValue);
+        } else if (jsonValue.isObject()) {
+            writeObject(writer, jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(writer, jsonValue.asArray());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private void writeObject(final BsonWriter writer, final JsonObject jsonObject) {
+        writer.writeStartDocument();
+        for (final JsonField jsonField : jsonObject) {
+            writer.writeName(jsonToMongoDbKeyNameReviser.apply(jsonField.getKeyName()));
+            writeValue(writer, jsonField.getValue());
+        }
+        writer.writeEndDocument();
+    }
+
+    private void writeArray(final BsonWriter writer, final JsonArray jsonArray) {
+        writer.writeStartArray();
+        for (final JsonValue jsonValue : jsonArray) {
+            writeValue(writer, jsonValue);
+        }
+        writer.writeEndArray();
+    }
+
+    private static void writeNumber(final BsonWriter writer, final JsonValue jsonNumberValue) {
+        if (jsonNumberValue.isInt()) {
+            writer.writeInt32(jsonNumberValue.asInt());
+        } else if (jsonNumberValue.isLong()) {
+            writer.writeInt64(jsonNumberValue.asLong());
+        } else {
+            writer.writeDouble(jsonNumberValue.asDouble());
+        }
+    }
+
+    private JsonValue readValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case NULL:
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+                break;
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case DOCUMENT:
+                result = readObject(reader).build();
+                break;
+            case ARRAY:
+                result = readArray(reader);
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            default:
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+    private JsonObjectBuilder readObject(final BsonReader reader) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String keyName = jsonKeyNameReviser.apply(reader.readName());
+            builder.set(JsonFactory.newField(JsonFactory.newKey(keyName), readValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder;
+    }
+
+    private JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            builder.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+}
@@ -20,6 +20,8 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.health.AbstractHealthCheckingActor;
@@ -50,16 +52,27 @@ public final class MongoHealthChecker extends AbstractHealthCheckingActor {
     private static final int HEALTH_CHECK_MAX_POOL_SIZE = 2;
 
     private final DittoMongoClient mongoClient;
+    private final boolean ownsMongoClient;
     private final MongoCollection<Document> collection;
     private final Materializer materializer;
 
+    @SuppressWarnings("unused")
     private MongoHealthChecker() {
+        this(null);
+    }
 
-        final DefaultMongoDbConfig mongoDbConfig = DefaultMongoDbConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
-        mongoClient = MongoClientWrapper.getBuilder(mongoDbConfig)
-                .connectionPoolMaxSize(HEALTH_CHECK_MAX_POOL_SIZE)
-                .build();
+    private MongoHealthChecker(@Nullable final DittoMongoClient sharedMongoClient) {
+        if (null != sharedMongoClient) {
+            mongoClient = sharedMongoClient;
+            ownsMongoClient = false;
+        } else {
+            final DefaultMongoDbConfig mongoDbConfig = DefaultMongoDbConfig.of(
+                    DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+            mongoClient = MongoClientWrapper.getBuilder(mongoDbConfig)
+                    .connectionPoolMaxSize(HEALTH_CHECK_MAX_POOL_SIZE)
+                    .build();
+            ownsMongoClient = true;
+        }
 
         /*
          * It's important to have the read preferences to primary preferred because the replication is to slow to retrieve
@@ -74,11 +87,11 @@ public final class MongoHealthChecker extends AbstractHealthCheckingActor {
     }
 
     /**
-     * Close the Mongo client associated with this health checker, if any. Subsequent health checks fail for sure.
+     * Close the Mongo client created by this health checker, if any. Subsequent health checks fail for sure.
      */
     @Override
     public void postStop() {
-        if (mongoClient != null) {
+        if (ownsMongoClient) {
             mongoClient.close();
         }
     }
@@ -93,6 +106,18 @@ public final class MongoHealthChecker extends AbstractHealthCheckingActor {
         return Props.create(MongoHealthChecker.class);
     }
 
+    /**
+     * Creates Akka configuration object Props for a MongoHealthChecker which uses the given client instead of
+     * creating its own. The client is not closed by the health checker.
+     *
+     * @param mongoClient the client to check the health of the database with.
+     * @return the Akka configuration Props object
+     * @throws NullPointerException if {@code mongoClient} is {@code null}.
+     */
+    public static Props props(final DittoMongoClient mongoClient) {
+        return Props.create(MongoHealthChecker.class, Objects.requireNonNull(mongoClient));
+    }
+
     @Override
     protected Receive matchCustomMessages() {
         return ReceiveBuilder.create()
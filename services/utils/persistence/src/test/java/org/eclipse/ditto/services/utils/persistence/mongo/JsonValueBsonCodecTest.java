@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonValueBsonCodec}.
+ */
+public final class JsonValueBsonCodecTest {
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObjectBuilder()
+            .set("string", "foo")
+            .set("int", 42)
+            .set("long", Long.MAX_VALUE)
+            .set("double", 23.5)
+            .set("boolean", true)
+            .set("null", JsonFactory.nullLiteral())
+            .set("array", JsonFactory.newArrayBuilder()
+                    .add(1)
+                    .add("bar")
+                    .add(JsonFactory.newObjectBuilder().set("org.eclipse.ditto", 1).build())
+                    .add(JsonArray.empty())
+                    .build())
+            .set(JsonFactory.newField(JsonFactory.newKey("$foo.bar"),
+                    JsonFactory.newObjectBuilder().set("$baz", false).build()))
+            .set("empty", JsonObject.empty())
+            .build();
+
+    private final JsonValueBsonCodec underTest = JsonValueBsonCodec.getInstance();
+
+    @Test
+    public void toBsonDocumentEqualsDittoBsonJson() {
+        final BsonDocument expected = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+
+        assertThat(underTest.toBsonDocument(JSON_OBJECT)).isEqualTo(expected);
+    }
+
+    @Test
+    public void toJsonObjectEqualsDittoBsonJson() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+        final JsonObject expected = DittoBsonJson.getInstance().serialize(bsonDocument);
+
+        assertThat(underTest.toJsonObject(bsonDocument)).isEqualTo(expected).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void keysWithDotsAndDollarsAreEscaped() {
+        final BsonDocument bsonDocument = underTest.toBsonDocument(JSON_OBJECT);
+
+        assertThat(bsonDocument.containsKey("＄foo．bar")).isTrue();
+        assertThat(bsonDocument.getDocument("＄foo．bar").containsKey("＄baz")).isTrue();
+        assertThat(bsonDocument.getArray("array").get(2).asDocument().containsKey("org．eclipse．ditto")).isTrue();
+    }
+
+    @Test
+    public void toJsonObjectBuilderAllowsToReplaceFields() {
+        final BsonDocument bsonDocument = underTest.toBsonDocument(JSON_OBJECT);
+
+        final JsonObject jsonObject = underTest.toJsonObjectBuilder(bsonDocument).set("int", 0).build();
+
+        assertThat(jsonObject).isEqualTo(JSON_OBJECT.setValue("int", 0));
+    }
+
+    @Test
+    public void timestampIsReadAsString() {
+        final BsonDocument bsonDocument = new BsonDocument("ts", new BsonTimestamp(1, 0));
+
+        final JsonObject jsonObject = underTest.toJsonObject(bsonDocument);
+
+        assertThat(jsonObject.getValue("ts")).contains(JsonFactory.newValue("1970-01-01T00:00:01Z"));
+    }
+
+    @Test
+    public void encodeAndDecodeBinaryBson() {
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        underTest.encode(new BsonBinaryWriter(buffer), JSON_OBJECT, EncoderContext.builder().build());
+
+        final JsonValue decoded = underTest.decode(new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray())),
+                DecoderContext.builder().build());
+
+        assertThat(decoded).isEqualTo(JSON_OBJECT);
+    }
+
+}
@@ -13,6 +13,10 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -75,8 +79,11 @@ public abstract class AbstractShardedPersistenceActor<
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
+    private final List<E> eventsToPersist;
+    private final Deque<PendingAction> pendingActions;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    private int unpersistedEventCount;
 
     /**
      * The current entity, or null if it was never created.
@@ -104,8 +111,11 @@ public abstract class AbstractShardedPersistenceActor<
         this.snapshotAdapter = snapshotAdapter;
         entity = null;
 
+        eventsToPersist = new ArrayList<>();
+        pendingActions = new ArrayDeque<>();
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        unpersistedEventCount = 0;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> {
@@ -185,8 +195,9 @@ public abstract class AbstractShardedPersistenceActor<
      * Publish an event.
      *
      * @param event the event.
+     * @param sender the sender of the command which caused the event.
      */
-    protected abstract void publishEvent(E event);
+    protected abstract void publishEvent(E event, ActorRef sender);
 
     /**
      * Get the implemented schema version of an entity.
@@ -211,6 +222,17 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract boolean isEntityAlwaysAlive();
 
+    /**
+     * Returns the maximum number of events of consecutive modifying commands to persist with one write to the event
+     * journal. Commands arriving while the events are not yet persisted see their effects; all responses are sent in
+     * the order of the commands after the events they depend on are persisted. Overridable in subclasses.
+     *
+     * @return the maximum number of events of a group commit; 1 persists each event on its own.
+     */
+    protected int getGroupCommitSize() {
+        return 1;
+    }
+
     /**
      * Callback at the end of recovery. Overridable in subclasses.
      *
@@ -238,7 +260,8 @@ public abstract class AbstractShardedPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        // events of a group commit are applied before they are persisted
+        return lastSequenceNr() + unpersistedEventCount;
     }
 
     @Override
@@ -288,6 +311,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(CheckForActivity.class, this::checkForActivity)
                 .match(PingCommand.class, this::processPingCommand)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.PERSIST_PENDING_EVENTS, control -> persistPendingEvents())
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .build())
@@ -340,6 +364,8 @@ public abstract class AbstractShardedPersistenceActor<
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
         } else {
+            // events of a group commit were computed before this event and must be written before it
+            persistPendingEvents();
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
                 applyEvent(persistedEvent);
@@ -399,6 +425,7 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void handlePersistEmptyEvent(final PersistEmptyEvent persistEmptyEvent) {
         log.debug("Received PersistEmptyEvent: <{}>", persistEmptyEvent);
+        persistPendingEvents();
         persist(persistEmptyEvent.getEmptyEvent(), event -> log.debug("Persisted EmptyEvent: <{}>", event));
     }
 
@@ -414,6 +441,7 @@ public abstract class AbstractShardedPersistenceActor<
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.PERSIST_PENDING_EVENTS, control -> persistPendingEvents())
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::notAccessible)
@@ -470,9 +498,14 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command<?> command, final E event, final WithDittoHeaders<?> response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        if (getGroupCommitSize() > 1 && !event.getDittoHeaders().isDryRun()) {
+            applyEventOfGroupCommit(command, event, response, becomeCreated, becomeDeleted);
+            return;
+        }
+        final ActorRef sender = getSender();
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
-                notifySender(response);
+                notifySenderInOrder(sender, response);
             }
             if (becomeDeleted) {
                 becomeDeletedHandler();
@@ -486,14 +519,24 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void onQuery(final Command<?> command, final WithDittoHeaders<?> response) {
         if (command.getDittoHeaders().isResponseRequired()) {
-            notifySender(response);
+            notifySenderInOrder(getSender(), response);
         }
     }
 
     @Override
     public void onError(final DittoRuntimeException error, final Command<?> errorCausingCommand) {
         if (shouldSendResponse(errorCausingCommand.getDittoHeaders())) {
-            notifySender(error);
+            notifySenderInOrder(getSender(), error);
+        }
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (unpersistedEventCount > 0) {
+            // the entity already contains the effects of the rejected events; recover it from the journal
+            log.error("Stopping because events of a group commit were rejected for entity with ID <{}>.", entityId);
+            getContext().stop(getSelf());
         }
     }
 
@@ -512,6 +555,84 @@ public abstract class AbstractShardedPersistenceActor<
         return getRevisionNumber() + 1;
     }
 
+    /**
+     * Apply the event of a modifying command to the entity right away and persist it together with the events of
+     * further modifying commands. The response and the publication of the event are deferred until it is persisted.
+     */
+    private void applyEventOfGroupCommit(final Command<?> command, final E event, final WithDittoHeaders<?> response,
+            final boolean becomeCreated, final boolean becomeDeleted) {
+
+        final ActorRef sender = getSender();
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        eventsToPersist.add(modifiedEvent);
+        unpersistedEventCount++;
+        handleEvents.onMessage().apply(modifiedEvent);
+        pendingActions.add(new PendingAction(true, () -> {
+            publishEvent(modifiedEvent, sender);
+            if (shouldSendResponse(command.getDittoHeaders())) {
+                notifySender(sender, response);
+            }
+        }));
+        if (becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (becomeCreated) {
+            becomeCreatedHandler();
+        }
+
+        if (eventsToPersist.size() >= getGroupCommitSize()) {
+            persistPendingEvents();
+        } else if (eventsToPersist.size() == 1) {
+            // commands already in the mailbox are handled before this message and join the group commit
+            getSelf().tell(Control.PERSIST_PENDING_EVENTS, getSelf());
+        }
+    }
+
+    private void persistPendingEvents() {
+        if (eventsToPersist.isEmpty()) {
+            return;
+        }
+        final List<E> events = new ArrayList<>(eventsToPersist);
+        eventsToPersist.clear();
+        log.debug("Persisting <{}> events of a group commit.", events.size());
+
+        persistAll(events, persistedEvent -> {
+            log.withCorrelationId(persistedEvent).info("Successfully persisted Event <{}>.", persistedEvent.getType());
+            unpersistedEventCount--;
+            runPendingActions();
+            onEntityModified();
+
+            // save a snapshot if there were too many changes since the last snapshot
+            if (snapshotThresholdPassed()) {
+                takeSnapshot("snapshot threshold is reached");
+            }
+        });
+    }
+
+    /**
+     * Run the pending actions up to and including those of the next persisted event, or all pending actions if no
+     * event is unpersisted any more.
+     */
+    private void runPendingActions() {
+        PendingAction pendingAction = pendingActions.poll();
+        while (pendingAction != null) {
+            pendingAction.action.run();
+            if (pendingAction.ofEvent && unpersistedEventCount > 0) {
+                return;
+            }
+            pendingAction = pendingActions.poll();
+        }
+    }
+
+    private void notifySenderInOrder(final ActorRef sender, final WithDittoHeaders<?> message) {
+        if (pendingActions.isEmpty()) {
+            notifySender(sender, message);
+        } else {
+            // the response may reflect effects of unpersisted events
+            pendingActions.add(new PendingAction(false, () -> notifySender(sender, message)));
+        }
+    }
+
     private void persistEvent(final E event, final Consumer<E> handler) {
         final DittoDiagnosticLoggingAdapter l = log.withCorrelationId(event);
         l.debug("Persisting Event <{}>.", event.getType());
@@ -535,7 +656,9 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (unpersistedEventCount > 0) {
+            log.debug("Not taking snapshot for entity <{}> with unpersisted events even if {}.", entityId, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
@@ -558,11 +681,7 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void applyEvent(final E event) {
         handleEvents.onMessage().apply(event);
-        publishEvent(event);
-    }
-
-    private void notifySender(final WithDittoHeaders<?> message) {
-        notifySender(getSender(), message);
+        publishEvent(event, getSender());
     }
 
     private void takeSnapshotByInterval(final Control takeSnapshot) {
@@ -593,7 +712,7 @@ public abstract class AbstractShardedPersistenceActor<
         if (message instanceof WithDittoHeaders) {
             builder.dittoHeaders(((WithDittoHeaders<?>) message).getDittoHeaders());
         }
-        notifySender(builder.build());
+        notifySenderInOrder(getSender(), builder.build());
     }
 
     private void shutdown(final String shutdownLogTemplate, final I entityId) {
@@ -646,7 +765,22 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        PERSIST_PENDING_EVENTS
+    }
+
+    /**
+     * Action to run once the preceding events of a group commit are persisted.
+     */
+    private static final class PendingAction {
+
+        private final boolean ofEvent;
+        private final Runnable action;
+
+        private PendingAction(final boolean ofEvent, final Runnable action) {
+            this.ofEvent = ofEvent;
+            this.action = action;
+        }
     }
 
 
@@ -18,8 +18,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
 import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
 import org.eclipse.ditto.model.base.entity.id.EntityIdWithType;
@@ -33,6 +31,7 @@ import org.eclipse.ditto.services.utils.pubsub.api.PublishSignal;
 import org.eclipse.ditto.services.utils.pubsub.api.RemoteAcksChanged;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.services.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.services.utils.pubsub.ddata.compressed.GroupedHashesCodec;
 import org.eclipse.ditto.services.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
 import org.eclipse.ditto.signals.base.Signal;
@@ -186,7 +185,7 @@ public final class Publisher extends AbstractActor {
 
     private static List<Grouped<Long>> deserializeGroupedHashes(final scala.collection.immutable.Set<String> strings) {
         return CollectionConverters.asJava(strings).stream()
-                .map(string -> Grouped.fromJson(JsonObject.of(string), JsonValue::asLong))
+                .map(GroupedHashesCodec::decode)
                 .collect(Collectors.toList());
     }
 
@@ -13,17 +13,16 @@
 package org.eclipse.ditto.services.utils.pubsub.actors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.Consumer;
+import java.util.TreeSet;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.pubsub.PubSubFactory;
 import org.eclipse.ditto.services.utils.pubsub.api.PublishSignal;
@@ -36,43 +35,58 @@ import akka.japi.Pair;
 
 /**
  * Index for publishing to a set of subscribers with groups.
+ * <p>
+ * The index is computed once whenever the subscriptions change. Subscribers and groups are numbered such that the
+ * order of subscriber numbers is the order of the actor refs; each topic is mapped to a sorted array of entries
+ * packing group number and subscriber number into one {@code long}. Assigning a signal to subscribers then only
+ * requires merging the entry arrays of its topics, which already lists the members of each group in order.
+ * </p>
  *
  * @param <T> the type of topics.
  */
+@Immutable
 final class PublisherIndex<T> {
 
-    private final Predicate<Collection<T>> constantTrue = topics -> true;
+    private static final long[] NO_ENTRIES = new long[0];
 
-    private final Map<T, Map<ActorRef, Set<String>>> index;
-    private final Map<ActorRef, Predicate<Collection<T>>> filterMap;
+    /**
+     * Number of the empty group, which sorts before all other groups.
+     */
+    private static final int NO_GROUP = 0;
 
-    private PublisherIndex(final Map<T, Map<ActorRef, Set<String>>> index,
-            final Map<ActorRef, Predicate<Collection<T>>> filterMap) {
+    private final Map<T, long[]> index;
+    private final ActorRef[] subscribers;
+    private final String[] groups;
+    @Nullable private final Predicate<Collection<T>>[] filters;
+
+    private PublisherIndex(final Map<T, long[]> index, final ActorRef[] subscribers, final String[] groups,
+            @Nullable final Predicate<Collection<T>>[] filters) {
         this.index = index;
-        this.filterMap = filterMap;
+        this.subscribers = subscribers;
+        this.groups = groups;
+        this.filters = filters;
     }
 
     static <T> PublisherIndex<T> empty() {
-        return new PublisherIndex<>(Map.of(), Map.of());
+        return new Builder<T>().build();
     }
 
     static PublisherIndex<Long> fromDeserializedMMap(final Map<ActorRef, List<Grouped<Long>>> mmap) {
-        final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
+        final Builder<Long> builder = new Builder<>();
         mmap.forEach((subscriber, groupedList) ->
-                groupedList.forEach(grouped -> grouped.getValues()
-                        .forEach(computeIndex(index, subscriber, grouped.getGroup().orElse("")))
+                groupedList.forEach(grouped ->
+                        builder.add(subscriber, grouped.getGroup().orElse(""), grouped.getValues())
                 ));
-        return new PublisherIndex<>(index, Map.of());
+        return builder.build();
     }
 
     static PublisherIndex<String> fromSubscriptionsReader(final SubscriptionsReader reader) {
-        final Map<String, Map<ActorRef, Set<String>>> index = new HashMap<>();
-        final Map<ActorRef, Predicate<Collection<String>>> filterMap = new HashMap<>();
+        final Builder<String> builder = new Builder<>();
         reader.getSubscriberDataMap().forEach((subscriber, data) -> {
-            data.getFilter().ifPresent(filter -> filterMap.put(subscriber, filter));
-            data.getTopics().forEach(computeIndex(index, subscriber, data.getGroup().orElse("")));
+            data.getFilter().ifPresent(filter -> builder.addFilter(subscriber, filter));
+            builder.add(subscriber, data.getGroup().orElse(""), data.getTopics());
         });
-        return new PublisherIndex<>(index, filterMap);
+        return builder.build();
     }
 
     List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final Signal<?> signal, final Collection<T> topics) {
@@ -81,56 +95,182 @@ final class PublisherIndex<T> {
 
     List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final Signal<?> signal, final Collection<T> topics,
             @Nullable final Map<String, Integer> chosenGroups) {
-        final Map<String, List<ActorRef>> groupToSubscribers = new HashMap<>();
+
+        final long[] entries = collectEntries(topics);
+        final int size = filterEntries(entries, topics);
+        if (size == 0) {
+            return List.of();
+        }
+
+        // allot subscribers with the empty group and choose a subscriber for each other group consistently according
+        // to the entity ID of the signal
+        final int entityIdHash = PubSubFactory.hashForPubSub(signal.getEntityId());
         final Map<ActorRef, Map<String, Integer>> subscriberToChosenGroups = new HashMap<>();
-        // compute groupToSubscribers and allot subscribers with the empty group
-        for (final T topic : topics) {
-            index.getOrDefault(topic, Map.of()).forEach((subscriber, groups) -> {
-                if (filterMap.getOrDefault(subscriber, constantTrue).test(topics)) {
-                    for (final String group : groups) {
-                        if (group.isEmpty()) {
-                            subscriberToChosenGroups.putIfAbsent(subscriber, new HashMap<>());
-                        } else if (chosenGroups == null || chosenGroups.containsKey(group)) {
-                            groupToSubscribers.compute(group, (g, list) -> {
-                                final List<ActorRef> nonNullList = list == null ? new ArrayList<>() : list;
-                                nonNullList.add(subscriber);
-                                return nonNullList;
-                            });
-                        }
-                    }
+        int start = 0;
+        while (start < size) {
+            final int groupNumber = getGroupNumber(entries[start]);
+            int end = start + 1;
+            while (end < size && getGroupNumber(entries[end]) == groupNumber) {
+                ++end;
+            }
+            if (groupNumber == NO_GROUP) {
+                for (int i = start; i < end; ++i) {
+                    subscriberToChosenGroups.putIfAbsent(getSubscriber(entries[i]), new HashMap<>());
                 }
-            });
+            } else {
+                final String group = groups[groupNumber];
+                if (chosenGroups == null || chosenGroups.containsKey(group)) {
+                    final int groupSize = end - start;
+                    final int groupDivisor = chosenGroups == null ? 1 : Math.max(1, chosenGroups.get(group));
+                    final ActorRef chosenSubscriber =
+                            getSubscriber(entries[start + (entityIdHash / groupDivisor) % groupSize]);
+                    subscriberToChosenGroups.computeIfAbsent(chosenSubscriber, s -> new HashMap<>())
+                            .put(group, groupSize);
+                }
+            }
+            start = end;
         }
-        // choose a subscriber for each group consistently according to the entity ID of the signal
-        final int entityIdHash = PubSubFactory.hashForPubSub(signal.getEntityId());
-        groupToSubscribers.forEach((group, subscribers) -> {
-            subscribers.sort(ActorRef::compareTo);
-            final int groupDivisor = chosenGroups == null ? 1 : Math.max(1, chosenGroups.get(group));
-            final ActorRef chosenSubscriber = subscribers.get((entityIdHash / groupDivisor) % subscribers.size());
-            subscriberToChosenGroups.compute(chosenSubscriber, (s, groups) -> {
-                final Map<String, Integer> nonNullGroups = groups == null ? new HashMap<>() : groups;
-                nonNullGroups.put(group, subscribers.size());
-                return nonNullGroups;
-            });
-        });
 
-        return subscriberToChosenGroups.entrySet()
-                .stream()
-                .map(entry -> Pair.create(entry.getKey(), PublishSignal.of(signal, entry.getValue())))
-                .collect(Collectors.toList());
+        final List<Pair<ActorRef, PublishSignal>> result = new ArrayList<>(subscriberToChosenGroups.size());
+        subscriberToChosenGroups.forEach((subscriber, chosenGroupsOfSubscriber) ->
+                result.add(Pair.create(subscriber, PublishSignal.of(signal, chosenGroupsOfSubscriber))));
+        return result;
+    }
+
+    /*
+     * Get the entries of all topics sorted by group and subscriber without duplicates.
+     * For a single topic without subscriber filters, the entry array of the index is returned without copying;
+     * it must not be modified.
+     */
+    private long[] collectEntries(final Collection<T> topics) {
+        if (topics.size() == 1) {
+            final long[] topicEntries = index.getOrDefault(topics.iterator().next(), NO_ENTRIES);
+            return filters == null ? topicEntries : topicEntries.clone();
+        }
+        int totalLength = 0;
+        for (final T topic : topics) {
+            totalLength += index.getOrDefault(topic, NO_ENTRIES).length;
+        }
+        final long[] entries = new long[totalLength];
+        int offset = 0;
+        for (final T topic : topics) {
+            final long[] topicEntries = index.getOrDefault(topic, NO_ENTRIES);
+            System.arraycopy(topicEntries, 0, entries, offset, topicEntries.length);
+            offset += topicEntries.length;
+        }
+        Arrays.sort(entries);
+        int size = 0;
+        for (int i = 0; i < entries.length; ++i) {
+            if (i == 0 || entries[i] != entries[i - 1]) {
+                entries[size++] = entries[i];
+            }
+        }
+        return size == entries.length ? entries : Arrays.copyOf(entries, size);
+    }
+
+    /*
+     * Remove the entries of subscribers whose filters reject the topics in place and keep the order.
+     * Returns the number of remaining entries.
+     */
+    private int filterEntries(final long[] entries, final Collection<T> topics) {
+        if (filters == null) {
+            return entries.length;
+        }
+        int size = 0;
+        for (final long entry : entries) {
+            final Predicate<Collection<T>> filter = filters[getSubscriberNumber(entry)];
+            if (filter == null || filter.test(topics)) {
+                entries[size++] = entry;
+            }
+        }
+        return size;
+    }
+
+    private ActorRef getSubscriber(final long entry) {
+        return subscribers[getSubscriberNumber(entry)];
+    }
+
+    private static long toEntry(final int groupNumber, final int subscriberNumber) {
+        return ((long) groupNumber << Integer.SIZE) | subscriberNumber;
+    }
+
+    private static int getGroupNumber(final long entry) {
+        return (int) (entry >>> Integer.SIZE);
     }
 
-    private static <T> Consumer<T> computeIndex(final Map<T, Map<ActorRef, Set<String>>> index,
-            final ActorRef subscriber, final String group) {
-        return topic -> index.compute(topic, (v, map) -> {
-            final Map<ActorRef, Set<String>> nonNullMap = map == null ? new HashMap<>() : map;
-            nonNullMap.compute(subscriber, (s, groups) -> {
-                final Set<String> nonNullGroups = groups == null ? new HashSet<>() : groups;
-                nonNullGroups.add(group);
-                return nonNullGroups;
+    private static int getSubscriberNumber(final long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * Collects subscriptions and numbers subscribers and groups when building the index.
+     */
+    private static final class Builder<T> {
+
+        private final Map<T, Map<ActorRef, Collection<String>>> topicToSubscriberGroups = new HashMap<>();
+        private final Map<ActorRef, Predicate<Collection<T>>> filterMap = new HashMap<>();
+        private final TreeSet<ActorRef> subscriberSet = new TreeSet<>();
+        private final TreeSet<String> groupSet = new TreeSet<>();
+
+        private Builder() {
+            groupSet.add("");
+        }
+
+        private void add(final ActorRef subscriber, final String group, final Collection<T> topics) {
+            subscriberSet.add(subscriber);
+            groupSet.add(group);
+            for (final T topic : topics) {
+                topicToSubscriberGroups.computeIfAbsent(topic, t -> new HashMap<>())
+                        .computeIfAbsent(subscriber, s -> new ArrayList<>())
+                        .add(group);
+            }
+        }
+
+        private void addFilter(final ActorRef subscriber, final Predicate<Collection<T>> filter) {
+            subscriberSet.add(subscriber);
+            filterMap.put(subscriber, filter);
+        }
+
+        @SuppressWarnings("unchecked")
+        private PublisherIndex<T> build() {
+            // the empty string is the least string and gets the number NO_GROUP
+            final String[] groups = groupSet.toArray(new String[0]);
+            final ActorRef[] subscribers = subscriberSet.toArray(new ActorRef[0]);
+            final Map<String, Integer> groupNumbers = toNumbers(groups);
+            final Map<ActorRef, Integer> subscriberNumbers = toNumbers(subscribers);
+
+            final Map<T, long[]> index = new HashMap<>();
+            topicToSubscriberGroups.forEach((topic, subscriberToGroups) -> {
+                final long[] entries = subscriberToGroups.entrySet()
+                        .stream()
+                        .flatMapToLong(entry -> entry.getValue()
+                                .stream()
+                                .mapToLong(group -> toEntry(groupNumbers.get(group),
+                                        subscriberNumbers.get(entry.getKey()))))
+                        .sorted()
+                        .distinct()
+                        .toArray();
+                index.put(topic, entries);
             });
-            return nonNullMap;
-        });
+
+            final Predicate<Collection<T>>[] filters;
+            if (filterMap.isEmpty()) {
+                filters = null;
+            } else {
+                filters = (Predicate<Collection<T>>[]) new Predicate[subscribers.length];
+                filterMap.forEach((subscriber, filter) -> filters[subscriberNumbers.get(subscriber)] = filter);
+            }
+            return new PublisherIndex<>(index, subscribers, groups, filters);
+        }
+
+        private static <K> Map<K, Integer> toNumbers(final K[] sortedKeys) {
+            final Map<K, Integer> numbers = new HashMap<>();
+            for (int i = 0; i < sortedKeys.length; ++i) {
+                numbers.put(sortedKeys[i], i);
+            }
+            return numbers;
+        }
+
     }
 
 }
@@ -122,8 +122,9 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers {
      * @return the Props object.
      */
     public static Props props(final PubSubConfig config, final ActorRef subscriber, final CompressedDData topicsDData) {
-        return Props.create(SubUpdater.class, config, subscriber, CompressedSubscriptions.of(topicsDData.getSeeds()),
-                topicsDData.getWriter());
+        final CompressedSubscriptions subscriptions =
+                CompressedSubscriptions.of(topicsDData.getSeeds(), config.isCompactTopicHashes());
+        return Props.create(SubUpdater.class, config, subscriber, subscriptions, topicsDData.getWriter());
     }
 
     @Override
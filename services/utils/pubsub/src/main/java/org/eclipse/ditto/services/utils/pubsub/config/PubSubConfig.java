@@ -41,6 +41,11 @@ public interface PubSubConfig {
      */
     Duration getUpdateInterval();
 
+    /**
+     * @return whether to write topic hashes to the distributed data in the compact encoding.
+     */
+    boolean isCompactTopicHashes();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -85,7 +90,13 @@ public interface PubSubConfig {
         /**
          * How often to flush local subscriptions to the distributed data replicator.
          */
-        UPDATE_INTERVAL("update-interval", Duration.ofSeconds(3L));
+        UPDATE_INTERVAL("update-interval", Duration.ofSeconds(3L)),
+
+        /**
+         * Whether to write topic hashes in the compact encoding.
+         * Enable only after all cluster members are able to read it.
+         */
+        COMPACT_TOPIC_HASHES("compact-topic-hashes", false);
 
         private final String path;
         private final Object defaultValue;
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -43,22 +44,41 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
      */
     private final Collection<Integer> seeds;
 
+    /**
+     * Whether to export topic hashes in the compact encoding of {@link GroupedHashesCodec} instead of JSON.
+     * Cluster members of versions before the compact encoding only read JSON.
+     */
+    private final boolean compactHashes;
+
     private CompressedSubscriptions(
             final Collection<Integer> seeds,
+            final boolean compactHashes,
             final Map<ActorRef, SubscriberData> subscriberDataMap,
             final Map<String, TopicData> topicToData) {
         super(subscriberDataMap, topicToData);
         this.seeds = seeds;
+        this.compactHashes = compactHashes;
     }
 
     /**
-     * Create a new compressed subscriptions object.
+     * Create a new compressed subscriptions object exporting topic hashes as JSON.
      *
      * @param seeds seeds of the family of hash functions..
      * @return the compressed subscriptions object.
      */
     public static CompressedSubscriptions of(final Collection<Integer> seeds) {
-        return new CompressedSubscriptions(seeds, new HashMap<>(), new HashMap<>());
+        return of(seeds, false);
+    }
+
+    /**
+     * Create a new compressed subscriptions object.
+     *
+     * @param seeds seeds of the family of hash functions..
+     * @param compactHashes whether to export topic hashes in the compact encoding instead of JSON.
+     * @return the compressed subscriptions object.
+     */
+    public static CompressedSubscriptions of(final Collection<Integer> seeds, final boolean compactHashes) {
+        return new CompressedSubscriptions(seeds, compactHashes, new HashMap<>(), new HashMap<>());
     }
 
     @Override
@@ -84,12 +104,18 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
     public LiteralUpdate export() {
         final Set<String> serializedGroupedTopics = new HashSet<>();
         subscriberDataMap.forEach((subscriber, data) -> {
-            final Set<Long> topicHashes = data.getTopics()
+            final long[] topicHashes = data.getTopics()
                     .stream()
-                    .map(this::hashAsLong)
-                    .collect(Collectors.toSet());
-            final Grouped<Long> groupedHashes = Grouped.of(data.getGroup().orElse(null), topicHashes);
-            serializedGroupedTopics.add(groupedHashes.toJsonString());
+                    .mapToLong(this::hashAsLong)
+                    .distinct()
+                    .toArray();
+            final String group = data.getGroup().orElse(null);
+            if (compactHashes) {
+                serializedGroupedTopics.add(GroupedHashesCodec.encode(group, topicHashes));
+            } else {
+                final Set<Long> hashSet = Arrays.stream(topicHashes).boxed().collect(Collectors.toSet());
+                serializedGroupedTopics.add(Grouped.of(group, hashSet).toJsonString());
+            }
         });
         return LiteralUpdate.withInserts(serializedGroupedTopics);
     }
@@ -98,7 +124,7 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
     public boolean equals(final Object other) {
         if (other instanceof CompressedSubscriptions) {
             final CompressedSubscriptions that = (CompressedSubscriptions) other;
-            return seeds.equals(that.seeds) && super.equals(other);
+            return seeds.equals(that.seeds) && compactHashes == that.compactHashes && super.equals(other);
         } else {
             return false;
         }
@@ -106,7 +132,7 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
 
     @Override
     public int hashCode() {
-        return Objects.hash(seeds, super.hashCode());
+        return Objects.hash(seeds, compactHashes, super.hashCode());
     }
 
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.pubsub.ddata.ack.Grouped;
+
+/**
+ * Compact string encoding of grouped topic hashes in the distributed data.
+ * <p>
+ * The hashes are sorted and written as variable-length deltas so that a hash occupies as many bytes as the distance to
+ * its predecessor needs instead of its decimal digits in JSON. The bytes are
+ * <ol>
+ * <li>the varint of the byte length of the group plus 1, or 0 without group,</li>
+ * <li>the UTF-8 bytes of the group,</li>
+ * <li>the varint of the number of hashes,</li>
+ * <li>the zigzag-varint of the smallest hash,</li>
+ * <li>the varints of the unsigned differences between consecutive hashes,</li>
+ * </ol>
+ * encoded as URL-safe base64 without padding. Grouped hashes in JSON format are decoded as well.
+ * </p>
+ */
+public final class GroupedHashesCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private GroupedHashesCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encode grouped hashes as compact string.
+     *
+     * @param group the group or null.
+     * @param hashes the hashes.
+     * @return the compact string.
+     */
+    public static String encode(@Nullable final String group, final long[] hashes) {
+        final long[] sortedHashes = hashes.clone();
+        Arrays.sort(sortedHashes);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(2 + 3 * sortedHashes.length);
+        if (group == null) {
+            writeVarint(out, 0L);
+        } else {
+            final byte[] groupBytes = group.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, groupBytes.length + 1L);
+            out.write(groupBytes, 0, groupBytes.length);
+        }
+        writeVarint(out, sortedHashes.length);
+        long previous = 0L;
+        for (int i = 0; i < sortedHashes.length; ++i) {
+            if (i == 0) {
+                writeVarint(out, (sortedHashes[0] << 1) ^ (sortedHashes[0] >> 63));
+            } else {
+                writeVarint(out, sortedHashes[i] - previous);
+            }
+            previous = sortedHashes[i];
+        }
+        return ENCODER.encodeToString(out.toByteArray());
+    }
+
+    /**
+     * Decode grouped hashes encoded by {@link #encode(String, long[])} or as JSON.
+     *
+     * @param string the encoded grouped hashes.
+     * @return the grouped hashes.
+     * @throws IllegalArgumentException if the string is not valid.
+     */
+    public static Grouped<Long> decode(final String string) {
+        if (string.startsWith("{")) {
+            return Grouped.fromJson(JsonObject.of(string), JsonValue::asLong);
+        }
+        final ByteBuffer in = ByteBuffer.wrap(DECODER.decode(string));
+        try {
+            final int groupLength = (int) readVarint(in);
+            @Nullable final String group;
+            if (groupLength == 0) {
+                group = null;
+            } else {
+                final byte[] groupBytes = new byte[groupLength - 1];
+                in.get(groupBytes);
+                group = new String(groupBytes, StandardCharsets.UTF_8);
+            }
+            final int size = (int) readVarint(in);
+            final Set<Long> hashes = new HashSet<>();
+            long previous = 0L;
+            for (int i = 0; i < size; ++i) {
+                final long varint = readVarint(in);
+                previous = i == 0 ? (varint >>> 1) ^ -(varint & 1L) : previous + varint;
+                hashes.add(previous);
+            }
+            return Grouped.of(group, hashes);
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException("Invalid grouped hashes: " + string, e);
+        }
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream out, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L) {
+            out.write((int) ((remaining & 0x7FL) | 0x80L));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarint(final ByteBuffer in) {
+        long result = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Varint is too long");
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.services.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.utils.pubsub.actors.PublisherIndex}.
+ */
+public final class PublisherIndexTest {
+
+    private ActorSystem system;
+    private ActorRef subscriber1;
+    private ActorRef subscriber2;
+    private ActorRef subscriber3;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create();
+        subscriber1 = TestProbe.apply(system).ref();
+        subscriber2 = TestProbe.apply(system).ref();
+        subscriber3 = TestProbe.apply(system).ref();
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void emptyIndexHasNoSubscribers() {
+        final PublisherIndex<Long> underTest = PublisherIndex.empty();
+        assertThat(underTest.assignGroupsToSubscribers(signal("ns:thing"), List.of(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    public void subscribersWithoutGroupReceiveEverySignal() {
+        final PublisherIndex<Long> underTest = PublisherIndex.fromDeserializedMMap(Map.of(
+                subscriber1, List.of(Grouped.of(Set.of(1L, 2L))),
+                subscriber2, List.of(Grouped.of(Set.of(2L))),
+                subscriber3, List.of(Grouped.of(Set.of(3L)))
+        ));
+
+        final Map<ActorRef, PublishSignal> result =
+                toMap(underTest.assignGroupsToSubscribers(signal("ns:thing"), List.of(1L, 2L)));
+
+        assertThat(result).containsOnlyKeys(subscriber1, subscriber2);
+        assertThat(result.get(subscriber1).getGroups()).isEmpty();
+        assertThat(result.get(subscriber2).getGroups()).isEmpty();
+    }
+
+    @Test
+    public void eachGroupReceivesSignalOnceConsistently() {
+        final PublisherIndex<Long> underTest = PublisherIndex.fromDeserializedMMap(Map.of(
+                subscriber1, List.of(Grouped.of("group", Set.of(1L, 2L))),
+                subscriber2, List.of(Grouped.of("group", Set.of(2L)), Grouped.of(Set.of(2L))),
+                subscriber3, List.of(Grouped.of("other-group", Set.of(1L)))
+        ));
+
+        for (int i = 0; i < 10; ++i) {
+            final RetrieveThing signal = signal("ns:thing-" + i);
+            final Map<ActorRef, PublishSignal> result =
+                    toMap(underTest.assignGroupsToSubscribers(signal, List.of(1L, 2L)));
+
+            // subscriber1 is counted once in "group" although it subscribed to both topics
+            final List<Map<String, Integer>> groupsOfReceiversInGroup = result.values()
+                    .stream()
+                    .map(PublishSignal::getGroups)
+                    .filter(groups -> groups.containsKey("group"))
+                    .collect(Collectors.toList());
+            assertThat(groupsOfReceiversInGroup).containsExactly(Map.of("group", 2));
+            assertThat(result.get(subscriber2)).isNotNull();
+            assertThat(result.get(subscriber3).getGroups()).containsOnly(Map.entry("other-group", 1));
+
+            // the choice depends only on the signal's entity ID
+            assertThat(toMap(underTest.assignGroupsToSubscribers(signal, List.of(2L, 1L)))).isEqualTo(result);
+        }
+    }
+
+    @Test
+    public void chosenGroupsRestrictAssignment() {
+        final PublisherIndex<Long> underTest = PublisherIndex.fromDeserializedMMap(Map.of(
+                subscriber1, List.of(Grouped.of("group", Set.of(1L))),
+                subscriber2, List.of(Grouped.of("other-group", Set.of(1L)))
+        ));
+
+        final Map<ActorRef, PublishSignal> result = toMap(
+                underTest.assignGroupsToSubscribers(signal("ns:thing"), List.of(1L), Map.of("group", 3)));
+
+        assertThat(result).containsOnlyKeys(subscriber1);
+        assertThat(result.get(subscriber1).getGroups()).containsOnly(Map.entry("group", 1));
+    }
+
+    private static RetrieveThing signal(final String thingId) {
+        return RetrieveThing.of(ThingId.of(thingId), DittoHeaders.empty());
+    }
+
+    private static Map<ActorRef, PublishSignal> toMap(final List<Pair<ActorRef, PublishSignal>> pairs) {
+        return pairs.stream().collect(Collectors.toMap(Pair::first, Pair::second));
+    }
+
+}
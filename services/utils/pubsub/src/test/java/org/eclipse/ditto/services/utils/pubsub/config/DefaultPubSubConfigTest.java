@@ -67,6 +67,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getUpdateInterval())
                 .as(PubSubConfig.ConfigValue.UPDATE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(3L));
+
+        softly.assertThat(underTest.isCompactTopicHashes())
+                .as(PubSubConfig.ConfigValue.COMPACT_TOPIC_HASHES.getConfigPath())
+                .isFalse();
     }
 
     @Test
@@ -84,6 +88,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getUpdateInterval())
                 .as(PubSubConfig.ConfigValue.UPDATE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(4L));
+
+        softly.assertThat(underTest.isCompactTopicHashes())
+                .as(PubSubConfig.ConfigValue.COMPACT_TOPIC_HASHES.getConfigPath())
+                .isTrue();
     }
 
 }
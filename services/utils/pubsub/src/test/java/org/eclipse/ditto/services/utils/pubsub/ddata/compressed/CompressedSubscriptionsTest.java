@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.pubsub.ddata.ack.Grouped;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link CompressedSubscriptions}.
+ */
+public final class CompressedSubscriptionsTest {
+
+    private static final List<Integer> SEEDS = List.of(1, 2);
+
+    private ActorSystem system;
+
+    @Before
+    public void createActorSystem() {
+        system = ActorSystem.create(getClass().getSimpleName());
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void exportJsonReadableByPreviousVersionsByDefault() {
+        final CompressedSubscriptions underTest = CompressedSubscriptions.of(SEEDS);
+        underTest.subscribe(TestProbe.apply(system).ref(), Set.of("topic1", "topic2"), null, "group");
+
+        final Set<String> exported = underTest.export().getInserts();
+
+        assertThat(exported).hasSize(1);
+        final Grouped<Long> grouped = Grouped.fromJson(JsonObject.of(exported.iterator().next()), JsonValue::asLong);
+        assertThat(grouped.getGroup()).contains("group");
+        assertThat(grouped.getValues())
+                .containsExactlyInAnyOrder(underTest.hashAsLong("topic1"), underTest.hashAsLong("topic2"));
+    }
+
+    @Test
+    public void exportCompactHashesIfEnabled() {
+        final CompressedSubscriptions underTest = CompressedSubscriptions.of(SEEDS, true);
+        underTest.subscribe(TestProbe.apply(system).ref(), Set.of("topic1", "topic2"), null, "group");
+
+        final Set<String> exported = underTest.export().getInserts();
+
+        assertThat(exported).hasSize(1);
+        final String encoded = exported.iterator().next();
+        assertThat(encoded).doesNotStartWith("{");
+        final Grouped<Long> grouped = GroupedHashesCodec.decode(encoded);
+        assertThat(grouped.getGroup()).contains("group");
+        assertThat(grouped.getValues())
+                .containsExactlyInAnyOrder(underTest.hashAsLong("topic1"), underTest.hashAsLong("topic2"));
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.ditto.services.utils.pubsub.ddata.ack.Grouped;
+import org.junit.Test;
+
+/**
+ * Tests {@link GroupedHashesCodec}.
+ */
+public final class GroupedHashesCodecTest {
+
+    @Test
+    public void encodeAndDecodeWithoutGroup() {
+        final long[] hashes = {5L, Long.MIN_VALUE, -1L, Long.MAX_VALUE, 0L};
+
+        final Grouped<Long> decoded = GroupedHashesCodec.decode(GroupedHashesCodec.encode(null, hashes));
+
+        assertThat(decoded.getGroup()).isEmpty();
+        assertThat(decoded.getValues()).containsExactlyInAnyOrder(5L, Long.MIN_VALUE, -1L, Long.MAX_VALUE, 0L);
+    }
+
+    @Test
+    public void encodeAndDecodeWithGroup() {
+        final Grouped<Long> decoded = GroupedHashesCodec.decode(GroupedHashesCodec.encode("gröup", new long[]{42L}));
+
+        assertThat(decoded.getGroup()).contains("gröup");
+        assertThat(decoded.getValues()).containsExactly(42L);
+    }
+
+    @Test
+    public void encodeAndDecodeEmptyHashes() {
+        final Grouped<Long> decoded = GroupedHashesCodec.decode(GroupedHashesCodec.encode("", new long[0]));
+
+        assertThat(decoded.getGroup()).contains("");
+        assertThat(decoded.getValues()).isEmpty();
+    }
+
+    @Test
+    public void encodingIsSmallerThanJson() {
+        final long[] hashes = new Random(1L).longs(1000L).toArray();
+        final Set<Long> hashSet = new HashSet<>();
+        for (final long hash : hashes) {
+            hashSet.add(hash);
+        }
+
+        final String encoded = GroupedHashesCodec.encode("group", hashes);
+
+        assertThat(GroupedHashesCodec.decode(encoded).getValues()).isEqualTo(hashSet);
+        assertThat(encoded.length()).isLessThan(Grouped.of("group", hashSet).toJsonString().length() * 2 / 3);
+    }
+
+    @Test
+    public void decodeJson() {
+        final String json = Grouped.of("group", Set.of(1L, -2L)).toJsonString();
+
+        final Grouped<Long> decoded = GroupedHashesCodec.decode(json);
+
+        assertThat(decoded.getGroup()).contains("group");
+        assertThat(decoded.getValues()).containsExactlyInAnyOrder(1L, -2L);
+    }
+
+    @Test
+    public void decodeInvalidString() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GroupedHashesCodec.decode("gA"));
+    }
+
+}
@@ -25,6 +25,7 @@ import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
@@ -106,6 +107,55 @@ public final class ThingEventToThingConverter {
         return Optional.of(thing);
     }
 
+    /**
+     * Merge any thing information in a signal event together with extra fields from signal enrichment into the JSON
+     * representation of a thing including its special fields, like {@code toJson(field -> true)} of the thing
+     * returned by {@link #mergeThingWithExtraFields(Signal, JsonFieldSelector, JsonObject)}. If both sources contain
+     * thing information, the merged JSON is not parsed into a thing again.
+     *
+     * @param signal the signal.
+     * @param extraFields selected extra fields to enrich the signal with.
+     * @param extra value of the extra fields.
+     * @return the merged thing JSON if thing information exists in any of the 2 sources, or an empty optional
+     * otherwise.
+     */
+    public static Optional<JsonObject> mergeThingJsonWithExtraFields(final Signal<?> signal,
+            @Nullable final JsonFieldSelector extraFields,
+            final JsonObject extra) {
+
+        final Optional<Thing> thingFromSignal;
+        if (signal instanceof ThingEvent) {
+            thingFromSignal = thingEventToThing((ThingEvent<?>) signal);
+        } else {
+            thingFromSignal = Optional.empty();
+        }
+        final boolean hasExtra = extraFields != null && !extra.isEmpty();
+        final JsonObject thingJson;
+        if (thingFromSignal.isPresent() && hasExtra) {
+            // merge; the special fields of the base thing are omitted like in mergeThingWithExtraFields
+            final Thing baseThing = thingFromSignal.get();
+            final JsonSchemaVersion schemaVersion = baseThing.getImplementedSchemaVersion();
+            final JsonObjectBuilder mergedJsonBuilder =
+                    JsonFactory.newObject(baseThing.toJson(schemaVersion), extra).toBuilder()
+                            .set(Thing.JsonFields.SCHEMA_VERSION, schemaVersion.toInt());
+            baseThing.getNamespace()
+                    .ifPresent(namespace -> mergedJsonBuilder.set(Thing.JsonFields.NAMESPACE, namespace));
+            thingJson = mergedJsonBuilder.build();
+        } else if (thingFromSignal.isPresent()) {
+            thingJson = thingFromSignal.get().toJson(field -> true);
+        } else if (hasExtra) {
+            thingJson = ThingsModelFactory.newThing(extra).toJson(field -> true);
+        } else {
+            // no information; there is no thing.
+            return Optional.empty();
+        }
+
+        if (signal instanceof Event) {
+            return Optional.of(thingJson.set(Thing.JsonFields.REVISION, ((Event<?>) signal).getRevision()));
+        }
+        return Optional.of(thingJson);
+    }
+
     private static Map<Class<?>, BiFunction<ThingEvent<?>, ThingBuilder.FromScratch, Thing>> createEventToThingMappers() {
         final Map<Class<?>, BiFunction<ThingEvent<?>, ThingBuilder.FromScratch, Thing>> mappers = new HashMap<>();
 
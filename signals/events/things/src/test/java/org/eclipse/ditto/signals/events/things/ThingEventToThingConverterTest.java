@@ -77,6 +77,26 @@ public final class ThingEventToThingConverterTest {
         );
     }
 
+    @Test
+    public void ensureMergedThingJsonEqualsJsonOfMergedThing() {
+        final FeaturePropertyModified featurePropertyModified =
+                FeaturePropertyModified.of(TestConstants.Thing.THING_ID, "some-feature", JsonPointer.of("speed"),
+                        JsonValue.of(77), 23L, null, DittoHeaders.empty(), null);
+        final JsonFieldSelector extraSelector = JsonFieldSelector.newInstance("attributes");
+        final JsonObject extra = JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder().set(ATTR_KEY_CITY, KNOWN_CITY).build())
+                .build();
+
+        final Optional<JsonObject> thingJson =
+                ThingEventToThingConverter.mergeThingJsonWithExtraFields(featurePropertyModified, extraSelector,
+                        extra);
+
+        assertThat(thingJson).contains(
+                ThingEventToThingConverter.mergeThingWithExtraFields(featurePropertyModified, extraSelector, extra)
+                        .orElseThrow(AssertionError::new)
+                        .toJson(field -> true));
+    }
+
     @Test
     public void ensureMergeWithExtraFieldsPrioritizesEventValueBeforeExtra() {
         final long revision = 23L;